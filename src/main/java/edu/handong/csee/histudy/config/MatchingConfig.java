@@ -0,0 +1,63 @@
+package edu.handong.csee.histudy.config;
+
+import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MatchingConfig {
+
+  /** 매칭 작업은 학기 데이터를 통째로 다루므로 한 번에 하나씩 실행한다. */
+  @Bean(name = "matchingExecutor")
+  public Executor matchingExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(16);
+    executor.setThreadNamePrefix("matching-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.initialize();
+    return executor;
+  }
+
+  /** 매칭 시뮬레이션은 전략마다 스레드 하나에서 실행하며, 실제 매칭 실행기와 스레드를 나누어 쓰지 않는다. */
+  @Bean(name = "matchingSimulationExecutor")
+  public Executor matchingSimulationExecutor(
+      @Value("${custom.matching.simulation-threads:4}") int simulationThreads) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(simulationThreads);
+    executor.setMaxPoolSize(simulationThreads);
+    executor.setQueueCapacity(64);
+    executor.setThreadNamePrefix("matching-simulation-");
+    executor.initialize();
+    return executor;
+  }
+
+  /** 매칭 정책이 과목 버킷을 나눠 처리하는 fork/join 풀. 스레드는 작업이 들어올 때 만들어지고 종료 때 닫힌다. */
+  @Bean(name = "matchingForkJoinPool", destroyMethod = "shutdown")
+  public ForkJoinPool matchingForkJoinPool(
+      @Value("${custom.matching.parallelism:1}") int parallelism) {
+    return new ForkJoinPool(Math.max(1, parallelism));
+  }
+
+  /**
+   * 병렬도가 2 이상이면 과목 버킷을 전용 fork/join 풀에서 병렬로 처리한다. 친구 묶음은 {@code maxFriendGroupSize}가 양수일 때만
+   * 그 인원을 넘으면 나누며, 기본값 0은 기존처럼 나누지 않는다.
+   */
+  @Bean
+  public MatchingPolicy matchingPolicy(
+      ForkJoinPool matchingForkJoinPool,
+      @Value("${custom.matching.max-friend-group-size:0}") int maxFriendGroupSize) {
+    MatchingPolicy matchingPolicy =
+        (matchingForkJoinPool.getParallelism() <= 1)
+            ? new MatchingPolicy()
+            : MatchingPolicy.parallel(matchingForkJoinPool);
+    return (maxFriendGroupSize <= 0)
+        ? matchingPolicy
+        : matchingPolicy.withMaxFriendGroupSize(maxFriendGroupSize);
+  }
+}
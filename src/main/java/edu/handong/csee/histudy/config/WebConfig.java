@@ -1,8 +1,10 @@
 package edu.handong.csee.histudy.config;
 
 import edu.handong.csee.histudy.interceptor.AuthenticationInterceptor;
+import edu.handong.csee.histudy.service.CurrentMember;
 import edu.handong.csee.histudy.service.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -15,6 +17,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
   private final JwtService jwtService;
+  private final ObjectProvider<CurrentMember> currentMemberProvider;
 
   @Value("${custom.origin.allowed}")
   private String[] clients;
@@ -34,7 +37,7 @@ public class WebConfig implements WebMvcConfigurer {
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry
-        .addInterceptor(new AuthenticationInterceptor(jwtService))
+        .addInterceptor(new AuthenticationInterceptor(jwtService, currentMemberProvider))
         .excludePathPatterns(excludePathPatterns)
         .addPathPatterns(includePathPatterns);
   }
@@ -1,22 +1,34 @@
 package edu.handong.csee.histudy.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.handong.csee.histudy.controller.form.AcademicTermForm;
+import edu.handong.csee.histudy.controller.form.MatchingSimulationForm;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.dto.AcademicTermDto;
+import edu.handong.csee.histudy.dto.MatchingJobDto;
+import edu.handong.csee.histudy.dto.MatchingSimulationDto;
 import edu.handong.csee.histudy.dto.TeamDto;
 import edu.handong.csee.histudy.dto.TeamReportDto;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.exception.ForbiddenException;
 import edu.handong.csee.histudy.matching.application.MatchingApplicationService;
+import edu.handong.csee.histudy.matching.application.MatchingJobService;
+import edu.handong.csee.histudy.matching.application.MatchingSimulationService;
 import edu.handong.csee.histudy.service.AcademicTermService;
 import edu.handong.csee.histudy.service.TeamService;
 import edu.handong.csee.histudy.service.UserService;
 import io.jsonwebtoken.Claims;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +38,9 @@ public class AdminController {
   private final UserService userService;
   private final AcademicTermService academicTermService;
   private final MatchingApplicationService matchingApplicationService;
+  private final MatchingJobService matchingJobService;
+  private final MatchingSimulationService matchingSimulationService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping(value = "/manageGroup")
   public ResponseEntity<List<TeamDto>> getTeams(@RequestAttribute Claims claims) {
@@ -46,6 +61,23 @@ public class AdminController {
     throw new ForbiddenException();
   }
 
+  /**
+   * 그룹 순위 집계 재생성
+   *
+   * <p>공개 그룹 순위가 읽는 그룹별 보고서 수, 누적 시간, 썸네일을 보고서 원천 데이터로 다시 만든다. 썸네일을 처음 만들거나 값이 어긋났을 때
+   * 사용한다
+   *
+   * @param claims 토큰 페이로드
+   * @return 다시 만든 썸네일 수
+   */
+  @PostMapping("/team-leaderboard/rebuild")
+  public ResponseEntity<Integer> rebuildTeamLeaderboard(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(teamService.rebuildLeaderboard());
+    }
+    throw new ForbiddenException();
+  }
+
   /**
    * 스터디 신청한 유저 목록 조회(신청O 그룹?)
    *
@@ -62,6 +94,47 @@ public class AdminController {
     throw new ForbiddenException();
   }
 
+  /**
+   * 스터디 신청한 유저 목록 페이지 조회
+   *
+   * <p>학번순으로 {@code size}명씩 조회한다. 응답의 nextCursor를 다음 요청의 cursor로 넘긴다
+   *
+   * @param cursor 이전 페이지의 nextCursor. 생략하면 첫 페이지
+   * @param size 페이지 크기(최대 500)
+   * @param claims 토큰 페이로드
+   * @return 스터디 신청한 유저 목록 한 페이지
+   */
+  @GetMapping(value = "/allUsers", params = {"size", "!format"})
+  public ResponseEntity<UserDto.UserInfoPage> getAppliedUserPage(
+      @RequestParam Optional<String> cursor,
+      @RequestParam int size,
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(userService.getAppliedUsers(cursor, size));
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 스터디 신청한 유저 목록을 한 줄에 한 명씩 NDJSON으로 내려준다
+   *
+   * @param claims 토큰 페이로드
+   * @return 학번순 유저 스트림
+   */
+  @GetMapping(value = "/allUsers", params = "format=ndjson")
+  public ResponseEntity<StreamingResponseBody> streamAppliedUsers(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ndjson(userService::streamAppliedUsers);
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 그룹 매칭을 요청 스레드에서 바로 실행한다.
+   *
+   * @deprecated 대규모 학기에서는 요청이 길어지므로 {@code POST /api/admin/team-match/jobs}를 사용한다
+   */
+  @Deprecated
   @PostMapping("/team-match")
   public ResponseEntity<Void> matchTeam(@RequestAttribute Claims claims) {
     if (Role.isAuthorized(claims, Role.ADMIN)) {
@@ -71,6 +144,100 @@ public class AdminController {
     throw new ForbiddenException();
   }
 
+  /**
+   * 그룹 매칭 미리보기
+   *
+   * <p>현재 학기 매칭 결과를 저장하지 않고 계산한다. 응답의 planId로 같은 결과를 저장할 수 있다
+   *
+   * @param claims 토큰 페이로드
+   * @return 제안 그룹과 미배정 신청자 목록
+   */
+  @PostMapping("/team-match/preview")
+  public ResponseEntity<TeamDto.MatchResults> previewTeamMatch(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(new TeamDto.MatchResults(matchingApplicationService.preview()));
+    }
+    throw new ForbiddenException();
+  }
+
+  @PostMapping("/team-match/preview/{planId}/commit")
+  public ResponseEntity<Void> commitTeamMatch(
+      @PathVariable String planId, @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      matchingApplicationService.commit(planId);
+      return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 늦게 신청한 학생 매칭
+   *
+   * <p>현재 학기의 미배정 신청자만 매칭한다. 새 그룹을 만들지 못한 신청자는 빈자리가 있는 기존 그룹에 배정한다
+   *
+   * @param claims 토큰 페이로드
+   */
+  @PostMapping("/team-match/late-applicants")
+  public ResponseEntity<Void> matchLateApplicants(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      matchingApplicationService.matchLateApplicants();
+      return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 매칭 전략 시뮬레이션
+   *
+   * <p>등록된 매칭 전략과 요청한 설정의 전략을 현재 학기 미배정 신청자에 동시에 실행하고 배정 비율, 그룹 인원 분산, 선호 순위 만족도를
+   * 비교한다. 그룹은 저장하지 않는다
+   *
+   * @param form 함께 비교할 전략 설정. 생략하면 등록된 전략만 실행한다
+   * @param claims 토큰 페이로드
+   * @return 전략별 평가 결과
+   */
+  @PostMapping("/team-match/simulations")
+  public ResponseEntity<List<MatchingSimulationDto>> simulateTeamMatch(
+      @RequestBody(required = false) MatchingSimulationForm form,
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      List<MatchingSimulationDto> simulations =
+          matchingSimulationService
+              .simulate((form == null) ? List.of() : form.toStrategies())
+              .stream()
+              .map(MatchingSimulationDto::new)
+              .toList();
+      return ResponseEntity.ok(simulations);
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 현재 학기 그룹 매칭 작업 제출
+   *
+   * <p>매칭은 백그라운드에서 실행된다. 같은 학기에 진행 중인 작업이 있으면 그 작업을 반환한다
+   *
+   * @param claims 토큰 페이로드
+   * @return 제출된 매칭 작업 상태
+   */
+  @PostMapping("/team-match/jobs")
+  public ResponseEntity<MatchingJobDto> submitMatchingJob(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.status(HttpStatus.ACCEPTED)
+          .body(new MatchingJobDto(matchingJobService.submit()));
+    }
+    throw new ForbiddenException();
+  }
+
+  @GetMapping("/team-match/jobs/{jobId}")
+  public ResponseEntity<MatchingJobDto> getMatchingJob(
+      @PathVariable String jobId, @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(new MatchingJobDto(matchingJobService.find(jobId)));
+    }
+    throw new ForbiddenException();
+  }
+
   /**
    * 그룹 미배정 학생 목록 조회(신청? 그룹X)
    *
@@ -87,6 +254,26 @@ public class AdminController {
     throw new ForbiddenException();
   }
 
+  @GetMapping(value = "/unmatched-users", params = {"size", "!format"})
+  public ResponseEntity<UserDto.UserInfoPage> getUnmatchedUserPage(
+      @RequestParam Optional<String> cursor,
+      @RequestParam int size,
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(userService.getUnmatchedUsers(cursor, size));
+    }
+    throw new ForbiddenException();
+  }
+
+  @GetMapping(value = "/unmatched-users", params = "format=ndjson")
+  public ResponseEntity<StreamingResponseBody> streamUnmatchedUsers(
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ndjson(userService::streamUnmatchedUsers);
+    }
+    throw new ForbiddenException();
+  }
+
   @DeleteMapping("/form")
   public void deleteForm(@RequestParam String sid, @RequestAttribute Claims claims) {
     if (Role.isAuthorized(claims, Role.ADMIN)) {
@@ -121,6 +308,26 @@ public class AdminController {
     throw new ForbiddenException();
   }
 
+  @GetMapping(value = "/users/unassigned", params = {"size", "!format"})
+  public ResponseEntity<UserDto.UserInfoPage> unassignedUserPage(
+      @RequestParam Optional<String> cursor,
+      @RequestParam int size,
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ResponseEntity.ok(userService.getAppliedWithoutGroup(cursor, size));
+    }
+    throw new ForbiddenException();
+  }
+
+  @GetMapping(value = "/users/unassigned", params = "format=ndjson")
+  public ResponseEntity<StreamingResponseBody> streamUnassignedUsers(
+      @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.ADMIN)) {
+      return ndjson(userService::streamAppliedWithoutGroup);
+    }
+    throw new ForbiddenException();
+  }
+
   @PostMapping("/academicTerm")
   public ResponseEntity<Void> createAcademicTerm(
       @RequestBody AcademicTermForm form, @RequestAttribute Claims claims) {
@@ -148,4 +355,20 @@ public class AdminController {
     }
     throw new ForbiddenException();
   }
+
+  /** 서비스가 넘겨주는 유저를 받는 대로 JSON 한 줄씩 응답 본문에 쓴다. */
+  private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<UserDto.UserInfo>> users) {
+    StreamingResponseBody body =
+        output ->
+            users.accept(
+                user -> {
+                  try {
+                    output.write(objectMapper.writeValueAsBytes(user));
+                    output.write('\n');
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
 }
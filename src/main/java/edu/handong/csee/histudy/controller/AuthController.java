@@ -1,13 +1,12 @@
 package edu.handong.csee.histudy.controller;
 
 import edu.handong.csee.histudy.controller.form.TokenForm;
-import edu.handong.csee.histudy.domain.Role;
-import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.User;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.exception.MissingTokenException;
 import edu.handong.csee.histudy.jwt.GrantType;
 import edu.handong.csee.histudy.jwt.JwtPair;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.jwt.TokenInfo;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.UserService;
@@ -28,16 +27,16 @@ public class AuthController {
   @GetMapping("/login")
   public ResponseEntity<UserDto.UserLogin> login(@RequestParam("sub") Optional<String> subOr) {
     User user = userService.getUser(subOr);
-    Role role = determineEffectiveRole(user);
+    TokenIdentity identity = userService.getTokenIdentity(user);
 
-    JwtPair tokens = jwtService.issueToken(user.getEmail(), user.getName(), role);
+    JwtPair tokens = jwtService.issueToken(identity);
 
     return ResponseEntity.ok(
         UserDto.UserLogin.builder()
             .isRegistered(true)
             .tokenType("Bearer ")
             .tokens(tokens)
-            .role(role.name())
+            .role(identity.role().name())
             .build());
   }
 
@@ -46,20 +45,10 @@ public class AuthController {
     String refreshToken =
         Optional.ofNullable(tokenForm.getRefreshToken()).orElseThrow(MissingTokenException::new);
     Claims claims = jwtService.validate(refreshToken);
-    String accessToken = jwtService.issueToken(claims, GrantType.ACCESS_TOKEN);
+    // 역할과 학기, 그룹 정보는 재발급 시점의 값으로 다시 채운다.
+    TokenIdentity identity = userService.getTokenIdentity(claims.getSubject());
+    String accessToken = jwtService.issueToken(identity, GrantType.ACCESS_TOKEN);
 
     return ResponseEntity.ok(new TokenInfo(GrantType.ACCESS_TOKEN, accessToken));
   }
-
-  private Role determineEffectiveRole(User user) {
-    if (user.getRole() == Role.ADMIN) {
-      return user.getRole();
-    }
-
-    return userService
-        .getUserInfo(user.getEmail())
-        .filter(StudyApplicant::hasStudyGroup)
-        .map(__ -> Role.MEMBER)
-        .orElse(Role.USER);
-  }
 }
@@ -8,6 +8,11 @@ import edu.handong.csee.histudy.exception.CourseInUseException;
 import edu.handong.csee.histudy.exception.CourseNotFoundException;
 import edu.handong.csee.histudy.exception.DuplicateAcademicTermException;
 import edu.handong.csee.histudy.exception.ForbiddenException;
+import edu.handong.csee.histudy.exception.InvalidCursorException;
+import edu.handong.csee.histudy.exception.InvalidMatchingStrategyException;
+import edu.handong.csee.histudy.exception.MatchingJobNotFoundException;
+import edu.handong.csee.histudy.exception.MatchingPlanExpiredException;
+import edu.handong.csee.histudy.exception.MatchingSimulationUnavailableException;
 import edu.handong.csee.histudy.exception.MissingEmailException;
 import edu.handong.csee.histudy.exception.MissingParameterException;
 import edu.handong.csee.histudy.exception.MissingSubException;
@@ -43,6 +48,8 @@ public class ExceptionController {
   }
 
   @ExceptionHandler({
+    InvalidCursorException.class,
+    InvalidMatchingStrategyException.class,
     MissingParameterException.class,
     MissingEmailException.class,
     MissingSubException.class
@@ -80,6 +87,7 @@ public class ExceptionController {
     CourseNotFoundException.class,
     StudyGroupNotFoundException.class,
     ReportNotFoundException.class,
+    MatchingJobNotFoundException.class,
     NoCurrentTermFoundException.class,
     NoStudyApplicationFound.class
   })
@@ -96,12 +104,18 @@ public class ExceptionController {
   @ExceptionHandler({
     CourseInUseException.class,
     DuplicateAcademicTermException.class,
+    MatchingPlanExpiredException.class,
     UserAlreadyExistsException.class
   })
   public ResponseEntity<ExceptionResponse> handleConflict(Exception e) {
     return createErrorResponse(HttpStatus.CONFLICT, e.getMessage());
   }
 
+  @ExceptionHandler(MatchingSimulationUnavailableException.class)
+  public ResponseEntity<ExceptionResponse> handleServiceUnavailable(Exception e) {
+    return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<ExceptionResponse> runtimeException(Exception e, WebRequest request) {
     log.error("Unhandled Exception Occurred", e);
@@ -0,0 +1,69 @@
+package edu.handong.csee.histudy.controller;
+
+import edu.handong.csee.histudy.controller.form.FriendshipForm;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.dto.FriendshipDto;
+import edu.handong.csee.histudy.exception.ForbiddenException;
+import edu.handong.csee.histudy.service.FriendshipService;
+import io.jsonwebtoken.Claims;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class FriendshipController {
+
+  private final FriendshipService friendshipService;
+
+  /**
+   * 현재 학기에 나에게 온 친구 요청을 조회하는 API
+   *
+   * @param claims 토큰 페이로드
+   * @return 요청을 보낸 유저(학번 마스킹)와 요청 상태
+   */
+  @GetMapping("/api/users/me/friendships/received")
+  public ResponseEntity<FriendshipDto> getReceivedRequests(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.USER)) {
+      return ResponseEntity.ok(friendshipService.getReceivedRequests(claims.getSubject()));
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 현재 학기에 내가 보낸 친구 요청을 조회하는 API
+   *
+   * @param claims 토큰 페이로드
+   * @return 요청을 받은 유저(학번 마스킹)와 요청 상태
+   */
+  @GetMapping("/api/users/me/friendships/sent")
+  public ResponseEntity<FriendshipDto> getSentRequests(@RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.USER)) {
+      return ResponseEntity.ok(friendshipService.getSentRequests(claims.getSubject()));
+    }
+    throw new ForbiddenException();
+  }
+
+  /**
+   * 나에게 온 친구 요청을 한꺼번에 수락하는 API
+   *
+   * @param form 요청을 수락할 상대 유저 ID 목록
+   * @param claims 토큰 페이로드
+   * @return 수락 후 나에게 온 친구 요청 목록
+   */
+  @PostMapping("/api/users/me/friendships/received/accept")
+  public ResponseEntity<FriendshipDto> acceptRequests(
+      @RequestBody FriendshipForm form, @RequestAttribute Claims claims) {
+    if (Role.isAuthorized(claims, Role.USER)) {
+      List<Long> senderIds = Optional.ofNullable(form.getSenderIds()).orElse(List.of());
+      return ResponseEntity.ok(friendshipService.acceptRequests(claims.getSubject(), senderIds));
+    }
+    throw new ForbiddenException();
+  }
+}
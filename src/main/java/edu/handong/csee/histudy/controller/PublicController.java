@@ -4,11 +4,15 @@ import edu.handong.csee.histudy.dto.ActivityMetricsDto;
 import edu.handong.csee.histudy.dto.ActivityTerm;
 import edu.handong.csee.histudy.dto.BannerDto;
 import edu.handong.csee.histudy.dto.TeamRankDto;
+import edu.handong.csee.histudy.dto.WeeklyActivityDto;
 import edu.handong.csee.histudy.service.ActivityMetricsService;
 import edu.handong.csee.histudy.service.BannerService;
 import edu.handong.csee.histudy.service.TeamService;
+import edu.handong.csee.histudy.service.WeeklyActivityService;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -22,6 +26,7 @@ public class PublicController {
   private final TeamService teamService;
   private final ActivityMetricsService activityMetricsService;
   private final BannerService bannerService;
+  private final WeeklyActivityService weeklyActivityService;
 
   @GetMapping("/teams")
   public TeamRankDto getTeams() {
@@ -34,6 +39,17 @@ public class PublicController {
     return activityMetricsService.getActivityMetrics(activityTerm);
   }
 
+  @GetMapping("/activity/weekly")
+  public WeeklyActivityDto getWeeklyActivity(
+      @RequestParam(required = false) Long academicTermId,
+      @RequestParam(required = false) Long courseId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to) {
+    return weeklyActivityService.getWeeklyActivity(academicTermId, courseId, from, to);
+  }
+
   @GetMapping("/banners")
   public List<BannerDto.PublicBannerInfo> getBanners() {
     return bannerService.getPublicBanners();
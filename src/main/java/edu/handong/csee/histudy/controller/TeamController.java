@@ -34,7 +34,7 @@ public class TeamController {
   public ReportDto.ReportInfo createReport(
       @RequestBody ReportForm form, @RequestAttribute Claims claims) {
     if (Role.isAuthorized(claims, Role.MEMBER)) {
-      return reportService.createReport(toReportCommand(form), claims.getSubject());
+      return reportService.createReport(toReportCommand(form));
     }
     throw new ForbiddenException();
   }
@@ -42,7 +42,7 @@ public class TeamController {
   @GetMapping("/reports")
   public ReportDto getMyGroupReports(@RequestAttribute Claims claims) {
     if (Role.isAuthorized(claims, Role.MEMBER)) {
-      List<ReportDto.ReportInfo> reports = reportService.getReports(claims.getSubject());
+      List<ReportDto.ReportInfo> reports = reportService.getReports();
       return new ReportDto(reports);
     }
     throw new ForbiddenException();
@@ -115,7 +115,7 @@ public class TeamController {
       @RequestParam MultipartFile image,
       @RequestAttribute Claims claims) {
     if (Role.isAuthorized(claims, Role.MEMBER)) {
-      String filename = imageService.getImagePaths(claims.getSubject(), image, reportIdOr);
+      String filename = imageService.getImagePaths(image, reportIdOr);
       Map<String, String> response = Map.of("imagePath", filename);
       return ResponseEntity.ok(response);
     }
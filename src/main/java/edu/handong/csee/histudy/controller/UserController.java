@@ -7,6 +7,7 @@ import edu.handong.csee.histudy.dto.CourseDto;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.exception.ForbiddenException;
 import edu.handong.csee.histudy.jwt.JwtPair;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.UserService;
 import edu.handong.csee.histudy.service.command.SignUpCommand;
@@ -32,8 +33,9 @@ public class UserController {
     SignUpCommand command =
         new SignUpCommand(
             userForm.getSub(), userForm.getName(), userForm.getEmail(), userForm.getSid());
-    userService.signUp(command);
-    JwtPair tokens = jwtService.issueToken(command.email(), command.name(), Role.USER);
+    User user = userService.signUp(command);
+    // 가입 직후에는 신청서가 없으므로 학기와 그룹 정보 없이 발급한다.
+    JwtPair tokens = jwtService.issueToken(TokenIdentity.of(user, Role.USER, null, null));
 
     return ResponseEntity.ok(
         UserDto.UserLogin.builder()
@@ -50,7 +52,7 @@ public class UserController {
    * @param keyword 검색 키워드: 이름 또는 학번 또는 이메일
    * @param header 액세스 토큰
    * @return 유저 목록
-   * @see #searchUserWithMasking(Optional, Optional)
+   * @see #searchUserWithMasking(Optional, int, int, Optional)
    * @deprecated 마스킹된 유저 정보를 반환하는 v2 API를 사용할 것
    */
   @Deprecated
@@ -63,9 +65,7 @@ public class UserController {
     String email = claims.getSubject();
 
     List<UserDto.UserMatching> users =
-        userService.search(keyword).stream()
-            .filter(Role::isNotAdmin)
-            .filter(u -> !u.getEmail().equals(email))
+        userService.search(keyword, email, 0, Integer.MAX_VALUE).stream()
             .map(UserDto.UserMatching::new)
             .toList();
 
@@ -78,22 +78,24 @@ public class UserController {
    * <p>원래 토큰 검증은 인터셉터에서 처리하고 있으나, HTTP 메서드만 다르고 동일한 URI를 가지는 회원가입 API와 요청을 구분하기가 번거로워서 이 API에 한해서만
    * 컨트롤러에 검증을 위임하였다.
    *
-   * @param keyword 검색 키워드: 이름 또는 학번 또는 이메일
+   * @param keyword 검색 키워드: 이름 또는 학번 또는 이메일, 또는 이름의 초성
+   * @param page 0부터 시작하는 페이지 번호
+   * @param size 페이지 크기
    * @param header 액세스 토큰
-   * @return 유저 목록
+   * @return 일치 정도순 유저 목록
    */
   @GetMapping("/api/v2/users")
   public ResponseEntity<UserDto> searchUserWithMasking(
       @RequestParam(name = "search") Optional<String> keyword,
+      @RequestParam(name = "page", defaultValue = "0") int page,
+      @RequestParam(name = "size", defaultValue = "20") int size,
       @RequestHeader(HttpHeaders.AUTHORIZATION) Optional<String> header) {
     String token = jwtService.extractToken(header);
     Claims claims = jwtService.validate(token);
     String email = claims.getSubject();
 
     List<UserDto.UserMatchingWithMasking> users =
-        userService.search(keyword).stream()
-            .filter(Role::isNotAdmin)
-            .filter(u -> !u.getEmail().equals(email))
+        userService.search(keyword, email, page, size).stream()
             .map(UserDto.UserMatchingWithMasking::new)
             .toList();
 
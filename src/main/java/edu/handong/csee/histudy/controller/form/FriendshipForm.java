@@ -0,0 +1,14 @@
+package edu.handong.csee.histudy.controller.form;
+
+import java.util.List;
+import lombok.*;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FriendshipForm {
+
+  /** 요청을 수락할 상대 사용자 ID */
+  private List<Long> senderIds;
+}
@@ -0,0 +1,67 @@
+package edu.handong.csee.histudy.controller.form;
+
+import edu.handong.csee.histudy.exception.InvalidMatchingStrategyException;
+import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
+import edu.handong.csee.histudy.matching.domain.MatchingStrategy;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchingSimulationForm {
+
+  /** 한 번에 비교할 수 있는 요청 전략 수. 등록된 전략과 함께 시뮬레이션 실행기의 대기열을 넘지 않도록 제한한다. */
+  public static final int MAX_STRATEGIES = 8;
+
+  private List<StrategyForm> strategies;
+
+  /** 요청한 설정마다 기본 정책에서 값만 바꾼 전략을 만든다. */
+  public List<MatchingStrategy> toStrategies() {
+    if (strategies == null) {
+      return List.of();
+    }
+    if (strategies.size() > MAX_STRATEGIES) {
+      throw new InvalidMatchingStrategyException(
+          "전략은 한 번에 " + MAX_STRATEGIES + "개까지 비교할 수 있습니다");
+    }
+    return strategies.stream().map(StrategyForm::toStrategy).toList();
+  }
+
+  @AllArgsConstructor
+  @Getter
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  public static class StrategyForm {
+
+    private Integer maxFriendGroupSize;
+
+    private Integer minCourseGroupSize;
+
+    private Integer maxCourseGroupSize;
+
+    private MatchingStrategy toStrategy() {
+      MatchingPolicy policy = new MatchingPolicy();
+      try {
+        if (maxFriendGroupSize != null) {
+          policy = policy.withMaxFriendGroupSize(maxFriendGroupSize);
+        }
+        if (minCourseGroupSize != null || maxCourseGroupSize != null) {
+          policy =
+              policy.withCourseGroupSize(
+                  (minCourseGroupSize == null)
+                      ? MatchingPolicy.MIN_COURSE_GROUP_SIZE
+                      : minCourseGroupSize,
+                  (maxCourseGroupSize == null)
+                      ? MatchingPolicy.MAX_COURSE_GROUP_SIZE
+                      : maxCourseGroupSize);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new InvalidMatchingStrategyException(e.getMessage());
+      }
+      return policy;
+    }
+  }
+}
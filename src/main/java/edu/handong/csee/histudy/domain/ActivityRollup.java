@@ -0,0 +1,65 @@
+package edu.handong.csee.histudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 공개 활동 지표 집계
+ *
+ * <p>학기마다 한 줄을 학기 id로, 전체 기간은 한 줄을 {@link #ALL_TIME_ID}로 가진다. 보고서, 그룹 배정, 회원 가입이 일어날 때 SQL
+ * 증감으로 갱신되며 엔티티로는 갱신하지 않는다.
+ *
+ * <p>학기 집계의 활동 인원은 그룹에 배정된 신청자 수이고, 전체 기간 집계의 활동 인원은 관리자를 제외한 사용자 수다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityRollup extends BaseTime implements Persistable<Long> {
+
+  /** 전체 기간 집계의 id. 학기 id는 1부터 시작하므로 겹치지 않는다. */
+  public static final long ALL_TIME_ID = 0L;
+
+  @Id private Long rollupId;
+
+  private long studyMembers;
+
+  private long studyGroups;
+
+  private long totalMinutes;
+
+  private long reports;
+
+  public static ActivityRollup empty(AcademicTerm academicTerm) {
+    return of(academicTerm.getAcademicTermId(), 0, 0, 0, 0);
+  }
+
+  /**
+   * 원천 데이터로 계산한 집계
+   *
+   * @param rollupId 학기 id 또는 {@link #ALL_TIME_ID}
+   */
+  public static ActivityRollup of(
+      Long rollupId, long studyMembers, long studyGroups, long totalMinutes, long reports) {
+    ActivityRollup rollup = new ActivityRollup();
+    rollup.rollupId = rollupId;
+    rollup.studyMembers = studyMembers;
+    rollup.studyGroups = studyGroups;
+    rollup.totalMinutes = totalMinutes;
+    rollup.reports = reports;
+    return rollup;
+  }
+
+  @Override
+  public Long getId() {
+    return rollupId;
+  }
+
+  /** id를 직접 할당하므로 저장 시각으로 새 엔티티를 구분해 저장 전 조회를 피한다. */
+  @Override
+  public boolean isNew() {
+    return getCreatedDate() == null;
+  }
+}
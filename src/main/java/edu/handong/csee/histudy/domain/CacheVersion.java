@@ -0,0 +1,29 @@
+package edu.handong.csee.histudy.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스마다 메모리에 두는 캐시의 무효화 버전
+ *
+ * <p>캐시한 값을 바꾼 인스턴스가 같은 트랜잭션에서 버전을 올리고, 다른 인스턴스는 버전을 주기적으로 읽어 바뀌었으면 캐시를 비운다. SQL 증감으로만
+ * 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheVersion {
+
+  /** 현재 학기 캐시 */
+  public static final String CURRENT_TERM = "current-term";
+
+  /** 같이 스터디할 사용자 검색 색인 */
+  public static final String USER_SEARCH = "user-search";
+
+  @Id private String cacheName;
+
+  private long version;
+}
@@ -2,17 +2,26 @@ package edu.handong.csee.histudy.domain;
 
 import jakarta.persistence.*;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_study_group_term_minutes",
+            columnList = "academic_term_id, total_minutes"),
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_study_group_term_tag",
+            columnNames = {"academic_term_id", "tag"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StudyGroup extends BaseTime {
 
-  private static final int COMMON_COURSE_THRESHOLD = 2;
+  public static final int COMMON_COURSE_THRESHOLD = 2;
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,10 +41,41 @@ public class StudyGroup extends BaseTime {
   @OneToMany(mappedBy = "studyGroup", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<GroupCourse> courses = new ArrayList<>();
 
+  /**
+   * 보고서 수와 누적 시간(분)
+   *
+   * <p>보고서를 쓸 때 SQL 증감으로만 바뀌므로 엔티티 갱신에는 포함하지 않는다. 동시에 쓰인 증감을 오래된 엔티티 값으로 덮어쓰지 않기 위해서다.
+   */
+  @ColumnDefault("0")
+  @Column(updatable = false)
+  private long reportCount;
+
+  @ColumnDefault("0")
+  @Column(updatable = false)
+  private long totalMinutes;
+
   public static StudyGroup of(Integer tag, AcademicTerm current, List<StudyApplicant> applicants) {
     return new StudyGroup(tag, current, applicants.toArray(StudyApplicant[]::new));
   }
 
+  /**
+   * 그룹 과목을 이미 계산한 경우의 일괄 생성 경로
+   *
+   * <p>멤버를 모두 배정한 뒤 주어진 과목으로 {@link GroupCourse}를 한 번만 만들며, 멤버 선호 과목을 다시 세지 않는다.
+   */
+  public static StudyGroup of(
+      Integer tag, AcademicTerm current, List<StudyApplicant> applicants, List<Course> courses) {
+    StudyGroup studyGroup = new StudyGroup(tag, current);
+    applicants.forEach(applicant -> applicant.joinStudyGroup(studyGroup));
+    courses.forEach(course -> new GroupCourse(course, studyGroup));
+    return studyGroup;
+  }
+
+  private StudyGroup(Integer tag, AcademicTerm academicTerm) {
+    this.tag = tag;
+    this.academicTerm = academicTerm;
+  }
+
   protected StudyGroup(Integer tag, AcademicTerm academicTerm, StudyApplicant... applicants) {
     this.tag = tag;
     this.academicTerm = academicTerm;
@@ -51,23 +91,74 @@ public class StudyGroup extends BaseTime {
     this.refreshGroupCourses(this.members);
   }
 
+  /** 바뀐 과목만 반영한다. 그대로 남는 과목의 {@link GroupCourse}는 지웠다가 다시 만들지 않는다. */
   protected void refreshGroupCourses(List<StudyApplicant> members) {
-    this.courses.clear();
-    this.findCommonCourses(members).forEach(course -> new GroupCourse(course, this));
+    List<Course> commonCourses = this.findCommonCourses(members);
+    this.courses.removeIf(groupCourse -> indexOf(commonCourses, groupCourse.getCourse()) < 0);
+    for (Course course : commonCourses) {
+      if (!this.hasCourse(course)) {
+        new GroupCourse(course, this);
+      }
+    }
+  }
+
+  private boolean hasCourse(Course course) {
+    for (GroupCourse groupCourse : this.courses) {
+      if (isSameCourse(groupCourse.getCourse(), course)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   protected List<Course> findCommonCourses(List<StudyApplicant> members) {
-    Map<Course, Long> courseCounts =
-        members.stream()
-            .flatMap(member -> member.getPreferredCourses().stream())
-            .collect(Collectors.groupingBy(PreferredCourse::getCourse, Collectors.counting()));
-
-    List<Course> commonCourses =
-        courseCounts.entrySet().stream()
-            .filter(entry -> entry.getValue() >= COMMON_COURSE_THRESHOLD)
-            .map(Map.Entry::getKey)
-            .toList();
-
-    return commonCourses.isEmpty() ? new ArrayList<>(courseCounts.keySet()) : commonCourses;
+    return commonCoursesOf(members);
+  }
+
+  /**
+   * 그룹 과목으로 삼을 과목 목록. 2명 이상이 선호한 과목이 없으면 멤버가 선호한 모든 과목을 반환한다.
+   *
+   * <p>그룹을 만들지 않고 매칭 결과를 미리 보여줄 때도 같은 규칙을 쓰기 위해 공개한다. 한 그룹의 선호 과목은 많아야 수십 개이므로 맵 대신
+   * 처음 나온 순서의 과목 목록과 정수 카운터 배열로 센다.
+   */
+  public static List<Course> commonCoursesOf(List<StudyApplicant> members) {
+    List<Course> distinctCourses = new ArrayList<>();
+    int[] counts = new int[8];
+    for (StudyApplicant member : members) {
+      for (PreferredCourse preference : member.getPreferredCourses()) {
+        Course course = preference.getCourse();
+        int index = indexOf(distinctCourses, course);
+        if (index < 0) {
+          index = distinctCourses.size();
+          distinctCourses.add(course);
+          if (index == counts.length) {
+            counts = Arrays.copyOf(counts, index * 2);
+          }
+        }
+        counts[index]++;
+      }
+    }
+
+    List<Course> commonCourses = new ArrayList<>();
+    for (int index = 0; index < distinctCourses.size(); index++) {
+      if (counts[index] >= COMMON_COURSE_THRESHOLD) {
+        commonCourses.add(distinctCourses.get(index));
+      }
+    }
+    return commonCourses.isEmpty() ? distinctCourses : commonCourses;
+  }
+
+  private static int indexOf(List<Course> courses, Course course) {
+    for (int index = 0; index < courses.size(); index++) {
+      if (isSameCourse(courses.get(index), course)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isSameCourse(Course first, Course second) {
+    return first == second
+        || (first.getCourseId() != null && first.getCourseId().equals(second.getCourseId()));
   }
 }
@@ -5,7 +5,18 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 신청서에 담긴 친구 요청
+ *
+ * <p>신청서의 학기를 요청에도 함께 저장해, "이번 학기에 누가 나에게 요청했는가"를 신청서를 거치지 않고 {@code (user_id,
+ * academic_term_id)} 색인으로 찾는다.
+ */
 @Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_partner_request_receiver_term",
+            columnList = "user_id, academic_term_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StudyPartnerRequest extends BaseTime {
@@ -22,12 +33,17 @@ public class StudyPartnerRequest extends BaseTime {
   @JoinColumn(name = "user_id")
   private User receiver;
 
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "academic_term_id")
+  private AcademicTerm academicTerm;
+
   @Enumerated(EnumType.STRING)
   private RequestStatus requestStatus;
 
   public StudyPartnerRequest(StudyApplicant sender, User receiver, RequestStatus requestStatus) {
     this.sender = sender;
     this.receiver = receiver;
+    this.academicTerm = sender.getAcademicTerm();
     this.requestStatus = requestStatus;
 
     sender.getPartnerRequests().add(this);
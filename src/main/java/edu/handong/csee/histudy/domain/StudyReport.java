@@ -83,6 +83,11 @@ public class StudyReport extends BaseTime {
     images.forEach(img -> new ReportImage(img, this));
   }
 
+  /** 마지막으로 추가된 이미지 경로. 이미지가 없으면 {@code null} */
+  public String getThumbnailPath() {
+    return images.isEmpty() ? null : images.get(images.size() - 1).getPath();
+  }
+
   public boolean update(
       String title,
       String content,
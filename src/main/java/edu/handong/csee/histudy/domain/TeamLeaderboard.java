@@ -0,0 +1,85 @@
+package edu.handong.csee.histudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 공개 그룹 순위용 그룹별 썸네일
+ *
+ * <p>{@link StudyReport}가 생성, 수정, 삭제될 때 같은 트랜잭션에서 갱신되며, 최신 보고서(가장 큰 보고서 id)의 마지막 이미지를 썸네일로
+ * 가진다. 보고서 수와 누적 시간은 {@link StudyGroup}이 가진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamLeaderboard extends BaseTime implements Persistable<Long> {
+
+  @Id private Long studyGroupId;
+
+  private Long latestReportId;
+
+  private String thumbnailPath;
+
+  /**
+   * 원천 데이터로 계산한 썸네일
+   *
+   * @param latest 그룹의 최신 보고서. 보고서가 없으면 {@code null}
+   */
+  public static TeamLeaderboard of(Long studyGroupId, StudyReport latest) {
+    return (latest == null)
+        ? of(studyGroupId, null, null)
+        : of(studyGroupId, latest.getStudyReportId(), latest.getThumbnailPath());
+  }
+
+  /**
+   * 원천 데이터로 계산한 썸네일
+   *
+   * @param latestReportId 그룹의 최신 보고서 id. 보고서가 없으면 {@code null}
+   * @param thumbnailPath 최신 보고서의 마지막 이미지 경로. 없으면 {@code null}
+   */
+  public static TeamLeaderboard of(Long studyGroupId, Long latestReportId, String thumbnailPath) {
+    TeamLeaderboard leaderboard = new TeamLeaderboard();
+    leaderboard.studyGroupId = studyGroupId;
+    leaderboard.latestReportId = latestReportId;
+    leaderboard.thumbnailPath = thumbnailPath;
+    return leaderboard;
+  }
+
+  public void recordCreated(StudyReport report) {
+    showLatest(report);
+  }
+
+  public void recordUpdated(StudyReport report) {
+    if (report.getStudyReportId().equals(latestReportId)) {
+      showLatest(report);
+    }
+  }
+
+  /**
+   * @param latestRemaining 삭제 후 남은 최신 보고서. 남은 보고서가 없으면 {@code null}
+   */
+  public void recordDeleted(StudyReport report, StudyReport latestRemaining) {
+    if (report.getStudyReportId().equals(latestReportId)) {
+      showLatest(latestRemaining);
+    }
+  }
+
+  @Override
+  public Long getId() {
+    return studyGroupId;
+  }
+
+  /** 그룹 id를 직접 할당하므로 저장 시각으로 새 엔티티를 구분해 저장 전 조회를 피한다. */
+  @Override
+  public boolean isNew() {
+    return getCreatedDate() == null;
+  }
+
+  private void showLatest(StudyReport latest) {
+    this.latestReportId = (latest == null) ? null : latest.getStudyReportId();
+    this.thumbnailPath = (latest == null) ? null : latest.getThumbnailPath();
+  }
+}
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -29,6 +30,15 @@ public class User extends BaseTime {
   @Enumerated(EnumType.STRING)
   private Role role;
 
+  /**
+   * 토큰 버전
+   *
+   * <p>토큰에 넣은 스터디 그룹 정보가 바뀔 때마다 SQL 증감으로 올린다. 토큰의 버전과 다르면 토큰의 그룹 정보를 믿지 않고 다시 조회한다.
+   */
+  @ColumnDefault("0")
+  @Column(updatable = false)
+  private long tokenVersion;
+
   @Builder
   public User(String sub, String sid, String email, String name, Role role) {
     this.sub = sub;
@@ -0,0 +1,30 @@
+package edu.handong.csee.histudy.domain;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록의 한 행
+ *
+ * <p>목록을 페이지나 스트림으로 내보낼 때 엔티티를 영속성 컨텍스트에 쌓지 않도록 응답에 필요한 값만 담는다.
+ *
+ * @param userId 사용자 ID
+ * @param sid 학번
+ * @param name 이름
+ * @param email 이메일
+ * @param groupTag 현재 학기 스터디 그룹 번호. 그룹이 없으면 {@code null}
+ * @param friends 현재 학기 신청서에서 수락된 친구 요청의 상대, 요청 순서
+ * @param courses 현재 학기 신청서의 선호 과목, 우선순위 순서
+ */
+public record UserListing(
+    Long userId,
+    String sid,
+    String name,
+    String email,
+    Integer groupTag,
+    List<Friend> friends,
+    List<PreferredCourseInfo> courses) {
+
+  public record Friend(Long userId, String sid, String name) {}
+
+  public record PreferredCourseInfo(Long courseId, String name, String professor) {}
+}
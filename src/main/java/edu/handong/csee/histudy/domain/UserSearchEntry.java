@@ -0,0 +1,18 @@
+package edu.handong.csee.histudy.domain;
+
+/**
+ * 사용자 검색 색인에 담는 사용자 정보
+ *
+ * <p>검색 결과를 만들 때 DB를 다시 읽지 않도록 결과에 필요한 값만 복사해 둔다.
+ */
+public record UserSearchEntry(Long userId, String sid, String name, String email, Role role) {
+
+  public static UserSearchEntry of(User user) {
+    return new UserSearchEntry(
+        user.getUserId(), user.getSid(), user.getName(), user.getEmail(), user.getRole());
+  }
+
+  public String getSidWithMasking() {
+    return this.sid.substring(0, 3) + "****" + this.sid.substring(7);
+  }
+}
@@ -0,0 +1,59 @@
+package edu.handong.csee.histudy.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학기의 주(ISO 주, 월요일 시작)와 과목마다 쌓는 활동 집계
+ *
+ * <p>과목 {@link #ALL_COURSES}는 과목과 관계없는 주간 합계다. {@link StudyReport}가 쓰일 때 {@link
+ * WeeklyActivityDelta}만큼 SQL 증감으로 갱신되며, 조회할 때 보고서를 다시 세지 않는다.
+ */
+@Entity
+@Table(
+    indexes =
+        @Index(name = "idx_weekly_activity_course_week", columnList = "course_id, week_start"),
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_weekly_activity_bucket",
+            columnNames = {"academic_term_id", "course_id", "week_start"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeeklyActivity extends BaseTime {
+
+  /** 과목과 관계없는 주간 합계의 과목 id. 과목 id는 1부터 시작하므로 겹치지 않는다. */
+  public static final long ALL_COURSES = 0L;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long weeklyActivityId;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "academic_term_id")
+  private AcademicTerm academicTerm;
+
+  private Long courseId;
+
+  private LocalDate weekStart;
+
+  private long reports;
+
+  private long totalMinutes;
+
+  /** 이 주에 이 과목으로 보고서를 하나 이상 쓴 그룹 수 */
+  private long activeGroups;
+
+  public static WeeklyActivity of(AcademicTerm academicTerm, WeeklyActivityDelta total) {
+    WeeklyActivity activity = new WeeklyActivity();
+    activity.academicTerm = academicTerm;
+    activity.courseId = total.courseId();
+    activity.weekStart = total.weekStart();
+    activity.reports = total.reports();
+    activity.totalMinutes = total.totalMinutes();
+    activity.activeGroups = total.activeGroups();
+    return activity;
+  }
+}
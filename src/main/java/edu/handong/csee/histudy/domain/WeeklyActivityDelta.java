@@ -0,0 +1,26 @@
+package edu.handong.csee.histudy.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 주간 활동 집계 한 칸의 변화량
+ *
+ * @param weekStart 주의 월요일
+ * @param courseId 과목 id 또는 {@link WeeklyActivity#ALL_COURSES}
+ */
+public record WeeklyActivityDelta(
+    LocalDate weekStart, Long courseId, long reports, long totalMinutes, long activeGroups) {
+
+  public boolean isEmpty() {
+    return reports == 0 && totalMinutes == 0 && activeGroups == 0;
+  }
+
+  public WeeklyActivityDelta plus(WeeklyActivityDelta other) {
+    return new WeeklyActivityDelta(
+        weekStart,
+        courseId,
+        reports + other.reports,
+        totalMinutes + other.totalMinutes,
+        activeGroups + other.activeGroups);
+  }
+}
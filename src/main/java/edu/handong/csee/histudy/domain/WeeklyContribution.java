@@ -0,0 +1,81 @@
+package edu.handong.csee.histudy.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 그룹이 한 주에 쓴 보고서의 과목별 보고서 수와 누적 시간
+ *
+ * <p>보고서를 쓰기 전후의 기여를 빼서 {@link WeeklyActivity}에 더할 변화량을 구한다. 그룹은 한 과목에 보고서가 하나 이상이면 그 과목의 활동
+ * 그룹으로 센다.
+ */
+public final class WeeklyContribution {
+
+  private final LocalDate weekStart;
+  private final Map<Long, long[]> countsByCourse;
+
+  private WeeklyContribution(LocalDate weekStart, Map<Long, long[]> countsByCourse) {
+    this.weekStart = weekStart;
+    this.countsByCourse = countsByCourse;
+  }
+
+  /** 작성 시각이 속한 ISO 주의 월요일 */
+  public static LocalDate weekStartOf(LocalDateTime dateTime) {
+    return dateTime.toLocalDate().with(DayOfWeek.MONDAY);
+  }
+
+  /**
+   * @param reports 한 그룹이 {@code weekStart}부터 일주일 동안 쓴 보고서
+   */
+  public static WeeklyContribution of(LocalDate weekStart, Collection<StudyReport> reports) {
+    Map<Long, long[]> countsByCourse = new LinkedHashMap<>();
+    for (StudyReport report : reports) {
+      Set<Long> courseIds = new LinkedHashSet<>();
+      courseIds.add(WeeklyActivity.ALL_COURSES);
+      report
+          .getCourses()
+          .forEach(studyCourse -> courseIds.add(studyCourse.getCourse().getCourseId()));
+      for (Long courseId : courseIds) {
+        long[] counts = countsByCourse.computeIfAbsent(courseId, key -> new long[2]);
+        counts[0]++;
+        counts[1] += report.getTotalMinutes();
+      }
+    }
+    return new WeeklyContribution(weekStart, countsByCourse);
+  }
+
+  public static WeeklyContribution empty(LocalDate weekStart) {
+    return new WeeklyContribution(weekStart, Map.of());
+  }
+
+  /** 이 기여에서 {@code previous}를 뺀 변화량. 바뀌지 않은 과목은 포함하지 않는다. */
+  public List<WeeklyActivityDelta> minus(WeeklyContribution previous) {
+    Set<Long> courseIds = new LinkedHashSet<>(previous.countsByCourse.keySet());
+    courseIds.addAll(countsByCourse.keySet());
+
+    List<WeeklyActivityDelta> deltas = new ArrayList<>();
+    for (Long courseId : courseIds) {
+      long[] before = previous.countsByCourse.getOrDefault(courseId, new long[2]);
+      long[] after = countsByCourse.getOrDefault(courseId, new long[2]);
+      WeeklyActivityDelta delta =
+          new WeeklyActivityDelta(
+              weekStart,
+              courseId,
+              after[0] - before[0],
+              after[1] - before[1],
+              Long.signum(after[0]) - Long.signum(before[0]));
+      if (!delta.isEmpty()) {
+        deltas.add(delta);
+      }
+    }
+    return deltas;
+  }
+}
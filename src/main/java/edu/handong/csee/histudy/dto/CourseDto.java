@@ -1,6 +1,7 @@
 package edu.handong.csee.histudy.dto;
 
 import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.UserListing;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -56,5 +57,11 @@ public class CourseDto {
       this.name = course.getName();
       this.prof = course.getProfessor();
     }
+
+    public BasicCourseInfo(UserListing.PreferredCourseInfo course) {
+      this.id = course.courseId();
+      this.name = course.name();
+      this.prof = course.professor();
+    }
   }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ public class FriendshipDto {
     @Getter
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class Buddy {
+        private Long id;
         private String sid;
         private String name;
         private RequestStatus status;
@@ -29,7 +30,8 @@ public class FriendshipDto {
         public Buddy(FriendshipRequest request) {
             User user = request.getUser();
 
-            this.sid = user.getSid();
+            this.id = user.getUserId();
+            this.sid = user.getSidWithMasking();
             this.name = user.getName();
             this.status = request.getStatus();
         }
@@ -1,6 +1,7 @@
 package edu.handong.csee.histudy.dto;
 
 import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
 import edu.handong.csee.histudy.domain.User;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -10,4 +11,18 @@ import lombok.RequiredArgsConstructor;
 public abstract class FriendshipRequest {
     private final User user;
     private final RequestStatus status;
+
+    /** 내가 받은 요청. 상대는 요청을 보낸 사용자다. */
+    public static class Received extends FriendshipRequest {
+        public Received(StudyPartnerRequest request) {
+            super(request.getSender().getUser(), request.getRequestStatus());
+        }
+    }
+
+    /** 내가 보낸 요청. 상대는 요청을 받은 사용자다. */
+    public static class Sent extends FriendshipRequest {
+        public Sent(StudyPartnerRequest request) {
+            super(request.getReceiver(), request.getRequestStatus());
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package edu.handong.csee.histudy.dto;
+
+import edu.handong.csee.histudy.matching.application.MatchingJob;
+import edu.handong.csee.histudy.matching.domain.MatchingPhase;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MatchingJobDto {
+
+  private String jobId;
+
+  private Long academicTermId;
+
+  private MatchingJob.Status status;
+
+  private MatchingPhase phase;
+
+  private Map<MatchingPhase, Long> phaseMillis;
+
+  private LocalDateTime submittedAt;
+
+  private LocalDateTime startedAt;
+
+  private LocalDateTime finishedAt;
+
+  private int matchedGroups;
+
+  private String errorMessage;
+
+  public MatchingJobDto(MatchingJob job) {
+    this.jobId = job.getJobId();
+    this.academicTermId = job.getAcademicTermId();
+    this.status = job.getStatus();
+    this.phase = job.getPhase();
+    this.phaseMillis = job.getPhaseMillis();
+    this.submittedAt = job.getSubmittedAt();
+    this.startedAt = job.getStartedAt();
+    this.finishedAt = job.getFinishedAt();
+    this.matchedGroups = job.getMatchedGroupCount();
+    this.errorMessage = job.getErrorMessage();
+  }
+}
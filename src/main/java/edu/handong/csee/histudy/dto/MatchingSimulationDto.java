@@ -0,0 +1,40 @@
+package edu.handong.csee.histudy.dto;
+
+import edu.handong.csee.histudy.matching.application.MatchingSimulation;
+import edu.handong.csee.histudy.matching.domain.PlanScore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MatchingSimulationDto {
+
+  private String strategy;
+
+  private int applicantCount;
+
+  private int assignedCount;
+
+  private int groupCount;
+
+  private double matchedRatio;
+
+  private double groupSizeVariance;
+
+  private double prioritySatisfaction;
+
+  private long elapsedMillis;
+
+  public MatchingSimulationDto(MatchingSimulation simulation) {
+    PlanScore score = simulation.score();
+    this.strategy = simulation.strategy();
+    this.applicantCount = score.applicantCount();
+    this.assignedCount = score.assignedCount();
+    this.groupCount = score.groupCount();
+    this.matchedRatio = score.matchedRatio();
+    this.groupSizeVariance = score.groupSizeVariance();
+    this.prioritySatisfaction = score.prioritySatisfaction();
+    this.elapsedMillis = simulation.elapsedMillis();
+  }
+}
@@ -1,8 +1,8 @@
 package edu.handong.csee.histudy.dto;
 
 import edu.handong.csee.histudy.domain.*;
+import edu.handong.csee.histudy.matching.application.MatchingPreview;
 import java.util.List;
-import java.util.Map;
 import lombok.*;
 
 @Getter
@@ -22,29 +22,23 @@ public class TeamDto {
 
   private long times; // totalMinutes
 
-  public TeamDto(
-      StudyGroup group, List<StudyReport> reports, Map<User, StudyApplicant> applicantMap) {
+  public TeamDto(StudyGroup group, List<StudyApplicant> members) {
     this.group = group.getStudyGroupId();
     this.tag = group.getTag();
     this.members =
-        group.getMembers().stream()
-            .map(StudyApplicant::getUser)
-            .map(
-                user -> {
-                  StudyApplicant applicant = applicantMap.get(user);
-                  return (applicant == null)
-                      ? new UserDto.UserInfo(user)
-                      : new UserDto.UserInfo(user, applicant);
-                })
+        members.stream()
+            .map(applicant -> new UserDto.UserInfo(applicant.getUser(), applicant))
             .toList();
-    this.reports = reports.size();
-    this.times = reports.stream().mapToLong(StudyReport::getTotalMinutes).sum();
+    this.reports = (int) group.getReportCount();
+    this.times = group.getTotalMinutes();
   }
 
   @Getter
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   public static class MatchResults {
 
+    private String planId;
+
     private List<TeamMatching> matchedTeams;
 
     private List<UserDto.UserInfo> unmatchedUsers;
@@ -54,6 +48,15 @@ public class TeamDto {
       this.matchedTeams = matchedStudyGroups.stream().map(TeamMatching::new).toList();
       this.unmatchedUsers = unmatchedUsers;
     }
+
+    public MatchResults(MatchingPreview preview) {
+      this.planId = preview.planId();
+      this.matchedTeams = preview.groups().stream().map(TeamMatching::new).toList();
+      this.unmatchedUsers =
+          preview.unassigned().stream()
+              .map(applicant -> new UserDto.UserInfo(applicant.getUser(), applicant))
+              .toList();
+    }
   }
 
   @Getter
@@ -81,5 +84,18 @@ public class TeamDto {
               .map(enroll -> new CourseDto.CourseInfo(enroll.getCourse()))
               .toList();
     }
+
+    public TeamMatching(MatchingPreview.ProposedGroup group) {
+      this.tag = group.tag();
+      this.users =
+          group.members().stream()
+              .map(StudyApplicant::getUser)
+              .map(UserDto.UserMatching::new)
+              .toList();
+      this.courses =
+          StudyGroup.commonCoursesOf(group.members()).stream()
+              .map(CourseDto.CourseInfo::new)
+              .toList();
+    }
   }
 }
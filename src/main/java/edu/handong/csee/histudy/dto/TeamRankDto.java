@@ -1,9 +1,5 @@
 package edu.handong.csee.histudy.dto;
 
-import edu.handong.csee.histudy.domain.StudyApplicant;
-import edu.handong.csee.histudy.domain.StudyGroup;
-import edu.handong.csee.histudy.domain.StudyReport;
-import edu.handong.csee.histudy.domain.User;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -32,12 +28,12 @@ public class TeamRankDto {
 
     private String thumbnail;
 
-    public TeamInfo(StudyGroup studyGroup, List<StudyReport> reports, String imgPath) {
-      this.id = studyGroup.getTag();
-      this.members =
-          studyGroup.getMembers().stream().map(StudyApplicant::getUser).map(User::getName).toList();
-      this.reports = reports.size();
-      this.totalMinutes = reports.stream().mapToLong(StudyReport::getTotalMinutes).sum();
+    public TeamInfo(
+        int tag, List<String> members, long reports, long totalMinutes, String imgPath) {
+      this.id = tag;
+      this.members = members;
+      this.reports = (int) reports;
+      this.totalMinutes = totalMinutes;
       this.thumbnail = imgPath;
     }
   }
@@ -4,6 +4,8 @@ import edu.handong.csee.histudy.domain.PreferredCourse;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyPartnerRequest;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserListing;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
 import edu.handong.csee.histudy.jwt.JwtPair;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,6 +35,12 @@ public class UserDto {
       this.sid = user.getSid();
       this.email = user.getEmail();
     }
+
+    public UserMatching(UserSearchEntry entry) {
+      this.name = entry.name();
+      this.sid = entry.sid();
+      this.email = entry.email();
+    }
   }
 
   @Getter
@@ -50,6 +58,12 @@ public class UserDto {
       this.name = user.getName();
       this.sid = user.getSidWithMasking();
     }
+
+    public UserMatchingWithMasking(UserSearchEntry entry) {
+      this.id = entry.userId();
+      this.name = entry.name();
+      this.sid = entry.getSidWithMasking();
+    }
   }
 
   @Builder
@@ -118,6 +132,36 @@ public class UserDto {
       this.friends = Collections.emptyList();
       this.courses = Collections.emptyList();
     }
+
+    public UserInfo(UserListing listing) {
+      this.id = listing.userId();
+      this.name = listing.name();
+      this.sid = listing.sid();
+      this.email = listing.email();
+      this.group = listing.groupTag();
+      this.friends =
+          listing.friends().stream()
+              .map(
+                  friend ->
+                      UserBasic.builder()
+                          .id(friend.userId())
+                          .name(friend.name())
+                          .sid(friend.sid())
+                          .build())
+              .toList();
+      this.courses = listing.courses().stream().map(CourseDto.BasicCourseInfo::new).toList();
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class UserInfoPage {
+
+    private List<UserInfo> users;
+
+    /** 다음 페이지를 요청할 때 넘길 커서. 마지막 페이지면 {@code null} */
+    private String nextCursor;
   }
 
   @Builder
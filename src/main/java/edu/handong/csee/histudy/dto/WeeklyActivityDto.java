@@ -0,0 +1,33 @@
+package edu.handong.csee.histudy.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class WeeklyActivityDto {
+
+  /** 과목 id. 과목과 관계없는 합계이면 {@code null} */
+  private final Long courseId;
+
+  private final List<WeekInfo> weeks;
+
+  @Getter
+  @Builder
+  public static class WeekInfo {
+
+    private final int isoYear;
+
+    private final int week;
+
+    private final LocalDate weekStart;
+
+    private final long studyMinutes;
+
+    private final long reports;
+
+    private final long activeGroups;
+  }
+}
@@ -0,0 +1,7 @@
+package edu.handong.csee.histudy.exception;
+
+public class InvalidMatchingStrategyException extends RuntimeException {
+    public InvalidMatchingStrategyException(String message) {
+        super("잘못된 매칭 전략 설정입니다: " + message);
+    }
+}
@@ -0,0 +1,7 @@
+package edu.handong.csee.histudy.exception;
+
+public class MatchingJobNotFoundException extends RuntimeException {
+    public MatchingJobNotFoundException() {
+        super("해당하는 매칭 작업을 찾을 수 없습니다.");
+    }
+}
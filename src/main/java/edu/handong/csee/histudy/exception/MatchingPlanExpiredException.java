@@ -0,0 +1,7 @@
+package edu.handong.csee.histudy.exception;
+
+public class MatchingPlanExpiredException extends RuntimeException {
+    public MatchingPlanExpiredException() {
+        super("미리보기 이후 신청 정보가 변경되었습니다. 매칭 미리보기를 다시 실행해주세요.");
+    }
+}
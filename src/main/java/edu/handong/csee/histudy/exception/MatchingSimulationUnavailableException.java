@@ -0,0 +1,7 @@
+package edu.handong.csee.histudy.exception;
+
+public class MatchingSimulationUnavailableException extends RuntimeException {
+  public MatchingSimulationUnavailableException() {
+    super("매칭 시뮬레이션을 제시간에 끝내지 못했습니다. 잠시 후 다시 시도해주세요.");
+  }
+}
@@ -1,10 +1,12 @@
 package edu.handong.csee.histudy.interceptor;
 
+import edu.handong.csee.histudy.service.CurrentMember;
 import edu.handong.csee.histudy.service.JwtService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.cors.CorsUtils;
@@ -17,6 +19,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AuthenticationInterceptor implements HandlerInterceptor {
     private final JwtService jwtService;
+    private final ObjectProvider<CurrentMember> currentMemberProvider;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
@@ -27,6 +30,8 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         String token = jwtService.extractToken(headerOr);
         Claims claims = jwtService.validate(token);
         request.setAttribute("claims", claims);
+        currentMemberProvider.ifAvailable(
+                currentMember -> currentMember.authenticate(claims));
 
         return true;
     }
@@ -2,6 +2,7 @@ package edu.handong.csee.histudy.jwt;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -14,12 +15,15 @@ public class JwtProperties {
     private final String issuer;
     private final String accessTokenExpiry;
     private final String refreshTokenExpiry;
+    private final int verifiedTokenCacheSize;
 
     @ConstructorBinding
-    public JwtProperties(String secret, String issuer, String accessTokenExpiry, String refreshTokenExpiry) {
+    public JwtProperties(String secret, String issuer, String accessTokenExpiry, String refreshTokenExpiry,
+                         @DefaultValue("10000") int verifiedTokenCacheSize) {
         this.issuer = issuer;
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
 
         byte[] decoded = Base64.getDecoder().decode(secret);
         this.key = new SecretKeySpec(decoded, "HmacSHA256");
@@ -33,6 +37,10 @@ public class JwtProperties {
         return issuer;
     }
 
+    public int getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
     public String getTokenExpiry(GrantType typ) {
         return (typ.equals(GrantType.ACCESS_TOKEN))
                 ? accessTokenExpiry
@@ -0,0 +1,45 @@
+package edu.handong.csee.histudy.jwt;
+
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.User;
+
+/**
+ * 토큰에 서명해 넣는 사용자 정보
+ *
+ * <p>{@code academicTermId}와 {@code studyGroupId}는 발급 시점의 값이므로, {@code tokenVersion}이 사용자의 현재 토큰 버전과 같을 때만 믿는다.
+ *
+ * @param email 사용자 이메일(토큰의 subject)
+ * @param name 사용자 이름
+ * @param role 발급 시점의 역할
+ * @param userId 사용자 ID
+ * @param academicTermId 발급 시점의 현재 학기 ID, 현재 학기가 없으면 {@code null}
+ * @param studyGroupId 발급 시점에 속한 스터디 그룹 ID, 없으면 {@code null}
+ * @param tokenVersion 발급 시점의 사용자 토큰 버전
+ */
+public record TokenIdentity(
+        String email,
+        String name,
+        Role role,
+        Long userId,
+        Long academicTermId,
+        Long studyGroupId,
+        long tokenVersion) {
+
+    public static final String NAME = "name";
+    public static final String ROLE = "rol";
+    public static final String USER_ID = "uid";
+    public static final String ACADEMIC_TERM_ID = "tid";
+    public static final String STUDY_GROUP_ID = "gid";
+    public static final String TOKEN_VERSION = "ver";
+
+    public static TokenIdentity of(User user, Role role, Long academicTermId, Long studyGroupId) {
+        return new TokenIdentity(
+                user.getEmail(),
+                user.getName(),
+                role,
+                user.getUserId(),
+                academicTermId,
+                studyGroupId,
+                user.getTokenVersion());
+    }
+}
@@ -0,0 +1,76 @@
+package edu.handong.csee.histudy.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서명을 검증한 토큰의 클레임을 담아 두는 LRU 캐시
+ *
+ * <p>토큰의 서명 부분을 키로 쓰되, 꺼낼 때 토큰 전체가 같은지 다시 비교해 서명만 같은 다른 토큰에는 답하지 않는다.
+ * 항목은 토큰의 만료 시각까지만 쓰고, 용량이 0이면 아무것도 담지 않는다. 꺼낸 클레임은 여러 요청이 함께 보므로 읽기만 한다.
+ */
+public class VerifiedTokenCache {
+
+    private final int capacity;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(int capacity, Clock clock) {
+        this.capacity = capacity;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.capacity;
+            }
+        };
+    }
+
+    public synchronized Optional<Claims> get(String token) {
+        if (capacity == 0) {
+            return Optional.empty();
+        }
+        String signature = signatureOf(token);
+        Entry entry = entries.get(signature);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(signature);
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(
+                entry.token().getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.claims());
+    }
+
+    /** 검증을 마친 토큰을 담는다. 만료 시각이 없는 토큰은 담지 않는다. */
+    public synchronized void put(String token, Claims claims) {
+        if (capacity == 0 || claims.getExpiration() == null) {
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        entries.put(signatureOf(token), new Entry(token, claims, expiresAt));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    private record Entry(String token, Claims claims, Instant expiresAt) {
+    }
+}
@@ -3,12 +3,29 @@ package edu.handong.csee.histudy.matching.application;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.exception.AcademicTermNotFoundException;
+import edu.handong.csee.histudy.exception.MatchingPlanExpiredException;
 import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
+import edu.handong.csee.histudy.matching.domain.GroupPlacement;
+import edu.handong.csee.histudy.matching.domain.MatchedGroup;
+import edu.handong.csee.histudy.matching.domain.MatchingPhase;
+import edu.handong.csee.histudy.matching.domain.MatchingPlan;
 import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
+import edu.handong.csee.histudy.matching.domain.OpenGroup;
 import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
 import edu.handong.csee.histudy.repository.StudyGroupRepository;
+import edu.handong.csee.histudy.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,24 +38,231 @@ public class MatchingApplicationService {
   private final AcademicTermRepository academicTermRepository;
   private final StudyApplicantRepository studyApplicantRepository;
   private final StudyGroupRepository studyGroupRepository;
-  private final MatchingPolicy matchingPolicy = new MatchingPolicy();
+  private final ActivityRollupRepository activityRollupRepository;
+  private final UserRepository userRepository;
+  private final MatchingPolicy matchingPolicy;
+  private final Map<String, PreparedPlan> preparedPlans = new ConcurrentHashMap<>();
 
   public void match() {
     AcademicTerm currentTerm =
         academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
-    List<StudyApplicant> applicants =
-        studyApplicantRepository.findUnassignedApplicants(currentTerm);
+    match(lockTerm(currentTerm.getAcademicTermId()), phase -> {});
+  }
+
+  /**
+   * 지정한 학기의 미배정 신청자를 매칭하고 생성한 그룹 수를 반환한다.
+   *
+   * @param onPhase 각 {@link MatchingPhase}에 들어설 때 호출된다
+   */
+  public int match(Long academicTermId, Consumer<MatchingPhase> onPhase) {
+    return match(lockTerm(academicTermId), onPhase);
+  }
+
+  private int match(AcademicTerm academicTerm, Consumer<MatchingPhase> onPhase) {
+    onPhase.accept(MatchingPhase.LOAD);
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(academicTerm);
 
-    if (applicants.isEmpty()) {
-      return;
+    if (snapshot.isEmpty()) {
+      return 0;
     }
 
-    int latestGroupTag = studyGroupRepository.countMaxTag(currentTerm).orElse(0);
-    List<StudyGroup> matchedGroups =
-        matchingPolicy.match(applicants, currentTerm, latestGroupTag + 1);
+    MatchingPlan plan = matchingPolicy.plan(snapshot, onPhase);
+    if (plan.isEmpty()) {
+      return 0;
+    }
+
+    onPhase.accept(MatchingPhase.PERSIST);
+    return persist(academicTerm, snapshot, plan);
+  }
+
+  /**
+   * 현재 학기에 새로 들어온 미배정 신청자만 매칭하고 배정한 신청자 수를 반환한다.
+   *
+   * <p>미배정 신청자끼리 먼저 새 그룹을 만들고, 새 그룹에 들지 못한 신청자는 빈자리가 있는 기존 그룹에 선호 과목으로
+   * 배정한다. 기존 그룹은 신청자가 추가되는 그룹만 엔티티로 읽어 멤버와 그룹 과목을 갱신한다.
+   */
+  public int matchLateApplicants() {
+    AcademicTerm currentTerm =
+        lockTerm(
+            academicTermRepository
+                .findCurrentSemester()
+                .orElseThrow(NoCurrentTermFoundException::new)
+                .getAcademicTermId());
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(currentTerm);
+    if (snapshot.isEmpty()) {
+      return 0;
+    }
+
+    MatchingPlan plan = matchingPolicy.plan(snapshot);
+    List<OpenGroup> openGroups =
+        plan.unassigned().length == 0
+            ? List.of()
+            : studyGroupRepository.findOpenGroups(
+                currentTerm, matchingPolicy.openGroupCapacity());
+    List<GroupPlacement> placements =
+        matchingPolicy.placeIntoOpenGroups(snapshot, plan.unassigned(), openGroups);
+
+    int placedCount = joinOpenGroups(currentTerm, placements);
+    if (!plan.isEmpty()) {
+      persist(currentTerm, snapshot, plan);
+    }
+    return plan.assignedCount() + placedCount;
+  }
+
+  private int joinOpenGroups(AcademicTerm academicTerm, List<GroupPlacement> placements) {
+    if (placements.isEmpty()) {
+      return 0;
+    }
+    List<Long> groupIds = new ArrayList<>(placements.size());
+    List<Long> applicantIds = new ArrayList<>();
+    for (GroupPlacement placement : placements) {
+      groupIds.add(placement.groupId());
+      for (long applicantId : placement.applicantIds()) {
+        applicantIds.add(applicantId);
+      }
+    }
+
+    Map<Long, StudyApplicant> applicants =
+        toMapById(studyApplicantRepository.findAllWithPreferredCoursesByIdIn(applicantIds));
+    Map<Long, StudyGroup> groups =
+        studyGroupRepository.findAllWithMembersByIdIn(groupIds).stream()
+            .collect(Collectors.toMap(StudyGroup::getStudyGroupId, Function.identity()));
+    for (GroupPlacement placement : placements) {
+      StudyApplicant[] members = new StudyApplicant[placement.applicantIds().length];
+      for (int index = 0; index < members.length; index++) {
+        members[index] = applicants.get(placement.applicantIds()[index]);
+      }
+      groups.get(placement.groupId()).addMember(members);
+    }
+    userRepository.incrementTokenVersionByApplicantIds(applicantIds);
+    activityRollupRepository.addGroupActivity(academicTerm, 0, applicantIds.size());
+    return applicantIds.size();
+  }
+
+  /**
+   * 현재 학기 매칭 결과를 저장하지 않고 계산한다.
+   *
+   * <p>계산한 결과는 신청자 집합의 해시({@link MatchingPreview#planId()})로 학기당 하나씩 이 노드에 보관하며, {@link
+   * #commit(String)}이 같은 노드로 오면 다시 계산하지 않고 저장한다. 미배정 신청자는 목록 응답에 필요한 친구 요청까지 함께 읽는다.
+   */
+  @Transactional(readOnly = true)
+  public MatchingPreview preview() {
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(currentTerm);
+    MatchingPlan plan = matchingPolicy.plan(snapshot);
+    String planId = snapshot.fingerprint();
+
+    preparedPlans.values().removeIf(prepared -> prepared.isFor(currentTerm));
+    preparedPlans.put(planId, new PreparedPlan(currentTerm.getAcademicTermId(), plan));
+
+    Map<Long, StudyApplicant> applicants = loadApplicants(snapshot);
+    studyApplicantRepository.findAllWithPartnerRequestsByIdIn(
+        applicantIdsAt(plan.unassigned(), snapshot));
+    int tag = studyGroupRepository.countMaxTag(currentTerm).orElse(0) + 1;
+    List<MatchingPreview.ProposedGroup> groups = new ArrayList<>(plan.groups().size());
+    for (int[] group : plan.groups()) {
+      groups.add(
+          new MatchingPreview.ProposedGroup(tag++, applicantsAt(group, snapshot, applicants)));
+    }
+    return new MatchingPreview(
+        planId, groups, applicantsAt(plan.unassigned(), snapshot, applicants));
+  }
+
+  /**
+   * {@link #preview()}로 계산한 결과를 저장하고 생성한 그룹 수를 반환한다.
+   *
+   * <p>지문 확인과 저장은 현재 학기 행을 잠근 채 하므로, 먼저 확정했거나 다른 노드의 매칭과 겹치면 지문이 달라져 거절된다. 이 노드가
+   * 보관한 결과가 있으면 그대로 쓰고, 다른 노드에서 미리봤다면 지문이 같은 스냅샷이므로 같은 정책으로 다시 계산한다.
+   *
+   * @throws MatchingPlanExpiredException 미리보기 이후 미배정 신청자 집합이 바뀌었거나 이미 확정한 경우
+   */
+  public int commit(String planId) {
+    PreparedPlan prepared = preparedPlans.remove(planId);
+    AcademicTerm academicTerm =
+        lockTerm(
+            (prepared == null)
+                ? academicTermRepository
+                    .findCurrentSemester()
+                    .orElseThrow(NoCurrentTermFoundException::new)
+                    .getAcademicTermId()
+                : prepared.academicTermId());
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(academicTerm);
+    if (!snapshot.fingerprint().equals(planId)) {
+      throw new MatchingPlanExpiredException();
+    }
+
+    MatchingPlan plan = (prepared == null) ? matchingPolicy.plan(snapshot) : prepared.plan();
+    if (plan.isEmpty()) {
+      return 0;
+    }
+    return persist(academicTerm, snapshot, plan);
+  }
+
+  /**
+   * 학기 행에 쓰기 잠금을 걸어 같은 학기의 매칭 쓰기를 트랜잭션이 끝날 때까지 한 번에 하나씩 실행한다.
+   *
+   * <p>미배정 신청자를 읽기 전에 잠가야, 뒤에 들어온 실행이 앞 실행이 배정한 결과와 태그를 보고 계산한다. 노드마다 메모리에서 작업을 합치는
+   * {@link MatchingJobService}와 달리 다른 노드와 동기 API 호출에도 적용된다.
+   */
+  private AcademicTerm lockTerm(Long academicTermId) {
+    return academicTermRepository
+        .findByIdForUpdate(academicTermId)
+        .orElseThrow(AcademicTermNotFoundException::new);
+  }
+
+  private int persist(AcademicTerm academicTerm, ApplicantSnapshot snapshot, MatchingPlan plan) {
+    int latestGroupTag = studyGroupRepository.countMaxTag(academicTerm).orElse(0);
+    List<MatchedGroup> matchedGroups =
+        matchingPolicy.toMatchedGroups(plan, snapshot, latestGroupTag + 1);
+
+    studyGroupRepository.insertMatchedGroups(academicTerm, matchedGroups);
+    userRepository.incrementTokenVersionByApplicantIds(
+        matchedGroups.stream()
+            .flatMapToLong(group -> Arrays.stream(group.applicantIds()))
+            .boxed()
+            .toList());
+    activityRollupRepository.addGroupActivity(
+        academicTerm,
+        matchedGroups.size(),
+        matchedGroups.stream().mapToLong(group -> group.applicantIds().length).sum());
+    return matchedGroups.size();
+  }
+
+  private Map<Long, StudyApplicant> loadApplicants(ApplicantSnapshot snapshot) {
+    List<Long> applicantIds = new ArrayList<>(snapshot.size());
+    for (int index = 0; index < snapshot.size(); index++) {
+      applicantIds.add(snapshot.applicantId(index));
+    }
+    return toMapById(studyApplicantRepository.findAllWithPreferredCoursesByIdIn(applicantIds));
+  }
+
+  private List<Long> applicantIdsAt(int[] indexes, ApplicantSnapshot snapshot) {
+    List<Long> applicantIds = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      applicantIds.add(snapshot.applicantId(index));
+    }
+    return applicantIds;
+  }
+
+  private List<StudyApplicant> applicantsAt(
+      int[] indexes, ApplicantSnapshot snapshot, Map<Long, StudyApplicant> applicants) {
+    List<StudyApplicant> result = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      result.add(applicants.get(snapshot.applicantId(index)));
+    }
+    return result;
+  }
+
+  private Map<Long, StudyApplicant> toMapById(List<StudyApplicant> applicants) {
+    return applicants.stream()
+        .collect(Collectors.toMap(StudyApplicant::getStudyApplicantId, Function.identity()));
+  }
+
+  private record PreparedPlan(Long academicTermId, MatchingPlan plan) {
 
-    if (!matchedGroups.isEmpty()) {
-      studyGroupRepository.saveAll(matchedGroups);
+    private boolean isFor(AcademicTerm academicTerm) {
+      return academicTermId.equals(academicTerm.getAcademicTermId());
     }
   }
 }
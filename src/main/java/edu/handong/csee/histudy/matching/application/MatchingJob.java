@@ -0,0 +1,121 @@
+package edu.handong.csee.histudy.matching.application;
+
+import edu.handong.csee.histudy.matching.domain.MatchingPhase;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 백그라운드에서 실행되는 그룹 매칭 작업의 진행 상태
+ *
+ * <p>작업 스레드가 상태를 갱신하고 요청 스레드가 조회하므로 모든 접근은 인스턴스 단위로 동기화한다.
+ */
+public class MatchingJob {
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+  }
+
+  private final String jobId;
+  private final Long academicTermId;
+  private final LocalDateTime submittedAt;
+  private final Map<MatchingPhase, Long> phaseMillis = new EnumMap<>(MatchingPhase.class);
+
+  private Status status = Status.QUEUED;
+  private MatchingPhase phase;
+  private long phaseStartedNanos;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+  private int matchedGroupCount;
+  private String errorMessage;
+
+  MatchingJob(Long academicTermId) {
+    this.jobId = UUID.randomUUID().toString();
+    this.academicTermId = academicTermId;
+    this.submittedAt = LocalDateTime.now();
+  }
+
+  synchronized void start() {
+    status = Status.RUNNING;
+    startedAt = LocalDateTime.now();
+  }
+
+  synchronized void enter(MatchingPhase next) {
+    closePhase();
+    phase = next;
+    phaseStartedNanos = System.nanoTime();
+  }
+
+  synchronized void succeed(int matchedGroupCount) {
+    closePhase();
+    this.matchedGroupCount = matchedGroupCount;
+    status = Status.SUCCEEDED;
+    finishedAt = LocalDateTime.now();
+  }
+
+  synchronized void fail(Throwable cause) {
+    closePhase();
+    errorMessage = cause.getMessage();
+    status = Status.FAILED;
+    finishedAt = LocalDateTime.now();
+  }
+
+  private void closePhase() {
+    if (phase != null && status == Status.RUNNING) {
+      long elapsed = Duration.ofNanos(System.nanoTime() - phaseStartedNanos).toMillis();
+      phaseMillis.merge(phase, elapsed, Long::sum);
+    }
+  }
+
+  public String getJobId() {
+    return jobId;
+  }
+
+  public Long getAcademicTermId() {
+    return academicTermId;
+  }
+
+  public LocalDateTime getSubmittedAt() {
+    return submittedAt;
+  }
+
+  public synchronized Status getStatus() {
+    return status;
+  }
+
+  /** 현재 진행 중이거나 마지막으로 진행한 단계. 시작 전이면 {@code null}이다. */
+  public synchronized MatchingPhase getPhase() {
+    return phase;
+  }
+
+  /** 완료된 단계별 소요 시간(ms). 진행 중인 단계는 포함하지 않는다. */
+  public synchronized Map<MatchingPhase, Long> getPhaseMillis() {
+    return Collections.unmodifiableMap(new EnumMap<>(phaseMillis));
+  }
+
+  public synchronized LocalDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public synchronized LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public synchronized int getMatchedGroupCount() {
+    return matchedGroupCount;
+  }
+
+  public synchronized String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public synchronized boolean isFinished() {
+    return status == Status.SUCCEEDED || status == Status.FAILED;
+  }
+}
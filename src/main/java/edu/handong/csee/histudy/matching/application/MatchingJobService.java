@@ -0,0 +1,113 @@
+package edu.handong.csee.histudy.matching.application;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.exception.MatchingJobNotFoundException;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 그룹 매칭을 전용 실행기에서 백그라운드 작업으로 실행한다.
+ *
+ * <p>같은 학기에 대해 실행 중인 작업이 있으면 새 작업을 만들지 않고 기존 작업을 반환한다. 끝난 작업은 {@link #RETENTION_HOURS}시간
+ * 동안만 조회할 수 있다.
+ *
+ * <p>작업을 합치는 것은 이 노드 안에서만이다. 다른 노드의 작업이나 동기 매칭 API와 겹치면 {@link
+ * MatchingApplicationService}가 학기 행 잠금으로 하나씩 실행하므로 뒤의 실행은 남은 미배정 신청자만 매칭한다.
+ */
+@Slf4j
+@Service
+public class MatchingJobService {
+
+  private static final long RETENTION_HOURS = 1;
+
+  private final AcademicTermRepository academicTermRepository;
+  private final MatchingApplicationService matchingApplicationService;
+  private final Executor matchingExecutor;
+
+  private final Map<String, MatchingJob> jobs = new ConcurrentHashMap<>();
+  private final Map<Long, MatchingJob> inFlightJobs = new ConcurrentHashMap<>();
+
+  public MatchingJobService(
+      AcademicTermRepository academicTermRepository,
+      MatchingApplicationService matchingApplicationService,
+      @Qualifier("matchingExecutor") Executor matchingExecutor) {
+    this.academicTermRepository = academicTermRepository;
+    this.matchingApplicationService = matchingApplicationService;
+    this.matchingExecutor = matchingExecutor;
+  }
+
+  /** 현재 학기의 매칭 작업을 제출한다. */
+  public MatchingJob submit() {
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    return submit(currentTerm.getAcademicTermId());
+  }
+
+  public MatchingJob submit(Long academicTermId) {
+    pruneFinishedJobs();
+
+    MatchingJob created = new MatchingJob(academicTermId);
+    MatchingJob job =
+        inFlightJobs.compute(
+            academicTermId,
+            (termId, existing) ->
+                (existing == null || existing.isFinished()) ? created : existing);
+    if (job != created) {
+      return job;
+    }
+
+    jobs.put(job.getJobId(), job);
+    try {
+      matchingExecutor.execute(() -> run(job));
+    } catch (RuntimeException e) {
+      job.fail(e);
+      inFlightJobs.remove(academicTermId, job);
+      throw e;
+    }
+    return job;
+  }
+
+  public MatchingJob find(String jobId) {
+    MatchingJob job = jobs.get(jobId);
+    if (job == null) {
+      throw new MatchingJobNotFoundException();
+    }
+    return job;
+  }
+
+  private void run(MatchingJob job) {
+    job.start();
+    try {
+      int matchedGroupCount =
+          matchingApplicationService.match(job.getAcademicTermId(), job::enter);
+      job.succeed(matchedGroupCount);
+      log.info(
+          "Matching job {} finished: {} groups, phases={}",
+          job.getJobId(),
+          matchedGroupCount,
+          job.getPhaseMillis());
+    } catch (RuntimeException e) {
+      job.fail(e);
+      log.error("Matching job {} failed", job.getJobId(), e);
+    } finally {
+      inFlightJobs.remove(job.getAcademicTermId(), job);
+    }
+  }
+
+  private void pruneFinishedJobs() {
+    LocalDateTime threshold = LocalDateTime.now().minusHours(RETENTION_HOURS);
+    jobs.values()
+        .removeIf(
+            job ->
+                job.isFinished()
+                    && job.getFinishedAt() != null
+                    && job.getFinishedAt().isBefore(threshold));
+  }
+}
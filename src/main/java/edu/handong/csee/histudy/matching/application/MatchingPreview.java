@@ -0,0 +1,17 @@
+package edu.handong.csee.histudy.matching.application;
+
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import java.util.List;
+
+/**
+ * 저장하지 않고 계산한 매칭 결과
+ *
+ * @param planId 결과를 계산한 신청자 집합의 해시. {@link MatchingApplicationService#commit(String)}에 전달한다
+ * @param groups 태그 순으로 정렬된 제안 그룹
+ * @param unassigned 어느 그룹에도 배정되지 않는 신청자
+ */
+public record MatchingPreview(
+    String planId, List<ProposedGroup> groups, List<StudyApplicant> unassigned) {
+
+  public record ProposedGroup(int tag, List<StudyApplicant> members) {}
+}
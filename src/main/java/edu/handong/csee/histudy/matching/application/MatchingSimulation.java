@@ -0,0 +1,12 @@
+package edu.handong.csee.histudy.matching.application;
+
+import edu.handong.csee.histudy.matching.domain.PlanScore;
+
+/**
+ * 한 매칭 전략을 스냅샷에 실행한 결과
+ *
+ * @param strategy 전략 이름
+ * @param score 매칭 결과 평가 지표
+ * @param elapsedMillis 전략 실행과 평가에 걸린 시간
+ */
+public record MatchingSimulation(String strategy, PlanScore score, long elapsedMillis) {}
@@ -0,0 +1,109 @@
+package edu.handong.csee.histudy.matching.application;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.exception.MatchingSimulationUnavailableException;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
+import edu.handong.csee.histudy.matching.domain.MatchingPlan;
+import edu.handong.csee.histudy.matching.domain.MatchingStrategy;
+import edu.handong.csee.histudy.matching.domain.PlanScore;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 여러 매칭 전략을 현재 학기 미배정 신청자 스냅샷에 실행하고 결과를 비교한다.
+ *
+ * <p>스냅샷은 한 번만 조회해 모든 전략이 공유하고, 각 전략은 시뮬레이션 실행기의 서로 다른 스레드에서 동시에 실행된다. 결과는 저장하지 않는다.
+ * 스프링 빈으로 등록된 {@link MatchingStrategy}는 모두 비교 대상에 포함된다.
+ *
+ * <p>스냅샷은 짧은 읽기 트랜잭션에서 읽고, 전략이 끝나기를 기다리는 동안에는 DB 연결을 잡지 않는다. 전략이 {@code
+ * custom.matching.simulation-timeout} 안에 끝나지 않거나 실행기가 더 받을 수 없으면 {@link
+ * MatchingSimulationUnavailableException}을 던진다.
+ */
+@Service
+public class MatchingSimulationService {
+
+  private final AcademicTermRepository academicTermRepository;
+  private final StudyApplicantRepository studyApplicantRepository;
+  private final List<MatchingStrategy> registeredStrategies;
+  private final Executor simulationExecutor;
+  private final TransactionOperations transactionOperations;
+  private final Duration timeout;
+
+  public MatchingSimulationService(
+      AcademicTermRepository academicTermRepository,
+      StudyApplicantRepository studyApplicantRepository,
+      List<MatchingStrategy> registeredStrategies,
+      @Qualifier("matchingSimulationExecutor") Executor simulationExecutor,
+      TransactionOperations transactionOperations,
+      @Value("${custom.matching.simulation-timeout:30s}") Duration timeout) {
+    this.academicTermRepository = academicTermRepository;
+    this.studyApplicantRepository = studyApplicantRepository;
+    this.registeredStrategies = List.copyOf(registeredStrategies);
+    this.simulationExecutor = simulationExecutor;
+    this.transactionOperations = transactionOperations;
+    this.timeout = timeout;
+  }
+
+  /**
+   * 등록된 전략과 주어진 전략을 순서대로 실행한 결과를 반환한다.
+   *
+   * @param candidates 등록된 전략 뒤에 함께 비교할 전략
+   */
+  public List<MatchingSimulation> simulate(List<MatchingStrategy> candidates) {
+    ApplicantSnapshot snapshot = transactionOperations.execute(status -> loadSnapshot());
+
+    List<MatchingStrategy> strategies = new ArrayList<>(registeredStrategies);
+    strategies.addAll(candidates);
+    List<CompletableFuture<MatchingSimulation>> simulations = new ArrayList<>(strategies.size());
+    try {
+      for (MatchingStrategy strategy : strategies) {
+        simulations.add(
+            CompletableFuture.supplyAsync(() -> run(strategy, snapshot), simulationExecutor));
+      }
+      CompletableFuture.allOf(simulations.toArray(CompletableFuture[]::new))
+          .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+          .join();
+    } catch (RejectedExecutionException e) {
+      simulations.forEach(simulation -> simulation.cancel(true));
+      throw new MatchingSimulationUnavailableException();
+    } catch (CompletionException e) {
+      simulations.forEach(simulation -> simulation.cancel(true));
+      if (e.getCause() instanceof TimeoutException) {
+        throw new MatchingSimulationUnavailableException();
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return simulations.stream().map(CompletableFuture::join).toList();
+  }
+
+  private ApplicantSnapshot loadSnapshot() {
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    return studyApplicantRepository.findUnassignedSnapshot(currentTerm);
+  }
+
+  private MatchingSimulation run(MatchingStrategy strategy, ApplicantSnapshot snapshot) {
+    long startedAt = System.nanoTime();
+    MatchingPlan plan = strategy.plan(snapshot);
+    PlanScore score = PlanScore.of(snapshot, plan);
+    return new MatchingSimulation(
+        strategy.name(), score, (System.nanoTime() - startedAt) / 1_000_000);
+  }
+}
@@ -0,0 +1,329 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import edu.handong.csee.histudy.domain.PreferredCourse;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭 대상 신청자의 읽기 전용 스냅샷
+ *
+ * <p>신청자는 0부터 시작하는 정수 번호로 식별하며, 수락된 친구 관계와 우선순위별 선호 과목을 CSR(offset + 값) 형태의 원시 배열로 보관한다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 함께 읽어도 안전하다.
+ */
+public final class ApplicantSnapshot {
+
+  private static final ApplicantSnapshot EMPTY = builder().build();
+
+  private final long[] applicantIds;
+  private final long[] userIds;
+  private final int[] partnerOffsets;
+  private final int[] partners;
+  private final int[] courseOffsets;
+  private final long[] courseIds;
+  private final int[] coursePriorities;
+
+  private ApplicantSnapshot(
+      long[] applicantIds,
+      long[] userIds,
+      int[] partnerOffsets,
+      int[] partners,
+      int[] courseOffsets,
+      long[] courseIds,
+      int[] coursePriorities) {
+    this.applicantIds = applicantIds;
+    this.userIds = userIds;
+    this.partnerOffsets = partnerOffsets;
+    this.partners = partners;
+    this.courseOffsets = courseOffsets;
+    this.courseIds = courseIds;
+    this.coursePriorities = coursePriorities;
+  }
+
+  public static ApplicantSnapshot empty() {
+    return EMPTY;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 이미 로딩된 신청자 엔티티로 스냅샷을 만든다.
+   *
+   * <p>번호는 목록의 순서를 따른다. 저장 전 엔티티처럼 id가 없으면 0을 기록한다.
+   */
+  public static ApplicantSnapshot from(List<StudyApplicant> applicants) {
+    Builder builder = builder();
+    Map<User, Integer> userToIndex = new IdentityHashMap<>(applicants.size());
+    for (StudyApplicant applicant : applicants) {
+      User user = applicant.getUser();
+      int index =
+          builder.addApplicant(
+              idOrZero(applicant.getStudyApplicantId()), idOrZero(user.getUserId()));
+      userToIndex.put(user, index);
+    }
+
+    for (int index = 0; index < applicants.size(); index++) {
+      StudyApplicant applicant = applicants.get(index);
+      for (StudyPartnerRequest request : applicant.getPartnerRequests()) {
+        Integer receiverIndex = userToIndex.get(request.getReceiver());
+        if (request.isAccepted() && receiverIndex != null) {
+          builder.addAcceptedPartner(index, receiverIndex);
+        }
+      }
+      for (PreferredCourse preference : applicant.getPreferredCourses()) {
+        builder.addPreferredCourse(
+            index, preference.getCourse().getCourseId(), preference.getPriority());
+      }
+    }
+    return builder.build();
+  }
+
+  private static long idOrZero(Long id) {
+    return (id == null) ? 0L : id;
+  }
+
+  public int size() {
+    return applicantIds.length;
+  }
+
+  public boolean isEmpty() {
+    return applicantIds.length == 0;
+  }
+
+  public long applicantId(int index) {
+    return applicantIds[index];
+  }
+
+  public long userId(int index) {
+    return userIds[index];
+  }
+
+  /** {@code index}번 신청자의 수락된 친구 목록 시작 위치 (포함) */
+  public int partnerFrom(int index) {
+    return partnerOffsets[index];
+  }
+
+  /** {@code index}번 신청자의 수락된 친구 목록 끝 위치 (제외) */
+  public int partnerTo(int index) {
+    return partnerOffsets[index + 1];
+  }
+
+  public int partner(int position) {
+    return partners[position];
+  }
+
+  /** {@code index}번 신청자의 선호 과목 시작 위치 (포함). 과목은 우선순위 오름차순이다. */
+  public int courseFrom(int index) {
+    return courseOffsets[index];
+  }
+
+  /** {@code index}번 신청자의 선호 과목 끝 위치 (제외) */
+  public int courseTo(int index) {
+    return courseOffsets[index + 1];
+  }
+
+  public long courseId(int position) {
+    return courseIds[position];
+  }
+
+  public int coursePriority(int position) {
+    return coursePriorities[position];
+  }
+
+  public int courseEntryCount() {
+    return courseIds.length;
+  }
+
+  /**
+   * 스냅샷 내용(신청자, 수락된 친구, 선호 과목)의 SHA-256 해시를 16진수 문자열로 반환한다.
+   *
+   * <p>같은 순서로 조회한 같은 신청자 집합이면 같은 값이 나오므로, 미리 계산한 매칭 결과가 아직 유효한지 확인하는 데 쓴다.
+   */
+  public String fingerprint() {
+    Digest digest = new Digest();
+    digest.putInt(applicantIds.length);
+    Arrays.stream(applicantIds).forEach(digest::putLong);
+    Arrays.stream(userIds).forEach(digest::putLong);
+    Arrays.stream(partnerOffsets).forEach(digest::putInt);
+    Arrays.stream(partners).forEach(digest::putInt);
+    Arrays.stream(courseOffsets).forEach(digest::putInt);
+    Arrays.stream(courseIds).forEach(digest::putLong);
+    Arrays.stream(coursePriorities).forEach(digest::putInt);
+    return digest.hex();
+  }
+
+  private static final class Digest {
+
+    private final MessageDigest messageDigest;
+    private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    private Digest() {
+      try {
+        messageDigest = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+
+    private void putInt(int value) {
+      ensureCapacity(Integer.BYTES);
+      buffer.putInt(value);
+    }
+
+    private void putLong(long value) {
+      ensureCapacity(Long.BYTES);
+      buffer.putLong(value);
+    }
+
+    private void ensureCapacity(int bytes) {
+      if (buffer.remaining() < bytes) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      buffer.flip();
+      messageDigest.update(buffer);
+      buffer.clear();
+    }
+
+    private String hex() {
+      flush();
+      return HexFormat.of().formatHex(messageDigest.digest());
+    }
+  }
+
+  public static final class Builder {
+
+    private long[] applicantIds = new long[16];
+    private long[] userIds = new long[16];
+    private int applicantCount;
+
+    private int[] partnerSenders = new int[16];
+    private int[] partnerReceivers = new int[16];
+    private int partnerCount;
+
+    private int[] courseOwners = new int[16];
+    private long[] courseIds = new long[16];
+    private int[] coursePriorities = new int[16];
+    private int courseCount;
+
+    private Builder() {}
+
+    /** 신청자를 추가하고 부여된 번호를 반환한다. */
+    public int addApplicant(long applicantId, long userId) {
+      if (applicantCount == applicantIds.length) {
+        applicantIds = Arrays.copyOf(applicantIds, applicantCount * 2);
+        userIds = Arrays.copyOf(userIds, applicantCount * 2);
+      }
+      applicantIds[applicantCount] = applicantId;
+      userIds[applicantCount] = userId;
+      return applicantCount++;
+    }
+
+    public Builder addAcceptedPartner(int senderIndex, int receiverIndex) {
+      checkIndex(senderIndex);
+      checkIndex(receiverIndex);
+      if (partnerCount == partnerSenders.length) {
+        partnerSenders = Arrays.copyOf(partnerSenders, partnerCount * 2);
+        partnerReceivers = Arrays.copyOf(partnerReceivers, partnerCount * 2);
+      }
+      partnerSenders[partnerCount] = senderIndex;
+      partnerReceivers[partnerCount] = receiverIndex;
+      partnerCount++;
+      return this;
+    }
+
+    public Builder addPreferredCourse(int applicantIndex, long courseId, int priority) {
+      checkIndex(applicantIndex);
+      if (courseCount == courseOwners.length) {
+        courseOwners = Arrays.copyOf(courseOwners, courseCount * 2);
+        courseIds = Arrays.copyOf(courseIds, courseCount * 2);
+        coursePriorities = Arrays.copyOf(coursePriorities, courseCount * 2);
+      }
+      courseOwners[courseCount] = applicantIndex;
+      courseIds[courseCount] = courseId;
+      coursePriorities[courseCount] = priority;
+      courseCount++;
+      return this;
+    }
+
+    public ApplicantSnapshot build() {
+      int[] partnerOffsets = offsets(partnerSenders, partnerCount);
+      int[] partners = new int[partnerCount];
+      int[] partnerCursor = Arrays.copyOf(partnerOffsets, applicantCount);
+      for (int edge = 0; edge < partnerCount; edge++) {
+        partners[partnerCursor[partnerSenders[edge]]++] = partnerReceivers[edge];
+      }
+
+      int[] courseOffsets = offsets(courseOwners, courseCount);
+      long[] sortedCourseIds = new long[courseCount];
+      int[] sortedPriorities = new int[courseCount];
+      int[] courseCursor = Arrays.copyOf(courseOffsets, applicantCount);
+      for (int entry = 0; entry < courseCount; entry++) {
+        int position = courseCursor[courseOwners[entry]]++;
+        sortedCourseIds[position] = courseIds[entry];
+        sortedPriorities[position] = coursePriorities[entry];
+      }
+      for (int applicant = 0; applicant < applicantCount; applicant++) {
+        sortByPriority(
+            sortedCourseIds,
+            sortedPriorities,
+            courseOffsets[applicant],
+            courseOffsets[applicant + 1]);
+      }
+
+      return new ApplicantSnapshot(
+          Arrays.copyOf(applicantIds, applicantCount),
+          Arrays.copyOf(userIds, applicantCount),
+          partnerOffsets,
+          partners,
+          courseOffsets,
+          sortedCourseIds,
+          sortedPriorities);
+    }
+
+    private int[] offsets(int[] owners, int count) {
+      int[] offsets = new int[applicantCount + 1];
+      for (int entry = 0; entry < count; entry++) {
+        offsets[owners[entry] + 1]++;
+      }
+      for (int applicant = 0; applicant < applicantCount; applicant++) {
+        offsets[applicant + 1] += offsets[applicant];
+      }
+      return offsets;
+    }
+
+    private void sortByPriority(long[] ids, int[] priorities, int from, int to) {
+      // 신청자별 선호 과목은 몇 개뿐이므로 안정적인 삽입 정렬로 충분하다.
+      for (int i = from + 1; i < to; i++) {
+        long id = ids[i];
+        int priority = priorities[i];
+        int j = i - 1;
+        while (j >= from && priorities[j] > priority) {
+          ids[j + 1] = ids[j];
+          priorities[j + 1] = priorities[j];
+          j--;
+        }
+        ids[j + 1] = id;
+        priorities[j + 1] = priority;
+      }
+    }
+
+    private void checkIndex(int index) {
+      if (index < 0 || index >= applicantCount) {
+        throw new IndexOutOfBoundsException("unknown applicant index: " + index);
+      }
+    }
+  }
+}
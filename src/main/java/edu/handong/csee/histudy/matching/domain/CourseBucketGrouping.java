@@ -0,0 +1,216 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 남은 신청자를 (우선순위, 과목) 버킷으로 나눠 그룹을 만든다.
+ *
+ * <p>버킷은 우선순위 오름차순, 같은 우선순위에서는 과목 id 오름차순으로 처리하며, 앞 버킷에서 배정된 신청자는 뒤 버킷에서 빠진다. 신청자는
+ * 우선순위마다 과목을 하나만 고르므로 같은 우선순위의 버킷끼리는 신청자를 공유하지 않는다. 병렬 처리는 이 성질을 이용해 우선순위 단계 안의
+ * 버킷을 fork/join으로 나눠 계산하고, 결과를 버킷 순서대로 이어 붙여 순차 처리와 같은 결과를 만든다. 한 단계 안에서 신청자가 겹치면 그
+ * 단계만 순차로 처리한다.
+ */
+final class CourseBucketGrouping {
+
+  /** 한 작업이 순차로 처리할 최대 과목 항목 수 */
+  private static final int PARALLEL_THRESHOLD = 2_048;
+
+  private final ApplicantSnapshot snapshot;
+  private final boolean[] assigned;
+  private final int minGroupSize;
+  private final int maxGroupSize;
+
+  /** 과목 항목 위치별 신청자 번호 */
+  private final int[] owners;
+
+  /** (우선순위, 과목 id, 신청자 번호) 순으로 정렬한 과목 항목 위치 */
+  private final Integer[] order;
+
+  /** {@code order}에서 각 버킷이 시작하는 위치. 마지막 원소는 항목 수다. */
+  private final int[] bucketStarts;
+
+  /**
+   * @param parallelSort fork/join 풀 안에서 호출할 때 항목 정렬도 병렬로 할지 여부
+   */
+  CourseBucketGrouping(
+      ApplicantSnapshot snapshot,
+      boolean[] assigned,
+      int minGroupSize,
+      int maxGroupSize,
+      boolean parallelSort) {
+    this.snapshot = snapshot;
+    this.assigned = assigned;
+    this.minGroupSize = minGroupSize;
+    this.maxGroupSize = maxGroupSize;
+
+    int entryCount = snapshot.courseEntryCount();
+    this.owners = new int[entryCount];
+    for (int index = 0; index < snapshot.size(); index++) {
+      for (int position = snapshot.courseFrom(index);
+          position < snapshot.courseTo(index);
+          position++) {
+        owners[position] = index;
+      }
+    }
+
+    this.order = new Integer[entryCount];
+    for (int position = 0; position < entryCount; position++) {
+      order[position] = position;
+    }
+    Comparator<Integer> bucketOrder =
+        Comparator.<Integer>comparingInt(snapshot::coursePriority)
+            .thenComparingLong(snapshot::courseId)
+            .thenComparingInt(position -> owners[position]);
+    if (parallelSort) {
+      Arrays.parallelSort(order, bucketOrder);
+    } else {
+      Arrays.sort(order, bucketOrder);
+    }
+
+    this.bucketStarts = findBucketStarts();
+  }
+
+  void groupSequentially(List<int[]> groups) {
+    for (int bucket = 0; bucket < bucketCount(); bucket++) {
+      groups.addAll(formGroups(bucket));
+    }
+  }
+
+  /** 호출한 스레드가 속한 fork/join 풀에서 각 우선순위 단계의 버킷을 병렬로 처리한다. */
+  void groupInParallel(List<int[]> groups) {
+    int[] seenAtLevel = new int[snapshot.size()];
+    Arrays.fill(seenAtLevel, -1);
+
+    int level = 0;
+    int levelStart = 0;
+    while (levelStart < bucketCount()) {
+      int levelEnd = levelStart + 1;
+      while (levelEnd < bucketCount() && priorityOf(levelEnd) == priorityOf(levelStart)) {
+        levelEnd++;
+      }
+
+      if (sharesApplicant(levelStart, levelEnd, level, seenAtLevel)) {
+        for (int bucket = levelStart; bucket < levelEnd; bucket++) {
+          groups.addAll(formGroups(bucket));
+        }
+      } else {
+        List<List<int[]>> results =
+            new ArrayList<>(Collections.nCopies(levelEnd - levelStart, null));
+        new BucketTask(levelStart, levelEnd, levelStart, results).invoke();
+        results.forEach(groups::addAll);
+      }
+
+      levelStart = levelEnd;
+      level++;
+    }
+  }
+
+  private int[] findBucketStarts() {
+    int[] starts = new int[order.length + 1];
+    int bucketCount = 0;
+    int start = 0;
+    while (start < order.length) {
+      starts[bucketCount++] = start;
+      int end = start + 1;
+      while (end < order.length && isSameBucket(order[start], order[end])) {
+        end++;
+      }
+      start = end;
+    }
+    starts[bucketCount] = order.length;
+    return Arrays.copyOf(starts, bucketCount + 1);
+  }
+
+  private boolean isSameBucket(int first, int second) {
+    return snapshot.coursePriority(first) == snapshot.coursePriority(second)
+        && snapshot.courseId(first) == snapshot.courseId(second);
+  }
+
+  private int bucketCount() {
+    return bucketStarts.length - 1;
+  }
+
+  private int priorityOf(int bucket) {
+    return snapshot.coursePriority(order[bucketStarts[bucket]]);
+  }
+
+  private boolean sharesApplicant(int fromBucket, int toBucket, int level, int[] seenAtLevel) {
+    for (int cursor = bucketStarts[fromBucket]; cursor < bucketStarts[toBucket]; cursor++) {
+      int applicant = owners[order[cursor]];
+      if (seenAtLevel[applicant] == level) {
+        return true;
+      }
+      seenAtLevel[applicant] = level;
+    }
+    return false;
+  }
+
+  private List<int[]> formGroups(int bucket) {
+    int start = bucketStarts[bucket];
+    int end = bucketStarts[bucket + 1];
+    int[] members = new int[end - start];
+    int memberCount = 0;
+    for (int cursor = start; cursor < end; cursor++) {
+      int applicant = owners[order[cursor]];
+      if (!assigned[applicant]) {
+        members[memberCount++] = applicant;
+      }
+    }
+
+    List<int[]> groups = new ArrayList<>();
+    int startIndex = 0;
+    while (memberCount - startIndex >= minGroupSize) {
+      int endIndex = startIndex + Math.min(memberCount - startIndex, maxGroupSize);
+      int[] group = Arrays.copyOfRange(members, startIndex, endIndex);
+      for (int member : group) {
+        assigned[member] = true;
+      }
+      groups.add(group);
+      startIndex = endIndex;
+    }
+    return groups;
+  }
+
+  private final class BucketTask extends RecursiveAction {
+
+    private final int fromBucket;
+    private final int toBucket;
+    private final int firstBucketOfLevel;
+    private final List<List<int[]>> results;
+
+    private BucketTask(
+        int fromBucket, int toBucket, int firstBucketOfLevel, List<List<int[]>> results) {
+      this.fromBucket = fromBucket;
+      this.toBucket = toBucket;
+      this.firstBucketOfLevel = firstBucketOfLevel;
+      this.results = results;
+    }
+
+    @Override
+    protected void compute() {
+      int entryCount = bucketStarts[toBucket] - bucketStarts[fromBucket];
+      if (toBucket - fromBucket == 1 || entryCount <= PARALLEL_THRESHOLD) {
+        // 같은 단계의 버킷은 서로 다른 신청자만 다루므로 assigned의 서로 다른 칸에만 쓴다.
+        for (int bucket = fromBucket; bucket < toBucket; bucket++) {
+          results.set(bucket - firstBucketOfLevel, formGroups(bucket));
+        }
+        return;
+      }
+
+      int middleEntry = (bucketStarts[fromBucket] + bucketStarts[toBucket]) >>> 1;
+      int middle = Arrays.binarySearch(bucketStarts, fromBucket + 1, toBucket, middleEntry);
+      if (middle < 0) {
+        middle = -middle - 1;
+      }
+      middle = Math.min(Math.max(middle, fromBucket + 1), toBucket - 1);
+      invokeAll(
+          new BucketTask(fromBucket, middle, firstBucketOfLevel, results),
+          new BucketTask(middle, toBucket, firstBucketOfLevel, results));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 수락된 친구 요청으로 연결된 신청자 묶음을 구하는 union-find 엔진
+ *
+ * <p>신청자를 0부터 시작하는 연속된 정수 번호로 바꾼 뒤 {@code int[]} 배열 위에서 경로 압축과 크기 기준 합치기를 수행한다. 재귀를 사용하지
+ * 않으므로 긴 친구 체인에서도 스택 깊이가 늘어나지 않는다.
+ */
+public final class FriendClustering {
+
+  private final int[] parent;
+  private final int[] size;
+
+  public FriendClustering(int nodeCount) {
+    if (nodeCount < 0) {
+      throw new IllegalArgumentException("nodeCount must not be negative");
+    }
+    this.parent = new int[nodeCount];
+    this.size = new int[nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      parent[node] = node;
+      size[node] = 1;
+    }
+  }
+
+  public int nodeCount() {
+    return parent.length;
+  }
+
+  public void connect(int first, int second) {
+    int firstRoot = find(first);
+    int secondRoot = find(second);
+    if (firstRoot == secondRoot) {
+      return;
+    }
+    if (size[firstRoot] < size[secondRoot]) {
+      int swap = firstRoot;
+      firstRoot = secondRoot;
+      secondRoot = swap;
+    }
+    parent[secondRoot] = firstRoot;
+    size[firstRoot] += size[secondRoot];
+  }
+
+  public int find(int node) {
+    int root = node;
+    while (parent[root] != root) {
+      root = parent[root];
+    }
+    while (parent[node] != root) {
+      int next = parent[node];
+      parent[node] = root;
+      node = next;
+    }
+    return root;
+  }
+
+  /**
+   * 크기가 {@code minComponentSize} 이상인 묶음을 반환한다.
+   *
+   * <p>묶음은 가장 작은 번호의 멤버 순으로 정렬되고, 각 묶음 안의 멤버도 번호 오름차순으로 정렬된다.
+   */
+  public List<int[]> components(int minComponentSize) {
+    int nodeCount = parent.length;
+    int[] componentOfRoot = new int[nodeCount];
+    Arrays.fill(componentOfRoot, -1);
+
+    List<int[]> components = new ArrayList<>();
+    int[] cursor = new int[nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      int root = find(node);
+      if (size[root] < minComponentSize) {
+        continue;
+      }
+      int componentIndex = componentOfRoot[root];
+      if (componentIndex < 0) {
+        componentIndex = components.size();
+        componentOfRoot[root] = componentIndex;
+        components.add(new int[size[root]]);
+      }
+      components.get(componentIndex)[cursor[componentIndex]++] = node;
+    }
+    return components;
+  }
+}
@@ -0,0 +1,195 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 최대 크기를 넘는 친구 묶음을 나누는 그래프 분할 휴리스틱
+ *
+ * <p>묶음을 {@code ceil(n / maxSize)}개 조각으로 나누기로 하고, 조각마다 목표 크기 {@code ceil(n / 조각 수)}까지 BFS로
+ * 키운다. 조각 안에서는 이미 들어간 멤버의 직접 친구를 먼저 넣고, 다음 조각은 직전 조각이 미처 넣지 못한 친구에서 시작하므로 친구 체인은 끝에서부터
+ * 이어진 구간으로 잘린다. 직전 조각에 남은 친구가 없으면 친구가 가장 적은 멤버에서 시작한다. 친구가 모두 다른 조각에 들어가 혼자 남은 멤버는 자리가
+ * 남은 친구의 조각에 합치고, 그런 조각이 없으면 묶음에서 뺀다.
+ *
+ * <p>간선마다 상수 번만 살펴보므로 묶음 하나를 나누는 비용은 멤버 정렬을 빼면 O(V + E)이다.
+ */
+final class FriendComponentPartitioner {
+
+  private static final int UNASSIGNED = -1;
+
+  private final int maxSize;
+  private final int minSize;
+  private final int[] adjacencyOffsets;
+  private final int[] adjacency;
+  private final int[] partOf;
+  private final int[] queuedIn;
+
+  FriendComponentPartitioner(ApplicantSnapshot snapshot, int maxSize, int minSize) {
+    if (maxSize < minSize) {
+      throw new IllegalArgumentException("maxSize must not be less than minSize");
+    }
+    this.maxSize = maxSize;
+    this.minSize = minSize;
+
+    // 친구 요청은 보낸 쪽에만 기록되므로 양방향 인접 목록을 만든다.
+    int nodeCount = snapshot.size();
+    int[] degree = new int[nodeCount + 1];
+    for (int node = 0; node < nodeCount; node++) {
+      for (int position = snapshot.partnerFrom(node);
+          position < snapshot.partnerTo(node);
+          position++) {
+        degree[node + 1]++;
+        degree[snapshot.partner(position) + 1]++;
+      }
+    }
+    for (int node = 0; node < nodeCount; node++) {
+      degree[node + 1] += degree[node];
+    }
+    this.adjacencyOffsets = degree;
+    this.adjacency = new int[degree[nodeCount]];
+    int[] cursor = Arrays.copyOf(degree, nodeCount);
+    for (int node = 0; node < nodeCount; node++) {
+      for (int position = snapshot.partnerFrom(node);
+          position < snapshot.partnerTo(node);
+          position++) {
+        int partner = snapshot.partner(position);
+        adjacency[cursor[node]++] = partner;
+        adjacency[cursor[partner]++] = node;
+      }
+    }
+
+    this.partOf = new int[nodeCount];
+    this.queuedIn = new int[nodeCount];
+    Arrays.fill(partOf, UNASSIGNED);
+    Arrays.fill(queuedIn, UNASSIGNED);
+  }
+
+  /**
+   * 연결된 친구 묶음을 {@code maxSize} 이하의 조각으로 나눈다.
+   *
+   * <p>조각은 가장 작은 번호의 멤버 순으로, 조각 안의 멤버는 번호 오름차순으로 정렬된다. 어느 조각에도 들지 못한 멤버는 결과에 없다.
+   *
+   * @param component {@link FriendClustering#components(int)}가 반환한 묶음 하나
+   */
+  List<int[]> partition(int[] component) {
+    int memberCount = component.length;
+    if (memberCount <= maxSize) {
+      return List.of(component);
+    }
+    int partCount = (memberCount + maxSize - 1) / maxSize;
+    int targetSize = (memberCount + partCount - 1) / partCount;
+
+    Integer[] seedOrder = new Integer[memberCount];
+    for (int cursor = 0; cursor < memberCount; cursor++) {
+      seedOrder[cursor] = component[cursor];
+    }
+    Arrays.sort(seedOrder, Comparator.comparingInt(this::degreeOf).thenComparingInt(node -> node));
+
+    List<int[]> parts = new ArrayList<>();
+    int[] queue = new int[memberCount];
+    int nextSeed = 0;
+    int carriedSeed = UNASSIGNED;
+    int assignedCount = 0;
+    while (assignedCount < memberCount) {
+      int seed = carriedSeed;
+      if (seed == UNASSIGNED) {
+        while (partOf[seedOrder[nextSeed]] != UNASSIGNED) {
+          nextSeed++;
+        }
+        seed = seedOrder[nextSeed];
+      }
+
+      int part = parts.size();
+      int[] members = new int[targetSize];
+      int size = 0;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = seed;
+      queuedIn[seed] = part;
+      while (head < tail && size < targetSize) {
+        int node = queue[head++];
+        partOf[node] = part;
+        members[size++] = node;
+        for (int position = adjacencyOffsets[node];
+            position < adjacencyOffsets[node + 1];
+            position++) {
+          int partner = adjacency[position];
+          if (partOf[partner] == UNASSIGNED && queuedIn[partner] != part) {
+            queuedIn[partner] = part;
+            queue[tail++] = partner;
+          }
+        }
+      }
+      parts.add(Arrays.copyOf(members, size));
+      assignedCount += size;
+      carriedSeed = (head < tail) ? queue[head] : UNASSIGNED;
+    }
+
+    return collect(mergeUndersizedParts(parts));
+  }
+
+  private int degreeOf(int node) {
+    return adjacencyOffsets[node + 1] - adjacencyOffsets[node];
+  }
+
+  private List<int[]> mergeUndersizedParts(List<int[]> parts) {
+    int[] sizes = new int[parts.size()];
+    for (int part = 0; part < parts.size(); part++) {
+      sizes[part] = parts.get(part).length;
+    }
+    List<int[]> extraMembers = new ArrayList<>();
+    for (int part = 0; part < parts.size(); part++) {
+      if (sizes[part] >= minSize) {
+        continue;
+      }
+      for (int node : parts.get(part)) {
+        int target = partnerPartWithRoom(node, part, sizes);
+        if (target != UNASSIGNED) {
+          sizes[target]++;
+          extraMembers.add(new int[] {target, node});
+        }
+        partOf[node] = target;
+      }
+      sizes[part] = 0;
+    }
+
+    List<int[]> merged = new ArrayList<>(parts.size());
+    for (int part = 0; part < parts.size(); part++) {
+      merged.add(sizes[part] == 0 ? new int[0] : Arrays.copyOf(parts.get(part), sizes[part]));
+    }
+    int[] cursor = new int[parts.size()];
+    for (int part = 0; part < parts.size(); part++) {
+      cursor[part] = (sizes[part] == 0) ? 0 : parts.get(part).length;
+    }
+    for (int[] extra : extraMembers) {
+      merged.get(extra[0])[cursor[extra[0]]++] = extra[1];
+    }
+    return merged;
+  }
+
+  private int partnerPartWithRoom(int node, int ownPart, int[] sizes) {
+    for (int position = adjacencyOffsets[node];
+        position < adjacencyOffsets[node + 1];
+        position++) {
+      int part = partOf[adjacency[position]];
+      if (part != UNASSIGNED && part != ownPart && sizes[part] >= minSize && sizes[part] < maxSize) {
+        return part;
+      }
+    }
+    return UNASSIGNED;
+  }
+
+  private List<int[]> collect(List<int[]> parts) {
+    List<int[]> result = new ArrayList<>(parts.size());
+    for (int[] members : parts) {
+      if (members.length > 0) {
+        Arrays.sort(members);
+        result.add(members);
+      }
+    }
+    result.sort(Comparator.comparingInt(members -> members[0]));
+    return result;
+  }
+}
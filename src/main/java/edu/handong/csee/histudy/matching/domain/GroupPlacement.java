@@ -0,0 +1,9 @@
+package edu.handong.csee.histudy.matching.domain;
+
+/**
+ * 기존 그룹에 새로 배정할 신청자
+ *
+ * @param groupId 배정할 스터디 그룹 id
+ * @param applicantIds 그룹에 추가할 신청자 id
+ */
+public record GroupPlacement(long groupId, long[] applicantIds) {}
@@ -0,0 +1,10 @@
+package edu.handong.csee.histudy.matching.domain;
+
+/**
+ * 저장할 매칭 그룹 한 개의 행 데이터
+ *
+ * @param tag 학기 안에서 새로 부여한 그룹 태그
+ * @param applicantIds 그룹에 배정할 신청자 id
+ * @param courseIds 그룹 과목으로 등록할 과목 id (오름차순)
+ */
+public record MatchedGroup(int tag, long[] applicantIds, long[] courseIds) {}
@@ -0,0 +1,9 @@
+package edu.handong.csee.histudy.matching.domain;
+
+/** 매칭 유스케이스의 진행 단계 */
+public enum MatchingPhase {
+  LOAD,
+  CLUSTER,
+  COURSE_BUCKETS,
+  PERSIST
+}
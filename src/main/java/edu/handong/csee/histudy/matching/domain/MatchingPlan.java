@@ -0,0 +1,24 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.List;
+
+/**
+ * {@link ApplicantSnapshot} 위에서 계산한 매칭 결과
+ *
+ * <p>{@code groups}의 각 원소는 한 그룹에 속한 신청자 번호 배열이며, 목록 순서가 곧 그룹 태그 순서다. {@code unassigned}는 어느 그룹에도
+ * 배정되지 않은 신청자 번호를 오름차순으로 담는다.
+ */
+public record MatchingPlan(List<int[]> groups, int[] unassigned) {
+
+  public MatchingPlan {
+    groups = List.copyOf(groups);
+  }
+
+  public boolean isEmpty() {
+    return groups.isEmpty();
+  }
+
+  public int assignedCount() {
+    return groups.stream().mapToInt(group -> group.length).sum();
+  }
+}
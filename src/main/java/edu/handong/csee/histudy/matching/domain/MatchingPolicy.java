@@ -3,27 +3,107 @@ package edu.handong.csee.histudy.matching.domain;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.domain.PreferredCourse;
-import edu.handong.csee.histudy.domain.Priority;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
-import edu.handong.csee.histudy.domain.StudyPartnerRequest;
-import edu.handong.csee.histudy.domain.User;
-import edu.handong.csee.histudy.util.DFS;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
-public class MatchingPolicy {
+/**
+ * 기본 매칭 전략. 친구 묶음을 먼저 그룹으로 만들고 남은 신청자를 선호 과목 우선순위로 배정한다.
+ *
+ * <p>인스턴스는 불변이며 {@code with...} 메서드는 설정만 바꾼 새 정책을 반환한다.
+ */
+public class MatchingPolicy implements MatchingStrategy {
+
+  /** 과목 우선 매칭으로 만드는 그룹의 기본 최소 인원 */
+  public static final int MIN_COURSE_GROUP_SIZE = 3;
+
+  /** 과목 우선 매칭으로 만드는 그룹의 기본 최대 인원 */
+  public static final int MAX_COURSE_GROUP_SIZE = 5;
+
+  /** 친구 묶음을 나누지 않는 기본 최대 인원. 기존처럼 연결된 친구는 모두 한 그룹이 된다. */
+  public static final int UNBOUNDED_FRIEND_GROUP_SIZE = Integer.MAX_VALUE;
 
   private static final int MIN_FRIEND_GROUP_SIZE = 2;
-  private static final int MIN_COURSE_GROUP_SIZE = 3;
-  private static final int MAX_COURSE_GROUP_SIZE = 5;
+
+  private final ForkJoinPool forkJoinPool;
+  private final int maxFriendGroupSize;
+  private final int minCourseGroupSize;
+  private final int maxCourseGroupSize;
+
+  /** 과목 버킷을 순차로 처리하고 친구 묶음은 나누지 않는 정책 */
+  public MatchingPolicy() {
+    this(null, UNBOUNDED_FRIEND_GROUP_SIZE, MIN_COURSE_GROUP_SIZE, MAX_COURSE_GROUP_SIZE);
+  }
+
+  private MatchingPolicy(
+      ForkJoinPool forkJoinPool,
+      int maxFriendGroupSize,
+      int minCourseGroupSize,
+      int maxCourseGroupSize) {
+    this.forkJoinPool = forkJoinPool;
+    this.maxFriendGroupSize = maxFriendGroupSize;
+    this.minCourseGroupSize = minCourseGroupSize;
+    this.maxCourseGroupSize = maxCourseGroupSize;
+  }
+
+  /**
+   * 과목 버킷을 주어진 fork/join 풀에서 병렬로 처리하는 정책. 그룹 구성과 태그 순서는 순차 정책과 같다.
+   *
+   * @see CourseBucketGrouping
+   */
+  public static MatchingPolicy parallel(ForkJoinPool forkJoinPool) {
+    Objects.requireNonNull(forkJoinPool, "forkJoinPool must not be null");
+    return new MatchingPolicy(
+        forkJoinPool, UNBOUNDED_FRIEND_GROUP_SIZE, MIN_COURSE_GROUP_SIZE, MAX_COURSE_GROUP_SIZE);
+  }
+
+  /**
+   * 친구 묶음의 최대 인원만 바꾼 정책. 이보다 큰 묶음은 직접 친구끼리 같은 그룹에 남도록 나눈다.
+   *
+   * @see FriendComponentPartitioner
+   */
+  public MatchingPolicy withMaxFriendGroupSize(int maxFriendGroupSize) {
+    if (maxFriendGroupSize < MIN_FRIEND_GROUP_SIZE) {
+      throw new IllegalArgumentException(
+          "maxFriendGroupSize must be at least " + MIN_FRIEND_GROUP_SIZE);
+    }
+    return new MatchingPolicy(
+        forkJoinPool, maxFriendGroupSize, minCourseGroupSize, maxCourseGroupSize);
+  }
+
+  /** 과목 우선 매칭 그룹의 인원 범위만 바꾼 정책. 범위보다 적게 남은 버킷 인원은 미배정으로 남는다. */
+  public MatchingPolicy withCourseGroupSize(int minCourseGroupSize, int maxCourseGroupSize) {
+    if (minCourseGroupSize < MIN_FRIEND_GROUP_SIZE || maxCourseGroupSize < minCourseGroupSize) {
+      throw new IllegalArgumentException(
+          "course group size must satisfy %d <= min <= max"
+              .formatted(MIN_FRIEND_GROUP_SIZE));
+    }
+    return new MatchingPolicy(
+        forkJoinPool, maxFriendGroupSize, minCourseGroupSize, maxCourseGroupSize);
+  }
+
+  /** 늦은 신청자를 기존 그룹에 채울 때의 정원. 과목 우선 매칭 그룹의 최대 인원과 같다. */
+  public int openGroupCapacity() {
+    return maxCourseGroupSize;
+  }
+
+  @Override
+  public String name() {
+    String friendLimit =
+        (maxFriendGroupSize == UNBOUNDED_FRIEND_GROUP_SIZE)
+            ? "all"
+            : String.valueOf(maxFriendGroupSize);
+    return "friends-first(friends<=%s, course=%d-%d)"
+        .formatted(friendLimit, minCourseGroupSize, maxCourseGroupSize);
+  }
 
   public List<StudyGroup> match(
       List<StudyApplicant> applicants, AcademicTerm academicTerm, int firstGroupTag) {
@@ -33,104 +113,223 @@ public class MatchingPolicy {
       return List.of();
     }
 
-    AtomicInteger nextGroupTag = new AtomicInteger(firstGroupTag);
-    List<StudyGroup> groups = new ArrayList<>();
-    groups.addAll(groupByFriends(applicants, nextGroupTag, academicTerm));
-    groups.addAll(groupByCoursePreference(applicants, nextGroupTag, academicTerm));
+    List<StudyApplicant> candidates =
+        applicants.stream().filter(applicant -> !applicant.hasStudyGroup()).toList();
+    ApplicantSnapshot snapshot = ApplicantSnapshot.from(candidates);
+    return toStudyGroups(plan(snapshot), snapshot, candidates::get, academicTerm, firstGroupTag);
+  }
+
+  @Override
+  public MatchingPlan plan(ApplicantSnapshot snapshot) {
+    return plan(snapshot, phase -> {});
+  }
+
+  /**
+   * 스냅샷으로 매칭 결과를 계산한다.
+   *
+   * @param onPhase 친구 묶기({@link MatchingPhase#CLUSTER})와 과목 버킷 배정({@link
+   *     MatchingPhase#COURSE_BUCKETS})을 시작할 때 호출된다
+   */
+  public MatchingPlan plan(ApplicantSnapshot snapshot, Consumer<MatchingPhase> onPhase) {
+    Objects.requireNonNull(snapshot, "snapshot must not be null");
+
+    boolean[] assigned = new boolean[snapshot.size()];
+    List<int[]> groups = new ArrayList<>();
+    onPhase.accept(MatchingPhase.CLUSTER);
+    groupByFriends(snapshot, assigned, groups);
+    onPhase.accept(MatchingPhase.COURSE_BUCKETS);
+    groupByCoursePreference(snapshot, assigned, groups);
+    return new MatchingPlan(groups, unassigned(assigned));
+  }
+
+  /**
+   * 새 그룹에 들지 못한 신청자를 학기의 기존 그룹 빈자리에 배정한다.
+   *
+   * <p>과목 id에서 그룹으로 가는 역색인({@link OpenGroupIndex})을 쓰므로 대상 신청자와 그 선호 과목의 그룹만 살펴본다.
+   * 신청자는 선호 우선순위가 가장 높은 과목의 그룹에 들어가며, 그룹 정원은 {@link #openGroupCapacity()}이다.
+   *
+   * @param candidates 배정할 신청자의 스냅샷 번호. 보통 {@link MatchingPlan#unassigned()}
+   * @return 신청자가 추가되는 그룹별 배정 결과
+   */
+  public List<GroupPlacement> placeIntoOpenGroups(
+      ApplicantSnapshot snapshot, int[] candidates, List<OpenGroup> openGroups) {
+    Objects.requireNonNull(snapshot, "snapshot must not be null");
+    Objects.requireNonNull(openGroups, "openGroups must not be null");
+    if (candidates.length == 0 || openGroups.isEmpty()) {
+      return List.of();
+    }
+    return new OpenGroupIndex(openGroups, maxCourseGroupSize).place(snapshot, candidates);
+  }
+
+  /**
+   * 매칭 결과를 그룹 엔티티로 만든다.
+   *
+   * <p>그룹 과목은 스냅샷에서 그룹마다 한 번 계산해 {@link StudyGroup#of(Integer, AcademicTerm, List, List)}로
+   * 넘기므로, 멤버를 추가할 때마다 과목을 다시 세지 않는다.
+   *
+   * @param applicantAt 스냅샷 번호로 신청자 엔티티를 찾는 함수
+   */
+  public List<StudyGroup> toStudyGroups(
+      MatchingPlan plan,
+      ApplicantSnapshot snapshot,
+      IntFunction<StudyApplicant> applicantAt,
+      AcademicTerm academicTerm,
+      int firstGroupTag) {
+    List<StudyGroup> groups = new ArrayList<>(plan.groups().size());
+    int tag = firstGroupTag;
+    for (int[] members : plan.groups()) {
+      List<StudyApplicant> applicants = new ArrayList<>(members.length);
+      for (int index : members) {
+        applicants.add(applicantAt.apply(index));
+      }
+      List<Course> courses = coursesOf(applicants, commonCourseIds(members, snapshot));
+      groups.add(StudyGroup.of(tag++, academicTerm, applicants, courses));
+    }
     return List.copyOf(groups);
   }
 
-  private List<StudyGroup> groupByFriends(
-      List<StudyApplicant> applicants,
-      AtomicInteger nextGroupTag,
-      AcademicTerm academicTerm) {
-    Map<StudyApplicant, List<StudyApplicant>> friendshipMap = buildFriendshipMap(applicants);
-
-    return new DFS<>(friendshipMap, MIN_FRIEND_GROUP_SIZE)
-        .execute().stream()
-            .map(
-                friends ->
-                    StudyGroup.of(nextGroupTag.getAndIncrement(), academicTerm, friends))
-            .toList();
-  }
-
-  private Map<StudyApplicant, List<StudyApplicant>> buildFriendshipMap(
-      List<StudyApplicant> applicants) {
-    Map<User, StudyApplicant> userToApplicant =
-        applicants.stream().collect(Collectors.toMap(StudyApplicant::getUser, Function.identity()));
-
-    return applicants.stream()
-        .filter(applicant -> !applicant.hasStudyGroup())
-        .flatMap(applicant -> applicant.getPartnerRequests().stream())
-        .filter(StudyPartnerRequest::isAccepted)
-        .filter(request -> userToApplicant.containsKey(request.getReceiver()))
-        .collect(
-            Collectors.groupingBy(
-                StudyPartnerRequest::getSender,
-                Collectors.mapping(
-                    request -> userToApplicant.get(request.getReceiver()), Collectors.toList())));
-  }
-
-  private List<StudyGroup> groupByCoursePreference(
-      List<StudyApplicant> applicants,
-      AtomicInteger nextGroupTag,
-      AcademicTerm academicTerm) {
-    List<PreferredCourse> coursePreferences =
-        applicants.stream()
-            .filter(applicant -> !applicant.hasStudyGroup())
-            .flatMap(applicant -> applicant.getPreferredCourses().stream())
-            .sorted(
-                Comparator.comparingInt(PreferredCourse::getPriority)
-                    .thenComparing(preference -> preference.getCourse().getCourseId()))
-            .toList();
-
-    Map<Priority, Map<Course, List<StudyApplicant>>> priorityCourseMap = new LinkedHashMap<>();
-    coursePreferences.forEach(
-        preference -> {
-          Priority priority = Priority.of(preference.getPriority());
-          Course course = preference.getCourse();
-
-          priorityCourseMap
-              .computeIfAbsent(priority, ignored -> new LinkedHashMap<>())
-              .computeIfAbsent(course, ignored -> new ArrayList<>())
-              .add(preference.getApplicant());
-        });
-
-    List<StudyGroup> groups = new ArrayList<>();
-    for (Map<Course, List<StudyApplicant>> courseMap : priorityCourseMap.values()) {
-      for (List<StudyApplicant> bucket : courseMap.values()) {
-        List<StudyApplicant> remaining =
-            bucket.stream().filter(applicant -> !applicant.hasStudyGroup()).toList();
-        groups.addAll(
-            groupBySize(
-                remaining,
-                nextGroupTag,
-                academicTerm,
-                MIN_COURSE_GROUP_SIZE,
-                MAX_COURSE_GROUP_SIZE));
+  private List<Course> coursesOf(List<StudyApplicant> applicants, long[] courseIds) {
+    List<Course> courses = new ArrayList<>(courseIds.length);
+    for (long courseId : courseIds) {
+      findPreferredCourse(applicants, courseId).ifPresent(courses::add);
+    }
+    return courses;
+  }
+
+  private Optional<Course> findPreferredCourse(List<StudyApplicant> applicants, long courseId) {
+    for (StudyApplicant applicant : applicants) {
+      for (PreferredCourse preference : applicant.getPreferredCourses()) {
+        Course course = preference.getCourse();
+        if (course.getCourseId() != null && course.getCourseId() == courseId) {
+          return Optional.of(course);
+        }
       }
     }
-    return groups;
+    return Optional.empty();
   }
 
-  private List<StudyGroup> groupBySize(
-      List<StudyApplicant> applicants,
-      AtomicInteger nextGroupTag,
-      AcademicTerm academicTerm,
-      int minSize,
-      int maxSize) {
-    List<StudyGroup> groups = new ArrayList<>();
-    int startIndex = 0;
-    while (applicants.size() - startIndex >= minSize) {
-      int remaining = applicants.size() - startIndex;
-      int endIndex = startIndex + Math.min(remaining, maxSize);
-      groups.add(
-          StudyGroup.of(
-              nextGroupTag.getAndIncrement(),
-              academicTerm,
-              applicants.subList(startIndex, endIndex)));
-      startIndex = endIndex;
-    }
-    return groups;
+  /**
+   * 매칭 결과를 엔티티 없이 저장할 수 있는 행 데이터로 만든다.
+   *
+   * <p>그룹 과목은 {@link StudyGroup#commonCoursesOf(List)}와 같은 규칙으로 스냅샷의 과목 id에서 계산한다.
+   */
+  public List<MatchedGroup> toMatchedGroups(
+      MatchingPlan plan, ApplicantSnapshot snapshot, int firstGroupTag) {
+    List<MatchedGroup> groups = new ArrayList<>(plan.groups().size());
+    int tag = firstGroupTag;
+    for (int[] members : plan.groups()) {
+      long[] applicantIds = new long[members.length];
+      for (int cursor = 0; cursor < members.length; cursor++) {
+        applicantIds[cursor] = snapshot.applicantId(members[cursor]);
+      }
+      groups.add(new MatchedGroup(tag++, applicantIds, commonCourseIds(members, snapshot)));
+    }
+    return List.copyOf(groups);
+  }
+
+  /** 그룹 과목 id를 오름차순으로 반환한다. */
+  static long[] commonCourseIds(int[] members, ApplicantSnapshot snapshot) {
+    int entryCount = 0;
+    for (int member : members) {
+      entryCount += snapshot.courseTo(member) - snapshot.courseFrom(member);
+    }
+    long[] courseIds = new long[entryCount];
+    int cursor = 0;
+    for (int member : members) {
+      for (int position = snapshot.courseFrom(member);
+          position < snapshot.courseTo(member);
+          position++) {
+        courseIds[cursor++] = snapshot.courseId(position);
+      }
+    }
+    Arrays.sort(courseIds);
+
+    // 정렬된 과목 id의 연속 구간 길이가 곧 선호 인원수다.
+    long[] distinctCourseIds = new long[entryCount];
+    long[] commonCourseIds = new long[entryCount];
+    int distinctCount = 0;
+    int commonCount = 0;
+    int start = 0;
+    while (start < entryCount) {
+      int end = start + 1;
+      while (end < entryCount && courseIds[end] == courseIds[start]) {
+        end++;
+      }
+      distinctCourseIds[distinctCount++] = courseIds[start];
+      if (end - start >= StudyGroup.COMMON_COURSE_THRESHOLD) {
+        commonCourseIds[commonCount++] = courseIds[start];
+      }
+      start = end;
+    }
+    return (commonCount == 0)
+        ? Arrays.copyOf(distinctCourseIds, distinctCount)
+        : Arrays.copyOf(commonCourseIds, commonCount);
+  }
+
+  private void groupByFriends(ApplicantSnapshot snapshot, boolean[] assigned, List<int[]> groups) {
+    FriendClustering clustering = new FriendClustering(snapshot.size());
+    for (int index = 0; index < snapshot.size(); index++) {
+      for (int position = snapshot.partnerFrom(index);
+          position < snapshot.partnerTo(index);
+          position++) {
+        clustering.connect(index, snapshot.partner(position));
+      }
+    }
+
+    FriendComponentPartitioner partitioner = null;
+    for (int[] component : clustering.components(MIN_FRIEND_GROUP_SIZE)) {
+      if (component.length <= maxFriendGroupSize) {
+        markAssigned(component, assigned);
+        groups.add(component);
+        continue;
+      }
+      if (partitioner == null) {
+        partitioner =
+            new FriendComponentPartitioner(snapshot, maxFriendGroupSize, MIN_FRIEND_GROUP_SIZE);
+      }
+      for (int[] part : partitioner.partition(component)) {
+        markAssigned(part, assigned);
+        groups.add(part);
+      }
+    }
+  }
+
+  private void groupByCoursePreference(
+      ApplicantSnapshot snapshot, boolean[] assigned, List<int[]> groups) {
+    if (forkJoinPool == null) {
+      new CourseBucketGrouping(
+              snapshot, assigned, minCourseGroupSize, maxCourseGroupSize, false)
+          .groupSequentially(groups);
+      return;
+    }
+    forkJoinPool.invoke(
+        ForkJoinTask.adapt(
+            () ->
+                new CourseBucketGrouping(
+                        snapshot, assigned, minCourseGroupSize, maxCourseGroupSize, true)
+                    .groupInParallel(groups)));
+  }
+
+  private void markAssigned(int[] members, boolean[] assigned) {
+    for (int member : members) {
+      assigned[member] = true;
+    }
+  }
+
+  private int[] unassigned(boolean[] assigned) {
+    int count = 0;
+    for (boolean isAssigned : assigned) {
+      if (!isAssigned) {
+        count++;
+      }
+    }
+    int[] unassigned = new int[count];
+    int cursor = 0;
+    for (int index = 0; index < assigned.length; index++) {
+      if (!assigned[index]) {
+        unassigned[cursor++] = index;
+      }
+    }
+    return unassigned;
   }
 }
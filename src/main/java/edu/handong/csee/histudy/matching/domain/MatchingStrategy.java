@@ -0,0 +1,15 @@
+package edu.handong.csee.histudy.matching.domain;
+
+/**
+ * 신청자 스냅샷으로 매칭 결과를 계산하는 전략
+ *
+ * <p>구현체는 스냅샷을 읽기만 하고 결과 외의 상태를 남기지 않아야 한다. 매칭 시뮬레이션은 여러 전략을 같은 스냅샷에 대해 서로 다른 스레드에서 동시에
+ * 실행한다.
+ */
+public interface MatchingStrategy {
+
+  /** 시뮬레이션 결과에서 전략을 구분하는 이름 */
+  String name();
+
+  MatchingPlan plan(ApplicantSnapshot snapshot);
+}
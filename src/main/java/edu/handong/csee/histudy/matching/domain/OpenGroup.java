@@ -0,0 +1,11 @@
+package edu.handong.csee.histudy.matching.domain;
+
+/**
+ * 빈자리가 있는 기존 그룹
+ *
+ * @param groupId 스터디 그룹 id
+ * @param tag 학기 안의 그룹 태그
+ * @param memberCount 현재 멤버 수
+ * @param courseIds 그룹 과목 id
+ */
+public record OpenGroup(long groupId, int tag, int memberCount, long[] courseIds) {}
@@ -0,0 +1,98 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과목 id에서 빈자리가 있는 그룹으로 가는 역색인
+ *
+ * <p>과목마다 그룹을 태그 오름차순으로 보관하고, 자리가 찬 그룹은 조회할 때 목록 앞에서 걷어낸다. 신청자 한 명을 배정하는 비용은 선호 과목 수에
+ * 비례하며 학기 전체 그룹 수와는 관계없다.
+ */
+final class OpenGroupIndex {
+
+  private final List<Slot> slots;
+  private final Map<Long, Deque<Slot>> slotsByCourse = new HashMap<>();
+
+  OpenGroupIndex(List<OpenGroup> openGroups, int capacity) {
+    List<OpenGroup> byTag = new ArrayList<>(openGroups);
+    byTag.sort(Comparator.comparingInt(OpenGroup::tag));
+    this.slots = new ArrayList<>(byTag.size());
+    for (OpenGroup group : byTag) {
+      if (group.memberCount() >= capacity) {
+        continue;
+      }
+      Slot slot = new Slot(group.groupId(), capacity - group.memberCount());
+      slots.add(slot);
+      for (long courseId : group.courseIds()) {
+        slotsByCourse.computeIfAbsent(courseId, key -> new ArrayDeque<>()).addLast(slot);
+      }
+    }
+  }
+
+  /**
+   * 신청자를 번호 순서대로, 선호 과목 우선순위가 높은 과목의 그룹부터 빈자리에 배정한다. 같은 과목이면 태그가 작은 그룹을 먼저 채운다.
+   *
+   * @param candidates 배정할 신청자 번호
+   * @return 신청자가 추가된 그룹만 태그 순으로 담은 배정 결과
+   */
+  List<GroupPlacement> place(ApplicantSnapshot snapshot, int[] candidates) {
+    for (int applicant : candidates) {
+      for (int position = snapshot.courseFrom(applicant);
+          position < snapshot.courseTo(applicant);
+          position++) {
+        Slot slot = firstOpenSlot(snapshot.courseId(position));
+        if (slot != null) {
+          slot.add(snapshot.applicantId(applicant));
+          break;
+        }
+      }
+    }
+
+    List<GroupPlacement> placements = new ArrayList<>();
+    for (Slot slot : slots) {
+      if (slot.placedCount > 0) {
+        placements.add(
+            new GroupPlacement(slot.groupId, Arrays.copyOf(slot.placed, slot.placedCount)));
+      }
+    }
+    return placements;
+  }
+
+  private Slot firstOpenSlot(long courseId) {
+    Deque<Slot> candidates = slotsByCourse.get(courseId);
+    if (candidates == null) {
+      return null;
+    }
+    while (!candidates.isEmpty() && candidates.peekFirst().isFull()) {
+      candidates.pollFirst();
+    }
+    return candidates.peekFirst();
+  }
+
+  private static final class Slot {
+
+    private final long groupId;
+    private final long[] placed;
+    private int placedCount;
+
+    private Slot(long groupId, int freeSeats) {
+      this.groupId = groupId;
+      this.placed = new long[freeSeats];
+    }
+
+    private boolean isFull() {
+      return placedCount == placed.length;
+    }
+
+    private void add(long applicantId) {
+      placed[placedCount++] = applicantId;
+    }
+  }
+}
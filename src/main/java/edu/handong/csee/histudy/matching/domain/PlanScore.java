@@ -0,0 +1,59 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.Arrays;
+
+/**
+ * 매칭 결과 평가 지표
+ *
+ * @param applicantCount 스냅샷의 신청자 수
+ * @param assignedCount 그룹에 배정된 신청자 수
+ * @param groupCount 그룹 수
+ * @param matchedRatio 배정된 신청자 비율. 신청자가 없으면 0
+ * @param groupSizeVariance 그룹 인원의 모분산. 그룹이 없으면 0
+ * @param prioritySatisfaction 배정된 신청자마다 그룹 과목에 든 가장 높은 선호 과목의 순위 {@code r}(0부터)로 {@code 1 / (r +
+ *     1)}을 구한 평균. 그룹 과목에 선호 과목이 하나도 없으면 그 신청자는 0이다
+ */
+public record PlanScore(
+    int applicantCount,
+    int assignedCount,
+    int groupCount,
+    double matchedRatio,
+    double groupSizeVariance,
+    double prioritySatisfaction) {
+
+  /** 그룹 과목은 {@link MatchingPolicy#toMatchedGroups}와 같은 규칙으로 스냅샷에서 계산한다. */
+  public static PlanScore of(ApplicantSnapshot snapshot, MatchingPlan plan) {
+    int groupCount = plan.groups().size();
+    int assignedCount = plan.assignedCount();
+
+    double sizeSquareSum = 0;
+    double satisfactionSum = 0;
+    for (int[] members : plan.groups()) {
+      sizeSquareSum += (double) members.length * members.length;
+      long[] groupCourseIds = MatchingPolicy.commonCourseIds(members, snapshot);
+      for (int member : members) {
+        satisfactionSum += satisfactionOf(member, groupCourseIds, snapshot);
+      }
+    }
+
+    double meanSize = (groupCount == 0) ? 0 : (double) assignedCount / groupCount;
+    return new PlanScore(
+        snapshot.size(),
+        assignedCount,
+        groupCount,
+        snapshot.isEmpty() ? 0 : (double) assignedCount / snapshot.size(),
+        (groupCount == 0) ? 0 : sizeSquareSum / groupCount - meanSize * meanSize,
+        (assignedCount == 0) ? 0 : satisfactionSum / assignedCount);
+  }
+
+  private static double satisfactionOf(
+      int applicant, long[] sortedGroupCourseIds, ApplicantSnapshot snapshot) {
+    int from = snapshot.courseFrom(applicant);
+    for (int position = from; position < snapshot.courseTo(applicant); position++) {
+      if (Arrays.binarySearch(sortedGroupCourseIds, snapshot.courseId(position)) >= 0) {
+        return 1.0 / (position - from + 1);
+      }
+    }
+    return 0;
+  }
+}
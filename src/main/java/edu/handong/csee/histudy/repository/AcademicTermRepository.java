@@ -6,8 +6,15 @@ import java.util.List;
 import java.util.Optional;
 
 public interface AcademicTermRepository {
+  /** 현재 학기를 조회한다. 인스턴스 메모리에 캐시한 학기이므로 바꾸지 않는다. */
   Optional<AcademicTerm> findCurrentSemester();
 
+  /** 현재 학기를 캐시를 거치지 않고 쓰기 잠금과 함께 조회한다. */
+  Optional<AcademicTerm> findCurrentSemesterForUpdate();
+
+  /** 현재 학기 캐시를 커밋 후 비우고 다른 인스턴스가 알 수 있도록 캐시 버전을 올린다. */
+  void invalidateCurrentSemester();
+
   Optional<AcademicTerm> findByYearAndTerm(int year, TermType sem);
 
   AcademicTerm save(AcademicTerm entity);
@@ -15,4 +22,7 @@ public interface AcademicTermRepository {
   List<AcademicTerm> findAllByYearDescAndSemesterDesc();
 
   Optional<AcademicTerm> findById(Long id);
+
+  /** 학기를 쓰기 잠금과 함께 조회한다. 같은 학기의 매칭 쓰기를 노드와 관계없이 한 번에 하나씩 실행하는 데 쓴다. */
+  Optional<AcademicTerm> findByIdForUpdate(Long id);
 }
@@ -0,0 +1,37 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활동 지표 집계 저장소
+ *
+ * <p>증감 메서드는 영속성 컨텍스트를 거치지 않는 한 번의 {@code insert ... on duplicate key update}로 학기 집계와 전체 기간
+ * 집계를 함께 바꾼다. 집계가 아직 없으면 변화량으로 새로 만들며, 다음 재계산 때 원천 데이터와 맞춰진다.
+ */
+public interface ActivityRollupRepository {
+
+  /**
+   * @param rollupId 학기 id 또는 {@link ActivityRollup#ALL_TIME_ID}
+   */
+  Optional<ActivityRollup> findById(Long rollupId);
+
+  ActivityRollup save(ActivityRollup rollup);
+
+  long count();
+
+  /** 집계를 행마다 삽입하거나 이미 있는 행의 값을 덮어쓴다. 주어지지 않은 집계는 그대로 둔다. */
+  void upsertAll(List<ActivityRollup> rollups);
+
+  void addReportActivity(AcademicTerm academicTerm, long reportDelta, long minutesDelta);
+
+  /**
+   * @param memberDelta 그룹에 배정된 신청자 수의 변화. 학기 집계에만 반영한다.
+   */
+  void addGroupActivity(AcademicTerm academicTerm, long groupDelta, long memberDelta);
+
+  /** 관리자를 제외한 사용자 수의 변화를 전체 기간 집계에 반영한다. */
+  void addStudyMembers(long memberDelta);
+}
@@ -2,6 +2,7 @@ package edu.handong.csee.histudy.repository;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.Course;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +22,6 @@ public interface CourseRepository {
   void deleteAllByAcademicTerm(AcademicTerm academicTerm);
 
   Optional<Course> findById(Long id);
+
+  List<Course> findAllById(Collection<Long> ids);
 }
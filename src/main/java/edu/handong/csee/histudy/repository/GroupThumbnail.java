@@ -0,0 +1,10 @@
+package edu.handong.csee.histudy.repository;
+
+/**
+ * 그룹 최신 보고서의 썸네일
+ *
+ * @param studyGroupId 스터디 그룹 id
+ * @param studyReportId 그룹의 최신 보고서 id
+ * @param path 최신 보고서의 마지막 이미지 상대 경로. 이미지가 없으면 {@code null}
+ */
+public record GroupThumbnail(Long studyGroupId, Long studyReportId, String path) {}
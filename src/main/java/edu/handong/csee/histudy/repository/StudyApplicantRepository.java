@@ -4,6 +4,8 @@ import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +14,35 @@ public interface StudyApplicantRepository {
 
   List<StudyApplicant> findUnassignedApplicants(AcademicTerm currentTerm);
 
+  /** 사용자들의 현재 학기 신청서를 친구 요청과 함께 한 번의 쿼리로 조회한다. 신청하지 않은 사용자는 결과에 없다. */
+  List<StudyApplicant> findAllByUsersAndTerm(Collection<User> users, AcademicTerm currentTerm);
+
+  ApplicantSnapshot findUnassignedSnapshot(AcademicTerm currentTerm);
+
+  List<StudyApplicant> findAllWithPreferredCoursesByIdIn(Collection<Long> ids);
+
+  /** 신청서를 친구 요청과 받는 사용자까지 한 번의 쿼리로 조회한다. 이미 읽은 신청서는 같은 영속성 컨텍스트에서 친구 요청이 채워진다. */
+  List<StudyApplicant> findAllWithPartnerRequestsByIdIn(Collection<Long> ids);
+
   List<StudyApplicant> findAssignedApplicants(AcademicTerm currentTerm);
 
+  /**
+   * 그룹에 배정된 신청자를 사용자, 선호 과목, 친구 요청과 함께 신청 순서대로 조회한다.
+   *
+   * <p>선호 과목과 친구 요청은 둘 다 목록 컬렉션이라 한 쿼리로 함께 fetch join할 수 없으므로 두 번의 쿼리로 채운다.
+   */
+  List<StudyApplicant> findAssignedApplicantsWithDetails(AcademicTerm currentTerm);
+
   long countAssignedApplicants(AcademicTerm currentTerm);
 
+  /**
+   * 현재 학기에 그룹이 배정되지 않은 사용자를 학번순으로 조회한다. 현재 학기 신청서가 있으면 선호 과목과 친구 요청을 채워 함께 돌려준다.
+   *
+   * <p>사용자와 신청서는 한 번의 left join으로 가져오고, 두 목록 컬렉션은 미배정 신청자 전체를 대상으로 한 번씩 더 조회해 채우므로 사용자 수와
+   * 관계없이 최대 세 번의 쿼리로 끝난다.
+   */
+  List<UnassignedUser> findUnassignedUsers(AcademicTerm currentTerm);
+
   List<StudyApplicant> findAllByTerm(AcademicTerm currentTerm);
 
   List<StudyApplicant> findAllByStudyGroup(StudyGroup group);
@@ -3,6 +3,9 @@ package edu.handong.csee.histudy.repository;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.MatchedGroup;
+import edu.handong.csee.histudy.matching.domain.OpenGroup;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +31,35 @@ public interface StudyGroupRepository {
   long countByAcademicTerm(AcademicTerm academicTerm);
 
   List<StudyGroup> findAllEmptyByAcademicTerm(AcademicTerm academicTerm);
+
+  /**
+   * 매칭된 그룹과 그룹 과목을 일괄 삽입하고 신청자의 그룹을 지정한다.
+   *
+   * <p>영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 해당 신청자 엔티티를 수정하지 않아야 한다.
+   */
+  void insertMatchedGroups(AcademicTerm academicTerm, List<MatchedGroup> groups);
+
+  /**
+   * 멤버가 한 명 이상이고 정원보다 적은 그룹을 태그 순으로 조회한다.
+   *
+   * <p>그룹마다 멤버 수와 그룹 과목 id만 담으며 엔티티를 만들지 않는다.
+   */
+  List<OpenGroup> findOpenGroups(AcademicTerm academicTerm, int capacity);
+
+  /** 멤버를 함께 조회한다. */
+  List<StudyGroup> findAllWithMembersByIdIn(Collection<Long> ids);
+
+  /**
+   * 그룹의 보고서 수와 누적 시간을 한 번의 SQL 증감으로 바꾼다.
+   *
+   * <p>영속성 컨텍스트를 거치지 않으므로 이미 읽은 그룹 엔티티의 값은 바뀌지 않는다.
+   */
+  void addReportActivity(Long studyGroupId, long reportDelta, long minutesDelta);
+
+  /**
+   * 모든 그룹의 보고서 수와 누적 시간을 {@code study_report}에서 다시 계산한다.
+   *
+   * @return 갱신한 그룹 수
+   */
+  int recountReportActivity();
 }
@@ -0,0 +1,26 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import java.util.Collection;
+import java.util.List;
+
+public interface StudyPartnerRequestRepository {
+  /** 학기에 사용자가 받은 친구 요청을 보낸 사용자와 함께 요청 순서대로 조회한다. 받는 사람과 학기 색인만 읽는다. */
+  List<StudyPartnerRequest> findAllReceivedBy(User receiver, AcademicTerm academicTerm);
+
+  /** 학기에 사용자가 보낸 친구 요청을 받는 사용자와 함께 요청 순서대로 조회한다. */
+  List<StudyPartnerRequest> findAllSentBy(User sender, AcademicTerm academicTerm);
+
+  /**
+   * 학기에 {@code receiver}와 {@code senderUserIds} 사용자들이 서로 주고받은 대기 중인 요청을 한꺼번에 수락한다. 한쪽만 보낸
+   * 요청은 맞요청이 생길 때까지 대기 상태로 남는다.
+   *
+   * @return 수락 상태로 바뀐 요청 수
+   */
+  int acceptAllBetween(User receiver, Collection<Long> senderUserIds, AcademicTerm academicTerm);
+
+  /** 학기를 함께 저장하기 전에 만들어진 요청에 보낸 신청서의 학기를 채운다. */
+  int fillMissingAcademicTerms();
+}
@@ -3,6 +3,7 @@ package edu.handong.csee.histudy.repository;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyReport;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,19 @@ public interface StudyReportRepository {
   long sumTotalMinutes();
 
   long sumTotalMinutesByStudyGroupAcademicTerm(AcademicTerm academicTerm);
+
+  /** 그룹의 최신 보고서(가장 큰 보고서 id)를 조회한다. */
+  Optional<StudyReport> findLatestByStudyGroup(StudyGroup studyGroup);
+
+  /** 학기의 그룹마다 최신 보고서와 그 보고서의 마지막 이미지 경로를 한 번의 쿼리로 조회한다. 보고서가 없는 그룹은 결과에 없다. */
+  List<GroupThumbnail> findLatestThumbnailsByAcademicTerm(AcademicTerm academicTerm);
+
+  /**
+   * 그룹이 {@code weekStart}부터 일주일 동안 쓴 보고서를 과목과 함께 잠가 조회한다. 잠그며 읽으므로 트랜잭션 스냅숏이 아니라 마지막으로 커밋된
+   * 보고서를 본다.
+   */
+  List<StudyReport> findAllByStudyGroupInWeekForUpdate(StudyGroup studyGroup, LocalDate weekStart);
+
+  /** 학기의 모든 보고서를 과목과 함께 조회한다. */
+  List<StudyReport> findAllWithCoursesByAcademicTerm(AcademicTerm academicTerm);
 }
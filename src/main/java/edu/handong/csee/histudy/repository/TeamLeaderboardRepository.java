@@ -0,0 +1,32 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
+import java.util.List;
+import java.util.Optional;
+
+public interface TeamLeaderboardRepository {
+
+  /** 같은 그룹의 보고서가 동시에 쓰여도 썸네일이 어긋나지 않도록 쓰기 잠금을 걸고 조회한다. */
+  Optional<TeamLeaderboard> findByStudyGroupIdForUpdate(Long studyGroupId);
+
+  /** 학기의 모든 그룹을 누적 시간 내림차순, 태그 오름차순으로 조회한다. 썸네일이 없는 그룹은 경로가 {@code null}이다. */
+  List<TeamStanding> findStandingsByAcademicTerm(AcademicTerm academicTerm);
+
+  /** 학기 그룹의 썸네일 행 수. 기존 데이터에 썸네일을 채웠는지 확인할 때 쓴다. */
+  long countByAcademicTerm(AcademicTerm academicTerm);
+
+  /**
+   * 그룹의 썸네일 행이 없을 때만 삽입한다. 이미 있으면 기존 행을 그대로 둔다.
+   *
+   * <p>조회 후 저장하면 같은 그룹의 첫 보고서가 동시에 쓰일 때 기본키 충돌이 나므로 한 문장으로 삽입한다.
+   */
+  void insertIfAbsent(TeamLeaderboard leaderboard);
+
+  /** 썸네일을 그룹별로 삽입하거나 이미 있는 행의 최신 보고서와 경로를 덮어쓴다. */
+  void upsertAll(List<TeamLeaderboard> leaderboards);
+
+  TeamLeaderboard save(TeamLeaderboard leaderboard);
+
+  List<TeamLeaderboard> saveAll(Iterable<TeamLeaderboard> leaderboards);
+}
@@ -0,0 +1,13 @@
+package edu.handong.csee.histudy.repository;
+
+/**
+ * 그룹 순위 한 줄
+ *
+ * @param studyGroupId 스터디 그룹 id
+ * @param tag 그룹 태그
+ * @param reportCount 보고서 수
+ * @param totalMinutes 보고서 누적 시간(분)
+ * @param thumbnailPath 최신 보고서의 썸네일 상대 경로. 없으면 {@code null}
+ */
+public record TeamStanding(
+    Long studyGroupId, int tag, long reportCount, long totalMinutes, String thumbnailPath) {}
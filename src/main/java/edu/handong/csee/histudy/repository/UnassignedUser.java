@@ -0,0 +1,12 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.User;
+
+/**
+ * 현재 학기에 그룹이 배정되지 않은 사용자
+ *
+ * @param user 사용자
+ * @param applicant 현재 학기 스터디 신청서. 신청하지 않았으면 {@code null}
+ */
+public record UnassignedUser(User user, StudyApplicant applicant) {}
@@ -0,0 +1,45 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.UserListing;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 관리자 사용자 목록의 keyset 커서
+ *
+ * <p>학번은 중복될 수 있으므로 (학번, 사용자 ID) 순서의 마지막 위치를 가리킨다. 클라이언트에는 내부 구조를 드러내지 않도록 URL-safe
+ * Base64 문자열로 넘긴다.
+ *
+ * @param sid 마지막으로 내보낸 사용자의 학번
+ * @param userId 마지막으로 내보낸 사용자의 ID
+ */
+public record UserListingCursor(String sid, Long userId) {
+
+  private static final char SEPARATOR = '\n';
+
+  public static UserListingCursor of(UserListing listing) {
+    return new UserListingCursor(listing.sid(), listing.userId());
+  }
+
+  /**
+   * {@link #encode()}로 만든 문자열을 커서로 되돌린다.
+   *
+   * @throws IllegalArgumentException 커서 형식이 아닐 때
+   */
+  public static UserListingCursor decode(String value) {
+    String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    int separator = decoded.lastIndexOf(SEPARATOR);
+    if (separator < 0) {
+      throw new IllegalArgumentException("cursor must contain sid and user id");
+    }
+    return new UserListingCursor(
+        decoded.substring(0, separator), Long.valueOf(decoded.substring(separator + 1)));
+  }
+
+  public String encode() {
+    String raw = sid + SEPARATOR + userId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,31 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.UserListing;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/** 관리자 사용자 목록을 (학번, 사용자 ID) 순서로 읽는다. */
+public interface UserListingRepository {
+
+  /**
+   * {@code after} 다음 위치부터 최대 {@code limit}명을 조회한다.
+   *
+   * <p>페이지 크기와 관계 없이 두 번의 쿼리로 끝난다.
+   *
+   * @param after 이전 페이지의 마지막 위치. 비어 있으면 처음부터 읽는다.
+   */
+  List<UserListing> findPage(
+      UserListingScope scope,
+      AcademicTerm currentTerm,
+      Optional<UserListingCursor> after,
+      int limit);
+
+  /**
+   * 범위의 모든 사용자를 하나의 JDBC 커서로 읽으며 한 명씩 {@code consumer}에 넘긴다.
+   *
+   * <p>한 번에 한 명분의 행만 메모리에 두므로 사용자 수가 늘어도 힙 사용량이 일정하다. 호출한 트랜잭션이 끝날 때까지 연결을 붙잡는다.
+   */
+  void stream(UserListingScope scope, AcademicTerm currentTerm, Consumer<UserListing> consumer);
+}
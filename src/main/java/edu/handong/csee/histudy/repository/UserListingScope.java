@@ -0,0 +1,11 @@
+package edu.handong.csee.histudy.repository;
+
+/** 관리자 사용자 목록에 담을 사용자 범위. 모두 현재 학기 기준이다. */
+public enum UserListingScope {
+  /** 그룹 배정 여부와 관계 없이 스터디를 신청한 사용자 */
+  APPLIED,
+  /** 스터디를 신청했으나 그룹이 배정되지 않은 사용자 */
+  APPLIED_WITHOUT_GROUP,
+  /** 신청 여부와 관계 없이 그룹이 배정되지 않은 사용자 */
+  WITHOUT_GROUP
+}
@@ -2,6 +2,8 @@ package edu.handong.csee.histudy.repository;
 
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Sort;
@@ -9,14 +11,16 @@ import org.springframework.data.domain.Sort;
 public interface UserRepository {
   Optional<User> findUserBySid(String sid);
 
-  List<User> findUserByNameOrSidOrEmail(String keyword);
-
   Optional<User> findUserByEmail(String email);
 
   Optional<User> findUserBySub(String sub);
 
   Optional<User> findById(Long id);
 
+  List<User> findAllById(Collection<Long> ids);
+
+  List<User> findAllBySidIn(Collection<String> sids);
+
   List<User> findAll(Sort sort);
 
   User save(User entity);
@@ -26,4 +30,18 @@ public interface UserRepository {
   long countByRoleNot(Role role);
 
   long countByRole(Role role);
+
+  /**
+   * 검색 색인에서 관리자와 {@code excludedEmail} 사용자를 뺀 사용자를 일치 정도순으로 찾는다. 검색어가 비어 있으면 학번순으로 찾는다.
+   */
+  List<UserSearchEntry> searchPartners(String keyword, String excludedEmail, int offset, int limit);
+
+  /** 사용자의 현재 이름, 학번, 이메일을 검색 색인에 반영한다. 트랜잭션 안이면 커밋한 뒤에 반영한다. */
+  void indexForSearch(User user);
+
+  /** 사용자의 토큰 버전을 SQL 증감으로 올린다. */
+  void incrementTokenVersion(Long userId);
+
+  /** 신청서를 낸 사용자들의 토큰 버전을 문장 하나로 올린다. */
+  void incrementTokenVersionByApplicantIds(Collection<Long> applicantIds);
 }
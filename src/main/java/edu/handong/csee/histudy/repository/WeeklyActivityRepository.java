@@ -0,0 +1,33 @@
+package edu.handong.csee.histudy.repository;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import edu.handong.csee.histudy.domain.WeeklyActivityDelta;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주간 활동 집계 저장소
+ *
+ * <p>조회는 (과목, 주) 인덱스를 따라 집계 행만 읽으므로 보고서 수와 관계없이 한 해 범위도 과목당 최대 53행이다.
+ */
+public interface WeeklyActivityRepository {
+
+  /**
+   * 변화량을 영속성 컨텍스트를 거치지 않는 한 번의 {@code insert ... on duplicate key update}로 더한다. 아직 없는 칸은 변화량으로
+   * 새로 만든다.
+   */
+  void addActivity(AcademicTerm academicTerm, List<WeeklyActivityDelta> deltas);
+
+  /** 학기의 한 과목 집계를 주 오름차순으로 조회한다. */
+  List<WeeklyActivity> findAllByAcademicTermAndCourseId(AcademicTerm academicTerm, Long courseId);
+
+  /** 모든 학기에서 한 과목의 {@code from}부터 {@code to}까지 주 집계를 주 오름차순으로 조회한다. */
+  List<WeeklyActivity> findAllByCourseIdAndWeekStartBetween(
+      Long courseId, LocalDate from, LocalDate to);
+
+  boolean existsByAcademicTerm(AcademicTerm academicTerm);
+
+  /** 학기의 집계를 모두 지우고 주어진 집계로 바꾼다. */
+  void replaceAllByAcademicTerm(AcademicTerm academicTerm, List<WeeklyActivity> activities);
+}
@@ -13,10 +13,21 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class AcademicTermRepositoryImpl implements AcademicTermRepository {
   private final JpaAcademicTermRepository repository;
+  private final CurrentTermCache currentTermCache;
 
   @Override
   public Optional<AcademicTerm> findCurrentSemester() {
-    return repository.findCurrentSemester();
+    return currentTermCache.get(repository::findCurrentSemester);
+  }
+
+  @Override
+  public Optional<AcademicTerm> findCurrentSemesterForUpdate() {
+    return repository.findCurrentSemesterForUpdate();
+  }
+
+  @Override
+  public void invalidateCurrentSemester() {
+    currentTermCache.invalidate();
   }
 
   @Override
@@ -38,4 +49,9 @@ public class AcademicTermRepositoryImpl implements AcademicTermRepository {
   public Optional<AcademicTerm> findById(Long id) {
     return repository.findById(id);
   }
+
+  @Override
+  public Optional<AcademicTerm> findByIdForUpdate(Long id) {
+    return repository.findByIdForUpdate(id);
+  }
 }
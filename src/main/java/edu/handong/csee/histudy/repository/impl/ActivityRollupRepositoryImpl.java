@@ -0,0 +1,109 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
+import edu.handong.csee.histudy.repository.jpa.JpaActivityRollupRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ActivityRollupRepositoryImpl implements ActivityRollupRepository {
+  private static final int BATCH_SIZE = 500;
+  private static final String INSERT =
+      "insert into activity_rollup (rollup_id, study_members, study_groups, total_minutes, "
+          + "reports, created_date, last_modified_date) values ";
+  private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+
+  private final JpaActivityRollupRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<ActivityRollup> findById(Long rollupId) {
+    return repository.findById(rollupId);
+  }
+
+  @Override
+  public ActivityRollup save(ActivityRollup rollup) {
+    return repository.save(rollup);
+  }
+
+  @Override
+  public long count() {
+    return repository.count();
+  }
+
+  @Override
+  public void upsertAll(List<ActivityRollup> rollups) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        INSERT
+            + ROW
+            + " on duplicate key update study_members = values(study_members), "
+            + "study_groups = values(study_groups), total_minutes = values(total_minutes), "
+            + "reports = values(reports), last_modified_date = values(last_modified_date)",
+        rollups,
+        BATCH_SIZE,
+        (statement, rollup) -> {
+          statement.setLong(1, rollup.getRollupId());
+          statement.setLong(2, rollup.getStudyMembers());
+          statement.setLong(3, rollup.getStudyGroups());
+          statement.setLong(4, rollup.getTotalMinutes());
+          statement.setLong(5, rollup.getReports());
+          statement.setTimestamp(6, now);
+          statement.setTimestamp(7, now);
+        });
+  }
+
+  @Override
+  public void addReportActivity(AcademicTerm academicTerm, long reportDelta, long minutesDelta) {
+    add(
+        List.of(
+            ActivityRollup.of(academicTerm.getAcademicTermId(), 0, 0, minutesDelta, reportDelta),
+            ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 0, 0, minutesDelta, reportDelta)));
+  }
+
+  @Override
+  public void addGroupActivity(AcademicTerm academicTerm, long groupDelta, long memberDelta) {
+    add(
+        List.of(
+            ActivityRollup.of(academicTerm.getAcademicTermId(), memberDelta, groupDelta, 0, 0),
+            ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 0, groupDelta, 0, 0)));
+  }
+
+  @Override
+  public void addStudyMembers(long memberDelta) {
+    add(List.of(ActivityRollup.of(ActivityRollup.ALL_TIME_ID, memberDelta, 0, 0, 0)));
+  }
+
+  /** 집계마다 변화량을 더하고, 아직 없는 집계는 변화량으로 만든다. */
+  private void add(List<ActivityRollup> deltas) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object> args = new ArrayList<>(deltas.size() * 7);
+    for (ActivityRollup delta : deltas) {
+      args.add(delta.getRollupId());
+      args.add(delta.getStudyMembers());
+      args.add(delta.getStudyGroups());
+      args.add(delta.getTotalMinutes());
+      args.add(delta.getReports());
+      args.add(now);
+      args.add(now);
+    }
+    jdbcTemplate.update(
+        INSERT
+            + String.join(", ", Collections.nCopies(deltas.size(), ROW))
+            + " on duplicate key update study_members = study_members + values(study_members), "
+            + "study_groups = study_groups + values(study_groups), "
+            + "total_minutes = total_minutes + values(total_minutes), "
+            + "reports = reports + values(reports)",
+        args.toArray());
+  }
+}
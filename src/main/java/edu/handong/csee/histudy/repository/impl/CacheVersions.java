@@ -0,0 +1,37 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.CacheVersion;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** {@link CacheVersion} 행을 SQL로 읽고 올린다. 행이 없으면 버전은 0이다. */
+@Component
+@RequiredArgsConstructor
+public class CacheVersions {
+  private final JdbcTemplate jdbcTemplate;
+
+  public long read(String cacheName) {
+    List<Long> versions =
+        jdbcTemplate.queryForList(
+            "select version from cache_version where cache_name = ?", Long.class, cacheName);
+    return versions.isEmpty() ? 0L : versions.get(0);
+  }
+
+  /** 현재 트랜잭션에서 버전을 올린다. 행이 없으면 만든다. */
+  public void increment(String cacheName) {
+    String increment = "update cache_version set version = version + 1 where cache_name = ?";
+    if (jdbcTemplate.update(increment, cacheName) > 0) {
+      return;
+    }
+    try {
+      jdbcTemplate.update(
+          "insert into cache_version (cache_name, version) values (?, 1)", cacheName);
+    } catch (DuplicateKeyException e) {
+      // 다른 인스턴스가 먼저 만들었으면 그 버전을 올린다.
+      jdbcTemplate.update(increment, cacheName);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.repository.CourseRepository;
 import edu.handong.csee.histudy.repository.jpa.JpaCourseRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -55,4 +56,9 @@ public class CourseRepositoryImpl implements CourseRepository {
   public Optional<Course> findById(Long id) {
     return repository.findById(id);
   }
+
+  @Override
+  public List<Course> findAllById(Collection<Long> ids) {
+    return repository.findAllById(ids);
+  }
 }
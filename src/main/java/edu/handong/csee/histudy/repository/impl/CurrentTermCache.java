@@ -0,0 +1,85 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.CacheVersion;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 학기를 인스턴스 메모리에 두는 캐시
+ *
+ * <p>현재 학기를 바꾼 인스턴스는 커밋 직후 캐시를 비운다. 다른 인스턴스는 {@link CacheVersion}을 {@code
+ * custom.academic-term.version-poll-interval}마다 읽어 버전이 바뀌었으면 캐시를 비우므로, 인스턴스 사이의 불일치는 그 주기를 넘지
+ * 않는다.
+ *
+ * <p>캐시한 학기는 영속성 컨텍스트에서 분리된 채 여러 요청이 함께 읽으므로 바꾸지 않는다. 바꿀 학기는 {@link
+ * AcademicTermRepositoryImpl#findCurrentSemesterForUpdate()}로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentTermCache {
+  private final CacheVersions cacheVersions;
+
+  /** 캐시를 비울 때마다 오른다. 읽는 동안 세대가 바뀌었으면 읽은 값은 이미 낡았을 수 있어 캐시하지 않는다. */
+  private long generation;
+
+  private Optional<AcademicTerm> cached;
+  private Long seenVersion;
+
+  public Optional<AcademicTerm> get(Supplier<Optional<AcademicTerm>> loader) {
+    long loadingGeneration;
+    synchronized (this) {
+      if (cached != null) {
+        return cached;
+      }
+      loadingGeneration = generation;
+    }
+
+    Optional<AcademicTerm> loaded = loader.get();
+    synchronized (this) {
+      if (generation == loadingGeneration) {
+        cached = loaded;
+      }
+    }
+    return loaded;
+  }
+
+  /** 현재 트랜잭션에서 버전을 올리고 커밋 뒤에 이 인스턴스의 캐시를 비운다. 트랜잭션 밖이면 바로 비운다. */
+  public void invalidate() {
+    cacheVersions.increment(CacheVersion.CURRENT_TERM);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict();
+            }
+          });
+    } else {
+      evict();
+    }
+  }
+
+  /** 다른 인스턴스가 버전을 올렸으면 캐시를 비운다. */
+  @Scheduled(fixedDelayString = "${custom.academic-term.version-poll-interval:5000}")
+  public void poll() {
+    Long version = cacheVersions.read(CacheVersion.CURRENT_TERM);
+    synchronized (this) {
+      if (version.equals(seenVersion)) {
+        return;
+      }
+      seenVersion = version;
+    }
+    evict();
+  }
+
+  public synchronized void evict() {
+    generation++;
+    cached = null;
+  }
+}
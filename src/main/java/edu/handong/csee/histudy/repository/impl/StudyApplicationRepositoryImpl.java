@@ -1,12 +1,22 @@
 package edu.handong.csee.histudy.repository.impl;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import edu.handong.csee.histudy.repository.UnassignedUser;
 import edu.handong.csee.histudy.repository.jpa.JpaStudyApplicantRepository;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyApplicantRepository.ApplicantRow;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyApplicantRepository.CourseRow;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyApplicantRepository.PartnerRow;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyApplicantRepository.UserApplicantRow;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -26,11 +36,92 @@ public class StudyApplicationRepositoryImpl implements StudyApplicantRepository
     return repository.findUnassignedApplicants(currentTerm);
   }
 
+  @Override
+  public List<StudyApplicant> findAllByUsersAndTerm(
+      Collection<User> users, AcademicTerm currentTerm) {
+    if (users.isEmpty()) {
+      return List.of();
+    }
+    return repository.findAllWithPartnerRequestsByUserInAndTerm(users, currentTerm);
+  }
+
+  @Override
+  public ApplicantSnapshot findUnassignedSnapshot(AcademicTerm currentTerm) {
+    List<ApplicantRow> applicants = repository.findUnassignedApplicantRows(currentTerm);
+    if (applicants.isEmpty()) {
+      return ApplicantSnapshot.empty();
+    }
+
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    Map<Long, Integer> applicantIndex = new HashMap<>(applicants.size() * 2);
+    Map<Long, Integer> userIndex = new HashMap<>(applicants.size() * 2);
+    for (ApplicantRow row : applicants) {
+      int index = builder.addApplicant(row.getApplicantId(), row.getUserId());
+      applicantIndex.put(row.getApplicantId(), index);
+      userIndex.put(row.getUserId(), index);
+    }
+
+    for (PartnerRow row :
+        repository.findUnassignedPartnerRows(currentTerm, RequestStatus.ACCEPTED)) {
+      Integer sender = applicantIndex.get(row.getSenderId());
+      Integer receiver = userIndex.get(row.getReceiverUserId());
+      if (sender != null && receiver != null) {
+        builder.addAcceptedPartner(sender, receiver);
+      }
+    }
+
+    for (CourseRow row : repository.findUnassignedCourseRows(currentTerm)) {
+      Integer owner = applicantIndex.get(row.getApplicantId());
+      if (owner != null) {
+        builder.addPreferredCourse(owner, row.getCourseId(), row.getPriority());
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public List<StudyApplicant> findAllWithPreferredCoursesByIdIn(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return repository.findAllWithPreferredCoursesByIdIn(ids);
+  }
+
+  @Override
+  public List<StudyApplicant> findAllWithPartnerRequestsByIdIn(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return repository.findAllWithPartnerRequestsByIdIn(ids);
+  }
+
   @Override
   public List<StudyApplicant> findAssignedApplicants(AcademicTerm currentTerm) {
     return repository.findAssignedApplicants(currentTerm);
   }
 
+  @Override
+  public List<StudyApplicant> findAssignedApplicantsWithDetails(AcademicTerm currentTerm) {
+    List<StudyApplicant> applicants =
+        repository.findAssignedApplicantsWithPreferredCourses(currentTerm);
+    if (!applicants.isEmpty()) {
+      // 같은 영속성 컨텍스트의 엔티티에 친구 요청 컬렉션을 채운다.
+      repository.findAssignedApplicantsWithPartnerRequests(currentTerm);
+    }
+    return applicants;
+  }
+
+  @Override
+  public List<UnassignedUser> findUnassignedUsers(AcademicTerm currentTerm) {
+    List<UserApplicantRow> rows = repository.findUnassignedUserRows(currentTerm);
+    if (rows.stream().anyMatch(row -> row.getApplicant() != null)) {
+      // 같은 영속성 컨텍스트의 신청서에 선호 과목과 친구 요청 컬렉션을 채운다.
+      repository.findUnassignedApplicantsWithPreferredCourses(currentTerm);
+      repository.findUnassignedApplicantsWithPartnerRequests(currentTerm);
+    }
+    return rows.stream().map(row -> new UnassignedUser(row.getUser(), row.getApplicant())).toList();
+  }
+
   @Override
   public long countAssignedApplicants(AcademicTerm currentTerm) {
     return repository.countAssignedApplicants(currentTerm);
@@ -3,17 +3,36 @@ package edu.handong.csee.histudy.repository.impl;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.MatchedGroup;
+import edu.handong.csee.histudy.matching.domain.OpenGroup;
 import edu.handong.csee.histudy.repository.StudyGroupRepository;
 import edu.handong.csee.histudy.repository.jpa.JpaStudyGroupRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class StudyGroupRepositoryImpl implements StudyGroupRepository {
+  private static final int BATCH_SIZE = 500;
+
   private final JpaStudyGroupRepository repository;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public Optional<StudyGroup> findByTagAndAcademicTerm(int tag, AcademicTerm academicTerm) {
@@ -69,4 +88,186 @@ public class StudyGroupRepositoryImpl implements StudyGroupRepository {
   public List<StudyGroup> findAllEmptyByAcademicTerm(AcademicTerm academicTerm) {
     return repository.findAllEmpty(academicTerm);
   }
+
+  @Override
+  public void addReportActivity(Long studyGroupId, long reportDelta, long minutesDelta) {
+    jdbcTemplate.update(
+        "update study_group "
+            + "set report_count = report_count + ?, total_minutes = total_minutes + ? "
+            + "where study_group_id = ?",
+        reportDelta,
+        minutesDelta,
+        studyGroupId);
+  }
+
+  @Override
+  public int recountReportActivity() {
+    return jdbcTemplate.update(
+        "update study_group g set "
+            + "report_count = "
+            + "(select count(*) from study_report r where r.study_group_id = g.study_group_id), "
+            + "total_minutes = "
+            + "(select coalesce(sum(r.total_minutes), 0) from study_report r "
+            + "where r.study_group_id = g.study_group_id)");
+  }
+
+  @Override
+  public void insertMatchedGroups(AcademicTerm academicTerm, List<MatchedGroup> groups) {
+    if (groups.isEmpty()) {
+      return;
+    }
+    Long academicTermId = academicTerm.getAcademicTermId();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    // 집계 열은 ddl-auto로 추가된 기존 스키마에 기본값이 없을 수 있으므로 0을 직접 넣는다.
+    jdbcTemplate.batchUpdate(
+        "insert into study_group (tag, academic_term_id, report_count, total_minutes, "
+            + "created_date, last_modified_date) "
+            + "values (?, ?, 0, 0, ?, ?)",
+        groups,
+        BATCH_SIZE,
+        (statement, group) -> {
+          statement.setInt(1, group.tag());
+          statement.setLong(2, academicTermId);
+          statement.setTimestamp(3, now);
+          statement.setTimestamp(4, now);
+        });
+
+    // IDENTITY 키는 배치 삽입에서 돌려받을 수 없으므로 태그로 다시 찾는다. (학기, 태그) 유일 제약은 ddl-auto가 만들므로 기존에
+    // 중복 행이 있던 스키마에는 없을 수 있다. 태그마다 정확히 한 행이 아니면 잘못된 그룹에 배정하지 않도록 실패한다.
+    Map<Integer, Long> groupIdsByTag = findGroupIdsByTag(academicTermId, groups);
+
+    List<long[]> groupCourses = new ArrayList<>();
+    for (MatchedGroup group : groups) {
+      long groupId = groupIdsByTag.get(group.tag());
+      for (long courseId : group.courseIds()) {
+        groupCourses.add(new long[] {groupId, courseId});
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        "insert into group_course (study_group_id, course_id, created_date, last_modified_date) "
+            + "values (?, ?, ?, ?)",
+        groupCourses,
+        BATCH_SIZE,
+        (statement, row) -> {
+          statement.setLong(1, row[0]);
+          statement.setLong(2, row[1]);
+          statement.setTimestamp(3, now);
+          statement.setTimestamp(4, now);
+        });
+
+    // 그룹마다 UPDATE 한 번이며, 인원수가 같은 그룹끼리는 같은 문장이므로 묶어서 배치로 보낸다.
+    Map<Integer, List<MatchedGroup>> groupsBySize =
+        groups.stream()
+            .filter(group -> group.applicantIds().length > 0)
+            .collect(Collectors.groupingBy(group -> group.applicantIds().length));
+    groupsBySize.forEach(
+        (size, sameSizeGroups) ->
+            jdbcTemplate.batchUpdate(
+                "update study_applicant set study_group_id = ?, last_modified_date = ? "
+                    + "where study_applicant_id in ("
+                    + String.join(", ", Collections.nCopies(size, "?"))
+                    + ")",
+                sameSizeGroups,
+                BATCH_SIZE,
+                (statement, group) -> {
+                  statement.setLong(1, groupIdsByTag.get(group.tag()));
+                  statement.setTimestamp(2, now);
+                  long[] applicantIds = group.applicantIds();
+                  for (int index = 0; index < applicantIds.length; index++) {
+                    statement.setLong(index + 3, applicantIds[index]);
+                  }
+                }));
+  }
+
+  @Override
+  public List<OpenGroup> findOpenGroups(AcademicTerm academicTerm, int capacity) {
+    Map<Long, int[]> tagAndCountByGroupId = new LinkedHashMap<>();
+    jdbcTemplate.query(
+        "select g.study_group_id, g.tag, count(*) as member_count from study_group g "
+            + "join study_applicant a on a.study_group_id = g.study_group_id "
+            + "where g.academic_term_id = ? "
+            + "group by g.study_group_id, g.tag "
+            + "having count(*) < ? "
+            + "order by g.tag",
+        (RowCallbackHandler)
+            resultSet ->
+                tagAndCountByGroupId.put(
+                    resultSet.getLong("study_group_id"),
+                    new int[] {resultSet.getInt("tag"), resultSet.getInt("member_count")}),
+        academicTerm.getAcademicTermId(),
+        capacity);
+    if (tagAndCountByGroupId.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, List<Long>> courseIdsByGroupId = findGroupCourseIds(tagAndCountByGroupId.keySet());
+    List<OpenGroup> openGroups = new ArrayList<>(tagAndCountByGroupId.size());
+    tagAndCountByGroupId.forEach(
+        (groupId, tagAndCount) ->
+            openGroups.add(
+                new OpenGroup(
+                    groupId,
+                    tagAndCount[0],
+                    tagAndCount[1],
+                    courseIdsByGroupId.getOrDefault(groupId, List.of()).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray())));
+    return openGroups;
+  }
+
+  private Map<Long, List<Long>> findGroupCourseIds(Collection<Long> groupIds) {
+    Map<Long, List<Long>> courseIdsByGroupId = new HashMap<>(groupIds.size() * 2);
+    jdbcTemplate.query(
+        "select study_group_id, course_id from group_course where study_group_id in ("
+            + String.join(", ", Collections.nCopies(groupIds.size(), "?"))
+            + ")",
+        (RowCallbackHandler)
+            resultSet ->
+                courseIdsByGroupId
+                    .computeIfAbsent(resultSet.getLong("study_group_id"), key -> new ArrayList<>())
+                    .add(resultSet.getLong("course_id")),
+        groupIds.toArray());
+    return courseIdsByGroupId;
+  }
+
+  @Override
+  public List<StudyGroup> findAllWithMembersByIdIn(Collection<Long> ids) {
+    return repository.findAllWithMembersByIdIn(ids);
+  }
+
+  private Map<Integer, Long> findGroupIdsByTag(Long academicTermId, List<MatchedGroup> groups) {
+    IntSummaryStatistics tags = groups.stream().mapToInt(MatchedGroup::tag).summaryStatistics();
+    Map<Integer, Long> groupIdsByTag = new HashMap<>(groups.size() * 2);
+    Set<Integer> duplicatedTags = new TreeSet<>();
+    jdbcTemplate.query(
+        "select study_group_id, tag from study_group "
+            + "where academic_term_id = ? and tag between ? and ?",
+        (RowCallbackHandler)
+            resultSet -> {
+              int tag = resultSet.getInt("tag");
+              if (groupIdsByTag.put(tag, resultSet.getLong("study_group_id")) != null) {
+                duplicatedTags.add(tag);
+              }
+            },
+        academicTermId,
+        tags.getMin(),
+        tags.getMax());
+
+    List<Integer> missingTags =
+        groups.stream()
+            .map(MatchedGroup::tag)
+            .filter(tag -> !groupIdsByTag.containsKey(tag))
+            .toList();
+    if (!duplicatedTags.isEmpty() || !missingTags.isEmpty()) {
+      throw new IllegalStateException(
+          "학기 "
+              + academicTermId
+              + "의 그룹 태그가 하나씩이 아닙니다. 중복: "
+              + duplicatedTags
+              + ", 누락: "
+              + missingTags);
+    }
+    return groupIdsByTag;
+  }
 }
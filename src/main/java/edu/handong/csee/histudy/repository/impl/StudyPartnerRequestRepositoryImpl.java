@@ -0,0 +1,49 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.repository.StudyPartnerRequestRepository;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyPartnerRequestRepository;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StudyPartnerRequestRepositoryImpl implements StudyPartnerRequestRepository {
+  private final JpaStudyPartnerRequestRepository repository;
+
+  @Override
+  public List<StudyPartnerRequest> findAllReceivedBy(User receiver, AcademicTerm academicTerm) {
+    return repository.findAllReceivedBy(receiver, academicTerm);
+  }
+
+  @Override
+  public List<StudyPartnerRequest> findAllSentBy(User sender, AcademicTerm academicTerm) {
+    return repository.findAllSentBy(sender, academicTerm);
+  }
+
+  @Override
+  public int acceptAllBetween(
+      User receiver, Collection<Long> senderUserIds, AcademicTerm academicTerm) {
+    if (senderUserIds.isEmpty()) {
+      return 0;
+    }
+    // MySQL은 UPDATE 대상 테이블을 하위 쿼리에서 다시 읽을 수 없으므로 맞요청 ID를 먼저 고른다.
+    List<Long> mutualIds =
+        repository.findPendingMutualIdsBetween(
+            receiver, senderUserIds, academicTerm, RequestStatus.PENDING);
+    if (mutualIds.isEmpty()) {
+      return 0;
+    }
+    return repository.updateStatusByIdIn(mutualIds, RequestStatus.ACCEPTED);
+  }
+
+  @Override
+  public int fillMissingAcademicTerms() {
+    return repository.fillMissingAcademicTerms();
+  }
+}
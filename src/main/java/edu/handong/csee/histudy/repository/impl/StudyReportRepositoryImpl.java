@@ -3,8 +3,10 @@ package edu.handong.csee.histudy.repository.impl;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.repository.GroupThumbnail;
 import edu.handong.csee.histudy.repository.StudyReportRepository;
 import edu.handong.csee.histudy.repository.jpa.JpaStudyReportRepository;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -54,4 +56,29 @@ public class StudyReportRepositoryImpl implements StudyReportRepository {
   public long sumTotalMinutesByStudyGroupAcademicTerm(AcademicTerm academicTerm) {
     return repository.sumTotalMinutesByStudyGroupAcademicTerm(academicTerm);
   }
+
+  @Override
+  public Optional<StudyReport> findLatestByStudyGroup(StudyGroup studyGroup) {
+    return repository.findFirstByStudyGroupOrderByStudyReportIdDesc(studyGroup);
+  }
+
+  @Override
+  public List<GroupThumbnail> findLatestThumbnailsByAcademicTerm(AcademicTerm academicTerm) {
+    return repository.findLatestThumbnailsByAcademicTerm(academicTerm).stream()
+        .map(
+            row -> new GroupThumbnail(row.getStudyGroupId(), row.getStudyReportId(), row.getPath()))
+        .toList();
+  }
+
+  @Override
+  public List<StudyReport> findAllByStudyGroupInWeekForUpdate(
+      StudyGroup studyGroup, LocalDate weekStart) {
+    return repository.findAllWithCoursesByStudyGroupInRangeForUpdate(
+        studyGroup, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay());
+  }
+
+  @Override
+  public List<StudyReport> findAllWithCoursesByAcademicTerm(AcademicTerm academicTerm) {
+    return repository.findAllWithCoursesByAcademicTerm(academicTerm);
+  }
 }
@@ -0,0 +1,92 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
+import edu.handong.csee.histudy.repository.TeamLeaderboardRepository;
+import edu.handong.csee.histudy.repository.TeamStanding;
+import edu.handong.csee.histudy.repository.jpa.JpaTeamLeaderboardRepository;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TeamLeaderboardRepositoryImpl implements TeamLeaderboardRepository {
+  private static final int BATCH_SIZE = 500;
+
+  private final JpaTeamLeaderboardRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public Optional<TeamLeaderboard> findByStudyGroupIdForUpdate(Long studyGroupId) {
+    return repository.findByStudyGroupIdForUpdate(studyGroupId);
+  }
+
+  @Override
+  public List<TeamStanding> findStandingsByAcademicTerm(AcademicTerm academicTerm) {
+    return repository.findStandingsByAcademicTerm(academicTerm).stream()
+        .map(
+            row ->
+                new TeamStanding(
+                    row.getStudyGroupId(),
+                    row.getTag(),
+                    row.getReportCount(),
+                    row.getTotalMinutes(),
+                    row.getThumbnailPath()))
+        .toList();
+  }
+
+  @Override
+  public long countByAcademicTerm(AcademicTerm academicTerm) {
+    return repository.countByAcademicTerm(academicTerm);
+  }
+
+  @Override
+  public void insertIfAbsent(TeamLeaderboard leaderboard) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.update(
+        "insert into team_leaderboard (study_group_id, latest_report_id, thumbnail_path, "
+            + "created_date, last_modified_date) values (?, ?, ?, ?, ?) "
+            + "on duplicate key update study_group_id = study_group_id",
+        leaderboard.getStudyGroupId(),
+        leaderboard.getLatestReportId(),
+        leaderboard.getThumbnailPath(),
+        now,
+        now);
+  }
+
+  @Override
+  public void upsertAll(List<TeamLeaderboard> leaderboards) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        "insert into team_leaderboard (study_group_id, latest_report_id, thumbnail_path, "
+            + "created_date, last_modified_date) values (?, ?, ?, ?, ?) "
+            + "on duplicate key update latest_report_id = values(latest_report_id), "
+            + "thumbnail_path = values(thumbnail_path), "
+            + "last_modified_date = values(last_modified_date)",
+        leaderboards,
+        BATCH_SIZE,
+        (statement, leaderboard) -> {
+          statement.setLong(1, leaderboard.getStudyGroupId());
+          statement.setObject(2, leaderboard.getLatestReportId(), Types.BIGINT);
+          statement.setString(3, leaderboard.getThumbnailPath());
+          statement.setTimestamp(4, now);
+          statement.setTimestamp(5, now);
+        });
+  }
+
+  @Override
+  public TeamLeaderboard save(TeamLeaderboard leaderboard) {
+    return repository.save(leaderboard);
+  }
+
+  @Override
+  public List<TeamLeaderboard> saveAll(Iterable<TeamLeaderboard> leaderboards) {
+    return repository.saveAll(leaderboards);
+  }
+}
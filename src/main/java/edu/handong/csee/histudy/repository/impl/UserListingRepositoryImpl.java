@@ -0,0 +1,250 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.UserListing;
+import edu.handong.csee.histudy.repository.UserListingCursor;
+import edu.handong.csee.histudy.repository.UserListingRepository;
+import edu.handong.csee.histudy.repository.UserListingScope;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자, 선호 과목, 수락된 친구 요청을 {@code union all}로 이어 (학번, 사용자 ID, 행 종류) 순서로 읽고, 연속된 행을 사용자 한 명씩 묶는다.
+ *
+ * <p>스트림은 결과를 앞으로만 읽는 커서로 받는다. MySQL Connector/J는 fetch size가 {@link Integer#MIN_VALUE}일 때만
+ * 접속 설정 없이 한 행씩 흘려보내므로 그 드라이버에는 그 값을 주고, 다른 드라이버는 {@link #STREAM_FETCH_SIZE}씩 나눠 받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserListingRepositoryImpl implements UserListingRepository {
+
+  static final int STREAM_FETCH_SIZE = 500;
+
+  private static final String MYSQL_DRIVER_NAME = "MySQL Connector";
+
+  private static final int USER_ROW = 0;
+  private static final int COURSE_ROW = 1;
+  private static final int FRIEND_ROW = 2;
+
+  private static final String FROM_USERS =
+      "from user u left join study_applicant s "
+          + "on s.user_id = u.user_id and s.academic_term_id = ? ";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<UserListing> findPage(
+      UserListingScope scope,
+      AcademicTerm currentTerm,
+      Optional<UserListingCursor> after,
+      int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    Range range = new Range(after.orElse(null), null);
+    List<Object> args = new ArrayList<>(range.arguments(currentTerm));
+    args.add(limit);
+    List<UserListingCursor> keys =
+        jdbcTemplate.query(
+            "select u.sid, u.user_id "
+                + FROM_USERS
+                + "where "
+                + condition(scope)
+                + range.predicate()
+                + "order by u.sid, u.user_id limit ?",
+            (resultSet, rowNum) ->
+                new UserListingCursor(resultSet.getString("sid"), resultSet.getLong("user_id")),
+            args.toArray());
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+
+    List<UserListing> listings = new ArrayList<>(keys.size());
+    Range page = new Range(after.orElse(null), keys.get(keys.size() - 1));
+    ListingAssembler assembler = new ListingAssembler(listings::add);
+    jdbcTemplate.query(listingSql(scope, page), assembler, listingArguments(currentTerm, page));
+    assembler.finish();
+    return listings;
+  }
+
+  @Override
+  public void stream(
+      UserListingScope scope, AcademicTerm currentTerm, Consumer<UserListing> consumer) {
+    Range all = new Range(null, null);
+    String sql = listingSql(scope, all);
+    Object[] args = listingArguments(currentTerm, all);
+    ListingAssembler assembler = new ListingAssembler(consumer);
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          statement.setFetchSize(streamFetchSize(connection));
+          new ArgumentPreparedStatementSetter(args).setValues(statement);
+          return statement;
+        },
+        assembler);
+    assembler.finish();
+  }
+
+  static int streamFetchSize(Connection connection) throws SQLException {
+    String driverName = connection.getMetaData().getDriverName();
+    return driverName != null && driverName.startsWith(MYSQL_DRIVER_NAME)
+        ? Integer.MIN_VALUE
+        : STREAM_FETCH_SIZE;
+  }
+
+  private static String condition(UserListingScope scope) {
+    return switch (scope) {
+      case APPLIED -> "s.study_applicant_id is not null ";
+      case APPLIED_WITHOUT_GROUP ->
+          "s.study_applicant_id is not null and s.study_group_id is null ";
+      case WITHOUT_GROUP -> "s.study_group_id is null ";
+    };
+  }
+
+  private static String listingSql(UserListingScope scope, Range range) {
+    String where = "where " + condition(scope) + range.predicate();
+    return "select "
+        + USER_ROW
+        + " as row_kind, u.user_id as user_id, u.sid as sid, u.name as name, u.email as email, "
+        + "g.tag as group_tag, null as item_id, null as item_name, null as item_detail, "
+        + "null as item_order "
+        + FROM_USERS
+        + "left join study_group g on g.study_group_id = s.study_group_id "
+        + where
+        + "union all select "
+        + COURSE_ROW
+        + ", u.user_id, u.sid, null, null, null, c.course_id, c.name, c.professor, pc.priority "
+        + FROM_USERS
+        + "join preferred_course pc on pc.study_applicant_id = s.study_applicant_id "
+        + "join course c on c.course_id = pc.course_id "
+        + where
+        + "union all select "
+        + FRIEND_ROW
+        + ", u.user_id, u.sid, null, null, null, f.user_id, f.name, f.sid, "
+        + "r.study_partner_request_id "
+        + FROM_USERS
+        + "join study_partner_request r on r.study_applicant_id = s.study_applicant_id "
+        + "and r.request_status = 'ACCEPTED' "
+        + "join user f on f.user_id = r.user_id "
+        + where
+        + "order by sid, user_id, row_kind, item_order";
+  }
+
+  private static Object[] listingArguments(AcademicTerm currentTerm, Range range) {
+    List<Object> branch = range.arguments(currentTerm);
+    List<Object> args = new ArrayList<>(branch.size() * 3);
+    for (int index = 0; index < 3; index++) {
+      args.addAll(branch);
+    }
+    return args.toArray();
+  }
+
+  /** (학번, 사용자 ID)가 {@code after}보다 크고 {@code upTo} 이하인 사용자. 비어 있는 쪽은 제한하지 않는다. */
+  private record Range(UserListingCursor after, UserListingCursor upTo) {
+
+    String predicate() {
+      StringBuilder predicate = new StringBuilder();
+      if (after != null) {
+        predicate.append("and (u.sid > ? or (u.sid = ? and u.user_id > ?)) ");
+      }
+      if (upTo != null) {
+        predicate.append("and (u.sid < ? or (u.sid = ? and u.user_id <= ?)) ");
+      }
+      return predicate.toString();
+    }
+
+    List<Object> arguments(AcademicTerm currentTerm) {
+      List<Object> args = new ArrayList<>();
+      args.add(currentTerm.getAcademicTermId());
+      if (after != null) {
+        args.addAll(Arrays.asList(after.sid(), after.sid(), after.userId()));
+      }
+      if (upTo != null) {
+        args.addAll(Arrays.asList(upTo.sid(), upTo.sid(), upTo.userId()));
+      }
+      return args;
+    }
+  }
+
+  /** 사용자 행 다음에 이어지는 선호 과목과 친구 행을 모아, 다음 사용자 행이 오면 앞 사용자를 내보낸다. */
+  private static class ListingAssembler implements RowCallbackHandler {
+    private final Consumer<UserListing> consumer;
+    private ResultRow current;
+
+    ListingAssembler(Consumer<UserListing> consumer) {
+      this.consumer = consumer;
+    }
+
+    @Override
+    public void processRow(ResultSet resultSet) throws SQLException {
+      switch (resultSet.getInt("row_kind")) {
+        case USER_ROW -> {
+          finish();
+          current =
+              new ResultRow(
+                  resultSet.getLong("user_id"),
+                  resultSet.getString("sid"),
+                  resultSet.getString("name"),
+                  resultSet.getString("email"),
+                  resultSet.getObject("group_tag", Integer.class));
+        }
+        case COURSE_ROW ->
+            current.courses.add(
+                new UserListing.PreferredCourseInfo(
+                    resultSet.getLong("item_id"),
+                    resultSet.getString("item_name"),
+                    resultSet.getString("item_detail")));
+        default ->
+            current.friends.add(
+                new UserListing.Friend(
+                    resultSet.getLong("item_id"),
+                    resultSet.getString("item_detail"),
+                    resultSet.getString("item_name")));
+      }
+    }
+
+    void finish() {
+      if (current != null) {
+        consumer.accept(current.toListing());
+        current = null;
+      }
+    }
+  }
+
+  private static class ResultRow {
+    private final Long userId;
+    private final String sid;
+    private final String name;
+    private final String email;
+    private final Integer groupTag;
+    private final List<UserListing.Friend> friends = new ArrayList<>();
+    private final List<UserListing.PreferredCourseInfo> courses = new ArrayList<>();
+
+    ResultRow(Long userId, String sid, String name, String email, Integer groupTag) {
+      this.userId = userId;
+      this.sid = sid;
+      this.name = name;
+      this.email = email;
+      this.groupTag = groupTag;
+    }
+
+    UserListing toListing() {
+      return new UserListing(
+          userId, sid, name, email, groupTag, List.copyOf(friends), List.copyOf(courses));
+    }
+  }
+}
@@ -1,30 +1,37 @@
 package edu.handong.csee.histudy.repository.impl;
 
+import edu.handong.csee.histudy.domain.CacheVersion;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
 import edu.handong.csee.histudy.repository.UserRepository;
 import edu.handong.csee.histudy.repository.jpa.JpaUserRepository;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
   private final JpaUserRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+  private final CacheVersions cacheVersions;
+  private final UserSearchIndex searchIndex = new UserSearchIndex();
+  private Long seenSearchVersion;
 
   @Override
   public Optional<User> findUserBySid(String sid) {
     return repository.findUserBySid(sid);
   }
 
-  @Override
-  public List<User> findUserByNameOrSidOrEmail(String keyword) {
-    return repository.findUserByNameOrSidOrEmail(keyword);
-  }
-
   @Override
   public Optional<User> findUserByEmail(String email) {
     return repository.findUserByEmail(email);
@@ -40,6 +47,16 @@ public class UserRepositoryImpl implements UserRepository {
     return repository.findById(id);
   }
 
+  @Override
+  public List<User> findAllById(Collection<Long> ids) {
+    return repository.findAllById(ids);
+  }
+
+  @Override
+  public List<User> findAllBySidIn(Collection<String> sids) {
+    return repository.findAllBySidIn(sids);
+  }
+
   @Override
   public List<User> findAll(Sort sort) {
     return repository.findAll(sort);
@@ -64,4 +81,80 @@ public class UserRepositoryImpl implements UserRepository {
   public long countByRole(Role role) {
     return repository.countByRole(role);
   }
+
+  @Override
+  public List<UserSearchEntry> searchPartners(
+      String keyword, String excludedEmail, int offset, int limit) {
+    if (!searchIndex.isLoaded()) {
+      rebuildSearchIndex();
+    }
+    return searchIndex.search(keyword, excludedEmail, offset, limit);
+  }
+
+  @Override
+  public void indexForSearch(User user) {
+    cacheVersions.increment(CacheVersion.USER_SEARCH);
+    UserSearchEntry entry = UserSearchEntry.of(user);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              searchIndex.put(entry);
+            }
+          });
+    } else {
+      searchIndex.put(entry);
+    }
+  }
+
+  /** 다른 인스턴스가 사용자를 가입시키거나 바꿔 검색 색인 버전을 올렸으면 색인을 다시 만든다. */
+  @Scheduled(fixedDelayString = "${custom.user-search.version-poll-interval:5000}")
+  public void pollSearchVersion() {
+    Long version = cacheVersions.read(CacheVersion.USER_SEARCH);
+    synchronized (this) {
+      if (version.equals(seenSearchVersion)) {
+        return;
+      }
+      seenSearchVersion = version;
+    }
+    rebuildSearchIndex();
+  }
+
+  /** 검색 색인을 사용자 테이블로 다시 만든다. 읽기 시작한 뒤에 커밋되어 색인에 넣은 사용자는 남긴다. */
+  public void rebuildSearchIndex() {
+    long readFrom = searchIndex.sequence();
+    searchIndex.replaceAll(
+        jdbcTemplate.query(
+            "select user_id, sid, name, email, role from user",
+            (resultSet, rowNum) ->
+                new UserSearchEntry(
+                    resultSet.getLong("user_id"),
+                    resultSet.getString("sid"),
+                    resultSet.getString("name"),
+                    resultSet.getString("email"),
+                    Optional.ofNullable(resultSet.getString("role"))
+                        .map(Role::valueOf)
+                        .orElse(null))),
+        readFrom);
+  }
+
+  @Override
+  public void incrementTokenVersion(Long userId) {
+    jdbcTemplate.update(
+        "update user set token_version = token_version + 1 where user_id = ?", userId);
+  }
+
+  @Override
+  public void incrementTokenVersionByApplicantIds(Collection<Long> applicantIds) {
+    if (applicantIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update(
+        "update user set token_version = token_version + 1 where user_id in "
+            + "(select user_id from study_applicant where study_applicant_id in ("
+            + String.join(", ", Collections.nCopies(applicantIds.size(), "?"))
+            + "))",
+        applicantIds.toArray());
+  }
 }
@@ -0,0 +1,295 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이름, 학번, 이메일로 사용자를 찾는 메모리 색인
+ *
+ * <p>각 값을 소문자로 바꾼 뒤 한 글자와 두 글자 조각을 키로 사용자 ID를 모아 둔다. 검색어의 조각을 모두 가진 사용자만 후보로 삼고, 후보가 검색어를
+ * 실제로 포함하는지 다시 확인하므로 결과는 {@code like %keyword%}와 같다. 검색어가 초성(ㄱ~ㅎ)으로만 이루어지면 이름의 초성 문자열에서 같은 방식으로
+ * 찾는다.
+ *
+ * <p>결과는 일치 정도(전체 일치, 앞부분 일치, 부분 일치) 내림차순, 학번 오름차순으로 정렬하며 요청한 쪽의 상위 항목만 모은다.
+ *
+ * <p>색인을 다시 만드는 동안 넣은 사용자는 다시 만든 색인에 없을 수 있으므로, {@link #put}마다 순번을 매기고 다시 만들기 시작한 순번보다 뒤에
+ * 넣은 사용자는 다시 만든 뒤에도 남긴다.
+ */
+public class UserSearchIndex {
+
+  private static final char[] CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+  private static final char FIRST_SYLLABLE = '가';
+  private static final char LAST_SYLLABLE = '힣';
+  private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+  private static final Comparator<Match> RANKING =
+      Comparator.comparingInt(Match::score)
+          .reversed()
+          .thenComparing(match -> match.document().sid())
+          .thenComparing(match -> match.document().entry().userId());
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Map<String, Set<Long>> textPostings = new HashMap<>();
+  private final Map<String, Set<Long>> chosungPostings = new HashMap<>();
+  private final Map<Long, Put> recentPuts = new HashMap<>();
+  private long sequence;
+  private boolean loaded;
+
+  public boolean isLoaded() {
+    lock.readLock().lock();
+    try {
+      return loaded;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 지금까지 {@link #put}한 횟수. 다시 만들 사용자를 읽기 전에 받아 {@link #replaceAll(Collection, long)}에 넘긴다. */
+  public long sequence() {
+    lock.readLock().lock();
+    try {
+      return sequence;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 색인을 주어진 사용자들로만 다시 만든다. */
+  public void replaceAll(Collection<UserSearchEntry> entries) {
+    replaceAll(entries, Long.MAX_VALUE);
+  }
+
+  /**
+   * 색인을 주어진 사용자들로 다시 만든다. {@code readFrom} 순번 뒤에 넣은 사용자는 {@code entries}를 읽은 뒤에 커밋했을 수 있으므로
+   * 다시 넣는다.
+   */
+  public void replaceAll(Collection<UserSearchEntry> entries, long readFrom) {
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      textPostings.clear();
+      chosungPostings.clear();
+      entries.forEach(this::add);
+      recentPuts.values().removeIf(put -> put.sequence() <= readFrom);
+      recentPuts.values().forEach(put -> replace(put.entry()));
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 사용자를 색인에 넣는다. 이미 있으면 이전 값을 지우고 넣는다. */
+  public void put(UserSearchEntry entry) {
+    lock.writeLock().lock();
+    try {
+      recentPuts.put(entry.userId(), new Put(entry, ++sequence));
+      replace(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 관리자와 {@code excludedEmail} 사용자를 뺀 검색 결과 중 {@code offset}번째부터 {@code limit}개를 반환한다. 검색어가 비어
+   * 있으면 모든 사용자를 학번순으로 반환한다.
+   */
+  public List<UserSearchEntry> search(String keyword, String excludedEmail, int offset, int limit) {
+    String query = normalize(keyword);
+    boolean chosungQuery = !query.isEmpty() && isChosung(query);
+    long wantedCount = (long) Math.max(offset, 0) + Math.max(limit, 0);
+    int wanted = (int) Math.min(wantedCount, Integer.MAX_VALUE);
+    if (wanted == 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      // 가장 낮은 순위가 머리에 오도록 두고, 상위 wanted개만 남긴다.
+      PriorityQueue<Match> top = new PriorityQueue<>(RANKING.reversed());
+      for (Document document : candidates(query, chosungQuery)) {
+        UserSearchEntry entry = document.entry();
+        if (entry.role() == Role.ADMIN || Objects.equals(entry.email(), excludedEmail)) {
+          continue;
+        }
+        int score = score(document, query, chosungQuery);
+        if (score == 0) {
+          continue;
+        }
+        top.add(new Match(document, score));
+        if (top.size() > wanted) {
+          top.poll();
+        }
+      }
+
+      List<Match> ranked = new ArrayList<>(top);
+      ranked.sort(RANKING);
+      return ranked.stream()
+          .skip(Math.max(offset, 0))
+          .map(match -> match.document().entry())
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private Collection<Document> candidates(String query, boolean chosungQuery) {
+    if (query.isEmpty()) {
+      return documents.values();
+    }
+    Map<String, Set<Long>> postings = chosungQuery ? chosungPostings : textPostings;
+    Set<Long> candidateIds = null;
+    for (String gram : queryGrams(query)) {
+      Set<Long> ids = postings.getOrDefault(gram, Set.of());
+      if (candidateIds == null) {
+        candidateIds = new HashSet<>(ids);
+      } else {
+        candidateIds.retainAll(ids);
+      }
+      if (candidateIds.isEmpty()) {
+        return List.of();
+      }
+    }
+    return candidateIds.stream().map(documents::get).toList();
+  }
+
+  /** 0이면 검색어를 포함하지 않는다. */
+  private static int score(Document document, String query, boolean chosungQuery) {
+    if (query.isEmpty()) {
+      return 1;
+    }
+    List<String> fields =
+        chosungQuery
+            ? List.of(document.nameChosung())
+            : List.of(document.sid(), document.name(), document.email());
+    int score = 0;
+    for (String field : fields) {
+      if (field.equals(query)) {
+        score = Math.max(score, 3);
+      } else if (field.startsWith(query)) {
+        score = Math.max(score, 2);
+      } else if (field.contains(query)) {
+        score = Math.max(score, 1);
+      }
+    }
+    return score;
+  }
+
+  private void replace(UserSearchEntry entry) {
+    remove(entry.userId());
+    add(entry);
+  }
+
+  private void add(UserSearchEntry entry) {
+    Document document = Document.of(entry);
+    documents.put(entry.userId(), document);
+    for (String field : List.of(document.sid(), document.name(), document.email())) {
+      indexGrams(textPostings, field, entry.userId());
+    }
+    indexGrams(chosungPostings, document.nameChosung(), entry.userId());
+  }
+
+  private void remove(Long userId) {
+    Document previous = documents.remove(userId);
+    if (previous == null) {
+      return;
+    }
+    for (String field : List.of(previous.sid(), previous.name(), previous.email())) {
+      unindexGrams(textPostings, field, userId);
+    }
+    unindexGrams(chosungPostings, previous.nameChosung(), userId);
+  }
+
+  private static void indexGrams(Map<String, Set<Long>> postings, String text, Long userId) {
+    for (String gram : grams(text)) {
+      postings.computeIfAbsent(gram, key -> new HashSet<>()).add(userId);
+    }
+  }
+
+  private static void unindexGrams(Map<String, Set<Long>> postings, String text, Long userId) {
+    for (String gram : grams(text)) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null && ids.remove(userId) && ids.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+
+  /** 한 글자와 두 글자 조각 */
+  private static Set<String> grams(String text) {
+    Set<String> grams = new LinkedHashSet<>();
+    for (int index = 0; index < text.length(); index++) {
+      grams.add(text.substring(index, index + 1));
+      if (index + 2 <= text.length()) {
+        grams.add(text.substring(index, index + 2));
+      }
+    }
+    return grams;
+  }
+
+  /** 한 글자 검색어는 한 글자 조각으로, 그보다 긴 검색어는 두 글자 조각들로 찾는다. */
+  private static Set<String> queryGrams(String query) {
+    if (query.length() == 1) {
+      return Set.of(query);
+    }
+    Set<String> grams = new LinkedHashSet<>();
+    for (int index = 0; index + 2 <= query.length(); index++) {
+      grams.add(query.substring(index, index + 2));
+    }
+    return grams;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** 한글 음절은 초성으로 바꾸고 나머지 글자는 그대로 둔다. */
+  static String chosungOf(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    for (char character : text.toCharArray()) {
+      if (character >= FIRST_SYLLABLE && character <= LAST_SYLLABLE) {
+        builder.append(CHOSUNG[(character - FIRST_SYLLABLE) / SYLLABLES_PER_CHOSUNG]);
+      } else {
+        builder.append(character);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static boolean isChosung(String query) {
+    for (char character : query.toCharArray()) {
+      if (character < 'ㄱ' || character > 'ㅎ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private record Document(
+      UserSearchEntry entry, String sid, String name, String email, String nameChosung) {
+
+    static Document of(UserSearchEntry entry) {
+      String name = normalize(entry.name());
+      return new Document(
+          entry, normalize(entry.sid()), name, normalize(entry.email()), chosungOf(name));
+    }
+  }
+
+  private record Match(Document document, int score) {}
+
+  private record Put(UserSearchEntry entry, long sequence) {}
+}
@@ -0,0 +1,76 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import edu.handong.csee.histudy.domain.WeeklyActivityDelta;
+import edu.handong.csee.histudy.repository.WeeklyActivityRepository;
+import edu.handong.csee.histudy.repository.jpa.JpaWeeklyActivityRepository;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WeeklyActivityRepositoryImpl implements WeeklyActivityRepository {
+  private final JpaWeeklyActivityRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void addActivity(AcademicTerm academicTerm, List<WeeklyActivityDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object> args = new ArrayList<>(deltas.size() * 8);
+    for (WeeklyActivityDelta delta : deltas) {
+      args.add(academicTerm.getAcademicTermId());
+      args.add(delta.courseId());
+      args.add(Date.valueOf(delta.weekStart()));
+      args.add(delta.reports());
+      args.add(delta.totalMinutes());
+      args.add(delta.activeGroups());
+      args.add(now);
+      args.add(now);
+    }
+    // 없는 칸은 변화량으로 만들고 있는 칸에는 더한다. 칸은 (학기, 과목, 주) 유일 제약으로 구분한다.
+    jdbcTemplate.update(
+        "insert into weekly_activity (academic_term_id, course_id, week_start, reports, "
+            + "total_minutes, active_groups, created_date, last_modified_date) values "
+            + String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?, ?, ?, ?, ?, ?)"))
+            + " on duplicate key update reports = reports + values(reports), "
+            + "total_minutes = total_minutes + values(total_minutes), "
+            + "active_groups = active_groups + values(active_groups)",
+        args.toArray());
+  }
+
+  @Override
+  public List<WeeklyActivity> findAllByAcademicTermAndCourseId(
+      AcademicTerm academicTerm, Long courseId) {
+    return repository.findAllByAcademicTermAndCourseIdOrderByWeekStartAsc(academicTerm, courseId);
+  }
+
+  @Override
+  public List<WeeklyActivity> findAllByCourseIdAndWeekStartBetween(
+      Long courseId, LocalDate from, LocalDate to) {
+    return repository.findAllByCourseIdAndWeekStartBetweenOrderByWeekStartAsc(courseId, from, to);
+  }
+
+  @Override
+  public boolean existsByAcademicTerm(AcademicTerm academicTerm) {
+    return repository.existsByAcademicTerm(academicTerm);
+  }
+
+  @Override
+  public void replaceAllByAcademicTerm(
+      AcademicTerm academicTerm, List<WeeklyActivity> activities) {
+    repository.deleteAllByAcademicTermInBulk(academicTerm);
+    repository.saveAll(activities);
+  }
+}
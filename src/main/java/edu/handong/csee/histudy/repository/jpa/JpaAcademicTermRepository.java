@@ -2,9 +2,11 @@ package edu.handong.csee.histudy.repository.jpa;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.TermType;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +15,14 @@ public interface JpaAcademicTermRepository extends JpaRepository<AcademicTerm, L
   @Query("select a from AcademicTerm a where a.isCurrent = true")
   Optional<AcademicTerm> findCurrentSemester();
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from AcademicTerm a where a.isCurrent = true")
+  Optional<AcademicTerm> findCurrentSemesterForUpdate();
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from AcademicTerm a where a.academicTermId = :id")
+  Optional<AcademicTerm> findByIdForUpdate(@Param("id") Long id);
+
   @Query("SELECT at FROM AcademicTerm at WHERE at.academicYear = :year AND at.semester = :sem")
   Optional<AcademicTerm> findByYearAndTerm(@Param("year") int year, @Param("sem") TermType sem);
 
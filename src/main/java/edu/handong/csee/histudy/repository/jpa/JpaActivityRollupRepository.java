@@ -0,0 +1,6 @@
+package edu.handong.csee.histudy.repository.jpa;
+
+import edu.handong.csee.histudy.domain.ActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {}
@@ -1,9 +1,11 @@
 package edu.handong.csee.histudy.repository.jpa;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,11 +24,59 @@ public interface JpaStudyApplicantRepository extends JpaRepository<StudyApplican
           + "where s.academicTerm = :currentTerm and s.studyGroup is null")
   List<StudyApplicant> findUnassignedApplicants(AcademicTerm currentTerm);
 
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "left join fetch s.partnerRequests "
+          + "where s.academicTerm = :currentTerm and s.user in :users")
+  List<StudyApplicant> findAllWithPartnerRequestsByUserInAndTerm(
+      @Param("users") Collection<User> users, @Param("currentTerm") AcademicTerm currentTerm);
+
   @Query(
       "select s from StudyApplicant s join fetch s.user "
           + "where s.academicTerm = :currentTerm and s.studyGroup is not null")
   List<StudyApplicant> findAssignedApplicants(AcademicTerm currentTerm);
 
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "join fetch s.user "
+          + "left join fetch s.preferredCourses pc "
+          + "left join fetch pc.course "
+          + "where s.academicTerm = :currentTerm and s.studyGroup is not null "
+          + "order by s.studyApplicantId")
+  List<StudyApplicant> findAssignedApplicantsWithPreferredCourses(
+      @Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "left join fetch s.partnerRequests r "
+          + "left join fetch r.receiver "
+          + "where s.academicTerm = :currentTerm and s.studyGroup is not null")
+  List<StudyApplicant> findAssignedApplicantsWithPartnerRequests(
+      @Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select u as user, s as applicant from User u "
+          + "left join StudyApplicant s on s.user = u and s.academicTerm = :currentTerm "
+          + "where s.studyGroup is null "
+          + "order by u.sid")
+  List<UserApplicantRow> findUnassignedUserRows(@Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "left join fetch s.preferredCourses pc "
+          + "left join fetch pc.course "
+          + "where s.academicTerm = :currentTerm and s.studyGroup is null")
+  List<StudyApplicant> findUnassignedApplicantsWithPreferredCourses(
+      @Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "left join fetch s.partnerRequests r "
+          + "left join fetch r.receiver "
+          + "where s.academicTerm = :currentTerm and s.studyGroup is null")
+  List<StudyApplicant> findUnassignedApplicantsWithPartnerRequests(
+      @Param("currentTerm") AcademicTerm currentTerm);
+
   @Query(
       "select count(s) from StudyApplicant s "
           + "where s.academicTerm = :currentTerm and s.studyGroup is not null")
@@ -41,4 +91,67 @@ public interface JpaStudyApplicantRepository extends JpaRepository<StudyApplican
       "select s from StudyApplicant s left join fetch s.preferredCourses "
           + "where s.studyGroup = :studyGroup")
   List<StudyApplicant> findAllByStudyGroup(@Param("studyGroup") StudyGroup group);
+
+  @Query(
+      "select s.studyApplicantId as applicantId, s.user.userId as userId "
+          + "from StudyApplicant s "
+          + "where s.academicTerm = :currentTerm and s.studyGroup is null "
+          + "order by s.studyApplicantId")
+  List<ApplicantRow> findUnassignedApplicantRows(@Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select r.sender.studyApplicantId as senderId, r.receiver.userId as receiverUserId "
+          + "from StudyPartnerRequest r "
+          + "where r.sender.academicTerm = :currentTerm and r.sender.studyGroup is null "
+          + "and r.requestStatus = :status")
+  List<PartnerRow> findUnassignedPartnerRows(
+      @Param("currentTerm") AcademicTerm currentTerm, @Param("status") RequestStatus status);
+
+  @Query(
+      "select p.applicant.studyApplicantId as applicantId, p.course.courseId as courseId, "
+          + "p.priority as priority "
+          + "from PreferredCourse p "
+          + "where p.applicant.academicTerm = :currentTerm and p.applicant.studyGroup is null")
+  List<CourseRow> findUnassignedCourseRows(@Param("currentTerm") AcademicTerm currentTerm);
+
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "join fetch s.user "
+          + "left join fetch s.preferredCourses pc "
+          + "left join fetch pc.course "
+          + "where s.studyApplicantId in :ids")
+  List<StudyApplicant> findAllWithPreferredCoursesByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(
+      "select distinct s from StudyApplicant s "
+          + "left join fetch s.partnerRequests r "
+          + "left join fetch r.receiver "
+          + "where s.studyApplicantId in :ids")
+  List<StudyApplicant> findAllWithPartnerRequestsByIdIn(@Param("ids") Collection<Long> ids);
+
+  interface UserApplicantRow {
+    User getUser();
+
+    StudyApplicant getApplicant();
+  }
+
+  interface ApplicantRow {
+    Long getApplicantId();
+
+    Long getUserId();
+  }
+
+  interface PartnerRow {
+    Long getSenderId();
+
+    Long getReceiverUserId();
+  }
+
+  interface CourseRow {
+    Long getApplicantId();
+
+    Long getCourseId();
+
+    Integer getPriority();
+  }
 }
@@ -3,6 +3,7 @@ package edu.handong.csee.histudy.repository.jpa;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -35,4 +36,7 @@ public interface JpaStudyGroupRepository extends JpaRepository<StudyGroup, Long>
   @Query(
       "select s from StudyGroup s " + "where s.academicTerm = :academicTerm and s.members is empty")
   List<StudyGroup> findAllEmpty(@Param("academicTerm") AcademicTerm academicTerm);
+
+  @Query("select distinct s from StudyGroup s left join fetch s.members where s.studyGroupId in :ids")
+  List<StudyGroup> findAllWithMembersByIdIn(@Param("ids") Collection<Long> ids);
 }
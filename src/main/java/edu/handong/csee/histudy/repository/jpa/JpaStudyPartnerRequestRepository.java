@@ -0,0 +1,59 @@
+package edu.handong.csee.histudy.repository.jpa;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaStudyPartnerRequestRepository extends JpaRepository<StudyPartnerRequest, Long> {
+
+  @Query(
+      "select r from StudyPartnerRequest r "
+          + "join fetch r.sender s "
+          + "join fetch s.user "
+          + "where r.receiver = :receiver and r.academicTerm = :academicTerm "
+          + "order by r.studyPartnerRequestId")
+  List<StudyPartnerRequest> findAllReceivedBy(
+      @Param("receiver") User receiver, @Param("academicTerm") AcademicTerm academicTerm);
+
+  @Query(
+      "select r from StudyPartnerRequest r "
+          + "join fetch r.receiver "
+          + "where r.sender.user = :sender and r.academicTerm = :academicTerm "
+          + "order by r.studyPartnerRequestId")
+  List<StudyPartnerRequest> findAllSentBy(
+      @Param("sender") User sender, @Param("academicTerm") AcademicTerm academicTerm);
+
+  @Query(
+      "select r.studyPartnerRequestId from StudyPartnerRequest r, StudyPartnerRequest back "
+          + "where r.academicTerm = :academicTerm and r.requestStatus = :pending "
+          + "and back.academicTerm = :academicTerm "
+          + "and back.sender.user = r.receiver and back.receiver = r.sender.user "
+          + "and ((r.receiver = :receiver and r.sender.user.userId in :senderUserIds) "
+          + "or (r.sender.user = :receiver and r.receiver.userId in :senderUserIds))")
+  List<Long> findPendingMutualIdsBetween(
+      @Param("receiver") User receiver,
+      @Param("senderUserIds") Collection<Long> senderUserIds,
+      @Param("academicTerm") AcademicTerm academicTerm,
+      @Param("pending") RequestStatus pending);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update StudyPartnerRequest r set r.requestStatus = :status "
+          + "where r.studyPartnerRequestId in :ids")
+  int updateStatusByIdIn(
+      @Param("ids") Collection<Long> ids, @Param("status") RequestStatus status);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update StudyPartnerRequest r set r.academicTerm = ("
+          + "select s.academicTerm from StudyApplicant s where s = r.sender) "
+          + "where r.academicTerm is null")
+  int fillMissingAcademicTerms();
+}
@@ -3,8 +3,12 @@ package edu.handong.csee.histudy.repository.jpa;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyReport;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,4 +24,45 @@ public interface JpaStudyReportRepository extends JpaRepository<StudyReport, Lon
   @Query(
       "select coalesce(sum(r.totalMinutes), 0) from StudyReport r where r.studyGroup.academicTerm = :academicTerm")
   long sumTotalMinutesByStudyGroupAcademicTerm(@Param("academicTerm") AcademicTerm academicTerm);
+
+  Optional<StudyReport> findFirstByStudyGroupOrderByStudyReportIdDesc(StudyGroup studyGroup);
+
+  @Query(
+      "select r.studyGroup.studyGroupId as studyGroupId, r.studyReportId as studyReportId, "
+          + "i.path as path "
+          + "from StudyReport r "
+          + "left join r.images i on i.reportImageId = "
+          + "(select max(last.reportImageId) from ReportImage last where last.studyReport = r) "
+          + "where r.studyGroup.academicTerm = :academicTerm "
+          + "and r.studyReportId = "
+          + "(select max(latest.studyReportId) from StudyReport latest "
+          + "where latest.studyGroup = r.studyGroup)")
+  List<ThumbnailRow> findLatestThumbnailsByAcademicTerm(
+      @Param("academicTerm") AcademicTerm academicTerm);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select r from StudyReport r "
+          + "left join fetch r.courses c left join fetch c.course "
+          + "where r.studyGroup = :studyGroup "
+          + "and r.createdDate >= :from and r.createdDate < :to")
+  List<StudyReport> findAllWithCoursesByStudyGroupInRangeForUpdate(
+      @Param("studyGroup") StudyGroup studyGroup,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  @Query(
+      "select distinct r from StudyReport r "
+          + "left join fetch r.courses c left join fetch c.course "
+          + "where r.studyGroup.academicTerm = :academicTerm")
+  List<StudyReport> findAllWithCoursesByAcademicTerm(
+      @Param("academicTerm") AcademicTerm academicTerm);
+
+  interface ThumbnailRow {
+    Long getStudyGroupId();
+
+    Long getStudyReportId();
+
+    String getPath();
+  }
 }
@@ -0,0 +1,44 @@
+package edu.handong.csee.histudy.repository.jpa;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaTeamLeaderboardRepository extends JpaRepository<TeamLeaderboard, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select l from TeamLeaderboard l where l.studyGroupId = :studyGroupId")
+  Optional<TeamLeaderboard> findByStudyGroupIdForUpdate(@Param("studyGroupId") Long studyGroupId);
+
+  @Query(
+      "select g.studyGroupId as studyGroupId, g.tag as tag, "
+          + "g.reportCount as reportCount, g.totalMinutes as totalMinutes, "
+          + "l.thumbnailPath as thumbnailPath "
+          + "from StudyGroup g left join TeamLeaderboard l on l.studyGroupId = g.studyGroupId "
+          + "where g.academicTerm = :academicTerm "
+          + "order by g.totalMinutes desc, g.tag asc")
+  List<StandingRow> findStandingsByAcademicTerm(@Param("academicTerm") AcademicTerm academicTerm);
+
+  @Query(
+      "select count(l) from TeamLeaderboard l where l.studyGroupId in "
+          + "(select g.studyGroupId from StudyGroup g where g.academicTerm = :academicTerm)")
+  long countByAcademicTerm(@Param("academicTerm") AcademicTerm academicTerm);
+
+  interface StandingRow {
+    Long getStudyGroupId();
+
+    Integer getTag();
+
+    Long getReportCount();
+
+    Long getTotalMinutes();
+
+    String getThumbnailPath();
+  }
+}
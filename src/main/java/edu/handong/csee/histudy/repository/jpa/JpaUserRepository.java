@@ -2,22 +2,17 @@ package edu.handong.csee.histudy.repository.jpa;
 
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 public interface JpaUserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findUserBySid(String sid);
 
-  @Query(
-      "select u from User u "
-          + "where u.name like %:keyword% "
-          + "or u.sid like %:keyword% "
-          + "or u.email like %:keyword%")
-  List<User> findUserByNameOrSidOrEmail(@Param("keyword") String keyword);
+  List<User> findAllBySidIn(Collection<String> sids);
 
   Optional<User> findUserByEmail(String email);
 
@@ -0,0 +1,25 @@
+package edu.handong.csee.histudy.repository.jpa;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaWeeklyActivityRepository extends JpaRepository<WeeklyActivity, Long> {
+
+  List<WeeklyActivity> findAllByAcademicTermAndCourseIdOrderByWeekStartAsc(
+      AcademicTerm academicTerm, Long courseId);
+
+  List<WeeklyActivity> findAllByCourseIdAndWeekStartBetweenOrderByWeekStartAsc(
+      Long courseId, LocalDate from, LocalDate to);
+
+  boolean existsByAcademicTerm(AcademicTerm academicTerm);
+
+  @Modifying(clearAutomatically = true)
+  @Query("delete from WeeklyActivity w where w.academicTerm = :academicTerm")
+  void deleteAllByAcademicTermInBulk(@Param("academicTerm") AcademicTerm academicTerm);
+}
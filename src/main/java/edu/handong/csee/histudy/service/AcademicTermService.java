@@ -3,12 +3,14 @@ package edu.handong.csee.histudy.service;
 import static edu.handong.csee.histudy.dto.AcademicTermDto.*;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.TermType;
 import edu.handong.csee.histudy.dto.AcademicTermDto;
 import edu.handong.csee.histudy.exception.AcademicTermNotFoundException;
 import edu.handong.csee.histudy.exception.DuplicateAcademicTermException;
 import edu.handong.csee.histudy.exception.MissingParameterException;
 import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ public class AcademicTermService {
       "연도와 학기는 필수 입력값입니다.";
 
   private final AcademicTermRepository academicTermRepository;
+  private final ActivityRollupRepository activityRollupRepository;
 
   @Transactional
   public void createAcademicTerm(Integer year, TermType semester) {
@@ -43,7 +46,8 @@ public class AcademicTermService {
             .isCurrent(false)
             .build();
 
-    academicTermRepository.save(academicTerm);
+    AcademicTerm saved = academicTermRepository.save(academicTerm);
+    activityRollupRepository.save(ActivityRollup.empty(saved));
   }
 
   @Transactional(readOnly = true)
@@ -71,7 +75,10 @@ public class AcademicTermService {
     if (targetTerm.getIsCurrent()) {
       return;
     }
-    academicTermRepository.findCurrentSemester().ifPresent(term -> term.setCurrent(false));
+    academicTermRepository
+        .findCurrentSemesterForUpdate()
+        .ifPresent(term -> term.setCurrent(false));
     targetTerm.setCurrent(true);
+    academicTermRepository.invalidateCurrentSemester();
   }
 }
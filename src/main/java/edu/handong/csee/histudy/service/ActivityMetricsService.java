@@ -1,17 +1,22 @@
 package edu.handong.csee.histudy.service;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.dto.ActivityMetricsDto;
 import edu.handong.csee.histudy.dto.ActivityTerm;
 import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
 import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
 import edu.handong.csee.histudy.repository.StudyGroupRepository;
 import edu.handong.csee.histudy.repository.StudyReportRepository;
 import edu.handong.csee.histudy.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,46 +27,89 @@ public class ActivityMetricsService {
   private final StudyGroupRepository studyGroupRepository;
   private final StudyReportRepository studyReportRepository;
   private final AcademicTermRepository academicTermRepository;
+  private final ActivityRollupRepository activityRollupRepository;
 
+  /** 활동 지표 집계를 기본 키로 한 번 읽는다. 집계가 아직 없으면 원천 데이터에서 계산한다. */
   public ActivityMetricsDto getActivityMetrics(ActivityTerm term) {
     if (term == ActivityTerm.CURRENT) {
-      return getCurrentTermActivityMetrics();
+      AcademicTerm currentTerm =
+          academicTermRepository
+              .findCurrentSemester()
+              .orElseThrow(NoCurrentTermFoundException::new);
+      return toDto(
+          activityRollupRepository
+              .findById(currentTerm.getAcademicTermId())
+              .orElseGet(() -> countTerm(currentTerm)));
     }
-    return getAllActivityMetrics();
+    return toDto(
+        activityRollupRepository.findById(ActivityRollup.ALL_TIME_ID).orElseGet(this::countAll));
   }
 
-  private ActivityMetricsDto getAllActivityMetrics() {
-    long studyMembers = userRepository.countByRoleNot(Role.ADMIN);
-    long studyGroups = studyGroupRepository.count();
-    long totalMinutes = studyReportRepository.sumTotalMinutes();
-    long studyHours = totalMinutes / 60;
-    long reports = studyReportRepository.count();
+  /**
+   * 모든 학기와 전체 기간의 활동 지표 집계를 원천 데이터로 다시 만든다.
+   *
+   * <p>집계는 행마다 덮어쓰므로 다시 만드는 동안 다른 요청이 읽어도 집계가 비어 보이지 않는다.
+   *
+   * @return 다시 만든 집계 수
+   */
+  @Transactional
+  public int reconcileRollups() {
+    return reconcile(academicTermRepository.findAllByYearDescAndSemesterDesc());
+  }
 
-    return ActivityMetricsDto.builder()
-        .studyMembers(studyMembers)
-        .studyGroups(studyGroups)
-        .studyHours(studyHours)
-        .reports(reports)
-        .build();
+  /**
+   * 집계가 없는 학기가 있으면 모든 집계를 원천 데이터로 다시 만든다.
+   *
+   * <p>집계가 생기기 전부터 있던 데이터를 서버가 뜰 때 한 번 채우기 위한 것이다. 현재 학기 행을 잠근 채 확인하므로 여러 인스턴스가 함께 떠도 한
+   * 인스턴스만 채우고, 나머지는 잠금이 풀린 뒤 채워진 것을 보고 건너뛴다.
+   *
+   * @return 다시 만든 집계 수. 채울 필요가 없으면 0
+   */
+  @Transactional
+  public int backfillRollups() {
+    if (academicTermRepository.findCurrentSemesterForUpdate().isEmpty()) {
+      return 0;
+    }
+    List<AcademicTerm> academicTerms = academicTermRepository.findAllByYearDescAndSemesterDesc();
+    if (activityRollupRepository.count() > academicTerms.size()) {
+      return 0;
+    }
+    return reconcile(academicTerms);
   }
 
-  private ActivityMetricsDto getCurrentTermActivityMetrics() {
-    AcademicTerm currentTerm =
-        academicTermRepository
-            .findCurrentSemester()
-            .orElseThrow(NoCurrentTermFoundException::new);
+  private int reconcile(List<AcademicTerm> academicTerms) {
+    List<ActivityRollup> rollups = new ArrayList<>();
+    rollups.add(countAll());
+    academicTerms.stream().map(this::countTerm).forEach(rollups::add);
 
-    long studyMembers = studyApplicantRepository.countAssignedApplicants(currentTerm);
-    long studyGroups = studyGroupRepository.countByAcademicTerm(currentTerm);
-    long totalMinutes = studyReportRepository.sumTotalMinutesByStudyGroupAcademicTerm(currentTerm);
-    long studyHours = totalMinutes / 60;
-    long reports = studyReportRepository.countByStudyGroupAcademicTerm(currentTerm);
+    activityRollupRepository.upsertAll(rollups);
+    return rollups.size();
+  }
+
+  private ActivityRollup countAll() {
+    return ActivityRollup.of(
+        ActivityRollup.ALL_TIME_ID,
+        userRepository.countByRoleNot(Role.ADMIN),
+        studyGroupRepository.count(),
+        studyReportRepository.sumTotalMinutes(),
+        studyReportRepository.count());
+  }
+
+  private ActivityRollup countTerm(AcademicTerm academicTerm) {
+    return ActivityRollup.of(
+        academicTerm.getAcademicTermId(),
+        studyApplicantRepository.countAssignedApplicants(academicTerm),
+        studyGroupRepository.countByAcademicTerm(academicTerm),
+        studyReportRepository.sumTotalMinutesByStudyGroupAcademicTerm(academicTerm),
+        studyReportRepository.countByStudyGroupAcademicTerm(academicTerm));
+  }
 
+  private ActivityMetricsDto toDto(ActivityRollup rollup) {
     return ActivityMetricsDto.builder()
-        .studyMembers(studyMembers)
-        .studyGroups(studyGroups)
-        .studyHours(studyHours)
-        .reports(reports)
+        .studyMembers(rollup.getStudyMembers())
+        .studyGroups(rollup.getStudyGroups())
+        .studyHours(rollup.getTotalMinutes() / 60)
+        .reports(rollup.getReports())
         .build();
   }
 }
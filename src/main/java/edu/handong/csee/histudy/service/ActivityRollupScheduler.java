@@ -0,0 +1,41 @@
+package edu.handong.csee.histudy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활동 지표 집계와 주간 활동 집계를 매일 한 번 원천 데이터로 다시 만들어 증감 누락을 바로잡는다.
+ *
+ * <p>서버가 뜰 때는 모든 집계를 다시 만들지 않고, 빠진 활동 지표 집계와 주간 활동 집계만 현재 학기 행 잠금 아래에서 한 인스턴스가 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityRollupScheduler {
+  private final ActivityMetricsService activityMetricsService;
+  private final WeeklyActivityService weeklyActivityService;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int backfilled = activityMetricsService.backfillRollups();
+    if (backfilled > 0) {
+      log.info("Backfilled {} activity rollups", backfilled);
+    }
+    int weeklyBackfilled = weeklyActivityService.backfillWeeklyActivity();
+    if (weeklyBackfilled > 0) {
+      log.info("Backfilled {} weekly activity buckets", weeklyBackfilled);
+    }
+  }
+
+  @Scheduled(cron = "${custom.activity.reconcile-cron:0 30 4 * * *}")
+  public void reconcile() {
+    int reconciled = activityMetricsService.reconcileRollups();
+    log.info("Reconciled {} activity rollups", reconciled);
+    int rebuilt = weeklyActivityService.rebuildWeeklyActivity();
+    log.info("Rebuilt {} weekly activity buckets", rebuilt);
+  }
+}
@@ -0,0 +1,127 @@
+package edu.handong.csee.histudy.service;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.exception.UserNotFoundException;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import edu.handong.csee.histudy.repository.StudyGroupRepository;
+import edu.handong.csee.histudy.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청을 보낸 사용자와 그 사용자의 현재 학기, 스터디 그룹, 신청 정보를 담는 요청 범위 컨텍스트
+ *
+ * <p>{@code AuthenticationInterceptor}가 토큰의 이메일을 넣어 두고, 각 값은 처음 쓰일 때 한 번만 조회해 같은 요청 안에서 다시 쓴다.
+ *
+ * <p>토큰에 사용자, 학기, 그룹 ID가 있으면 기본 키로 조회한다. 토큰 버전이나 학기가 현재 값과 다르면 그룹 정보가 바뀐 것이므로 토큰의 그룹
+ * ID를 버리고 사용자와 학기로 다시 조회한다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentMember {
+  private final UserRepository userRepository;
+  private final AcademicTermRepository academicTermRepository;
+  private final StudyGroupRepository studyGroupRepository;
+  private final StudyApplicantRepository studyApplicantRepository;
+
+  private String email;
+  private Long userId;
+  private Long academicTermId;
+  private Long studyGroupId;
+  private Long tokenVersion;
+  private User user;
+  private AcademicTerm currentTerm;
+  private Optional<StudyGroup> studyGroup;
+  private Optional<StudyApplicant> applicant;
+
+  /** 요청을 보낸 사용자의 이메일을 넣는다. 이미 조회한 값은 비운다. */
+  public void authenticate(String email) {
+    authenticate(email, null, null, null, null);
+  }
+
+  /** 검증한 토큰의 클레임을 넣는다. ID 클레임이 없는 예전 토큰은 이메일로만 조회한다. */
+  public void authenticate(Claims claims) {
+    authenticate(
+        claims.getSubject(),
+        claims.get(TokenIdentity.USER_ID, Long.class),
+        claims.get(TokenIdentity.ACADEMIC_TERM_ID, Long.class),
+        claims.get(TokenIdentity.STUDY_GROUP_ID, Long.class),
+        claims.get(TokenIdentity.TOKEN_VERSION, Long.class));
+  }
+
+  private void authenticate(
+      String email, Long userId, Long academicTermId, Long studyGroupId, Long tokenVersion) {
+    this.email = email;
+    this.userId = userId;
+    this.academicTermId = academicTermId;
+    this.studyGroupId = studyGroupId;
+    this.tokenVersion = tokenVersion;
+    this.user = null;
+    this.studyGroup = null;
+    this.applicant = null;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public User getUser() {
+    if (user == null) {
+      user =
+          (userId != null ? userRepository.findById(userId) : userRepository.findUserByEmail(email))
+              .orElseThrow(UserNotFoundException::new);
+    }
+    return user;
+  }
+
+  public AcademicTerm getCurrentTerm() {
+    if (currentTerm == null) {
+      currentTerm =
+          academicTermRepository
+              .findCurrentSemester()
+              .orElseThrow(NoCurrentTermFoundException::new);
+    }
+    return currentTerm;
+  }
+
+  /** 현재 학기에 사용자가 속한 스터디 그룹 */
+  public Optional<StudyGroup> findStudyGroup() {
+    if (studyGroup == null) {
+      AcademicTerm term = getCurrentTerm();
+      if (isTokenStale()) {
+        studyGroup = studyGroupRepository.findByUserAndTerm(getUser(), term);
+      } else {
+        studyGroup =
+            studyGroupId == null ? Optional.empty() : studyGroupRepository.findById(studyGroupId);
+      }
+    }
+    return studyGroup;
+  }
+
+  /** 토큰의 학기, 그룹 정보를 믿을 수 없는지 여부 */
+  public boolean isTokenStale() {
+    return userId == null
+        || tokenVersion == null
+        || !getCurrentTerm().getAcademicTermId().equals(academicTermId)
+        || getUser().getTokenVersion() != tokenVersion;
+  }
+
+  /** 현재 학기에 사용자가 낸 스터디 신청 */
+  public Optional<StudyApplicant> findApplicant() {
+    if (applicant == null) {
+      AcademicTerm term = getCurrentTerm();
+      applicant = studyApplicantRepository.findByUserAndTerm(getUser(), term);
+    }
+    return applicant;
+  }
+}
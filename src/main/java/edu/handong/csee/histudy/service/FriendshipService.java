@@ -0,0 +1,110 @@
+package edu.handong.csee.histudy.service;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.dto.FriendshipDto;
+import edu.handong.csee.histudy.dto.FriendshipRequest;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.exception.NoStudyApplicationFound;
+import edu.handong.csee.histudy.exception.UserNotFoundException;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import edu.handong.csee.histudy.repository.StudyPartnerRequestRepository;
+import edu.handong.csee.histudy.repository.UserRepository;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 현재 학기의 친구 요청을 받는 쪽과 보내는 쪽에서 조회하고 수락한다.
+ *
+ * <p>요청은 {@code (받는 사용자, 학기)} 색인으로 찾으므로 상대방의 신청서를 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FriendshipService {
+
+  private final UserRepository userRepository;
+  private final AcademicTermRepository academicTermRepository;
+  private final StudyApplicantRepository studyApplicantRepository;
+  private final StudyPartnerRequestRepository studyPartnerRequestRepository;
+
+  @Transactional(readOnly = true)
+  public FriendshipDto getReceivedRequests(String email) {
+    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    return new FriendshipDto(
+        studyPartnerRequestRepository.findAllReceivedBy(user, currentTerm).stream()
+            .<FriendshipRequest>map(FriendshipRequest.Received::new)
+            .toList());
+  }
+
+  @Transactional(readOnly = true)
+  public FriendshipDto getSentRequests(String email) {
+    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    return new FriendshipDto(
+        studyPartnerRequestRepository.findAllSentBy(user, currentTerm).stream()
+            .<FriendshipRequest>map(FriendshipRequest.Sent::new)
+            .toList());
+  }
+
+  /**
+   * 주어진 사용자들이 보낸 요청을 한꺼번에 수락한다.
+   *
+   * <p>수락은 스터디 신청 때 상대를 친구로 적는 것과 같다. 아직 요청하지 않은 상대는 내 현재 학기 신청서에 수락 상태의 요청으로
+   * 더하고, 상대가 보낸 요청과 내가 보낸 대기 중인 요청은 한 번의 UPDATE로 함께 수락한다.
+   *
+   * @param email 요청을 받은 사용자의 이메일
+   * @param senderIds 요청을 보낸 사용자 ID. 현재 학기에 나에게 대기 중인 요청을 보내지 않은 사용자는 무시한다.
+   * @return 수락 후 받은 요청 목록
+   * @throws NoStudyApplicationFound 현재 학기 신청서가 없을 때
+   */
+  public FriendshipDto acceptRequests(String email, Collection<Long> senderIds) {
+    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    StudyApplicant application =
+        studyApplicantRepository
+            .findByUserAndTerm(user, currentTerm)
+            .orElseThrow(NoStudyApplicationFound::new);
+
+    Set<Long> requestedUserIds =
+        application.getRequestedUsers().stream()
+            .map(User::getUserId)
+            .collect(Collectors.toSet());
+    studyPartnerRequestRepository.findAllReceivedBy(user, currentTerm).stream()
+        .filter(StudyPartnerRequest::isPending)
+        .map(request -> request.getSender().getUser())
+        .filter(sender -> senderIds.contains(sender.getUserId()))
+        .filter(sender -> requestedUserIds.add(sender.getUserId()))
+        .forEach(sender -> StudyPartnerRequest.of(application, sender, RequestStatus.ACCEPTED));
+
+    studyPartnerRequestRepository.acceptAllBetween(user, senderIds, currentTerm);
+    return getReceivedRequests(email);
+  }
+
+  /**
+   * 학기 열이 생기기 전에 저장된 요청은 색인으로 찾을 수 없으므로 보낸 신청서의 학기로 채운다. 현재 학기 행 잠금으로 한 인스턴스만
+   * 채우고, 나머지는 잠금이 풀린 뒤 채울 요청이 없어 건너뛴다.
+   *
+   * @return 학기를 채운 요청 수. 현재 학기가 없으면 0
+   */
+  public int backfillAcademicTerms() {
+    Optional<AcademicTerm> currentTerm = academicTermRepository.findCurrentSemesterForUpdate();
+    if (currentTerm.isEmpty()) {
+      return 0;
+    }
+    return studyPartnerRequestRepository.fillMissingAcademicTerms();
+  }
+}
@@ -3,10 +3,8 @@ package edu.handong.csee.histudy.service;
 import static edu.handong.csee.histudy.util.ImageDirectories.REPORTS;
 import static org.springframework.util.ResourceUtils.isUrl;
 
-import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.ReportImage;
 import edu.handong.csee.histudy.domain.StudyGroup;
-import edu.handong.csee.histudy.domain.User;
 import edu.handong.csee.histudy.exception.*;
 import edu.handong.csee.histudy.repository.*;
 import edu.handong.csee.histudy.util.ImagePathMapper;
@@ -37,23 +35,15 @@ public class ImageService {
   @Value("${custom.resource.location}")
   private String imageBaseLocation;
 
-  private final AcademicTermRepository academicTermRepository;
-  private final UserRepository userRepository;
   private final StudyReportRepository studyReportRepository;
   private final StudyApplicantRepository studyApplicantRepository;
 
   private final ImagePathMapper imagePathMapper;
-  private final StudyGroupRepository studyGroupRepository;
+  private final CurrentMember currentMember;
 
-  public String getImagePaths(
-      String email, MultipartFile imageAsFormData, Optional<Long> reportIdOr) {
-    AcademicTerm currentTerm =
-        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
-    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
+  public String getImagePaths(MultipartFile imageAsFormData, Optional<Long> reportIdOr) {
     StudyGroup studyGroup =
-        studyGroupRepository
-            .findByUserAndTerm(user, currentTerm)
-            .orElseThrow(StudyGroupNotFoundException::new);
+        currentMember.findStudyGroup().orElseThrow(StudyGroupNotFoundException::new);
 
     if (reportIdOr.isPresent()) {
       Long id = reportIdOr.get();
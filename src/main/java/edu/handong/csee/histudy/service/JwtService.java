@@ -1,63 +1,70 @@
 package edu.handong.csee.histudy.service;
 
-import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.exception.InvalidTokenTypeException;
 import edu.handong.csee.histudy.jwt.GrantType;
 import edu.handong.csee.histudy.jwt.JwtPair;
 import edu.handong.csee.histudy.jwt.JwtProperties;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
+import edu.handong.csee.histudy.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
     private final JwtProperties jwtProperties;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
     private final static String BEARER = "Bearer ";
 
-    public String issueToken(Claims claims, GrantType typ) {
+    public JwtService(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        // 파서는 만든 뒤 바뀌지 않으므로 요청마다 새로 만들지 않고 함께 쓴다.
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(jwtProperties.getKey())
+                .requireIssuer(jwtProperties.getIssuer())
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(
+                jwtProperties.getVerifiedTokenCacheSize(), Clock.systemUTC());
+    }
+
+    public String issueToken(TokenIdentity identity, GrantType typ) {
         Map<String, Date> time = calcExpiry(jwtProperties.getTokenExpiry(typ));
-        String email = claims.getSubject();
-        String name = claims.get("name", String.class);
-        String role = claims.get("rol", String.class);
 
         return build(
-                email, name, role,
+                identity,
                 time.get(Claims.ISSUED_AT),
                 time.get(Claims.EXPIRATION));
     }
 
-    public JwtPair issueToken(String email, String name, Role role) {
+    public JwtPair issueToken(TokenIdentity identity) {
         List<String> tokens = Arrays.stream(GrantType.values())
-                .map(jwtProperties::getTokenExpiry)
-                .map(this::calcExpiry)
-                .map(pair -> this.build(
-                        email, name, role.name(),
-                        pair.get(Claims.ISSUED_AT),
-                        pair.get(Claims.EXPIRATION)))
+                .map(typ -> issueToken(identity, typ))
                 .toList();
 
         assert tokens.size() == 2;
         return new JwtPair(tokens);
     }
 
+    /** 토큰을 검증한다. 최근에 검증한 같은 토큰은 서명을 다시 확인하지 않고 담아 둔 클레임을 돌려준다. */
     public Claims validate(String token) {
-        JwtParser parser = Jwts.parserBuilder()
-                .setSigningKey(jwtProperties.getKey())
-                .requireIssuer(jwtProperties.getIssuer())
-                .build();
-
-        return parser
-                .parseClaimsJws(token)
-                .getBody();
+        return verifiedTokens.get(token)
+                .orElseGet(() -> {
+                    Claims claims = parser
+                            .parseClaimsJws(token)
+                            .getBody();
+                    verifiedTokens.put(token, claims);
+                    return claims;
+                });
     }
 
     public String extractToken(Optional<String> headerOr) {
@@ -79,13 +86,23 @@ public class JwtService {
                 Claims.EXPIRATION, exp);
     }
 
-    private String build(String email, String name, String role, Date iat, Date exp) {
-        return Jwts.builder()
+    private String build(TokenIdentity identity, Date iat, Date exp) {
+        JwtBuilder builder = Jwts.builder()
                 .setHeaderParam("typ", "JWT")
                 .setIssuer(jwtProperties.getIssuer())
-                .setSubject(email)
-                .claim("name", name)
-                .claim("rol", role)
+                .setSubject(identity.email())
+                .claim(TokenIdentity.NAME, identity.name())
+                .claim(TokenIdentity.ROLE, identity.role().name())
+                .claim(TokenIdentity.USER_ID, identity.userId())
+                .claim(TokenIdentity.TOKEN_VERSION, identity.tokenVersion());
+
+        // 값이 없는 클레임은 넣지 않는다.
+        Optional.ofNullable(identity.academicTermId())
+                .ifPresent(id -> builder.claim(TokenIdentity.ACADEMIC_TERM_ID, id));
+        Optional.ofNullable(identity.studyGroupId())
+                .ifPresent(id -> builder.claim(TokenIdentity.STUDY_GROUP_ID, id));
+
+        return builder
                 .setIssuedAt(iat)
                 .setExpiration(exp)
                 .signWith(jwtProperties.getKey())
@@ -0,0 +1,28 @@
+package edu.handong.csee.histudy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버가 뜰 때 학기 열이 생기기 전에 저장된 친구 요청에 학기를 채운다.
+ *
+ * <p>학기가 비어 있는 요청은 받는 사람 색인으로 찾을 수 없어 스터디 신청 때 서로 요청했는지 확인하지 못한다. 현재 학기 행 잠금으로 한
+ * 인스턴스만 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartnerRequestTermBackfill {
+  private final FriendshipService friendshipService;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int filled = friendshipService.backfillAcademicTerms();
+    if (filled > 0) {
+      log.info("Filled academic terms of {} partner requests", filled);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package edu.handong.csee.histudy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹의 보고서 수와 누적 시간이 증감 누락으로 어긋나지 않도록 주기적으로 보고서 원천 데이터와 맞춘다.
+ *
+ * <p>서버가 뜰 때는 순위 집계가 생기기 전부터 있던 데이터를 한 번 채운다. 현재 학기 행 잠금으로 한 인스턴스만 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportCounterRepairScheduler {
+  private final TeamService teamService;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int backfilled = teamService.backfillLeaderboard();
+    if (backfilled > 0) {
+      log.info("Backfilled leaderboard thumbnails of {} study groups", backfilled);
+    }
+  }
+
+  @Scheduled(cron = "${custom.report.repair-cron:0 0 4 * * *}")
+  public void repair() {
+    int repaired = teamService.repairReportCounters();
+    log.info("Recounted report activity of {} study groups", repaired);
+  }
+}
@@ -2,12 +2,12 @@ package edu.handong.csee.histudy.service;
 
 import edu.handong.csee.histudy.domain.*;
 import edu.handong.csee.histudy.dto.ReportDto;
-import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
 import edu.handong.csee.histudy.exception.ReportNotFoundException;
-import edu.handong.csee.histudy.exception.UserNotFoundException;
 import edu.handong.csee.histudy.repository.*;
 import edu.handong.csee.histudy.service.command.ReportCommand;
 import edu.handong.csee.histudy.util.ImagePathMapper;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,15 +23,15 @@ public class ReportService {
   private final UserRepository userRepository;
   private final CourseRepository courseRepository;
   private final StudyGroupRepository studyGroupRepository;
-  private final AcademicTermRepository academicTermRepository;
+  private final TeamLeaderboardRepository teamLeaderboardRepository;
+  private final ActivityRollupRepository activityRollupRepository;
+  private final WeeklyActivityRepository weeklyActivityRepository;
+  private final CurrentMember currentMember;
 
   private final ImagePathMapper imagePathMapper;
 
-  public ReportDto.ReportInfo createReport(ReportCommand command, String email) {
-    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
-    AcademicTerm currentTerm =
-        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
-    StudyGroup studyGroup = studyGroupRepository.findByUserAndTerm(user, currentTerm).orElseThrow();
+  public ReportDto.ReportInfo createReport(ReportCommand command) {
+    StudyGroup studyGroup = currentMember.findStudyGroup().orElseThrow();
 
     List<User> participants =
         command.participantIds().stream()
@@ -60,16 +60,27 @@ public class ReportService {
             .courses(courses)
             .build();
 
+    Optional<TeamLeaderboard> leaderboard = lockLeaderboard(studyGroup);
     StudyReport saved = studyReportRepository.save(report);
+    studyGroupRepository.addReportActivity(
+        studyGroup.getStudyGroupId(), 1, saved.getTotalMinutes());
+    activityRollupRepository.addReportActivity(
+        studyGroup.getAcademicTerm(), 1, saved.getTotalMinutes());
+    leaderboard.ifPresent(thumbnail -> thumbnail.recordCreated(saved));
+    LocalDate weekStart = WeeklyContribution.weekStartOf(saved.getCreatedDate());
+    List<StudyReport> others = otherReportsInWeek(studyGroup, weekStart, saved);
+    List<StudyReport> withSaved = new ArrayList<>(others);
+    withSaved.add(saved);
+    updateWeeklyActivity(
+        studyGroup,
+        WeeklyContribution.of(weekStart, others),
+        WeeklyContribution.of(weekStart, withSaved));
     Map<Long, String> imgFullPaths = imagePathMapper.parseImageToMapWithFullPath(saved.getImages());
     return new ReportDto.ReportInfo(saved, imgFullPaths);
   }
 
-  public List<ReportDto.ReportInfo> getReports(String email) {
-    AcademicTerm currentTerm =
-        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
-    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
-    StudyGroup studyGroup = studyGroupRepository.findByUserAndTerm(user, currentTerm).orElseThrow();
+  public List<ReportDto.ReportInfo> getReports() {
+    StudyGroup studyGroup = currentMember.findStudyGroup().orElseThrow();
     List<StudyReport> studyReports =
         studyReportRepository.findAllByStudyGroupOrderByCreatedDateDesc(studyGroup);
 
@@ -102,6 +113,14 @@ public class ReportService {
     // parse image path to filename
     // /path/to/image.png -> image.png
     List<String> imageFilenames = imagePathMapper.extractFilename(command.imageUrls());
+    long previousMinutes = targetReport.getTotalMinutes();
+    StudyGroup studyGroup = targetReport.getStudyGroup();
+    Optional<TeamLeaderboard> leaderboard = lockLeaderboard(studyGroup);
+    LocalDate weekStart = WeeklyContribution.weekStartOf(targetReport.getCreatedDate());
+    List<StudyReport> weekReports =
+        new ArrayList<>(otherReportsInWeek(studyGroup, weekStart, targetReport));
+    weekReports.add(targetReport);
+    WeeklyContribution previousContribution = WeeklyContribution.of(weekStart, weekReports);
     targetReport.update(
         command.title(),
         command.content(),
@@ -109,6 +128,12 @@ public class ReportService {
         imageFilenames,
         participants,
         courses);
+    long minutesDelta = targetReport.getTotalMinutes() - previousMinutes;
+    studyGroupRepository.addReportActivity(studyGroup.getStudyGroupId(), 0, minutesDelta);
+    activityRollupRepository.addReportActivity(studyGroup.getAcademicTerm(), 0, minutesDelta);
+    leaderboard.ifPresent(thumbnail -> thumbnail.recordUpdated(targetReport));
+    updateWeeklyActivity(
+        studyGroup, previousContribution, WeeklyContribution.of(weekStart, weekReports));
 
     return true;
   }
@@ -130,8 +155,62 @@ public class ReportService {
     if (reportOr.isEmpty()) {
       return false;
     } else {
-      studyReportRepository.delete(reportOr.get());
+      StudyReport report = reportOr.get();
+      StudyGroup studyGroup = report.getStudyGroup();
+      Optional<TeamLeaderboard> leaderboard = lockLeaderboard(studyGroup);
+      LocalDate weekStart = WeeklyContribution.weekStartOf(report.getCreatedDate());
+      List<StudyReport> others = otherReportsInWeek(studyGroup, weekStart, report);
+      List<StudyReport> withDeleted = new ArrayList<>(others);
+      withDeleted.add(report);
+      WeeklyContribution previousContribution = WeeklyContribution.of(weekStart, withDeleted);
+      studyReportRepository.delete(report);
+      studyGroupRepository.addReportActivity(
+          studyGroup.getStudyGroupId(), -1, -report.getTotalMinutes());
+      activityRollupRepository.addReportActivity(
+          studyGroup.getAcademicTerm(), -1, -report.getTotalMinutes());
+      StudyReport latestRemaining =
+          studyReportRepository.findLatestByStudyGroup(studyGroup).orElse(null);
+      leaderboard.ifPresent(thumbnail -> thumbnail.recordDeleted(report, latestRemaining));
+      updateWeeklyActivity(
+          studyGroup, previousContribution, WeeklyContribution.of(weekStart, others));
       return true;
     }
   }
+
+  /**
+   * 그룹 순위 썸네일 행을 잠가 같은 그룹의 보고서 변경을 한 줄로 세운다. 주간 기여도 이 잠금 뒤에 읽으므로 같은 주에 동시에 쓴 보고서를 서로 보고
+   * 활동 그룹 수와 과목 수를 두 번 세지 않는다.
+   *
+   * <p>썸네일이 아직 없는 그룹은 최신 보고서로 없을 때만 삽입한 뒤 잠가 다시 읽으므로, 같은 그룹의 첫 보고서가 동시에 쓰여도 기본키가 충돌하지
+   * 않는다.
+   */
+  private Optional<TeamLeaderboard> lockLeaderboard(StudyGroup studyGroup) {
+    Long studyGroupId = studyGroup.getStudyGroupId();
+    Optional<TeamLeaderboard> leaderboard =
+        teamLeaderboardRepository.findByStudyGroupIdForUpdate(studyGroupId);
+    if (leaderboard.isEmpty()) {
+      teamLeaderboardRepository.insertIfAbsent(
+          TeamLeaderboard.of(
+              studyGroupId, studyReportRepository.findLatestByStudyGroup(studyGroup).orElse(null)));
+      leaderboard = teamLeaderboardRepository.findByStudyGroupIdForUpdate(studyGroupId);
+    }
+    return leaderboard;
+  }
+
+  /** 그룹이 같은 주에 쓴 보고서 중 {@code report}를 뺀 나머지 */
+  private List<StudyReport> otherReportsInWeek(
+      StudyGroup studyGroup, LocalDate weekStart, StudyReport report) {
+    return studyReportRepository.findAllByStudyGroupInWeekForUpdate(studyGroup, weekStart).stream()
+        .filter(other -> !other.getStudyReportId().equals(report.getStudyReportId()))
+        .toList();
+  }
+
+  /** 보고서 변경 전후 그룹의 주간 기여 차이를 주간 활동 집계에 더한다. */
+  private void updateWeeklyActivity(
+      StudyGroup studyGroup, WeeklyContribution previous, WeeklyContribution current) {
+    List<WeeklyActivityDelta> deltas = current.minus(previous);
+    if (!deltas.isEmpty()) {
+      weeklyActivityRepository.addActivity(studyGroup.getAcademicTerm(), deltas);
+    }
+  }
 }
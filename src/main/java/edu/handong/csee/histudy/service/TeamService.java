@@ -8,8 +8,8 @@ import edu.handong.csee.histudy.repository.*;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
 import edu.handong.csee.histudy.util.ImagePathMapper;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +23,7 @@ public class TeamService {
   private final AcademicTermRepository academicTermRepository;
   private final StudyApplicantRepository studyApplicantRepository;
   private final StudyReportRepository studyReportRepository;
+  private final TeamLeaderboardRepository teamLeaderboardRepository;
 
   private final ImagePathMapper imagePathMapper;
 
@@ -31,19 +32,17 @@ public class TeamService {
         academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
     List<StudyGroup> groups = studyGroupRepository.findAllByAcademicTerm(currentTerm);
 
+    // 보고서 수와 누적 시간은 그룹이 가지므로 멤버 조회 한 번으로 모든 그룹을 채운다.
+    Map<Long, List<StudyApplicant>> membersByGroup =
+        studyApplicantRepository.findAssignedApplicantsWithDetails(currentTerm).stream()
+            .collect(
+                Collectors.groupingBy(applicant -> applicant.getStudyGroup().getStudyGroupId()));
+
     return groups.stream()
         .map(
-            group -> {
-              List<StudyReport> reports =
-                  studyReportRepository.findAllByStudyGroupOrderByCreatedDateDesc(group);
-              List<StudyApplicant> applicants = studyApplicantRepository.findAllByStudyGroup(group);
-
-              Map<User, StudyApplicant> applicantMap =
-                  applicants.stream()
-                      .collect(Collectors.toMap(StudyApplicant::getUser, Function.identity()));
-
-              return new TeamDto(group, reports, applicantMap);
-            })
+            group ->
+                new TeamDto(
+                    group, membersByGroup.getOrDefault(group.getStudyGroupId(), List.of())))
         .toList();
   }
 
@@ -71,14 +70,10 @@ public class TeamService {
         studyGroup.getStudyGroupId(),
         studyGroup.getTag(),
         users,
-        calculateTotalMinutes(studyReports),
+        studyGroup.getTotalMinutes(),
         reports);
   }
 
-  private long calculateTotalMinutes(List<StudyReport> reports) {
-    return reports.stream().mapToLong(StudyReport::getTotalMinutes).sum();
-  }
-
   public List<UserDto.UserMeWithMasking> getTeamUsers(String email) {
     User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
     AcademicTerm currentTerm =
@@ -94,31 +89,87 @@ public class TeamService {
   public TeamRankDto getAllTeams() {
     AcademicTerm currentTerm =
         academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
-    List<StudyGroup> currentStudyGroups = studyGroupRepository.findAllByAcademicTerm(currentTerm);
-
+    Map<Long, List<String>> memberNames =
+        studyApplicantRepository.findAssignedApplicants(currentTerm).stream()
+            .sorted(Comparator.comparing(StudyApplicant::getStudyApplicantId))
+            .collect(
+                Collectors.groupingBy(
+                    applicant -> applicant.getStudyGroup().getStudyGroupId(),
+                    Collectors.mapping(
+                        applicant -> applicant.getUser().getName(), Collectors.toList())));
+
+    // 순위는 그룹 순위 집계에서 정렬된 채로 읽는다.
+    List<TeamStanding> standings =
+        teamLeaderboardRepository.findStandingsByAcademicTerm(currentTerm);
+    List<String> thumbnails =
+        imagePathMapper.getFullPaths(standings.stream().map(TeamStanding::thumbnailPath).toList());
     List<TeamRankDto.TeamInfo> teams =
-        currentStudyGroups.stream()
-            .map(
-                group -> {
-                  List<StudyReport> reports =
-                      studyReportRepository.findAllByStudyGroupOrderByCreatedDateDesc(group);
-
-                  String path =
-                      reports.stream()
-                          .findFirst()
-                          .flatMap(
-                              report ->
-                                  report.getImages().stream()
-                                      .max(Comparator.comparing(ReportImage::getCreatedDate))
-                                      .map(ReportImage::getPath))
-                          .orElse(null);
-                  String fullPath = imagePathMapper.getFullPath(path);
-
-                  return new TeamRankDto.TeamInfo(group, reports, fullPath);
-                })
-            .sorted(Comparator.comparing(TeamRankDto.TeamInfo::getTotalMinutes).reversed())
+        IntStream.range(0, standings.size())
+            .mapToObj(
+                index ->
+                    new TeamRankDto.TeamInfo(
+                        standings.get(index).tag(),
+                        memberNames.getOrDefault(standings.get(index).studyGroupId(), List.of()),
+                        standings.get(index).reportCount(),
+                        standings.get(index).totalMinutes(),
+                        thumbnails.get(index)))
             .toList();
     return new TeamRankDto(teams);
   }
 
+  /**
+   * 그룹의 보고서 수와 누적 시간을 보고서 원천 데이터로 다시 계산한다.
+   *
+   * @return 다시 계산한 그룹 수
+   */
+  public int repairReportCounters() {
+    return studyGroupRepository.recountReportActivity();
+  }
+
+  /**
+   * 그룹의 보고서 수와 누적 시간, 그룹 순위 썸네일을 보고서 원천 데이터로 다시 만든다.
+   *
+   * <p>썸네일은 그룹별로 덮어쓰므로 다시 만드는 동안 쓰인 보고서의 썸네일을 지우지 않는다.
+   *
+   * @return 다시 만든 썸네일 수
+   */
+  public int rebuildLeaderboard() {
+    repairReportCounters();
+
+    // 학기마다 썸네일 조회 한 번으로 계산한다.
+    List<TeamLeaderboard> leaderboards = new ArrayList<>();
+    for (AcademicTerm academicTerm : academicTermRepository.findAllByYearDescAndSemesterDesc()) {
+      studyReportRepository
+          .findLatestThumbnailsByAcademicTerm(academicTerm)
+          .forEach(
+              thumbnail ->
+                  leaderboards.add(
+                      TeamLeaderboard.of(
+                          thumbnail.studyGroupId(), thumbnail.studyReportId(), thumbnail.path())));
+    }
+
+    teamLeaderboardRepository.upsertAll(leaderboards);
+    return leaderboards.size();
+  }
+
+  /**
+   * 현재 학기에 썸네일이 빠진 그룹이 있으면 보고서 수와 누적 시간, 썸네일을 보고서 원천 데이터로 채운다.
+   *
+   * <p>순위 집계가 생기기 전부터 있던 데이터를 한 번 채우기 위한 것이다. 현재 학기 행을 잠근 채 확인하므로 여러 인스턴스가 함께 떠도 한
+   * 인스턴스만 채우고, 나머지는 잠금이 풀린 뒤 채워진 것을 보고 건너뛴다.
+   *
+   * @return 다시 만든 썸네일 수. 채울 필요가 없으면 0
+   */
+  public int backfillLeaderboard() {
+    Optional<AcademicTerm> currentTerm = academicTermRepository.findCurrentSemesterForUpdate();
+    if (currentTerm.isEmpty()) {
+      return 0;
+    }
+    int groupsWithReports =
+        studyReportRepository.findLatestThumbnailsByAcademicTerm(currentTerm.get()).size();
+    if (teamLeaderboardRepository.countByAcademicTerm(currentTerm.get()) >= groupsWithReports) {
+      return 0;
+    }
+    return rebuildLeaderboard();
+  }
 }
@@ -4,14 +4,20 @@ import edu.handong.csee.histudy.domain.*;
 import edu.handong.csee.histudy.dto.ApplyFormDto;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.exception.*;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.repository.*;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
 import edu.handong.csee.histudy.service.command.LegacyStudyApplicationCommand;
 import edu.handong.csee.histudy.service.command.SignUpCommand;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,17 +26,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class UserService {
 
+  static final int MAX_LISTING_PAGE_SIZE = 500;
+
   private final UserRepository userRepository;
   private final CourseRepository courseRepository;
   private final StudyGroupRepository studyGroupRepository;
   private final AcademicTermRepository academicTermRepository;
   private final StudyApplicantRepository studyApplicantRepository;
-
-  public List<User> search(Optional<String> keyword) {
-    if (keyword.isEmpty() || keyword.get().isBlank()) {
-      return userRepository.findAll(Sort.by(Sort.Direction.ASC, "sid"));
-    }
-    return userRepository.findUserByNameOrSidOrEmail(keyword.get());
+  private final ActivityRollupRepository activityRollupRepository;
+  private final UserListingRepository userListingRepository;
+  private final StudyPartnerRequestRepository studyPartnerRequestRepository;
+
+  /**
+   * 같이 스터디할 사용자를 검색 색인에서 찾는다. 관리자와 요청한 사용자는 결과에서 뺀다.
+   *
+   * @param keyword 이름, 학번, 이메일의 일부 또는 이름의 초성. 비어 있으면 모든 사용자를 학번순으로 찾는다.
+   * @param requesterEmail 요청한 사용자의 이메일
+   * @param page 0부터 시작하는 페이지 번호
+   * @param size 페이지 크기
+   */
+  public List<UserSearchEntry> search(
+      Optional<String> keyword, String requesterEmail, int page, int size) {
+    long offset = (long) Math.max(page, 0) * Math.max(size, 0);
+    return userRepository.searchPartners(
+        keyword.orElse(""), requesterEmail, (int) Math.min(offset, Integer.MAX_VALUE), size);
   }
 
   public ApplyFormDto apply(LegacyStudyApplicationCommand command, String email) {
@@ -41,28 +60,15 @@ public class UserService {
     removeFormHistoryIfExists(user, currentTerm);
 
     List<User> partners =
-        command.friendStudentIds().stream()
-            .map(sid -> userRepository.findUserBySid(sid).orElseThrow(UserNotFoundException::new))
-            .toList();
-
-    List<Course> courses =
-        command.courseIds().stream()
-            .map(id -> courseRepository.findById(id).orElseThrow(CourseNotFoundException::new))
-            .toList();
+        inRequestedOrder(
+            command.friendStudentIds(),
+            userRepository.findAllBySidIn(command.friendStudentIds()),
+            User::getSid,
+            UserNotFoundException::new);
+    List<Course> courses = findCoursesInRequestedOrder(command.courseIds());
 
     StudyApplicant applicant = StudyApplicant.of(currentTerm, user, partners, courses);
-
-    partners.forEach(
-        partner ->
-            studyApplicantRepository
-                .findByUserAndTerm(partner, currentTerm)
-                .ifPresent(
-                    partnerApplication -> {
-                      partnerApplication.changeStatusIfReceivedBy(
-                          user, StudyPartnerRequest::accept);
-
-                      applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
-                    }));
+    acceptMutualRequests(applicant, user, partners, currentTerm);
     studyApplicantRepository.save(applicant);
     return new ApplyFormDto(applicant);
   }
@@ -75,31 +81,44 @@ public class UserService {
     removeFormHistoryIfExists(user, currentTerm);
 
     List<User> partners =
-        friendsIds.stream()
-            .map(id -> userRepository.findById(id).orElseThrow(UserNotFoundException::new))
-            .toList();
-
-    List<Course> courses =
-        courseIds.stream()
-            .map(id -> courseRepository.findById(id).orElseThrow(CourseNotFoundException::new))
-            .toList();
+        inRequestedOrder(
+            friendsIds,
+            userRepository.findAllById(friendsIds),
+            User::getUserId,
+            UserNotFoundException::new);
+    List<Course> courses = findCoursesInRequestedOrder(courseIds);
 
     StudyApplicant applicant = StudyApplicant.of(currentTerm, user, partners, courses);
-
-    partners.forEach(
-        partner ->
-            studyApplicantRepository
-                .findByUserAndTerm(partner, currentTerm)
-                .ifPresent(
-                    partnerApplication -> {
-                      partnerApplication.changeStatusIfReceivedBy(
-                          user, StudyPartnerRequest::accept);
-
-                      applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
-                    }));
+    acceptMutualRequests(applicant, user, partners, currentTerm);
     return studyApplicantRepository.save(applicant);
   }
 
+  private List<Course> findCoursesInRequestedOrder(List<Long> courseIds) {
+    return inRequestedOrder(
+        courseIds,
+        courseRepository.findAllById(courseIds),
+        Course::getCourseId,
+        CourseNotFoundException::new);
+  }
+
+  /** 친구들이 현재 학기에 나에게 보낸 요청을 받는 사람 색인으로 찾아, 서로 요청한 사이면 양쪽 요청을 수락한다. 친구들의 신청서 전체는 읽지 않는다. */
+  private void acceptMutualRequests(
+      StudyApplicant applicant, User user, List<User> partners, AcademicTerm currentTerm) {
+    if (partners.isEmpty()) {
+      return;
+    }
+    Set<Long> partnerIds = partners.stream().map(User::getUserId).collect(Collectors.toSet());
+    studyPartnerRequestRepository.findAllReceivedBy(user, currentTerm).stream()
+        .filter(request -> partnerIds.contains(request.getSender().getUser().getUserId()))
+        .forEach(
+            request -> {
+              request.accept();
+
+              applicant.changeStatusIfReceivedBy(
+                  request.getSender().getUser(), StudyPartnerRequest::accept);
+            });
+  }
+
   private void removeFormHistoryIfExists(User user, AcademicTerm currentTerm) {
     studyApplicantRepository
         .findByUserAndTerm(user, currentTerm)
@@ -110,10 +129,10 @@ public class UserService {
               }
               List<User> receivers = applicant.getRequestedUsers();
 
-              for (User receiver : receivers) {
+              if (!receivers.isEmpty()) {
                 studyApplicantRepository
-                    .findByUserAndTerm(receiver, currentTerm)
-                    .ifPresent(
+                    .findAllByUsersAndTerm(receivers, currentTerm)
+                    .forEach(
                         partnerApplication ->
                             partnerApplication.changeStatusIfReceivedBy(
                                 user, StudyPartnerRequest::unfriend));
@@ -122,22 +141,36 @@ public class UserService {
             });
   }
 
-  public void signUp(SignUpCommand command) {
-    userRepository
-        .findUserBySub(command.sub())
-        .ifPresentOrElse(
-            __ -> {
-              throw new UserAlreadyExistsException();
-            },
-            () ->
-                userRepository.save(
-                    User.builder()
-                        .sid(command.sid())
-                        .email(command.email())
-                        .name(command.name())
-                        .sub(command.sub())
-                        .role(Role.USER)
-                        .build()));
+  /** 한 번에 조회한 엔티티를 요청한 키 순서대로 늘어놓는다. 없는 키가 있으면 {@code notFound} 예외를 던진다. */
+  private static <K, V> List<V> inRequestedOrder(
+      List<K> keys,
+      List<V> found,
+      Function<V, K> keyOf,
+      Supplier<? extends RuntimeException> notFound) {
+    Map<K, V> byKey =
+        found.stream()
+            .collect(Collectors.toMap(keyOf, Function.identity(), (first, second) -> first));
+    return keys.stream()
+        .map(key -> Optional.ofNullable(byKey.get(key)).orElseThrow(notFound))
+        .toList();
+  }
+
+  public User signUp(SignUpCommand command) {
+    if (userRepository.findUserBySub(command.sub()).isPresent()) {
+      throw new UserAlreadyExistsException();
+    }
+    User user =
+        userRepository.save(
+            User.builder()
+                .sid(command.sid())
+                .email(command.email())
+                .name(command.name())
+                .sub(command.sub())
+                .role(Role.USER)
+                .build());
+    activityRollupRepository.addStudyMembers(1);
+    userRepository.indexForSearch(user);
+    return user;
   }
 
   public User getUser(Optional<String> subOr) {
@@ -145,6 +178,38 @@ public class UserService {
     return userRepository.findUserBySub(sub).orElseThrow(UserNotFoundException::new);
   }
 
+  /**
+   * 토큰에 넣을 사용자 정보를 만든다.
+   *
+   * <p>역할과 스터디 그룹은 현재 학기 신청서로 정한다. 관리자는 현재 학기가 없어도 발급한다.
+   */
+  public TokenIdentity getTokenIdentity(User user) {
+    Optional<AcademicTerm> currentTermOr = academicTermRepository.findCurrentSemester();
+    if (currentTermOr.isEmpty() && user.getRole() != Role.ADMIN) {
+      throw new NoCurrentTermFoundException();
+    }
+    Optional<StudyGroup> studyGroupOr =
+        currentTermOr
+            .flatMap(term -> studyApplicantRepository.findByUserAndTerm(user, term))
+            .map(StudyApplicant::getStudyGroup);
+    Role role =
+        user.getRole() == Role.ADMIN
+            ? Role.ADMIN
+            : studyGroupOr.map(__ -> Role.MEMBER).orElse(Role.USER);
+
+    return TokenIdentity.of(
+        user,
+        role,
+        currentTermOr.map(AcademicTerm::getAcademicTermId).orElse(null),
+        studyGroupOr.map(StudyGroup::getStudyGroupId).orElse(null));
+  }
+
+  /** 토큰 재발급 때 토큰의 이메일로 사용자 정보를 다시 만든다. */
+  public TokenIdentity getTokenIdentity(String email) {
+    User user = userRepository.findUserByEmail(email).orElseThrow(UserNotFoundException::new);
+    return getTokenIdentity(user);
+  }
+
   public List<UserDto.UserInfo> getAppliedUsers() {
     AcademicTerm currentTerm =
         academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
@@ -173,23 +238,12 @@ public class UserService {
     AcademicTerm currentTerm =
         academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
 
-    List<User> allUsers = userRepository.findAll(Sort.by(Sort.Direction.ASC, "sid"));
-    List<User> assignedApplicantForms =
-        studyApplicantRepository.findAssignedApplicants(currentTerm).stream()
-            .map(StudyApplicant::getUser)
-            .toList();
-
-    return allUsers.stream()
-        .filter(user -> !assignedApplicantForms.contains(user))
+    return studyApplicantRepository.findUnassignedUsers(currentTerm).stream()
         .map(
-            user -> {
-              Optional<StudyApplicant> formOr =
-                  studyApplicantRepository.findByUserAndTerm(user, currentTerm);
-
-              return formOr
-                  .map(form -> new UserDto.UserInfo(user, form))
-                  .orElse(new UserDto.UserInfo(user));
-            })
+            unassigned ->
+                unassigned.applicant() == null
+                    ? new UserDto.UserInfo(unassigned.user())
+                    : new UserDto.UserInfo(unassigned.user(), unassigned.applicant()))
         .toList();
   }
 
@@ -202,12 +256,18 @@ public class UserService {
 
   public void editUser(UserDto.UserEdit form) {
     User user = userRepository.findById(form.getId()).orElseThrow(UserNotFoundException::new);
+    // 태그로 그룹을 찾거나 만들므로 매칭 저장과 같은 학기 행 잠금으로 겹치지 않게 한다.
     AcademicTerm currentTerm =
-        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+        academicTermRepository
+            .findCurrentSemesterForUpdate()
+            .orElseThrow(NoCurrentTermFoundException::new);
     Optional<StudyApplicant> applicantOr =
         studyApplicantRepository.findByUserAndTerm(user, currentTerm);
+    boolean wasAssigned = applicantOr.map(StudyApplicant::hasStudyGroup).orElse(false);
+    Optional<StudyGroup> previousGroupOr = applicantOr.map(StudyApplicant::getStudyGroup);
 
     user.edit(form.getSid(), form.getName());
+    userRepository.indexForSearch(user);
 
     Optional.ofNullable(form.getTeam())
         .ifPresentOrElse(
@@ -220,20 +280,29 @@ public class UserService {
                       () -> {
                         StudyGroup newGroup = StudyGroup.of(tag, currentTerm, List.of(applicant));
                         studyGroupRepository.save(newGroup);
+                        activityRollupRepository.addGroupActivity(currentTerm, 1, 0);
                       });
             },
             () -> applicantOr.ifPresent(StudyApplicant::leaveStudyGroup));
 
-    studyGroupRepository
-        .findAllEmptyByAcademicTerm(currentTerm)
-        .forEach(
-            group ->
-                /*
-                 TODO: Need to check there are associated reports
-                 Currently deleting a group with no members but with reports
-                 will cause FK constraint violation
-                */
-                studyGroupRepository.deleteById(group.getStudyGroupId()));
+    List<StudyGroup> emptyGroups = studyGroupRepository.findAllEmptyByAcademicTerm(currentTerm);
+    emptyGroups.forEach(
+        group ->
+            /*
+             TODO: Need to check there are associated reports
+             Currently deleting a group with no members but with reports
+             will cause FK constraint violation
+            */
+            studyGroupRepository.deleteById(group.getStudyGroupId()));
+
+    boolean isAssigned = applicantOr.map(StudyApplicant::hasStudyGroup).orElse(false);
+    long memberDelta = Boolean.compare(isAssigned, wasAssigned);
+    if (memberDelta != 0 || !emptyGroups.isEmpty()) {
+      activityRollupRepository.addGroupActivity(currentTerm, -emptyGroups.size(), memberDelta);
+    }
+    if (!previousGroupOr.equals(applicantOr.map(StudyApplicant::getStudyGroup))) {
+      userRepository.incrementTokenVersion(user.getUserId());
+    }
   }
 
   public List<UserDto.UserInfo> getAppliedWithoutGroup() {
@@ -243,4 +312,76 @@ public class UserService {
         studyApplicantRepository.findUnassignedApplicants(currentTerm);
     return getInfoFromUser(unassignedApplicants);
   }
+
+  /**
+   * 그룹 배정 여부와 관계 없이 스터디를 신청한 사용자를 (학번, 사용자 ID) 순서로 한 페이지씩 조회한다.
+   *
+   * @param cursor 이전 페이지 응답의 {@code nextCursor}. 비어 있으면 첫 페이지를 조회한다.
+   * @param size 페이지 크기. 1보다 작으면 1로, {@value #MAX_LISTING_PAGE_SIZE}보다 크면 그 값으로 맞춘다.
+   */
+  @Transactional(readOnly = true)
+  public UserDto.UserInfoPage getAppliedUsers(Optional<String> cursor, int size) {
+    return getUserPage(UserListingScope.APPLIED, cursor, size);
+  }
+
+  /** 스터디 신청 여부와 관계 없이 그룹이 배정되지 않은 사용자를 한 페이지씩 조회한다. */
+  @Transactional(readOnly = true)
+  public UserDto.UserInfoPage getUnmatchedUsers(Optional<String> cursor, int size) {
+    return getUserPage(UserListingScope.WITHOUT_GROUP, cursor, size);
+  }
+
+  /** 스터디를 신청했으나 그룹이 배정되지 않은 사용자를 한 페이지씩 조회한다. */
+  @Transactional(readOnly = true)
+  public UserDto.UserInfoPage getAppliedWithoutGroup(Optional<String> cursor, int size) {
+    return getUserPage(UserListingScope.APPLIED_WITHOUT_GROUP, cursor, size);
+  }
+
+  /**
+   * 스터디를 신청한 사용자 전체를 (학번, 사용자 ID) 순서로 한 명씩 {@code consumer}에 넘긴다. 목록을 메모리에 모으지 않는다.
+   */
+  @Transactional(readOnly = true)
+  public void streamAppliedUsers(Consumer<UserDto.UserInfo> consumer) {
+    streamUsers(UserListingScope.APPLIED, consumer);
+  }
+
+  @Transactional(readOnly = true)
+  public void streamUnmatchedUsers(Consumer<UserDto.UserInfo> consumer) {
+    streamUsers(UserListingScope.WITHOUT_GROUP, consumer);
+  }
+
+  @Transactional(readOnly = true)
+  public void streamAppliedWithoutGroup(Consumer<UserDto.UserInfo> consumer) {
+    streamUsers(UserListingScope.APPLIED_WITHOUT_GROUP, consumer);
+  }
+
+  private UserDto.UserInfoPage getUserPage(
+      UserListingScope scope, Optional<String> cursor, int size) {
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    int pageSize = Math.min(Math.max(size, 1), MAX_LISTING_PAGE_SIZE);
+    Optional<UserListingCursor> after = cursor.map(UserService::decodeCursor);
+
+    // 한 명을 더 읽어 다음 페이지가 있는지 확인한다.
+    List<UserListing> listings =
+        userListingRepository.findPage(scope, currentTerm, after, pageSize + 1);
+    boolean hasNext = listings.size() > pageSize;
+    List<UserListing> page = hasNext ? listings.subList(0, pageSize) : listings;
+    String nextCursor = hasNext ? UserListingCursor.of(page.get(page.size() - 1)).encode() : null;
+    return new UserDto.UserInfoPage(page.stream().map(UserDto.UserInfo::new).toList(), nextCursor);
+  }
+
+  private void streamUsers(UserListingScope scope, Consumer<UserDto.UserInfo> consumer) {
+    AcademicTerm currentTerm =
+        academicTermRepository.findCurrentSemester().orElseThrow(NoCurrentTermFoundException::new);
+    userListingRepository.stream(
+        scope, currentTerm, listing -> consumer.accept(new UserDto.UserInfo(listing)));
+  }
+
+  private static UserListingCursor decodeCursor(String cursor) {
+    try {
+      return UserListingCursor.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException();
+    }
+  }
 }
@@ -0,0 +1,154 @@
+package edu.handong.csee.histudy.service;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import edu.handong.csee.histudy.domain.WeeklyActivityDelta;
+import edu.handong.csee.histudy.domain.WeeklyContribution;
+import edu.handong.csee.histudy.dto.WeeklyActivityDto;
+import edu.handong.csee.histudy.exception.AcademicTermNotFoundException;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import edu.handong.csee.histudy.repository.StudyReportRepository;
+import edu.handong.csee.histudy.repository.WeeklyActivityRepository;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class WeeklyActivityService {
+
+  private final AcademicTermRepository academicTermRepository;
+  private final StudyReportRepository studyReportRepository;
+  private final WeeklyActivityRepository weeklyActivityRepository;
+
+  /**
+   * 주간 활동 집계를 읽는다. 보고서는 다시 세지 않는다.
+   *
+   * <p>학기를 주면 그 학기의 모든 주를, 학기 없이 기간을 주면 모든 학기에서 그 기간의 주를, 둘 다 없으면 현재 학기의 모든 주를 돌려준다.
+   *
+   * @param courseId 과목 id. {@code null}이면 과목과 관계없는 합계
+   * @param from 기간의 시작일. 없으면 {@code to}의 52주 전
+   * @param to 기간의 마지막일. 없으면 {@code from}의 52주 후
+   */
+  public WeeklyActivityDto getWeeklyActivity(
+      Long academicTermId, Long courseId, LocalDate from, LocalDate to) {
+    long bucketCourseId = courseId == null ? WeeklyActivity.ALL_COURSES : courseId;
+    List<WeeklyActivity> activities;
+    if (academicTermId == null && (from != null || to != null)) {
+      LocalDate start = from != null ? from : to.minusWeeks(52);
+      LocalDate end = to != null ? to : from.plusWeeks(52);
+      activities =
+          weeklyActivityRepository.findAllByCourseIdAndWeekStartBetween(
+              bucketCourseId, WeeklyContribution.weekStartOf(start.atStartOfDay()), end);
+    } else {
+      AcademicTerm academicTerm =
+          academicTermId == null
+              ? academicTermRepository
+                  .findCurrentSemester()
+                  .orElseThrow(NoCurrentTermFoundException::new)
+              : academicTermRepository
+                  .findById(academicTermId)
+                  .orElseThrow(AcademicTermNotFoundException::new);
+      activities =
+          weeklyActivityRepository.findAllByAcademicTermAndCourseId(academicTerm, bucketCourseId);
+    }
+    return toDto(courseId, activities);
+  }
+
+  /**
+   * 모든 학기의 주간 활동 집계를 보고서 원천 데이터로 다시 만든다.
+   *
+   * @return 다시 만든 집계 칸 수
+   */
+  @Transactional
+  public int rebuildWeeklyActivity() {
+    int rebuilt = 0;
+    for (AcademicTerm academicTerm : academicTermRepository.findAllByYearDescAndSemesterDesc()) {
+      // 학기마다 과목을 함께 읽는 조회 한 번으로 그룹별 주간 기여를 계산한다.
+      Map<Long, Map<LocalDate, List<StudyReport>>> reportsByGroupAndWeek =
+          studyReportRepository.findAllWithCoursesByAcademicTerm(academicTerm).stream()
+              .collect(
+                  Collectors.groupingBy(
+                      report -> report.getStudyGroup().getStudyGroupId(),
+                      Collectors.groupingBy(
+                          report -> WeeklyContribution.weekStartOf(report.getCreatedDate()))));
+
+      Map<String, WeeklyActivityDelta> totals = new LinkedHashMap<>();
+      reportsByGroupAndWeek.values().stream()
+          .flatMap(byWeek -> byWeek.entrySet().stream())
+          .flatMap(
+              entry ->
+                  WeeklyContribution.of(entry.getKey(), entry.getValue())
+                      .minus(WeeklyContribution.empty(entry.getKey()))
+                      .stream())
+          .forEach(
+              delta ->
+                  totals.merge(
+                      delta.weekStart() + ":" + delta.courseId(),
+                      delta,
+                      WeeklyActivityDelta::plus));
+
+      List<WeeklyActivity> activities = new ArrayList<>();
+      totals.values().forEach(total -> activities.add(WeeklyActivity.of(academicTerm, total)));
+      weeklyActivityRepository.replaceAllByAcademicTerm(academicTerm, activities);
+      rebuilt += activities.size();
+    }
+    return rebuilt;
+  }
+
+  /**
+   * 현재 학기에 보고서가 있는데 주간 활동 집계가 없으면 모든 학기의 주간 활동 집계를 보고서 원천 데이터로 만든다.
+   *
+   * <p>집계가 생기기 전부터 있던 보고서를 서버가 뜰 때 한 번 채우기 위한 것이다. 현재 학기 행을 잠근 채 확인하므로 한 인스턴스만 채운다.
+   *
+   * @return 만든 집계 칸 수. 채울 필요가 없으면 0
+   */
+  @Transactional
+  public int backfillWeeklyActivity() {
+    Optional<AcademicTerm> currentTerm = academicTermRepository.findCurrentSemesterForUpdate();
+    if (currentTerm.isEmpty()
+        || studyReportRepository.countByStudyGroupAcademicTerm(currentTerm.get()) == 0
+        || weeklyActivityRepository.existsByAcademicTerm(currentTerm.get())) {
+      return 0;
+    }
+    return rebuildWeeklyActivity();
+  }
+
+  private WeeklyActivityDto toDto(Long courseId, List<WeeklyActivity> activities) {
+    // 학기 경계에서 같은 주가 두 학기에 걸치면 한 주로 합친다.
+    Map<LocalDate, long[]> weeks = new TreeMap<>();
+    for (WeeklyActivity activity : activities) {
+      long[] counts = weeks.computeIfAbsent(activity.getWeekStart(), key -> new long[3]);
+      counts[0] += activity.getTotalMinutes();
+      counts[1] += activity.getReports();
+      counts[2] += activity.getActiveGroups();
+    }
+    return WeeklyActivityDto.builder()
+        .courseId(courseId)
+        .weeks(
+            weeks.entrySet().stream()
+                .map(
+                    entry ->
+                        WeeklyActivityDto.WeekInfo.builder()
+                            .isoYear(entry.getKey().get(IsoFields.WEEK_BASED_YEAR))
+                            .week(entry.getKey().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))
+                            .weekStart(entry.getKey())
+                            .studyMinutes(entry.getValue()[0])
+                            .reports(entry.getValue()[1])
+                            .activeGroups(entry.getValue()[2])
+                            .build())
+                .toList())
+        .build();
+  }
+}
@@ -25,11 +25,12 @@ public class ImagePathMapper {
   private static final String FIREBASE_STORAGE_PREFIX = "https://firebasestorage.googleapis.com";
 
   public Map<Long, String> parseImageToMapWithFullPath(List<ReportImage> reportImages) {
+    String baseUrl = baseUrl();
     return reportImages.stream()
         .filter(img -> img.getPath() != null)
         .collect(
             Collectors.toUnmodifiableMap(
-                ReportImage::getReportImageId, img -> getFullPath(img.getPath())));
+                ReportImage::getReportImageId, img -> toFullPath(img.getPath(), baseUrl)));
   }
 
   public List<String> extractFilename(List<String> pathname) {
@@ -44,6 +45,20 @@ public class ImagePathMapper {
   }
 
   public String getFullPath(String pathname) {
+    return toFullPath(pathname, baseUrl());
+  }
+
+  /**
+   * 여러 저장 경로를 한 번에 전체 경로로 바꾼다.
+   *
+   * <p>공개 기준 URL은 한 번만 만들며, 결과는 입력 순서를 유지하고 {@code null} 경로는 {@code null}로 둔다.
+   */
+  public List<String> getFullPaths(List<String> pathnames) {
+    String baseUrl = baseUrl();
+    return pathnames.stream().map(pathname -> toFullPath(pathname, baseUrl)).toList();
+  }
+
+  private String toFullPath(String pathname, String baseUrl) {
     if (pathname == null) {
       return null;
     }
@@ -52,8 +67,12 @@ public class ImagePathMapper {
       return pathname;
     }
 
-    String normalized = normalizeLocalPath(pathname);
-    return origin + ensureTrailingSlash(imageBasePath) + normalized;
+    String normalized = normalizeLocalPath(pathname, baseUrl);
+    return baseUrl + normalized;
+  }
+
+  private String baseUrl() {
+    return origin + ensureTrailingSlash(imageBasePath);
   }
 
   private String extractFilename(String pathname) {
@@ -63,14 +82,13 @@ public class ImagePathMapper {
     if (pathname.startsWith(FIREBASE_STORAGE_PREFIX)) {
       return pathname;
     }
-    return normalizeLocalPath(pathname);
+    return normalizeLocalPath(pathname, baseUrl());
   }
 
-  private String normalizeLocalPath(String pathname) {
+  private String normalizeLocalPath(String pathname, String sameOriginBase) {
     String path = pathname.trim();
 
     if (path.startsWith("http://") || path.startsWith("https://")) {
-      String sameOriginBase = origin + ensureTrailingSlash(imageBasePath);
       if (path.startsWith(sameOriginBase)) {
         path = path.substring(sameOriginBase.length());
       } else {
@@ -10,20 +10,34 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.handong.csee.histudy.controller.form.AcademicTermForm;
+import edu.handong.csee.histudy.controller.form.MatchingSimulationForm;
+import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
 import edu.handong.csee.histudy.dto.AcademicTermDto;
 import edu.handong.csee.histudy.dto.TeamDto;
 import edu.handong.csee.histudy.dto.TeamReportDto;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.interceptor.AuthenticationInterceptor;
+import edu.handong.csee.histudy.exception.MatchingJobNotFoundException;
+import edu.handong.csee.histudy.exception.MatchingPlanExpiredException;
 import edu.handong.csee.histudy.matching.application.MatchingApplicationService;
+import edu.handong.csee.histudy.matching.application.MatchingJob;
+import edu.handong.csee.histudy.matching.application.MatchingJobService;
+import edu.handong.csee.histudy.matching.application.MatchingPreview;
+import edu.handong.csee.histudy.matching.application.MatchingSimulation;
+import edu.handong.csee.histudy.matching.application.MatchingSimulationService;
+import edu.handong.csee.histudy.matching.domain.PlanScore;
 import edu.handong.csee.histudy.service.AcademicTermService;
 import edu.handong.csee.histudy.service.DiscordService;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.TeamService;
 import edu.handong.csee.histudy.service.UserService;
 import io.jsonwebtoken.Claims;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +45,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -47,6 +62,10 @@ class AdminControllerTest {
 
   @MockitoBean private MatchingApplicationService matchingApplicationService;
 
+  @MockitoBean private MatchingJobService matchingJobService;
+
+  @MockitoBean private MatchingSimulationService matchingSimulationService;
+
   @MockitoBean private UserService userService;
 
   @MockitoBean private AcademicTermService academicTermService;
@@ -65,7 +84,10 @@ class AdminControllerTest {
                     teamService,
                     userService,
                     academicTermService,
-                    matchingApplicationService))
+                    matchingApplicationService,
+                    matchingJobService,
+                    matchingSimulationService,
+                    objectMapper))
             .setControllerAdvice(new ExceptionController(discordService))
             .addInterceptors(authenticationInterceptor)
             .build();
@@ -136,6 +158,179 @@ class AdminControllerTest {
     verifyNoInteractions(matchingApplicationService);
   }
 
+  @Test
+  void 관리자가_그룹매칭미리보기시_계획아이디를_반환한다() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingApplicationService.preview())
+        .thenReturn(new MatchingPreview("plan-1", List.of(), List.of()));
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/preview").requestAttr("claims", claims))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.planId").value("plan-1"))
+        .andExpect(jsonPath("$.matchedTeams").isEmpty());
+  }
+
+  @Test
+  void 관리자가_미리본_매칭을_확정시_성공() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingApplicationService.commit("plan-1")).thenReturn(3);
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/preview/plan-1/commit").requestAttr("claims", claims))
+        .andExpect(status().isCreated());
+
+    verify(matchingApplicationService).commit("plan-1");
+  }
+
+  @Test
+  void 신청정보가_바뀐뒤_매칭을_확정시_409() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingApplicationService.commit("plan-1")).thenThrow(new MatchingPlanExpiredException());
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/preview/plan-1/commit").requestAttr("claims", claims))
+        .andExpect(status().isConflict());
+  }
+
+  @Test
+  void 관리자가_늦은신청자매칭시_성공() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingApplicationService.matchLateApplicants()).thenReturn(2);
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/late-applicants").requestAttr("claims", claims))
+        .andExpect(status().isCreated());
+
+    verify(matchingApplicationService).matchLateApplicants();
+  }
+
+  @Test
+  void 관리자가_그룹순위집계_재생성시_재생성한_그룹수를_반환한다() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(teamService.rebuildLeaderboard()).thenReturn(3);
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-leaderboard/rebuild").requestAttr("claims", claims))
+        .andExpect(status().isOk())
+        .andExpect(content().string("3"));
+  }
+
+  @Test
+  void 관리자가_매칭전략_시뮬레이션시_전략별_평가를_반환한다() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingSimulationService.simulate(anyList()))
+        .thenReturn(
+            List.of(
+                new MatchingSimulation(
+                    "friends-first", new PlanScore(8, 8, 2, 1.0, 1.0, 1.0), 3)));
+
+    // When Then
+    mockMvc
+        .perform(
+            post("/api/admin/team-match/simulations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"strategies\":[{\"minCourseGroupSize\":4,\"maxCourseGroupSize\":4}]}")
+                .requestAttr("claims", claims))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].strategy").value("friends-first"))
+        .andExpect(jsonPath("$[0].matchedRatio").value(1.0))
+        .andExpect(jsonPath("$[0].groupSizeVariance").value(1.0));
+
+    verify(matchingSimulationService).simulate(argThat(strategies -> strategies.size() == 1));
+  }
+
+  @Test
+  void 잘못된_매칭전략_설정으로_시뮬레이션시_400() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+
+    // When Then
+    mockMvc
+        .perform(
+            post("/api/admin/team-match/simulations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"strategies\":[{\"minCourseGroupSize\":5,\"maxCourseGroupSize\":3}]}")
+                .requestAttr("claims", claims))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(matchingSimulationService);
+  }
+
+  @Test
+  void 매칭전략을_너무_많이_요청해_시뮬레이션시_400() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    String strategies =
+        String.join(",", Collections.nCopies(MatchingSimulationForm.MAX_STRATEGIES + 1, "{}"));
+
+    // When Then
+    mockMvc
+        .perform(
+            post("/api/admin/team-match/simulations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"strategies\":[" + strategies + "]}")
+                .requestAttr("claims", claims))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(matchingSimulationService);
+  }
+
+  @Test
+  void 관리자가_그룹매칭작업제출시_작업상태를_반환한다() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    MatchingJob job = mock(MatchingJob.class);
+    when(job.getJobId()).thenReturn("job-1");
+    when(job.getStatus()).thenReturn(MatchingJob.Status.QUEUED);
+    when(matchingJobService.submit()).thenReturn(job);
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/jobs").requestAttr("claims", claims))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.jobId").value("job-1"))
+        .andExpect(jsonPath("$.status").value("QUEUED"));
+
+    verify(matchingJobService).submit();
+  }
+
+  @Test
+  void 일반유저가_그룹매칭작업제출시_실패() throws Exception {
+    // Given
+    Claims claims = userClaims("user@test.com");
+
+    // When Then
+    mockMvc
+        .perform(post("/api/admin/team-match/jobs").requestAttr("claims", claims))
+        .andExpect(status().isForbidden());
+
+    verifyNoInteractions(matchingJobService);
+  }
+
+  @Test
+  void 존재하지_않는_매칭작업조회시_404() throws Exception {
+    // Given
+    Claims claims = adminClaims("admin@test.com");
+    when(matchingJobService.find("unknown")).thenThrow(new MatchingJobNotFoundException());
+
+    // When Then
+    mockMvc
+        .perform(get("/api/admin/team-match/jobs/unknown").requestAttr("claims", claims))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   void 관리자가_미매칭유저조회시_성공() throws Exception {
     Claims claims = adminClaims("admin@test.com");
@@ -189,6 +384,57 @@ class AdminControllerTest {
         .andExpect(content().contentType("application/json"));
   }
 
+  @Test
+  void 관리자가_신청유저목록을_페이지로조회시_다음커서를_반환한다() throws Exception {
+    Claims claims = adminClaims("admin@test.com");
+
+    when(userService.getAppliedUsers(Optional.empty(), 20))
+        .thenReturn(new UserDto.UserInfoPage(List.of(), "next"));
+
+    mockMvc
+        .perform(get("/api/admin/allUsers").requestAttr("claims", claims).param("size", "20"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextCursor").value("next"));
+  }
+
+  @Test
+  void 관리자가_미배정유저목록을_NDJSON으로조회시_한줄에_한명씩_내려준다() throws Exception {
+    Claims claims = adminClaims("admin@test.com");
+
+    UserDto.UserInfo first = new UserDto.UserInfo(createUser("22500101", "first@test.com"));
+    UserDto.UserInfo second = new UserDto.UserInfo(createUser("22500102", "second@test.com"));
+    doAnswer(
+            invocation -> {
+              Consumer<UserDto.UserInfo> consumer = invocation.getArgument(0);
+              consumer.accept(first);
+              consumer.accept(second);
+              return null;
+            })
+        .when(userService)
+        .streamAppliedWithoutGroup(any());
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/admin/users/unassigned")
+                    .requestAttr("claims", claims)
+                    .param("format", "ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(
+            content()
+                .string(
+                    objectMapper.writeValueAsString(first)
+                        + "\n"
+                        + objectMapper.writeValueAsString(second)
+                        + "\n"));
+  }
+
   @Test
   void 일반유저가_관리자API접근시_실패() throws Exception {
     Claims claims = userClaims("user@test.com");
@@ -325,4 +571,8 @@ class AdminControllerTest {
 
     verify(academicTermService, never()).createAcademicTerm(any(), any());
   }
+
+  private User createUser(String sid, String email) {
+    return User.builder().sub(sid).sid(sid).email(email).name("User").role(Role.USER).build();
+  }
 }
@@ -8,10 +8,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.handong.csee.histudy.controller.form.TokenForm;
 import edu.handong.csee.histudy.domain.Role;
-import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.User;
 import edu.handong.csee.histudy.jwt.GrantType;
 import edu.handong.csee.histudy.jwt.JwtPair;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.service.DiscordService;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.UserService;
@@ -48,8 +48,8 @@ class AuthControllerTest {
     JwtPair tokens = new JwtPair(List.of("access-token", "refresh-token"));
 
     when(userService.getUser(any(Optional.class))).thenReturn(user);
-    when(userService.getUserInfo(anyString())).thenReturn(Optional.empty());
-    when(jwtService.issueToken(anyString(), anyString(), any(Role.class))).thenReturn(tokens);
+    when(userService.getTokenIdentity(user)).thenReturn(identity(Role.USER));
+    when(jwtService.issueToken(any(TokenIdentity.class))).thenReturn(tokens);
 
     mockMvc
         .perform(get("/api/auth/login").param("sub", "user@test.com"))
@@ -70,8 +70,8 @@ class AuthControllerTest {
     JwtPair tokens = new JwtPair(List.of("access-token", "refresh-token"));
 
     when(userService.getUser(any(Optional.class))).thenReturn(user);
-    when(userService.getUserInfo(anyString())).thenReturn(Optional.empty());
-    when(jwtService.issueToken(anyString(), anyString(), any(Role.class))).thenReturn(tokens);
+    when(userService.getTokenIdentity(user)).thenReturn(identity(Role.USER));
+    when(jwtService.issueToken(any(TokenIdentity.class))).thenReturn(tokens);
 
     mockMvc
         .perform(get("/api/auth/login"))
@@ -88,7 +88,8 @@ class AuthControllerTest {
     when(claims.getSubject()).thenReturn("user@test.com");
 
     when(jwtService.validate(anyString())).thenReturn(claims);
-    when(jwtService.issueToken(any(Claims.class), any(GrantType.class)))
+    when(userService.getTokenIdentity("user@test.com")).thenReturn(identity(Role.MEMBER));
+    when(jwtService.issueToken(identity(Role.MEMBER), GrantType.ACCESS_TOKEN))
         .thenReturn("new-access-token");
 
     mockMvc
@@ -122,14 +123,11 @@ class AuthControllerTest {
     when(user.getName()).thenReturn("Test Member");
     when(user.getRole()).thenReturn(Role.USER);
 
-    StudyApplicant applicant = mock(StudyApplicant.class);
-    when(applicant.hasStudyGroup()).thenReturn(true);
-
     JwtPair tokens = new JwtPair(List.of("access-token", "refresh-token"));
 
     when(userService.getUser(any(Optional.class))).thenReturn(user);
-    when(userService.getUserInfo(anyString())).thenReturn(Optional.of(applicant));
-    when(jwtService.issueToken(anyString(), anyString(), any(Role.class))).thenReturn(tokens);
+    when(userService.getTokenIdentity(user)).thenReturn(identity(Role.MEMBER));
+    when(jwtService.issueToken(any(TokenIdentity.class))).thenReturn(tokens);
 
     mockMvc
         .perform(get("/api/auth/login").param("sub", "member@test.com"))
@@ -148,7 +146,8 @@ class AuthControllerTest {
     JwtPair tokens = new JwtPair(List.of("access-token", "refresh-token"));
 
     when(userService.getUser(any(Optional.class))).thenReturn(admin);
-    when(jwtService.issueToken(anyString(), anyString(), any(Role.class))).thenReturn(tokens);
+    when(userService.getTokenIdentity(admin)).thenReturn(identity(Role.ADMIN));
+    when(jwtService.issueToken(any(TokenIdentity.class))).thenReturn(tokens);
 
     mockMvc
         .perform(get("/api/auth/login").param("sub", "admin@test.com"))
@@ -156,4 +155,8 @@ class AuthControllerTest {
         .andExpect(content().contentType("application/json;charset=UTF-8"))
         .andExpect(jsonPath("$.role").value("ADMIN"));
   }
+
+  private TokenIdentity identity(Role role) {
+    return new TokenIdentity("user@test.com", "Test User", role, 1L, 1L, null, 0L);
+  }
 }
@@ -0,0 +1,128 @@
+package edu.handong.csee.histudy.controller;
+
+import static edu.handong.csee.histudy.support.AuthClaimsFactory.memberClaims;
+import static edu.handong.csee.histudy.support.AuthClaimsFactory.userClaims;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.handong.csee.histudy.controller.form.FriendshipForm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.dto.FriendshipDto;
+import edu.handong.csee.histudy.dto.FriendshipRequest;
+import edu.handong.csee.histudy.interceptor.AuthenticationInterceptor;
+import edu.handong.csee.histudy.service.DiscordService;
+import edu.handong.csee.histudy.service.FriendshipService;
+import edu.handong.csee.histudy.service.JwtService;
+import io.jsonwebtoken.Claims;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@WebMvcTest(FriendshipController.class)
+class FriendshipControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @MockitoBean private AuthenticationInterceptor authenticationInterceptor;
+
+  @MockitoBean private FriendshipService friendshipService;
+
+  @MockitoBean private JwtService jwtService;
+
+  @MockitoBean private DiscordService discordService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(authenticationInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new FriendshipController(friendshipService))
+            .setControllerAdvice(new ExceptionController(discordService))
+            .addInterceptors(authenticationInterceptor)
+            .build();
+  }
+
+  @Test
+  void 받은_친구요청을_조회하면_보낸_유저를_학번을_가려서_반환한다() throws Exception {
+    // Given
+    Claims claims = userClaims("receiver@test.com");
+    User sender = createUser(1L, "22500101", "Sender");
+    StudyApplicant application = StudyApplicant.of(null, sender, List.of(), List.of());
+    StudyPartnerRequest request =
+        StudyPartnerRequest.of(
+            application, createUser(2L, "22500102", "Receiver"), RequestStatus.PENDING);
+    when(friendshipService.getReceivedRequests("receiver@test.com"))
+        .thenReturn(new FriendshipDto(List.of(new FriendshipRequest.Received(request))));
+
+    // When Then
+    mockMvc
+        .perform(get("/api/users/me/friendships/received").requestAttr("claims", claims))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.requests[0].id").value(1))
+        .andExpect(jsonPath("$.requests[0].sid").value(sender.getSidWithMasking()))
+        .andExpect(jsonPath("$.requests[0].name").value("Sender"))
+        .andExpect(jsonPath("$.requests[0].status").value("PENDING"));
+  }
+
+  @Test
+  void 받은_친구요청을_수락하면_상대_ID와_인증이메일을_서비스에_전달한다() throws Exception {
+    // Given
+    Claims claims = userClaims("receiver@test.com");
+    FriendshipForm form = FriendshipForm.builder().senderIds(List.of(1L, 2L)).build();
+    when(friendshipService.acceptRequests(anyString(), anyCollection()))
+        .thenReturn(new FriendshipDto(List.of()));
+
+    // When
+    mockMvc
+        .perform(
+            post("/api/users/me/friendships/received/accept")
+                .requestAttr("claims", claims)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(form)))
+        .andExpect(status().isOk());
+
+    // Then
+    verify(friendshipService).acceptRequests("receiver@test.com", List.of(1L, 2L));
+  }
+
+  @Test
+  void 권한없는사용자가_보낸_친구요청을_조회하면_실패한다() throws Exception {
+    Claims claims = memberClaims("member@test.com");
+
+    mockMvc
+        .perform(get("/api/users/me/friendships/sent").requestAttr("claims", claims))
+        .andExpect(status().isForbidden());
+  }
+
+  private User createUser(Long userId, String sid, String name) {
+    User user =
+        User.builder()
+            .sub("sub-" + userId)
+            .sid(sid)
+            .email(name.toLowerCase() + "@test.com")
+            .name(name)
+            .role(Role.USER)
+            .build();
+    ReflectionTestUtils.setField(user, "userId", userId);
+    return user;
+  }
+}
@@ -8,12 +8,15 @@ import edu.handong.csee.histudy.dto.ActivityMetricsDto;
 import edu.handong.csee.histudy.dto.ActivityTerm;
 import edu.handong.csee.histudy.dto.BannerDto;
 import edu.handong.csee.histudy.dto.TeamRankDto;
+import edu.handong.csee.histudy.dto.WeeklyActivityDto;
 import edu.handong.csee.histudy.jwt.JwtProperties;
 import edu.handong.csee.histudy.service.ActivityMetricsService;
 import edu.handong.csee.histudy.service.BannerService;
 import edu.handong.csee.histudy.service.DiscordService;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.TeamService;
+import edu.handong.csee.histudy.service.WeeklyActivityService;
+import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +35,8 @@ class PublicControllerTest {
 
   @MockitoBean private BannerService bannerService;
 
+  @MockitoBean private WeeklyActivityService weeklyActivityService;
+
   @MockitoBean private JwtService jwtService;
 
   @MockitoBean private JwtProperties jwtProperties;
@@ -91,6 +96,41 @@ class PublicControllerTest {
         .andExpect(jsonPath("$.reports").value(80));
   }
 
+  @Test
+  void 주간활동지표조회_기간_성공() throws Exception {
+    WeeklyActivityDto expectedDto =
+        WeeklyActivityDto.builder()
+            .courseId(3L)
+            .weeks(
+                List.of(
+                    WeeklyActivityDto.WeekInfo.builder()
+                        .isoYear(2026)
+                        .week(10)
+                        .weekStart(LocalDate.of(2026, 3, 2))
+                        .studyMinutes(480)
+                        .reports(6)
+                        .activeGroups(4)
+                        .build()))
+            .build();
+    when(weeklyActivityService.getWeeklyActivity(
+            null, 3L, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)))
+        .thenReturn(expectedDto);
+
+    mockMvc
+        .perform(
+            get("/api/public/activity/weekly")
+                .param("courseId", "3")
+                .param("from", "2026-01-01")
+                .param("to", "2026-12-31"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/json;charset=UTF-8"))
+        .andExpect(jsonPath("$.courseId").value(3))
+        .andExpect(jsonPath("$.weeks[0].week").value(10))
+        .andExpect(jsonPath("$.weeks[0].weekStart").value("2026-03-02"))
+        .andExpect(jsonPath("$.weeks[0].studyMinutes").value(480))
+        .andExpect(jsonPath("$.weeks[0].activeGroups").value(4));
+  }
+
   @Test
   void 공개배너목록조회시_성공() throws Exception {
     BannerDto.PublicBannerInfo bannerInfo = mock(BannerDto.PublicBannerInfo.class);
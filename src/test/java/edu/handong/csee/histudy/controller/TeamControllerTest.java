@@ -89,7 +89,7 @@ class TeamControllerTest {
             .build();
 
     ReportDto.ReportInfo reportInfo = mock(ReportDto.ReportInfo.class);
-    when(reportService.createReport(any(ReportCommand.class), anyString())).thenReturn(reportInfo);
+    when(reportService.createReport(any(ReportCommand.class))).thenReturn(reportInfo);
 
     // When
     mockMvc
@@ -103,7 +103,7 @@ class TeamControllerTest {
 
     // Then
     ArgumentCaptor<ReportCommand> commandCaptor = ArgumentCaptor.forClass(ReportCommand.class);
-    verify(reportService).createReport(commandCaptor.capture(), eq("member@test.com"));
+    verify(reportService).createReport(commandCaptor.capture());
     ReportCommand command = commandCaptor.getValue();
     assertThat(command.title()).isEqualTo("1주차");
     assertThat(command.content()).isEqualTo("Study content");
@@ -118,7 +118,7 @@ class TeamControllerTest {
     Claims claims = memberClaims("member@test.com");
 
     List<ReportDto.ReportInfo> reports = List.of();
-    when(reportService.getReports(anyString())).thenReturn(reports);
+    when(reportService.getReports()).thenReturn(reports);
 
     mockMvc
         .perform(get("/api/team/reports").requestAttr("claims", claims))
@@ -260,7 +260,7 @@ class TeamControllerTest {
         new MockMultipartFile("image", "test.jpg", "image/jpeg", "test image content".getBytes());
 
     String imagePath = "/path/to/image.jpg";
-    when(imageService.getImagePaths(anyString(), any(), any(Optional.class))).thenReturn(imagePath);
+    when(imageService.getImagePaths(any(), any(Optional.class))).thenReturn(imagePath);
 
     mockMvc
         .perform(multipart("/api/team/reports/image").file(image).requestAttr("claims", claims))
@@ -277,7 +277,7 @@ class TeamControllerTest {
         new MockMultipartFile("image", "test.jpg", "image/jpeg", "test image content".getBytes());
 
     String imagePath = "/path/to/image.jpg";
-    when(imageService.getImagePaths(anyString(), any(), any(Optional.class))).thenReturn(imagePath);
+    when(imageService.getImagePaths(any(), any(Optional.class))).thenReturn(imagePath);
 
     mockMvc
         .perform(multipart("/api/team/reports/1/image").file(image).requestAttr("claims", claims))
@@ -293,7 +293,7 @@ class TeamControllerTest {
     MockMultipartFile image =
         new MockMultipartFile("image", "test.jpg", "image/jpeg", "test image content".getBytes());
 
-    when(imageService.getImagePaths(anyString(), any(), any(Optional.class)))
+    when(imageService.getImagePaths(any(), any(Optional.class)))
         .thenThrow(new MaxUploadSizeExceededException(5 * 1024 * 1024));
 
     mockMvc
@@ -13,6 +13,7 @@ import edu.handong.csee.histudy.domain.*;
 import edu.handong.csee.histudy.dto.UserDto;
 import edu.handong.csee.histudy.interceptor.AuthenticationInterceptor;
 import edu.handong.csee.histudy.jwt.JwtPair;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.service.DiscordService;
 import edu.handong.csee.histudy.service.JwtService;
 import edu.handong.csee.histudy.service.UserService;
@@ -61,8 +62,15 @@ class UserControllerTest {
     // Given
     UserForm userForm = new UserForm("google-sub-123", "Test User", "user@test.com", "22500101");
     JwtPair tokens = new JwtPair(List.of("access-token", "refresh-token"));
+    User user = mock(User.class);
+    when(user.getUserId()).thenReturn(1L);
+    when(user.getEmail()).thenReturn("user@test.com");
+    when(user.getName()).thenReturn("Test User");
+    TokenIdentity identity =
+        new TokenIdentity("user@test.com", "Test User", Role.USER, 1L, null, null, 0L);
 
-    when(jwtService.issueToken("user@test.com", "Test User", Role.USER)).thenReturn(tokens);
+    when(userService.signUp(any(SignUpCommand.class))).thenReturn(user);
+    when(jwtService.issueToken(identity)).thenReturn(tokens);
 
     // When
     mockMvc
@@ -79,7 +87,7 @@ class UserControllerTest {
     // Then
     verify(userService)
         .signUp(new SignUpCommand("google-sub-123", "Test User", "user@test.com", "22500101"));
-    verify(jwtService).issueToken("user@test.com", "Test User", Role.USER);
+    verify(jwtService).issueToken(identity);
   }
 
   @Test
@@ -87,14 +95,13 @@ class UserControllerTest {
     String token = "Bearer access-token";
     Claims claims = userClaims("user@test.com");
 
-    User user = mock(User.class);
-    when(user.getEmail()).thenReturn("friend@test.com");
-    when(user.getRole()).thenReturn(Role.USER);
-    List<User> users = List.of(user);
+    List<UserSearchEntry> users =
+        List.of(new UserSearchEntry(2L, "22500102", "Friend", "friend@test.com", Role.USER));
 
     when(jwtService.extractToken(any(Optional.class))).thenReturn("access-token");
     when(jwtService.validate(anyString())).thenReturn(claims);
-    when(userService.search(any(Optional.class))).thenReturn(users);
+    when(userService.search(any(Optional.class), anyString(), anyInt(), anyInt()))
+        .thenReturn(users);
 
     mockMvc
         .perform(
@@ -108,20 +115,24 @@ class UserControllerTest {
     String token = "Bearer access-token";
     Claims claims = userClaims("user@test.com");
 
-    User user = mock(User.class);
-    when(user.getEmail()).thenReturn("friend@test.com");
-    when(user.getRole()).thenReturn(Role.USER);
-    List<User> users = List.of(user);
+    List<UserSearchEntry> users =
+        List.of(new UserSearchEntry(2L, "22500102", "Friend", "friend@test.com", Role.USER));
 
     when(jwtService.extractToken(any(Optional.class))).thenReturn("access-token");
     when(jwtService.validate(anyString())).thenReturn(claims);
-    when(userService.search(any(Optional.class))).thenReturn(users);
+    when(userService.search(Optional.of("friend"), "user@test.com", 1, 10)).thenReturn(users);
 
     mockMvc
         .perform(
-            get("/api/v2/users").param("search", "friend").header(HttpHeaders.AUTHORIZATION, token))
+            get("/api/v2/users")
+                .param("search", "friend")
+                .param("page", "1")
+                .param("size", "10")
+                .header(HttpHeaders.AUTHORIZATION, token))
         .andExpect(status().isOk())
-        .andExpect(content().contentType("application/json"));
+        .andExpect(content().contentType("application/json"))
+        .andExpect(jsonPath("$.users[0].id").value(2))
+        .andExpect(jsonPath("$.users[0].sid").value("225****2"));
   }
 
   @Test
@@ -209,7 +220,8 @@ class UserControllerTest {
 
     when(jwtService.extractToken(any(Optional.class))).thenReturn("access-token");
     when(jwtService.validate(anyString())).thenReturn(claims);
-    when(userService.search(any(Optional.class))).thenReturn(List.of());
+    when(userService.search(any(Optional.class), anyString(), anyInt(), anyInt()))
+        .thenReturn(List.of());
 
     mockMvc
         .perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, token))
@@ -0,0 +1,105 @@
+package edu.handong.csee.histudy.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StudyGroupTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+  private final Course dataStructure = createCourse(1L, "자료구조");
+  private final Course operatingSystem = createCourse(2L, "운영체제");
+  private final Course database = createCourse(3L, "데이터베이스");
+
+  @Test
+  void 두명이상_선호한_과목만_그룹과목으로_남긴다() {
+    // Given
+    List<StudyApplicant> members =
+        List.of(
+            createApplicant(1, dataStructure, operatingSystem),
+            createApplicant(2, dataStructure),
+            createApplicant(3, database));
+
+    // When
+    List<Course> commonCourses = StudyGroup.commonCoursesOf(members);
+
+    // Then
+    assertThat(commonCourses).containsExactly(dataStructure);
+  }
+
+  @Test
+  void 공통과목이_없으면_처음_나온_순서로_모든_과목을_남긴다() {
+    // Given
+    List<StudyApplicant> members =
+        List.of(createApplicant(1, database), createApplicant(2, dataStructure));
+
+    // When
+    List<Course> commonCourses = StudyGroup.commonCoursesOf(members);
+
+    // Then
+    assertThat(commonCourses).containsExactly(database, dataStructure);
+  }
+
+  @Test
+  void 멤버를_추가해도_그대로인_그룹과목은_다시_만들지_않는다() {
+    // Given
+    StudyGroup group =
+        StudyGroup.of(
+            1,
+            currentTerm,
+            List.of(createApplicant(1, dataStructure), createApplicant(2, dataStructure)));
+    GroupCourse existing = group.getCourses().get(0);
+
+    // When
+    group.addMember(createApplicant(3, dataStructure, database));
+
+    // Then
+    assertThat(group.getMembers()).hasSize(3);
+    assertThat(group.getCourses()).singleElement().isSameAs(existing);
+  }
+
+  @Test
+  void 과목을_지정해_생성하면_멤버를_배정하고_지정한_과목으로만_그룹과목을_만든다() {
+    // Given
+    StudyApplicant first = createApplicant(1, dataStructure, database);
+    StudyApplicant second = createApplicant(2, dataStructure);
+
+    // When
+    StudyGroup group =
+        StudyGroup.of(3, currentTerm, List.of(first, second), List.of(operatingSystem));
+
+    // Then
+    assertThat(group.getMembers()).containsExactly(first, second);
+    assertThat(first.getStudyGroup()).isSameAs(group);
+    assertThat(group.getCourses())
+        .extracting(GroupCourse::getCourse)
+        .containsExactly(operatingSystem);
+  }
+
+  private StudyApplicant createApplicant(int sequence, Course... courses) {
+    User user =
+        User.builder()
+            .sub("sub-" + sequence)
+            .sid("2223%04d".formatted(sequence))
+            .email("user%d@histudy.com".formatted(sequence))
+            .name("User" + sequence)
+            .role(Role.USER)
+            .build();
+    return StudyApplicant.of(currentTerm, user, List.of(), List.of(courses));
+  }
+
+  private Course createCourse(Long courseId, String name) {
+    Course course =
+        Course.builder()
+            .name(name)
+            .code("CSEE" + courseId)
+            .professor("Professor")
+            .academicTerm(currentTerm)
+            .build();
+    ReflectionTestUtils.setField(course, "courseId", courseId);
+    return course;
+  }
+}
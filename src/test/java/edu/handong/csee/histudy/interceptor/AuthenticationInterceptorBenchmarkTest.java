@@ -0,0 +1,99 @@
+package edu.handong.csee.histudy.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.jwt.GrantType;
+import edu.handong.csee.histudy.jwt.JwtProperties;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
+import edu.handong.csee.histudy.service.JwtService;
+import io.jsonwebtoken.Claims;
+import java.util.Arrays;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@Tag("perf")
+class AuthenticationInterceptorBenchmarkTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(AuthenticationInterceptorBenchmarkTest.class);
+
+  private static final String SECRET = "YS1zdHJpbmctc2VjcmV0LWF0LWxlYXN0LTI1Ni1iaXRzLWxvbmc=";
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 5;
+
+  @ParameterizedTest
+  @ValueSource(ints = {10_000, 100_000})
+  void 검증캐시가_없을때와_있을때의_인터셉터_처리시간을_비교한다(int requestCount) throws Exception {
+    // Given
+    AuthenticationInterceptor uncached = interceptor(0);
+    AuthenticationInterceptor cached = interceptor(10_000);
+    String token =
+        new JwtService(properties(0))
+            .issueToken(
+                new TokenIdentity("member@histudy.com", "Member", Role.MEMBER, 1L, 1L, 1L, 0L),
+                GrantType.ACCESS_TOKEN);
+
+    // When
+    long uncachedMillis = measure(uncached, token, requestCount);
+    long cachedMillis = measure(cached, token, requestCount);
+
+    // Then
+    log.info(
+        "AuthenticationInterceptor: {} requests, uncached {} ms, cached {} ms",
+        requestCount, uncachedMillis, cachedMillis);
+    MockHttpServletRequest request = request(token);
+    cached.preHandle(request, new MockHttpServletResponse(), new Object());
+    assertThat(((Claims) request.getAttribute("claims")).getSubject())
+        .isEqualTo("member@histudy.com");
+  }
+
+  /** 워밍업 후 측정 회차의 중앙값(ms) */
+  private long measure(AuthenticationInterceptor interceptor, String token, int requestCount)
+      throws Exception {
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      handle(interceptor, token, requestCount);
+    }
+    long[] elapsed = new long[MEASURED_ROUNDS];
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      long startedAt = System.nanoTime();
+      handle(interceptor, token, requestCount);
+      elapsed[round] = (System.nanoTime() - startedAt) / 1_000_000;
+    }
+    Arrays.sort(elapsed);
+    return elapsed[MEASURED_ROUNDS / 2];
+  }
+
+  private void handle(AuthenticationInterceptor interceptor, String token, int requestCount)
+      throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    for (int index = 0; index < requestCount; index++) {
+      interceptor.preHandle(request(token), response, new Object());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private AuthenticationInterceptor interceptor(int verifiedTokenCacheSize) {
+    return new AuthenticationInterceptor(
+        new JwtService(properties(verifiedTokenCacheSize)), mock(ObjectProvider.class));
+  }
+
+  private MockHttpServletRequest request(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/team/reports");
+    request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    return request;
+  }
+
+  private JwtProperties properties(int verifiedTokenCacheSize) {
+    return new JwtProperties(
+        SECRET, "http://localhost:8080", "10800", "2592000", verifiedTokenCacheSize);
+  }
+}
@@ -0,0 +1,75 @@
+package edu.handong.csee.histudy.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-02T00:00:00Z");
+
+  @Test
+  void 만료시각이_지난_항목은_돌려주지_않고_지운다() {
+    // Given
+    Claims claims = claimsExpiringAt(NOW.plusSeconds(60));
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, Clock.fixed(NOW, ZoneOffset.UTC));
+    cache.put("h.p.s", claims);
+    VerifiedTokenCache expired =
+        new VerifiedTokenCache(10, Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+    expired.put("h.p.s", claims);
+
+    // When Then
+    assertThat(cache.get("h.p.s")).containsSame(claims);
+    assertThat(expired.get("h.p.s")).isEmpty();
+    assertThat(expired.size()).isZero();
+  }
+
+  @Test
+  void 서명이_같아도_토큰_전체가_다르면_돌려주지_않는다() {
+    // Given
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, Clock.fixed(NOW, ZoneOffset.UTC));
+    cache.put("h.p.s", claimsExpiringAt(NOW.plusSeconds(60)));
+
+    // When Then
+    assertThat(cache.get("h.other.s")).isEmpty();
+  }
+
+  @Test
+  void 용량을_넘으면_가장_오래_쓰지_않은_토큰부터_지운다() {
+    // Given
+    VerifiedTokenCache cache = new VerifiedTokenCache(2, Clock.fixed(NOW, ZoneOffset.UTC));
+    cache.put("h.p.first", claimsExpiringAt(NOW.plusSeconds(60)));
+    cache.put("h.p.second", claimsExpiringAt(NOW.plusSeconds(60)));
+    cache.get("h.p.first");
+
+    // When
+    cache.put("h.p.third", claimsExpiringAt(NOW.plusSeconds(60)));
+
+    // Then
+    assertThat(cache.get("h.p.first")).isPresent();
+    assertThat(cache.get("h.p.second")).isEmpty();
+    assertThat(cache.get("h.p.third")).isPresent();
+  }
+
+  @Test
+  void 용량이_0이면_아무것도_담지_않는다() {
+    // Given
+    VerifiedTokenCache cache = new VerifiedTokenCache(0, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // When
+    cache.put("h.p.s", claimsExpiringAt(NOW.plusSeconds(60)));
+
+    // Then
+    assertThat(cache.get("h.p.s")).isEmpty();
+  }
+
+  private Claims claimsExpiringAt(Instant expiration) {
+    return Jwts.claims().setSubject("member@histudy.com").setExpiration(Date.from(expiration));
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.StudyApplicant;
@@ -11,10 +12,14 @@ import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyPartnerRequest;
 import edu.handong.csee.histudy.domain.TermType;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.exception.MatchingPlanExpiredException;
 import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
 import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,16 +36,25 @@ class MatchingApplicationServiceTest {
   private FakeAcademicTermRepository academicTermRepository;
   private FakeStudyApplicationRepository studyApplicantRepository;
   private FakeStudyGroupRepository studyGroupRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
+  private FakeUserRepository userRepository;
   private MatchingApplicationService matchingApplicationService;
 
   @BeforeEach
   void setUp() {
     academicTermRepository = new FakeAcademicTermRepository();
     studyApplicantRepository = new FakeStudyApplicationRepository();
-    studyGroupRepository = new FakeStudyGroupRepository();
+    studyGroupRepository = new FakeStudyGroupRepository(studyApplicantRepository);
+    activityRollupRepository = new FakeActivityRollupRepository();
+    userRepository = new FakeUserRepository();
     matchingApplicationService =
         new MatchingApplicationService(
-            academicTermRepository, studyApplicantRepository, studyGroupRepository);
+            academicTermRepository,
+            studyApplicantRepository,
+            studyGroupRepository,
+            activityRollupRepository,
+            userRepository,
+            new MatchingPolicy());
   }
 
   @Test
@@ -69,6 +83,7 @@ class MatchingApplicationServiceTest {
     applicants.addAll(courseApplicants);
     applicants.addAll(leftoverApplicants);
     studyApplicantRepository.saveAll(applicants);
+    activityRollupRepository.save(ActivityRollup.empty(currentTerm));
 
     // When
     matchingApplicationService.match();
@@ -78,6 +93,39 @@ class MatchingApplicationServiceTest {
     assertThat(groups).extracting(StudyGroup::getTag).containsExactly(1, 2);
     assertThat(groups).extracting(group -> group.getMembers().size()).containsExactly(2, 3);
     assertThat(leftoverApplicants).allMatch(applicant -> !applicant.hasStudyGroup());
+    ActivityRollup rollup =
+        activityRollupRepository.findById(currentTerm.getAcademicTermId()).orElseThrow();
+    assertThat(rollup.getStudyGroups()).isEqualTo(2);
+    assertThat(rollup.getStudyMembers()).isEqualTo(5);
+    assertThat(userRepository.getTokenVersionBumpedApplicantIds())
+        .containsExactlyInAnyOrderElementsOf(
+            groups.stream()
+                .flatMap(group -> group.getMembers().stream())
+                .map(StudyApplicant::getStudyApplicantId)
+                .toList());
+  }
+
+  @Test
+  void 같은_학기를_다시_매칭하면_학기를_잠근_뒤_남은_신청자만_매칭한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.saveAll(
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse)));
+    matchingApplicationService.match();
+
+    // When
+    int matchedGroups =
+        matchingApplicationService.match(currentTerm.getAcademicTermId(), phase -> {});
+
+    // Then
+    assertThat(matchedGroups).isZero();
+    assertThat(academicTermRepository.getLocks()).isEqualTo(2);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm))
+        .extracting(StudyGroup::getTag)
+        .containsExactly(1);
   }
 
   @Test
@@ -104,6 +152,224 @@ class MatchingApplicationServiceTest {
         .containsExactly(7, 8);
   }
 
+  @Test
+  void 늦게_신청한_학생은_과목이_같은_기존그룹의_빈자리에_배정한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> existingMembers =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    studyApplicantRepository.saveAll(existingMembers);
+    StudyGroup existingGroup =
+        studyGroupRepository.save(StudyGroup.of(1, currentTerm, existingMembers));
+
+    StudyApplicant lateApplicant = createApplicant(4, primaryCourse);
+    StudyApplicant unmatchedApplicant = createApplicant(5, secondaryCourse);
+    studyApplicantRepository.save(lateApplicant);
+    studyApplicantRepository.save(unmatchedApplicant);
+    activityRollupRepository.save(ActivityRollup.empty(currentTerm));
+
+    // When
+    int placedCount = matchingApplicationService.matchLateApplicants();
+
+    // Then
+    assertThat(placedCount).isEqualTo(1);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm)).hasSize(1);
+    assertThat(existingGroup.getMembers()).contains(lateApplicant).hasSize(4);
+    assertThat(unmatchedApplicant.hasStudyGroup()).isFalse();
+    assertThat(activityRollupRepository.findById(currentTerm.getAcademicTermId()))
+        .hasValueSatisfying(rollup -> assertThat(rollup.getStudyMembers()).isEqualTo(1));
+    assertThat(userRepository.getTokenVersionBumpedApplicantIds())
+        .containsExactly(lateApplicant.getStudyApplicantId());
+  }
+
+  @Test
+  void 늦은_신청자는_주입된_정책의_정원을_채운_그룹에는_배정되지_않는다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> existingMembers =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    studyApplicantRepository.saveAll(existingMembers);
+    StudyGroup existingGroup =
+        studyGroupRepository.save(StudyGroup.of(1, currentTerm, existingMembers));
+    StudyApplicant lateApplicant = createApplicant(4, primaryCourse);
+    studyApplicantRepository.save(lateApplicant);
+    MatchingApplicationService service =
+        new MatchingApplicationService(
+            academicTermRepository,
+            studyApplicantRepository,
+            studyGroupRepository,
+            activityRollupRepository,
+            userRepository,
+            new MatchingPolicy().withCourseGroupSize(2, 3));
+
+    // When
+    int placedCount = service.matchLateApplicants();
+
+    // Then
+    assertThat(placedCount).isZero();
+    assertThat(existingGroup.getMembers()).hasSize(3);
+    assertThat(lateApplicant.hasStudyGroup()).isFalse();
+  }
+
+  @Test
+  void 늦게_신청한_학생끼리_그룹을_만들수_있으면_새_그룹을_저장한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> existingMembers =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    studyApplicantRepository.saveAll(existingMembers);
+    studyGroupRepository.save(StudyGroup.of(1, currentTerm, existingMembers));
+
+    List<StudyApplicant> lateApplicants =
+        List.of(
+            createApplicant(4, secondaryCourse),
+            createApplicant(5, secondaryCourse),
+            createApplicant(6, secondaryCourse));
+    studyApplicantRepository.saveAll(lateApplicants);
+
+    // When
+    int placedCount = matchingApplicationService.matchLateApplicants();
+
+    // Then
+    assertThat(placedCount).isEqualTo(3);
+    List<StudyGroup> groups = studyGroupRepository.findAllByAcademicTerm(currentTerm);
+    assertThat(groups).extracting(StudyGroup::getTag).containsExactly(1, 2);
+    assertThat(groups.get(0).getMembers()).hasSize(3);
+  }
+
+  @Test
+  void 매칭을_미리보면_그룹을_저장하지_않고_제안그룹과_미배정_신청자를_반환한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> courseApplicants =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    StudyApplicant leftover = createApplicant(4, secondaryCourse);
+    studyApplicantRepository.saveAll(courseApplicants);
+    studyApplicantRepository.save(leftover);
+
+    // When
+    MatchingPreview preview = matchingApplicationService.preview();
+
+    // Then
+    assertThat(preview.planId()).isNotBlank();
+    assertThat(preview.groups()).extracting(MatchingPreview.ProposedGroup::tag).containsExactly(1);
+    assertThat(preview.groups().get(0).members()).containsExactlyElementsOf(courseApplicants);
+    assertThat(preview.unassigned()).containsExactly(leftover);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm)).isEmpty();
+    assertThat(courseApplicants).noneMatch(StudyApplicant::hasStudyGroup);
+  }
+
+  @Test
+  void 미리본_결과를_확정하면_같은_그룹을_저장한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> courseApplicants =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    studyApplicantRepository.saveAll(courseApplicants);
+    MatchingPreview preview = matchingApplicationService.preview();
+
+    // When
+    int matchedGroups = matchingApplicationService.commit(preview.planId());
+
+    // Then
+    assertThat(matchedGroups).isEqualTo(1);
+    List<StudyGroup> groups = studyGroupRepository.findAllByAcademicTerm(currentTerm);
+    assertThat(groups).extracting(StudyGroup::getTag).containsExactly(1);
+    assertThat(groups.get(0).getMembers()).containsExactlyElementsOf(courseApplicants);
+  }
+
+  @Test
+  void 미리본_결과를_두번_확정하면_두번째는_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.saveAll(
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse)));
+    MatchingPreview preview = matchingApplicationService.preview();
+    matchingApplicationService.commit(preview.planId());
+
+    // When Then
+    assertThatThrownBy(() -> matchingApplicationService.commit(preview.planId()))
+        .isInstanceOf(MatchingPlanExpiredException.class);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm)).hasSize(1);
+  }
+
+  @Test
+  void 미리보기_이후_신청자가_바뀌면_확정시_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.saveAll(
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse)));
+    MatchingPreview preview = matchingApplicationService.preview();
+    studyApplicantRepository.save(createApplicant(4, primaryCourse));
+
+    // When Then
+    assertThatThrownBy(() -> matchingApplicationService.commit(preview.planId()))
+        .isInstanceOf(MatchingPlanExpiredException.class);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm)).isEmpty();
+  }
+
+  @Test
+  void 다른_노드에서_미리본_결과를_확정하면_다시_계산해_같은_그룹을_저장한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> courseApplicants =
+        List.of(
+            createApplicant(1, primaryCourse),
+            createApplicant(2, primaryCourse),
+            createApplicant(3, primaryCourse));
+    studyApplicantRepository.saveAll(courseApplicants);
+    MatchingPreview preview = matchingApplicationService.preview();
+    MatchingApplicationService otherNode =
+        new MatchingApplicationService(
+            academicTermRepository,
+            studyApplicantRepository,
+            studyGroupRepository,
+            activityRollupRepository,
+            userRepository,
+            new MatchingPolicy());
+
+    // When
+    int matchedGroups = otherNode.commit(preview.planId());
+
+    // Then
+    assertThat(matchedGroups).isEqualTo(1);
+    List<StudyGroup> groups = studyGroupRepository.findAllByAcademicTerm(currentTerm);
+    assertThat(groups).extracting(StudyGroup::getTag).containsExactly(1);
+    assertThat(groups.get(0).getMembers()).containsExactlyElementsOf(courseApplicants);
+  }
+
+  @Test
+  void 미리보지_않은_결과를_확정하면_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.save(createApplicant(1, primaryCourse));
+
+    // When Then
+    assertThatThrownBy(() -> matchingApplicationService.commit("unknown"))
+        .isInstanceOf(MatchingPlanExpiredException.class);
+  }
+
   @Test
   void 현재_학기_없이_그룹을_자동_배정하면_예외가_발생한다() {
     // Given
@@ -0,0 +1,158 @@
+package edu.handong.csee.histudy.matching.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.exception.MatchingJobNotFoundException;
+import edu.handong.csee.histudy.matching.domain.MatchingPhase;
+import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
+import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MatchingJobServiceTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+  private final Course course = createCourse(1L);
+
+  private final List<Runnable> pendingTasks = new ArrayList<>();
+
+  private FakeAcademicTermRepository academicTermRepository;
+  private FakeStudyApplicationRepository studyApplicantRepository;
+  private FakeStudyGroupRepository studyGroupRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
+  private FakeUserRepository userRepository;
+  private MatchingJobService matchingJobService;
+
+  @BeforeEach
+  void setUp() {
+    academicTermRepository = new FakeAcademicTermRepository();
+    studyApplicantRepository = new FakeStudyApplicationRepository();
+    studyGroupRepository = new FakeStudyGroupRepository(studyApplicantRepository);
+    activityRollupRepository = new FakeActivityRollupRepository();
+    userRepository = new FakeUserRepository();
+    MatchingApplicationService matchingApplicationService =
+        new MatchingApplicationService(
+            academicTermRepository,
+            studyApplicantRepository,
+            studyGroupRepository,
+            activityRollupRepository,
+            userRepository,
+            new MatchingPolicy());
+    matchingJobService =
+        new MatchingJobService(
+            academicTermRepository, matchingApplicationService, pendingTasks::add);
+    academicTermRepository.save(currentTerm);
+  }
+
+  @Test
+  void 매칭작업을_실행하면_모든_단계를_거쳐_생성된_그룹수를_기록한다() {
+    // Given
+    studyApplicantRepository.saveAll(
+        List.of(createApplicant(1), createApplicant(2), createApplicant(3)));
+
+    // When
+    MatchingJob job = matchingJobService.submit();
+    runPendingTasks();
+
+    // Then
+    assertThat(job.getStatus()).isEqualTo(MatchingJob.Status.SUCCEEDED);
+    assertThat(job.getMatchedGroupCount()).isEqualTo(1);
+    assertThat(job.getPhaseMillis()).containsOnlyKeys(MatchingPhase.values());
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm)).hasSize(1);
+    assertThat(matchingJobService.find(job.getJobId())).isSameAs(job);
+  }
+
+  @Test
+  void 같은_학기에_진행중인_작업이_있으면_기존_작업을_반환한다() {
+    // Given
+    MatchingJob first = matchingJobService.submit();
+
+    // When
+    MatchingJob second = matchingJobService.submit();
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(pendingTasks).hasSize(1);
+  }
+
+  @Test
+  void 이전_작업이_끝났으면_새_작업을_만든다() {
+    // Given
+    MatchingJob first = matchingJobService.submit();
+    runPendingTasks();
+
+    // When
+    MatchingJob second = matchingJobService.submit();
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getStatus()).isEqualTo(MatchingJob.Status.QUEUED);
+  }
+
+  @Test
+  void 매칭중_예외가_발생하면_실패상태와_메시지를_기록한다() {
+    // Given
+    MatchingJob job = matchingJobService.submit(999L);
+
+    // When
+    runPendingTasks();
+
+    // Then
+    assertThat(job.getStatus()).isEqualTo(MatchingJob.Status.FAILED);
+    assertThat(job.getErrorMessage()).isNotBlank();
+  }
+
+  @Test
+  void 존재하지_않는_작업을_조회하면_예외가_발생한다() {
+    // Given
+
+    // When Then
+    assertThatThrownBy(() -> matchingJobService.find("unknown"))
+        .isInstanceOf(MatchingJobNotFoundException.class);
+  }
+
+  private void runPendingTasks() {
+    List<Runnable> tasks = new ArrayList<>(pendingTasks);
+    pendingTasks.clear();
+    tasks.forEach(Runnable::run);
+  }
+
+  private StudyApplicant createApplicant(int sequence) {
+    User user =
+        User.builder()
+            .sub("sub-" + sequence)
+            .sid("2223%04d".formatted(sequence))
+            .email("user%d@histudy.com".formatted(sequence))
+            .name("User" + sequence)
+            .role(Role.USER)
+            .build();
+    return StudyApplicant.of(currentTerm, user, List.of(), List.of(course));
+  }
+
+  private Course createCourse(Long courseId) {
+    Course course =
+        Course.builder()
+            .name("자료구조")
+            .code("CSEE" + courseId)
+            .professor("Professor")
+            .academicTerm(currentTerm)
+            .build();
+    ReflectionTestUtils.setField(course, "courseId", courseId);
+    return course;
+  }
+}
@@ -0,0 +1,229 @@
+package edu.handong.csee.histudy.matching.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.exception.MatchingSimulationUnavailableException;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
+import edu.handong.csee.histudy.matching.domain.MatchingPlan;
+import edu.handong.csee.histudy.matching.domain.MatchingPolicy;
+import edu.handong.csee.histudy.matching.domain.MatchingStrategy;
+import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+class MatchingSimulationServiceTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+  private final Course course = createCourse(1L);
+
+  private FakeAcademicTermRepository academicTermRepository;
+  private FakeStudyApplicationRepository studyApplicantRepository;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    academicTermRepository = new FakeAcademicTermRepository();
+    studyApplicantRepository = new FakeStudyApplicationRepository();
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 등록된_전략과_요청한_전략을_순서대로_평가하고_그룹은_저장하지_않는다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<StudyApplicant> applicants = new ArrayList<>();
+    for (int sequence = 1; sequence <= 8; sequence++) {
+      applicants.add(createApplicant(sequence));
+    }
+    studyApplicantRepository.saveAll(applicants);
+    MatchingSimulationService simulationService = simulationService(List.of(new MatchingPolicy()));
+
+    // When
+    List<MatchingSimulation> simulations =
+        simulationService.simulate(List.of(new MatchingPolicy().withCourseGroupSize(4, 4)));
+
+    // Then
+    assertThat(simulations)
+        .extracting(MatchingSimulation::strategy)
+        .containsExactly(
+            new MatchingPolicy().name(), new MatchingPolicy().withCourseGroupSize(4, 4).name());
+    assertThat(simulations.get(0).score().groupCount()).isEqualTo(2);
+    assertThat(simulations.get(0).score().groupSizeVariance()).isEqualTo(1.0);
+    assertThat(simulations.get(1).score().groupSizeVariance()).isZero();
+    assertThat(simulations).allMatch(simulation -> simulation.score().matchedRatio() == 1.0);
+    assertThat(applicants).noneMatch(StudyApplicant::hasStudyGroup);
+  }
+
+  @Test
+  void 전략은_서로_다른_스레드에서_동시에_실행된다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.save(createApplicant(1));
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    MatchingSimulationService simulationService =
+        simulationService(List.of(awaiting("first", bothStarted)));
+
+    // When
+    List<MatchingSimulation> simulations =
+        simulationService.simulate(List.of(awaiting("second", bothStarted)));
+
+    // Then
+    assertThat(simulations)
+        .extracting(MatchingSimulation::strategy)
+        .containsExactly("first", "second");
+  }
+
+  @Test
+  void 전략이_실패하면_예외를_그대로_전달한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    MatchingSimulationService simulationService = simulationService(List.of());
+    MatchingStrategy failing =
+        new MatchingStrategy() {
+          @Override
+          public String name() {
+            return "failing";
+          }
+
+          @Override
+          public MatchingPlan plan(ApplicantSnapshot snapshot) {
+            throw new IllegalStateException("boom");
+          }
+        };
+
+    // When Then
+    assertThatThrownBy(() -> simulationService.simulate(List.of(failing)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("boom");
+  }
+
+  @Test
+  void 전략이_제한_시간_안에_끝나지_않으면_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    MatchingSimulationService simulationService =
+        simulationService(List.of(), Duration.ofMillis(100));
+    MatchingStrategy stalled =
+        new MatchingStrategy() {
+          @Override
+          public String name() {
+            return "stalled";
+          }
+
+          @Override
+          public MatchingPlan plan(ApplicantSnapshot snapshot) {
+            try {
+              neverReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return new MatchingPlan(List.of(), new int[snapshot.size()]);
+          }
+        };
+
+    // When Then
+    assertThatThrownBy(() -> simulationService.simulate(List.of(stalled)))
+        .isInstanceOf(MatchingSimulationUnavailableException.class);
+  }
+
+  @Test
+  void 현재_학기_없이_시뮬레이션하면_예외가_발생한다() {
+    // Given
+    MatchingSimulationService simulationService = simulationService(List.of());
+
+    // When Then
+    assertThatThrownBy(() -> simulationService.simulate(List.of()))
+        .isInstanceOf(NoCurrentTermFoundException.class);
+  }
+
+  private MatchingSimulationService simulationService(List<MatchingStrategy> registered) {
+    return simulationService(registered, Duration.ofSeconds(10));
+  }
+
+  private MatchingSimulationService simulationService(
+      List<MatchingStrategy> registered, Duration timeout) {
+    return new MatchingSimulationService(
+        academicTermRepository,
+        studyApplicantRepository,
+        registered,
+        executor,
+        TransactionOperations.withoutTransaction(),
+        timeout);
+  }
+
+  /** 다른 전략도 시작할 때까지 기다리므로, 두 전략이 동시에 실행되지 않으면 시간 초과로 실패한다. */
+  private MatchingStrategy awaiting(String name, CountDownLatch bothStarted) {
+    return new MatchingStrategy() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public MatchingPlan plan(ApplicantSnapshot snapshot) {
+        bothStarted.countDown();
+        try {
+          if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("strategies did not run concurrently");
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(e);
+        }
+        return new MatchingPlan(List.of(), new int[snapshot.size()]);
+      }
+    };
+  }
+
+  private StudyApplicant createApplicant(int sequence) {
+    return StudyApplicant.of(currentTerm, createUser(sequence), List.of(), List.of(course));
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+
+  private Course createCourse(Long courseId) {
+    Course course =
+        Course.builder()
+            .name("자료구조")
+            .code("CSEE" + courseId)
+            .professor("Professor")
+            .academicTerm(currentTerm)
+            .build();
+    ReflectionTestUtils.setField(course, "courseId", courseId);
+    return course;
+  }
+}
@@ -0,0 +1,130 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ApplicantSnapshotTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+
+  @Test
+  void 행을_추가하면_신청자별_친구와_우선순위순_과목을_조회한다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int first = builder.addApplicant(10L, 100L);
+    int second = builder.addApplicant(20L, 200L);
+    builder.addPreferredCourse(first, 3L, 2);
+    builder.addPreferredCourse(first, 1L, 0);
+    builder.addPreferredCourse(first, 2L, 1);
+    builder.addAcceptedPartner(second, first);
+
+    // When
+    ApplicantSnapshot snapshot = builder.build();
+
+    // Then
+    assertThat(snapshot.size()).isEqualTo(2);
+    assertThat(snapshot.applicantId(second)).isEqualTo(20L);
+    assertThat(snapshot.userId(second)).isEqualTo(200L);
+    assertThat(snapshot.partnerTo(first) - snapshot.partnerFrom(first)).isZero();
+    assertThat(snapshot.partner(snapshot.partnerFrom(second))).isEqualTo(first);
+    assertThat(snapshot.courseTo(first) - snapshot.courseFrom(first)).isEqualTo(3);
+    assertThat(snapshot.courseId(snapshot.courseFrom(first))).isEqualTo(1L);
+    assertThat(snapshot.courseId(snapshot.courseFrom(first) + 2)).isEqualTo(3L);
+    assertThat(snapshot.courseTo(second) - snapshot.courseFrom(second)).isZero();
+  }
+
+  @Test
+  void 존재하지_않는_신청자번호로_친구를_추가하면_예외가_발생한다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    builder.addApplicant(1L, 1L);
+
+    // When Then
+    assertThatThrownBy(() -> builder.addAcceptedPartner(0, 1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void 엔티티로_만들면_수락된_친구요청만_스냅샷에_남긴다() {
+    // Given
+    Course course = createCourse(7L);
+    User first = createUser(1);
+    User second = createUser(2);
+    User third = createUser(3);
+    StudyApplicant firstApplicant =
+        StudyApplicant.of(currentTerm, first, List.of(second, third), List.of(course));
+    StudyApplicant secondApplicant =
+        StudyApplicant.of(currentTerm, second, List.of(first), List.of(course));
+    StudyApplicant thirdApplicant =
+        StudyApplicant.of(currentTerm, third, List.of(), List.of(course));
+    firstApplicant.changeStatusIfReceivedBy(second, StudyPartnerRequest::accept);
+    secondApplicant.changeStatusIfReceivedBy(first, StudyPartnerRequest::accept);
+
+    // When
+    ApplicantSnapshot snapshot =
+        ApplicantSnapshot.from(List.of(firstApplicant, secondApplicant, thirdApplicant));
+
+    // Then
+    assertThat(snapshot.size()).isEqualTo(3);
+    assertThat(snapshot.partnerTo(0) - snapshot.partnerFrom(0)).isEqualTo(1);
+    assertThat(snapshot.partner(snapshot.partnerFrom(0))).isEqualTo(1);
+    assertThat(snapshot.partnerTo(2) - snapshot.partnerFrom(2)).isZero();
+    assertThat(snapshot.courseId(snapshot.courseFrom(2))).isEqualTo(7L);
+  }
+
+  @Test
+  void 내용이_같은_스냅샷은_같은_지문을_가진다() {
+    // Given
+    ApplicantSnapshot first = snapshotWithCourse(1L);
+    ApplicantSnapshot same = snapshotWithCourse(1L);
+    ApplicantSnapshot different = snapshotWithCourse(2L);
+
+    // When Then
+    assertThat(first.fingerprint()).isEqualTo(same.fingerprint());
+    assertThat(first.fingerprint()).isNotEqualTo(different.fingerprint());
+    assertThat(ApplicantSnapshot.empty().fingerprint()).isNotEqualTo(first.fingerprint());
+  }
+
+  private ApplicantSnapshot snapshotWithCourse(long courseId) {
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int first = builder.addApplicant(1L, 10L);
+    int second = builder.addApplicant(2L, 20L);
+    builder.addAcceptedPartner(first, second);
+    builder.addPreferredCourse(second, courseId, 0);
+    return builder.build();
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+
+  private Course createCourse(Long courseId) {
+    Course course =
+        Course.builder()
+            .name("자료구조")
+            .code("CSEE" + courseId)
+            .professor("Professor")
+            .academicTerm(currentTerm)
+            .build();
+    ReflectionTestUtils.setField(course, "courseId", courseId);
+    return course;
+  }
+}
@@ -0,0 +1,128 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.util.DFS;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class FriendClusteringTest {
+
+  private static final Logger log = LoggerFactory.getLogger(FriendClusteringTest.class);
+
+  private static final int MIN_COMPONENT_SIZE = 2;
+
+  @Test
+  void 연결된_노드를_묶으면_최소크기_이상인_묶음만_반환한다() {
+    // Given
+    FriendClustering clustering = new FriendClustering(6);
+    clustering.connect(4, 1);
+    clustering.connect(1, 2);
+    clustering.connect(5, 3);
+
+    // When
+    List<int[]> components = clustering.components(MIN_COMPONENT_SIZE);
+
+    // Then
+    assertThat(components).hasSize(2);
+    assertThat(components.get(0)).containsExactly(1, 2, 4);
+    assertThat(components.get(1)).containsExactly(3, 5);
+  }
+
+  @Test
+  void 무작위_친구관계를_묶으면_DFS와_같은_묶음을_반환한다() {
+    // Given
+    Random random = new Random(20250301L);
+
+    for (int round = 0; round < 50; round++) {
+      int nodeCount = 1 + random.nextInt(200);
+      int edgeCount = random.nextInt(nodeCount * 2);
+      Map<Integer, List<Integer>> graph = new HashMap<>();
+      FriendClustering clustering = new FriendClustering(nodeCount);
+      for (int edge = 0; edge < edgeCount; edge++) {
+        int sender = random.nextInt(nodeCount);
+        int receiver = random.nextInt(nodeCount);
+        if (sender == receiver) {
+          continue;
+        }
+        graph.computeIfAbsent(sender, ignored -> new ArrayList<>()).add(receiver);
+        graph.computeIfAbsent(receiver, ignored -> new ArrayList<>()).add(sender);
+        clustering.connect(sender, receiver);
+      }
+
+      // When
+      Set<Set<Integer>> expected =
+          new DFS<>(graph, MIN_COMPONENT_SIZE)
+              .execute().stream().map(HashSet::new).collect(Collectors.toSet());
+      Set<Set<Integer>> actual =
+          clustering.components(MIN_COMPONENT_SIZE).stream()
+              .map(component -> Arrays.stream(component).boxed().collect(Collectors.toSet()))
+              .collect(Collectors.toSet());
+
+      // Then
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void 친구_체인이_길어도_스택_오버플로우_없이_하나로_묶는다() {
+    // Given
+    int nodeCount = 50_000;
+    FriendClustering clustering = new FriendClustering(nodeCount);
+    for (int node = 1; node < nodeCount; node++) {
+      clustering.connect(node - 1, node);
+    }
+
+    // When
+    List<int[]> components = clustering.components(MIN_COMPONENT_SIZE);
+
+    // Then
+    assertThat(components).singleElement().satisfies(c -> assertThat(c).hasSize(nodeCount));
+  }
+
+  @Test
+  @Tag("perf")
+  void 신청자_오만명의_친구관계를_묶는_시간을_측정한다() {
+    // Given
+    int nodeCount = 50_000;
+    Random random = new Random(50_000L);
+    int[] senders = new int[nodeCount * 2];
+    int[] receivers = new int[nodeCount * 2];
+    for (int edge = 0; edge < senders.length; edge++) {
+      senders[edge] = random.nextInt(nodeCount);
+      receivers[edge] = random.nextInt(nodeCount);
+    }
+
+    // When
+    long startedAt = System.nanoTime();
+    FriendClustering clustering = new FriendClustering(nodeCount);
+    for (int edge = 0; edge < senders.length; edge++) {
+      clustering.connect(senders[edge], receivers[edge]);
+    }
+    List<int[]> components = clustering.components(MIN_COMPONENT_SIZE);
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    // Then
+    log.info(
+        "FriendClustering: {} nodes, {} edges, {} components in {} ms",
+        nodeCount, senders.length, components.size(), elapsedMillis);
+    Set<Integer> clustered = new HashSet<>();
+    assertThat(components)
+        .allSatisfy(
+            component -> {
+              assertThat(component.length).isGreaterThanOrEqualTo(MIN_COMPONENT_SIZE);
+              Arrays.stream(component).forEach(node -> assertThat(clustered.add(node)).isTrue());
+            });
+  }
+}
@@ -0,0 +1,150 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FriendComponentPartitionerTest {
+
+  private static final int MAX_SIZE = 5;
+  private static final int MIN_SIZE = 2;
+
+  @Test
+  void 최대크기_이하의_묶음은_나누지_않는다() {
+    // Given
+    ApplicantSnapshot snapshot = snapshot(3, new int[][] {{0, 1}, {1, 2}});
+    FriendComponentPartitioner partitioner =
+        new FriendComponentPartitioner(snapshot, MAX_SIZE, MIN_SIZE);
+
+    // When
+    List<int[]> parts = partitioner.partition(new int[] {0, 1, 2});
+
+    // Then
+    assertThat(parts).singleElement().satisfies(part -> assertThat(part).containsExactly(0, 1, 2));
+  }
+
+  @Test
+  void 열다섯명_친구체인은_이어진_다섯명씩_나눈다() {
+    // Given
+    int[][] edges = new int[14][];
+    for (int node = 0; node < edges.length; node++) {
+      edges[node] = new int[] {node, node + 1};
+    }
+    ApplicantSnapshot snapshot = snapshot(15, edges);
+    FriendComponentPartitioner partitioner =
+        new FriendComponentPartitioner(snapshot, MAX_SIZE, MIN_SIZE);
+
+    // When
+    List<int[]> parts = partitioner.partition(range(15));
+
+    // Then
+    assertThat(parts).hasSize(3);
+    assertThat(parts.get(0)).containsExactly(0, 1, 2, 3, 4);
+    assertThat(parts.get(1)).containsExactly(5, 6, 7, 8, 9);
+    assertThat(parts.get(2)).containsExactly(10, 11, 12, 13, 14);
+  }
+
+  @Test
+  void 열한명_친구체인은_한명만_남기지_않고_고르게_나눈다() {
+    // Given
+    int[][] edges = new int[10][];
+    for (int node = 0; node < edges.length; node++) {
+      edges[node] = new int[] {node + 1, node};
+    }
+    ApplicantSnapshot snapshot = snapshot(11, edges);
+    FriendComponentPartitioner partitioner =
+        new FriendComponentPartitioner(snapshot, MAX_SIZE, MIN_SIZE);
+
+    // When
+    List<int[]> parts = partitioner.partition(range(11));
+
+    // Then
+    assertThat(parts).extracting(part -> part.length).containsExactly(4, 4, 3);
+  }
+
+  @Test
+  void 혼자_남은_멤버는_자리가_있는_친구의_조각에_합치고_없으면_뺀다() {
+    // Given
+    int[][] edges = new int[7][];
+    for (int leaf = 1; leaf <= edges.length; leaf++) {
+      edges[leaf - 1] = new int[] {0, leaf};
+    }
+    ApplicantSnapshot snapshot = snapshot(8, edges);
+    FriendComponentPartitioner partitioner =
+        new FriendComponentPartitioner(snapshot, MAX_SIZE, MIN_SIZE);
+
+    // When
+    List<int[]> parts = partitioner.partition(range(8));
+
+    // Then
+    assertThat(parts).singleElement().satisfies(part -> assertThat(part).contains(0).hasSize(5));
+  }
+
+  @Test
+  void 무작위_친구관계를_나누면_모든_조각이_크기제한을_지키고_직접친구로_이어진다() {
+    // Given
+    Random random = new Random(20250301L);
+    int nodeCount = 500;
+    int[][] edges = new int[700][];
+    for (int edge = 0; edge < edges.length; edge++) {
+      edges[edge] = new int[] {random.nextInt(nodeCount), random.nextInt(nodeCount)};
+    }
+    ApplicantSnapshot snapshot = snapshot(nodeCount, edges);
+    FriendClustering clustering = new FriendClustering(nodeCount);
+    for (int[] edge : edges) {
+      clustering.connect(edge[0], edge[1]);
+    }
+    FriendComponentPartitioner partitioner =
+        new FriendComponentPartitioner(snapshot, MAX_SIZE, MIN_SIZE);
+
+    for (int[] component : clustering.components(MIN_SIZE)) {
+      // When
+      List<int[]> parts = partitioner.partition(component);
+
+      // Then
+      for (int[] part : parts) {
+        assertThat(part.length).isBetween(MIN_SIZE, MAX_SIZE);
+        assertThat(isConnected(part, edges)).isTrue();
+      }
+    }
+  }
+
+  private ApplicantSnapshot snapshot(int nodeCount, int[][] edges) {
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int node = 0; node < nodeCount; node++) {
+      builder.addApplicant(node + 1L, node + 1L);
+    }
+    for (int[] edge : edges) {
+      builder.addAcceptedPartner(edge[0], edge[1]);
+    }
+    return builder.build();
+  }
+
+  private int[] range(int size) {
+    int[] nodes = new int[size];
+    for (int node = 0; node < size; node++) {
+      nodes[node] = node;
+    }
+    return nodes;
+  }
+
+  private boolean isConnected(int[] part, int[][] edges) {
+    Map<Integer, Integer> local = new HashMap<>();
+    for (int index = 0; index < part.length; index++) {
+      local.put(part[index], index);
+    }
+    FriendClustering clustering = new FriendClustering(part.length);
+    for (int[] edge : edges) {
+      Integer first = local.get(edge[0]);
+      Integer second = local.get(edge[1]);
+      if (first != null && second != null) {
+        clustering.connect(first, second);
+      }
+    }
+    return clustering.components(1).size() == 1;
+  }
+}
@@ -0,0 +1,71 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Tag("perf")
+class MatchingPolicyBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(MatchingPolicyBenchmarkTest.class);
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 5;
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  static void createPool() {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1_000, 10_000, 100_000})
+  void 순차_정책과_병렬_정책의_매칭_시간을_비교한다(int applicantCount) {
+    // Given
+    ApplicantSnapshot snapshot =
+        RandomApplicantSnapshots.generate(applicantCount, Math.max(20, applicantCount / 50), 42L);
+    MatchingPolicy sequential = new MatchingPolicy();
+    MatchingPolicy parallel = MatchingPolicy.parallel(pool);
+
+    // When
+    long sequentialMillis = measure(sequential, snapshot);
+    long parallelMillis = measure(parallel, snapshot);
+
+    // Then
+    log.info(
+        "MatchingPolicy: {} applicants, sequential {} ms, parallel({}) {} ms",
+        applicantCount, sequentialMillis, pool.getParallelism(), parallelMillis);
+    MatchingPlan expected = sequential.plan(snapshot);
+    MatchingPlan actual = parallel.plan(snapshot);
+    assertThat(actual.groups().stream().map(Arrays::toString).toList())
+        .isEqualTo(expected.groups().stream().map(Arrays::toString).toList());
+  }
+
+  /** 워밍업 후 측정 회차의 중앙값(ms) */
+  private long measure(MatchingPolicy policy, ApplicantSnapshot snapshot) {
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      policy.plan(snapshot);
+    }
+    long[] elapsed = new long[MEASURED_ROUNDS];
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      long startedAt = System.nanoTime();
+      policy.plan(snapshot);
+      elapsed[round] = (System.nanoTime() - startedAt) / 1_000_000;
+    }
+    Arrays.sort(elapsed);
+    return elapsed[MEASURED_ROUNDS / 2];
+  }
+}
@@ -12,7 +12,9 @@ import edu.handong.csee.histudy.domain.StudyPartnerRequest;
 import edu.handong.csee.histudy.domain.TermType;
 import edu.handong.csee.histudy.domain.User;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -132,6 +134,238 @@ class MatchingPolicyTest {
     assertThat(applicants).filteredOn(applicant -> !applicant.hasStudyGroup()).hasSize(2);
   }
 
+  @Test
+  void 친구_묶음이_최대인원을_넘으면_직접친구끼리_나누어_그룹을_만든다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int index = 0; index < 8; index++) {
+      builder.addApplicant(11L + index, 1L + index);
+    }
+    for (int index = 0; index < 7; index++) {
+      builder.addAcceptedPartner(index, index + 1);
+    }
+    ApplicantSnapshot snapshot = builder.build();
+
+    // When
+    MatchingPlan plan = matchingPolicy.withMaxFriendGroupSize(4).plan(snapshot);
+
+    // Then
+    assertThat(plan.groups()).hasSize(2);
+    assertThat(plan.groups().get(0)).containsExactly(0, 1, 2, 3);
+    assertThat(plan.groups().get(1)).containsExactly(4, 5, 6, 7);
+    assertThat(plan.unassigned()).isEmpty();
+  }
+
+  @Test
+  void 친구_묶음_최대인원을_정하지_않으면_큰_친구묶음도_한_그룹으로_남긴다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int index = 0; index < 8; index++) {
+      builder.addApplicant(11L + index, 1L + index);
+    }
+    for (int index = 0; index < 7; index++) {
+      builder.addAcceptedPartner(index, index + 1);
+    }
+    ApplicantSnapshot snapshot = builder.build();
+
+    // When
+    MatchingPlan plan = matchingPolicy.plan(snapshot);
+
+    // Then
+    assertThat(plan.groups()).singleElement().satisfies(group -> assertThat(group).hasSize(8));
+    assertThat(plan.unassigned()).isEmpty();
+    assertThat(matchingPolicy.name()).isEqualTo("friends-first(friends<=all, course=3-5)");
+  }
+
+  @Test
+  void 친구_묶음_최대인원이_최소인원보다_작으면_예외가_발생한다() {
+    // When Then
+    assertThatThrownBy(() -> matchingPolicy.withMaxFriendGroupSize(1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void 과목그룹_인원범위를_바꾸면_그_범위로_그룹을_나눈다() {
+    // Given
+    List<StudyApplicant> applicants = createApplicants(8);
+    ApplicantSnapshot snapshot = ApplicantSnapshot.from(applicants);
+
+    // When
+    MatchingPlan plan = matchingPolicy.withCourseGroupSize(4, 4).plan(snapshot);
+
+    // Then
+    assertThat(plan.groups()).extracting(group -> group.length).containsExactly(4, 4);
+    assertThat(plan.unassigned()).isEmpty();
+  }
+
+  @Test
+  void 저장용_그룹을_만들면_두명이상_선호한_과목만_그룹과목으로_남긴다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int first = builder.addApplicant(11L, 1L);
+    int second = builder.addApplicant(12L, 2L);
+    int third = builder.addApplicant(13L, 3L);
+    builder.addPreferredCourse(first, 2L, 0);
+    builder.addPreferredCourse(first, 1L, 1);
+    builder.addPreferredCourse(second, 2L, 0);
+    builder.addPreferredCourse(third, 3L, 0);
+    ApplicantSnapshot snapshot = builder.build();
+    MatchingPlan plan = new MatchingPlan(List.of(new int[] {first, second, third}), new int[0]);
+
+    // When
+    List<MatchedGroup> result = matchingPolicy.toMatchedGroups(plan, snapshot, 5);
+
+    // Then
+    assertThat(result)
+        .singleElement()
+        .satisfies(
+            group -> {
+              assertThat(group.tag()).isEqualTo(5);
+              assertThat(group.applicantIds()).containsExactly(11L, 12L, 13L);
+              assertThat(group.courseIds()).containsExactly(2L);
+            });
+  }
+
+  @Test
+  void 공통과목이_없으면_멤버가_선호한_모든_과목을_그룹과목으로_남긴다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int first = builder.addApplicant(11L, 1L);
+    int second = builder.addApplicant(12L, 2L);
+    builder.addPreferredCourse(first, 3L, 0);
+    builder.addPreferredCourse(second, 1L, 0);
+    ApplicantSnapshot snapshot = builder.build();
+    MatchingPlan plan = new MatchingPlan(List.of(new int[] {first, second}), new int[0]);
+
+    // When
+    List<MatchedGroup> result = matchingPolicy.toMatchedGroups(plan, snapshot, 1);
+
+    // Then
+    assertThat(result.get(0).courseIds()).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void 남은_신청자는_선호순위가_높은_과목의_기존그룹_빈자리에_배정한다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int first = builder.addApplicant(11L, 1L);
+    int second = builder.addApplicant(12L, 2L);
+    builder.addPreferredCourse(first, 2L, 0);
+    builder.addPreferredCourse(first, 1L, 1);
+    builder.addPreferredCourse(second, 1L, 0);
+    ApplicantSnapshot snapshot = builder.build();
+    List<OpenGroup> openGroups =
+        List.of(
+            new OpenGroup(100L, 1, 3, new long[] {1L}), new OpenGroup(200L, 2, 4, new long[] {2L}));
+
+    // When
+    List<GroupPlacement> result =
+        matchingPolicy.placeIntoOpenGroups(snapshot, new int[] {first, second}, openGroups);
+
+    // Then
+    assertThat(result).extracting(GroupPlacement::groupId).containsExactly(100L, 200L);
+    assertThat(result.get(0).applicantIds()).containsExactly(12L);
+    assertThat(result.get(1).applicantIds()).containsExactly(11L);
+  }
+
+  @Test
+  void 기존그룹이_정원에_차면_같은_과목의_다음_그룹이나_다음_선호과목으로_넘어간다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int[] candidates = new int[4];
+    for (int index = 0; index < candidates.length; index++) {
+      candidates[index] = builder.addApplicant(11L + index, 1L + index);
+      builder.addPreferredCourse(candidates[index], 1L, 0);
+    }
+    builder.addPreferredCourse(candidates[3], 3L, 1);
+    ApplicantSnapshot snapshot = builder.build();
+    List<OpenGroup> openGroups =
+        List.of(
+            new OpenGroup(200L, 2, 4, new long[] {1L}),
+            new OpenGroup(100L, 1, 3, new long[] {1L, 2L}),
+            new OpenGroup(300L, 3, 4, new long[] {3L}));
+
+    // When
+    List<GroupPlacement> result =
+        matchingPolicy.placeIntoOpenGroups(snapshot, candidates, openGroups);
+
+    // Then
+    assertThat(result).extracting(GroupPlacement::groupId).containsExactly(100L, 200L, 300L);
+    assertThat(result.get(0).applicantIds()).containsExactly(11L, 12L);
+    assertThat(result.get(1).applicantIds()).containsExactly(13L);
+    assertThat(result.get(2).applicantIds()).containsExactly(14L);
+  }
+
+  @Test
+  void 과목_그룹_최대인원을_바꾸면_기존그룹_정원도_그_인원을_따른다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    int candidate = builder.addApplicant(11L, 1L);
+    builder.addPreferredCourse(candidate, 1L, 0);
+    ApplicantSnapshot snapshot = builder.build();
+    List<OpenGroup> openGroups =
+        List.of(
+            new OpenGroup(100L, 1, 3, new long[] {1L}), new OpenGroup(200L, 2, 2, new long[] {1L}));
+    MatchingPolicy policy = matchingPolicy.withCourseGroupSize(2, 3);
+
+    // When
+    List<GroupPlacement> result =
+        policy.placeIntoOpenGroups(snapshot, new int[] {candidate}, openGroups);
+
+    // Then
+    assertThat(policy.openGroupCapacity()).isEqualTo(3);
+    assertThat(result).extracting(GroupPlacement::groupId).containsExactly(200L);
+    assertThat(result.get(0).applicantIds()).containsExactly(11L);
+  }
+
+  @Test
+  void 병렬_정책은_순차_정책과_같은_그룹을_같은_순서로_만든다() {
+    // Given
+    ApplicantSnapshot snapshot = RandomApplicantSnapshots.generate(20_000, 40, 7L);
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      // When
+      MatchingPlan sequential = matchingPolicy.plan(snapshot);
+      MatchingPlan parallel = MatchingPolicy.parallel(pool).plan(snapshot);
+
+      // Then
+      assertThat(describe(parallel.groups())).isEqualTo(describe(sequential.groups()));
+      assertThat(parallel.unassigned()).isEqualTo(sequential.unassigned());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void 같은_우선순위에_과목이_겹치는_신청자가_있어도_병렬_정책은_순차_정책과_같다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int index = 0; index < 7; index++) {
+      builder.addApplicant(index + 1L, index + 1L);
+      builder.addPreferredCourse(index, 1L, 0);
+      builder.addPreferredCourse(index, 2L, 0);
+    }
+    ApplicantSnapshot snapshot = builder.build();
+    ForkJoinPool pool = new ForkJoinPool(2);
+
+    try {
+      // When
+      MatchingPlan sequential = matchingPolicy.plan(snapshot);
+      MatchingPlan parallel = MatchingPolicy.parallel(pool).plan(snapshot);
+
+      // Then
+      assertThat(describe(parallel.groups())).isEqualTo(describe(sequential.groups()));
+      assertThat(parallel.assignedCount()).isEqualTo(7);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private List<String> describe(List<int[]> groups) {
+    return groups.stream().map(Arrays::toString).toList();
+  }
+
   private List<StudyApplicant> createApplicants(int count) {
     List<StudyApplicant> applicants = new ArrayList<>();
     for (int sequence = 1; sequence <= count; sequence++) {
@@ -0,0 +1,53 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PlanScoreTest {
+
+  @Test
+  void 배정비율과_그룹인원_분산과_선호순위_만족도를_계산한다() {
+    // Given
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int index = 0; index < 6; index++) {
+      builder.addApplicant(11L + index, 1L + index);
+      if (index == 4) {
+        builder.addPreferredCourse(index, 2L, 0);
+        builder.addPreferredCourse(index, 1L, 1);
+      } else {
+        builder.addPreferredCourse(index, 1L, 0);
+      }
+    }
+    ApplicantSnapshot snapshot = builder.build();
+    MatchingPlan plan =
+        new MatchingPlan(List.of(new int[] {0, 1, 2}, new int[] {3, 4}), new int[] {5});
+
+    // When
+    PlanScore score = PlanScore.of(snapshot, plan);
+
+    // Then
+    assertThat(score.applicantCount()).isEqualTo(6);
+    assertThat(score.assignedCount()).isEqualTo(5);
+    assertThat(score.groupCount()).isEqualTo(2);
+    assertThat(score.matchedRatio()).isCloseTo(5.0 / 6, within(1e-9));
+    assertThat(score.groupSizeVariance()).isCloseTo(0.25, within(1e-9));
+    assertThat(score.prioritySatisfaction()).isCloseTo((4 + 0.5) / 5, within(1e-9));
+  }
+
+  @Test
+  void 신청자가_없으면_모든_지표가_0이다() {
+    // Given
+    ApplicantSnapshot snapshot = ApplicantSnapshot.empty();
+
+    // When
+    PlanScore score = PlanScore.of(snapshot, new MatchingPlan(List.of(), new int[0]));
+
+    // Then
+    assertThat(score.matchedRatio()).isZero();
+    assertThat(score.groupSizeVariance()).isZero();
+    assertThat(score.prioritySatisfaction()).isZero();
+  }
+}
@@ -0,0 +1,50 @@
+package edu.handong.csee.histudy.matching.domain;
+
+import java.util.Random;
+
+/** 매칭 비교·성능 테스트용 임의 스냅샷 */
+final class RandomApplicantSnapshots {
+
+  private static final int PREFERRED_COURSE_COUNT = 3;
+
+  private RandomApplicantSnapshots() {}
+
+  /**
+   * 신청자마다 서로 다른 과목 세 개를 우선순위 0~2로 고르고, 약 10%는 임의의 다른 신청자와 수락된 친구 관계를 가진다.
+   */
+  static ApplicantSnapshot generate(int applicantCount, int courseCount, long seed) {
+    Random random = new Random(seed);
+    ApplicantSnapshot.Builder builder = ApplicantSnapshot.builder();
+    for (int index = 0; index < applicantCount; index++) {
+      builder.addApplicant(index + 1L, index + 1L);
+    }
+
+    for (int index = 0; index < applicantCount; index++) {
+      long[] chosen = new long[PREFERRED_COURSE_COUNT];
+      for (int priority = 0; priority < PREFERRED_COURSE_COUNT; priority++) {
+        long courseId;
+        do {
+          courseId = random.nextInt(courseCount) + 1L;
+        } while (contains(chosen, priority, courseId));
+        chosen[priority] = courseId;
+        builder.addPreferredCourse(index, courseId, priority);
+      }
+      if (applicantCount > 1 && random.nextInt(10) == 0) {
+        int partner = random.nextInt(applicantCount);
+        if (partner != index) {
+          builder.addAcceptedPartner(index, partner);
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  private static boolean contains(long[] values, int length, long value) {
+    for (int index = 0; index < length; index++) {
+      if (values[index] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
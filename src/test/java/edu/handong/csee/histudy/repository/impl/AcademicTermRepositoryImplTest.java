@@ -0,0 +1,98 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.repository.AcademicTermRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AcademicTermRepositoryImpl.class, CurrentTermCache.class, CacheVersions.class})
+class AcademicTermRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private AcademicTermRepository academicTermRepository;
+
+  @Autowired private CurrentTermCache currentTermCache;
+
+  private AcademicTerm spring;
+  private AcademicTerm fall;
+
+  @BeforeEach
+  void setUp() {
+    currentTermCache.evict();
+    spring =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    fall =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void 현재_학기를_한번_읽으면_다음_조회는_쿼리없이_캐시에서_읽는다() {
+    // Given
+    academicTermRepository.findCurrentSemester();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    AcademicTerm currentTerm = academicTermRepository.findCurrentSemester().orElseThrow();
+
+    // Then
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(currentTerm.getAcademicTermId()).isEqualTo(spring.getAcademicTermId());
+  }
+
+  @Test
+  void 다른_인스턴스가_캐시_버전을_올리면_다음_확인_뒤에_새_현재_학기를_읽는다() {
+    // Given
+    currentTermCache.poll();
+    academicTermRepository.findCurrentSemester();
+    jdbcTemplate.update(
+        "update academic_term set is_current = (academic_term_id = ?)", fall.getAcademicTermId());
+    jdbcTemplate.update(
+        "insert into cache_version (cache_name, version) values ('current-term', 1)");
+
+    // When
+    AcademicTerm beforePoll = academicTermRepository.findCurrentSemester().orElseThrow();
+    currentTermCache.poll();
+    AcademicTerm afterPoll = academicTermRepository.findCurrentSemester().orElseThrow();
+
+    // Then
+    assertThat(beforePoll.getAcademicTermId()).isEqualTo(spring.getAcademicTermId());
+    assertThat(afterPoll.getAcademicTermId()).isEqualTo(fall.getAcademicTermId());
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+}
@@ -0,0 +1,129 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ActivityRollupRepositoryImpl.class)
+class ActivityRollupRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private ActivityRollupRepository activityRollupRepository;
+
+  private AcademicTerm currentTerm;
+  private AcademicTerm pastTerm;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    pastTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2025)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+    activityRollupRepository.upsertAll(
+        List.of(
+            ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 10, 3, 300, 6),
+            ActivityRollup.of(currentTerm.getAcademicTermId(), 4, 1, 100, 2),
+            ActivityRollup.empty(pastTerm)));
+    entityManager.flush();
+  }
+
+  @Test
+  void 보고서_증감은_학기_집계와_전체_기간_집계에만_반영된다() {
+    // Given
+
+    // When
+    activityRollupRepository.addReportActivity(currentTerm, 1, 45);
+    entityManager.clear();
+
+    // Then
+    assertThat(find(currentTerm.getAcademicTermId()).getReports()).isEqualTo(3);
+    assertThat(find(currentTerm.getAcademicTermId()).getTotalMinutes()).isEqualTo(145);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getReports()).isEqualTo(7);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getTotalMinutes()).isEqualTo(345);
+    assertThat(find(pastTerm.getAcademicTermId()).getReports()).isZero();
+  }
+
+  @Test
+  void 그룹_증감의_배정_인원은_학기_집계에만_반영된다() {
+    // Given
+
+    // When
+    activityRollupRepository.addGroupActivity(currentTerm, 2, 9);
+    entityManager.clear();
+
+    // Then
+    assertThat(find(currentTerm.getAcademicTermId()).getStudyGroups()).isEqualTo(3);
+    assertThat(find(currentTerm.getAcademicTermId()).getStudyMembers()).isEqualTo(13);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getStudyGroups()).isEqualTo(5);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getStudyMembers()).isEqualTo(10);
+  }
+
+  @Test
+  void 다시_만들면_주어진_집계만_덮어쓰고_나머지_집계는_그대로_둔다() {
+    // Given
+
+    // When
+    activityRollupRepository.upsertAll(
+        List.of(ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 1, 1, 1, 1)));
+    entityManager.clear();
+
+    // Then
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getReports()).isEqualTo(1);
+    assertThat(find(currentTerm.getAcademicTermId()).getReports()).isEqualTo(2);
+    assertThat(activityRollupRepository.count()).isEqualTo(3);
+  }
+
+  @Test
+  void 집계가_없는_학기의_증감은_변화량으로_집계를_만든다() {
+    // Given
+    AcademicTerm newTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+
+    // When
+    activityRollupRepository.addGroupActivity(newTerm, 1, 4);
+    activityRollupRepository.addReportActivity(newTerm, 1, 30);
+    entityManager.clear();
+
+    // Then
+    ActivityRollup created = find(newTerm.getAcademicTermId());
+    assertThat(created.getStudyGroups()).isEqualTo(1);
+    assertThat(created.getStudyMembers()).isEqualTo(4);
+    assertThat(created.getReports()).isEqualTo(1);
+    assertThat(created.getTotalMinutes()).isEqualTo(30);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getStudyGroups()).isEqualTo(4);
+    assertThat(find(ActivityRollup.ALL_TIME_ID).getReports()).isEqualTo(7);
+  }
+
+  private ActivityRollup find(Long rollupId) {
+    return activityRollupRepository.findById(rollupId).orElseThrow();
+  }
+}
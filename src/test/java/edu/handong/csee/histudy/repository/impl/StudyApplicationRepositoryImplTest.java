@@ -0,0 +1,237 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
+import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import edu.handong.csee.histudy.repository.UnassignedUser;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudyApplicationRepositoryImpl.class)
+class StudyApplicationRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private StudyApplicantRepository studyApplicantRepository;
+
+  private AcademicTerm currentTerm;
+  private List<Course> courses;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    courses = new ArrayList<>();
+    for (int sequence = 1; sequence <= 3; sequence++) {
+      courses.add(
+          entityManager.persist(
+              Course.builder()
+                  .name("과목" + sequence)
+                  .code("CSEE10" + sequence)
+                  .professor("Kim")
+                  .academicTerm(currentTerm)
+                  .build()));
+    }
+  }
+
+  @Test
+  void 미배정_신청자_스냅샷은_신청자수와_관계없이_세번의_조회로_만든다() {
+    // Given
+    List<User> users = new ArrayList<>();
+    for (int sequence = 1; sequence <= 20; sequence++) {
+      users.add(entityManager.persist(createUser(sequence)));
+    }
+    for (int index = 0; index < users.size(); index++) {
+      User partner = users.get(index ^ 1);
+      StudyApplicant applicant =
+          StudyApplicant.of(currentTerm, users.get(index), List.of(partner), courses);
+      applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
+      entityManager.persist(applicant);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(currentTerm);
+
+    // Then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertThat(snapshot.size()).isEqualTo(20);
+    assertThat(snapshot.partner(snapshot.partnerFrom(0))).isEqualTo(1);
+    assertThat(snapshot.courseTo(0) - snapshot.courseFrom(0)).isEqualTo(3);
+    assertThat(snapshot.courseId(snapshot.courseFrom(0)))
+        .isEqualTo(courses.get(0).getCourseId());
+  }
+
+  @Test
+  void 미배정_신청자가_없으면_빈_스냅샷을_반환한다() {
+    // Given
+
+    // When
+    ApplicantSnapshot snapshot = studyApplicantRepository.findUnassignedSnapshot(currentTerm);
+
+    // Then
+    assertThat(snapshot.isEmpty()).isTrue();
+  }
+
+  @Test
+  void 배정된_신청자는_선호과목과_친구요청까지_두번의_조회로_채운다() {
+    // Given
+    List<User> users = new ArrayList<>();
+    for (int sequence = 1; sequence <= 12; sequence++) {
+      users.add(entityManager.persist(createUser(sequence)));
+    }
+    for (int tag = 1; tag <= 4; tag++) {
+      List<StudyApplicant> members = new ArrayList<>();
+      for (int index = (tag - 1) * 3; index < tag * 3; index++) {
+        User partner = users.get(index % 3 == 2 ? index - 2 : index + 1);
+        StudyApplicant applicant =
+            StudyApplicant.of(currentTerm, users.get(index), List.of(partner), courses);
+        applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
+        members.add(entityManager.persist(applicant));
+      }
+      entityManager.persist(StudyGroup.of(tag, currentTerm, members));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    List<StudyApplicant> members =
+        studyApplicantRepository.findAssignedApplicantsWithDetails(currentTerm);
+
+    // Then
+    assertThat(members).hasSize(12);
+    assertThat(members)
+        .allSatisfy(
+            member -> {
+              assertThat(member.getUser().getName()).startsWith("User");
+              assertThat(member.getPartnerRequests())
+                  .singleElement()
+                  .satisfies(request -> assertThat(request.getReceiver().getName()).isNotNull());
+              assertThat(member.getPreferredCourses())
+                  .extracting(preferred -> preferred.getCourse().getName())
+                  .hasSize(3);
+            });
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  void 미배정_사용자는_신청서의_선호과목과_친구요청까지_사용자수와_관계없이_세번의_조회로_채운다() {
+    // Given
+    List<User> users = new ArrayList<>();
+    for (int sequence = 1; sequence <= 30; sequence++) {
+      users.add(entityManager.persist(createUser(sequence)));
+    }
+    List<StudyApplicant> grouped = new ArrayList<>();
+    for (int index = 0; index < 20; index++) {
+      User partner = users.get(index ^ 1);
+      StudyApplicant applicant =
+          StudyApplicant.of(currentTerm, users.get(index), List.of(partner), courses);
+      applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
+      entityManager.persist(applicant);
+      if (index < 10) {
+        grouped.add(applicant);
+      }
+    }
+    entityManager.persist(StudyGroup.of(1, currentTerm, grouped));
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    List<UnassignedUser> unassigned = studyApplicantRepository.findUnassignedUsers(currentTerm);
+
+    // Then
+    assertThat(unassigned)
+        .extracting(row -> row.user().getSid())
+        .containsExactlyElementsOf(users.subList(10, 30).stream().map(User::getSid).toList());
+    assertThat(unassigned.subList(0, 10))
+        .allSatisfy(
+            row -> {
+              assertThat(row.applicant().getPartnerRequests())
+                  .singleElement()
+                  .satisfies(request -> assertThat(request.getReceiver().getName()).isNotNull());
+              assertThat(row.applicant().getPreferredCourses())
+                  .extracting(preferred -> preferred.getCourse().getName())
+                  .hasSize(3);
+            });
+    assertThat(unassigned.subList(10, 20)).allSatisfy(row -> assertThat(row.applicant()).isNull());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  void 여러_사용자의_신청서는_친구요청까지_한번의_조회로_가져온다() {
+    // Given
+    List<User> users = new ArrayList<>();
+    for (int sequence = 1; sequence <= 10; sequence++) {
+      users.add(entityManager.persist(createUser(sequence)));
+    }
+    for (int index = 0; index < 8; index++) {
+      entityManager.persist(
+          StudyApplicant.of(
+              currentTerm, users.get(index), List.of(users.get((index + 1) % 10)), courses));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    List<StudyApplicant> applications =
+        studyApplicantRepository.findAllByUsersAndTerm(users, currentTerm);
+
+    // Then
+    assertThat(applications).hasSize(8);
+    assertThat(applications)
+        .allSatisfy(application -> assertThat(application.getPartnerRequests()).hasSize(1));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+}
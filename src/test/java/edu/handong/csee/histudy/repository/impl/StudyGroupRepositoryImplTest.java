@@ -0,0 +1,309 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.GroupCourse;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.MatchedGroup;
+import edu.handong.csee.histudy.matching.domain.OpenGroup;
+import edu.handong.csee.histudy.repository.StudyGroupRepository;
+import edu.handong.csee.histudy.repository.jpa.JpaStudyGroupRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudyGroupRepositoryImpl.class)
+class StudyGroupRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private StudyGroupRepository studyGroupRepository;
+
+  @Autowired private JpaStudyGroupRepository jpaStudyGroupRepository;
+
+  @Autowired private DataSource dataSource;
+
+  private AcademicTerm currentTerm;
+  private List<Course> courses;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    courses = new ArrayList<>();
+    for (int sequence = 1; sequence <= 3; sequence++) {
+      courses.add(
+          entityManager.persist(
+              Course.builder()
+                  .name("과목" + sequence)
+                  .code("CSEE10" + sequence)
+                  .professor("Kim")
+                  .academicTerm(currentTerm)
+                  .build()));
+    }
+  }
+
+  @Test
+  void 매칭된_그룹을_일괄_저장하면_그룹과_과목과_신청자_배정이_함께_저장된다() {
+    // Given
+    List<StudyApplicant> applicants = persistApplicants(5);
+    MatchedGroup first =
+        new MatchedGroup(
+            3,
+            applicantIds(applicants.subList(0, 3)),
+            new long[] {courses.get(0).getCourseId(), courses.get(1).getCourseId()});
+    MatchedGroup second =
+        new MatchedGroup(
+            4, applicantIds(applicants.subList(3, 5)), new long[] {courses.get(2).getCourseId()});
+
+    // When
+    studyGroupRepository.insertMatchedGroups(currentTerm, List.of(first, second));
+    entityManager.clear();
+
+    // Then
+    List<StudyGroup> groups =
+        studyGroupRepository.findAllByAcademicTerm(currentTerm).stream()
+            .sorted(Comparator.comparing(StudyGroup::getTag))
+            .toList();
+    assertThat(groups).extracting(StudyGroup::getTag).containsExactly(3, 4);
+    assertThat(groups.get(0).getMembers())
+        .extracting(StudyApplicant::getStudyApplicantId)
+        .containsExactlyInAnyOrder(
+            applicants.get(0).getStudyApplicantId(),
+            applicants.get(1).getStudyApplicantId(),
+            applicants.get(2).getStudyApplicantId());
+    assertThat(groups.get(0).getCourses())
+        .extracting(GroupCourse::getCourse)
+        .extracting(Course::getCourseId)
+        .containsExactlyInAnyOrder(courses.get(0).getCourseId(), courses.get(1).getCourseId());
+    assertThat(groups.get(1).getMembers()).hasSize(2);
+    assertThat(groups.get(1).getCourses()).hasSize(1);
+  }
+
+  @Test
+  void 같은_학기에_이미_있는_태그로_그룹을_일괄_저장하면_예외가_발생한다() {
+    // Given
+    List<StudyApplicant> applicants = persistApplicants(2);
+    entityManager.persistAndFlush(StudyGroup.of(1, currentTerm, List.of(applicants.get(0))));
+    MatchedGroup duplicated =
+        new MatchedGroup(
+            1, applicantIds(applicants.subList(1, 2)), new long[] {courses.get(0).getCourseId()});
+
+    // When Then
+    assertThatThrownBy(
+            () -> studyGroupRepository.insertMatchedGroups(currentTerm, List.of(duplicated)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  void 저장할_그룹이_없으면_아무것도_하지_않는다() {
+    // Given
+
+    // When
+    studyGroupRepository.insertMatchedGroups(currentTerm, List.of());
+
+    // Then
+    assertThat(studyGroupRepository.countByAcademicTerm(currentTerm)).isZero();
+  }
+
+  @Test
+  void 빈자리가_있는_그룹만_멤버수와_그룹과목으로_조회한다() {
+    // Given
+    List<StudyApplicant> applicants = persistApplicants(7);
+    long[] courseIds = {courses.get(0).getCourseId(), courses.get(1).getCourseId()};
+    studyGroupRepository.insertMatchedGroups(
+        currentTerm,
+        List.of(
+            new MatchedGroup(1, applicantIds(applicants.subList(0, 5)), new long[] {courseIds[0]}),
+            new MatchedGroup(2, applicantIds(applicants.subList(5, 7)), courseIds)));
+    entityManager.clear();
+
+    // When
+    List<OpenGroup> openGroups = studyGroupRepository.findOpenGroups(currentTerm, 5);
+
+    // Then
+    assertThat(openGroups)
+        .singleElement()
+        .satisfies(
+            group -> {
+              assertThat(group.tag()).isEqualTo(2);
+              assertThat(group.memberCount()).isEqualTo(2);
+              assertThat(group.courseIds()).containsExactlyInAnyOrder(courseIds);
+            });
+  }
+
+  @Test
+  void 보고서_증감은_그룹에_누적되고_다시_계산하면_보고서_원천_데이터와_맞춰진다() {
+    // Given
+    List<StudyApplicant> applicants = persistApplicants(2);
+    User member = applicants.get(0).getUser();
+    StudyGroup group =
+        entityManager.persist(StudyGroup.of(1, currentTerm, List.of(applicants.get(0))));
+    StudyGroup emptyGroup =
+        entityManager.persist(StudyGroup.of(2, currentTerm, List.of(applicants.get(1))));
+    entityManager.persist(createReport(group, member, 60));
+    entityManager.persist(createReport(group, member, 45));
+    entityManager.flush();
+
+    // When
+    studyGroupRepository.addReportActivity(group.getStudyGroupId(), 1, 60);
+    studyGroupRepository.addReportActivity(group.getStudyGroupId(), 1, 90);
+    entityManager.clear();
+    StudyGroup incremented = entityManager.find(StudyGroup.class, group.getStudyGroupId());
+    int recounted = studyGroupRepository.recountReportActivity();
+    entityManager.clear();
+
+    // Then
+    assertThat(incremented.getReportCount()).isEqualTo(2);
+    assertThat(incremented.getTotalMinutes()).isEqualTo(150);
+    assertThat(recounted).isEqualTo(2);
+    StudyGroup repaired = entityManager.find(StudyGroup.class, group.getStudyGroupId());
+    assertThat(repaired.getReportCount()).isEqualTo(2);
+    assertThat(repaired.getTotalMinutes()).isEqualTo(105);
+    StudyGroup repairedEmpty = entityManager.find(StudyGroup.class, emptyGroup.getStudyGroupId());
+    assertThat(repairedEmpty.getReportCount()).isZero();
+    assertThat(repairedEmpty.getTotalMinutes()).isZero();
+  }
+
+  @Test
+  @Tag("perf")
+  void 신청자_삼천명의_매칭결과를_저장해도_쿼리_호출_수는_그룹_수와_무관하다() {
+    // Given
+    int applicantCount = 3_000;
+    List<StudyApplicant> applicants = persistApplicants(applicantCount);
+    entityManager.clear();
+    List<MatchedGroup> groups = new ArrayList<>();
+    for (int start = 0; start < applicantCount; start += 5) {
+      groups.add(
+          new MatchedGroup(
+              start / 5 + 1,
+              applicantIds(applicants.subList(start, start + 5)),
+              new long[] {courses.get(start % courses.size()).getCourseId()}));
+    }
+    CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate(dataSource);
+    StudyGroupRepository repository =
+        new StudyGroupRepositoryImpl(jpaStudyGroupRepository, jdbcTemplate);
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    repository.insertMatchedGroups(currentTerm, groups);
+
+    // Then
+    assertThat(jdbcTemplate.getBatchUpdates()).isEqualTo(3);
+    assertThat(jdbcTemplate.getQueries()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(studyGroupRepository.countByAcademicTerm(currentTerm)).isEqualTo(groups.size());
+  }
+
+  private List<StudyApplicant> persistApplicants(int count) {
+    List<StudyApplicant> applicants = new ArrayList<>(count);
+    for (int sequence = 1; sequence <= count; sequence++) {
+      User user = entityManager.persist(createUser(sequence));
+      applicants.add(
+          entityManager.persist(
+              StudyApplicant.of(currentTerm, user, List.of(), List.of(courses.get(0)))));
+    }
+    entityManager.flush();
+    return applicants;
+  }
+
+  private StudyReport createReport(StudyGroup group, User member, long totalMinutes) {
+    return StudyReport.builder()
+        .title("모임")
+        .content("내용")
+        .totalMinutes(totalMinutes)
+        .studyGroup(group)
+        .participants(List.of(member))
+        .images(List.of())
+        .courses(List.of(courses.get(0)))
+        .build();
+  }
+
+  private long[] applicantIds(List<StudyApplicant> applicants) {
+    return applicants.stream().mapToLong(StudyApplicant::getStudyApplicantId).toArray();
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+
+  /** JDBC 왕복 횟수를 세기 위해 일괄 저장과 조회 호출 수를 기록한다. */
+  private static class CountingJdbcTemplate extends JdbcTemplate {
+    private int batchUpdates;
+    private int queries;
+
+    CountingJdbcTemplate(DataSource dataSource) {
+      super(dataSource);
+    }
+
+    @Override
+    public <T> int[][] batchUpdate(
+        String sql,
+        Collection<T> batchArgs,
+        int batchSize,
+        ParameterizedPreparedStatementSetter<T> setter) {
+      batchUpdates++;
+      return super.batchUpdate(sql, batchArgs, batchSize, setter);
+    }
+
+    @Override
+    public void query(String sql, RowCallbackHandler handler, Object... args) {
+      queries++;
+      super.query(sql, handler, args);
+    }
+
+    int getBatchUpdates() {
+      return batchUpdates;
+    }
+
+    int getQueries() {
+      return queries;
+    }
+  }
+}
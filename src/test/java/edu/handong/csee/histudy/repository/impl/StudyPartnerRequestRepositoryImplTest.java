@@ -0,0 +1,161 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.repository.StudyPartnerRequestRepository;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudyPartnerRequestRepositoryImpl.class)
+class StudyPartnerRequestRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private StudyPartnerRequestRepository studyPartnerRequestRepository;
+
+  private AcademicTerm currentTerm;
+  private AcademicTerm previousTerm;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    previousTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2025)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+  }
+
+  @Test
+  void 받은_친구요청은_보낸_사용자까지_한번의_조회로_가져온다() {
+    // Given
+    User receiver = entityManager.persist(createUser(1));
+    for (int sequence = 2; sequence <= 6; sequence++) {
+      User sender = entityManager.persist(createUser(sequence));
+      entityManager.persist(StudyApplicant.of(currentTerm, sender, List.of(receiver), List.of()));
+    }
+    User previousSender = entityManager.persist(createUser(7));
+    entityManager.persist(
+        StudyApplicant.of(previousTerm, previousSender, List.of(receiver), List.of()));
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    List<StudyPartnerRequest> requests =
+        studyPartnerRequestRepository.findAllReceivedBy(receiver, currentTerm);
+
+    // Then
+    assertThat(requests)
+        .extracting(request -> request.getSender().getUser().getSid())
+        .containsExactly("22230002", "22230003", "22230004", "22230005", "22230006");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 받은_친구요청을_수락하면_고른_사용자와_서로_주고받은_대기중인_요청만_수락한다() {
+    // Given
+    User receiver = entityManager.persist(createUser(1));
+    User chosen = entityManager.persist(createUser(2));
+    User other = entityManager.persist(createUser(3));
+    StudyApplicant receiverApplication =
+        entityManager.persist(StudyApplicant.of(currentTerm, receiver, List.of(chosen), List.of()));
+    StudyApplicant chosenApplication =
+        entityManager.persist(StudyApplicant.of(currentTerm, chosen, List.of(receiver), List.of()));
+    StudyApplicant otherApplication =
+        entityManager.persist(StudyApplicant.of(currentTerm, other, List.of(receiver), List.of()));
+    StudyApplicant previousApplication =
+        entityManager.persist(
+            StudyApplicant.of(previousTerm, chosen, List.of(receiver), List.of()));
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    int accepted =
+        studyPartnerRequestRepository.acceptAllBetween(
+            receiver, List.of(chosen.getUserId(), other.getUserId()), currentTerm);
+
+    // Then
+    assertThat(accepted).isEqualTo(2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statusOf(receiverApplication)).isEqualTo(RequestStatus.ACCEPTED);
+    assertThat(statusOf(chosenApplication)).isEqualTo(RequestStatus.ACCEPTED);
+    assertThat(statusOf(otherApplication)).isEqualTo(RequestStatus.PENDING);
+    assertThat(statusOf(previousApplication)).isEqualTo(RequestStatus.PENDING);
+  }
+
+  @Test
+  void 학기가_비어있는_요청은_보낸_신청서의_학기로_채운다() {
+    // Given
+    User receiver = entityManager.persist(createUser(1));
+    User sender = entityManager.persist(createUser(2));
+    entityManager.persist(StudyApplicant.of(previousTerm, sender, List.of(receiver), List.of()));
+    entityManager.flush();
+    entityManager
+        .getEntityManager()
+        .createNativeQuery("update study_partner_request set academic_term_id = null")
+        .executeUpdate();
+    entityManager.clear();
+
+    // When
+    int filled = studyPartnerRequestRepository.fillMissingAcademicTerms();
+
+    // Then
+    assertThat(filled).isEqualTo(1);
+    assertThat(studyPartnerRequestRepository.findAllReceivedBy(receiver, previousTerm)).hasSize(1);
+  }
+
+  private RequestStatus statusOf(StudyApplicant application) {
+    return entityManager
+        .find(StudyApplicant.class, application.getStudyApplicantId())
+        .getPartnerRequests()
+        .get(0)
+        .getRequestStatus();
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+}
@@ -0,0 +1,126 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.repository.GroupThumbnail;
+import edu.handong.csee.histudy.repository.StudyReportRepository;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudyReportRepositoryImpl.class)
+class StudyReportRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private StudyReportRepository studyReportRepository;
+
+  private AcademicTerm currentTerm;
+  private Course course;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    course =
+        entityManager.persist(
+            Course.builder()
+                .name("과목1")
+                .code("CSEE101")
+                .professor("Kim")
+                .academicTerm(currentTerm)
+                .build());
+  }
+
+  @Test
+  void 그룹별_최신보고서의_마지막_이미지를_한번의_조회로_구한다() {
+    // Given
+    User first = entityManager.persist(createUser(1));
+    User second = entityManager.persist(createUser(2));
+    StudyGroup withImage = persistGroup(1, first);
+    StudyGroup withoutImage = persistGroup(2, second);
+    entityManager.persist(createReport(withImage, first, 30, List.of("reports/old.png")));
+    StudyReport latest =
+        entityManager.persist(
+            createReport(withImage, first, 30, List.of("reports/a.png", "reports/b.png")));
+    entityManager.persist(createReport(withoutImage, second, 30, List.of("reports/c.png")));
+    StudyReport latestWithoutImage =
+        entityManager.persist(createReport(withoutImage, second, 30, List.of()));
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    // When
+    List<GroupThumbnail> thumbnails =
+        studyReportRepository.findLatestThumbnailsByAcademicTerm(currentTerm);
+
+    // Then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(thumbnails)
+        .containsExactlyInAnyOrder(
+            new GroupThumbnail(
+                withImage.getStudyGroupId(), latest.getStudyReportId(), "reports/b.png"),
+            new GroupThumbnail(
+                withoutImage.getStudyGroupId(), latestWithoutImage.getStudyReportId(), null));
+  }
+
+  private StudyGroup persistGroup(int tag, User member) {
+    StudyApplicant applicant =
+        entityManager.persist(StudyApplicant.of(currentTerm, member, List.of(), List.of(course)));
+    return entityManager.persist(StudyGroup.of(tag, currentTerm, List.of(applicant)));
+  }
+
+  private StudyReport createReport(
+      StudyGroup group, User member, long totalMinutes, List<String> images) {
+    return StudyReport.builder()
+        .title("모임")
+        .content("내용")
+        .totalMinutes(totalMinutes)
+        .studyGroup(group)
+        .participants(List.of(member))
+        .images(images)
+        .courses(List.of(course))
+        .build();
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+}
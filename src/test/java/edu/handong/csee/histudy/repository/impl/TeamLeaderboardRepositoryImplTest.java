@@ -0,0 +1,120 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.repository.TeamLeaderboardRepository;
+import edu.handong.csee.histudy.repository.TeamStanding;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TeamLeaderboardRepositoryImpl.class)
+class TeamLeaderboardRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private TeamLeaderboardRepository teamLeaderboardRepository;
+
+  private AcademicTerm currentTerm;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+  }
+
+  @Test
+  void 학기의_그룹을_누적시간_내림차순_태그_오름차순으로_조회하고_썸네일이_없으면_비워둔다() {
+    // Given
+    StudyGroup first = entityManager.persist(StudyGroup.of(1, currentTerm, List.of()));
+    StudyGroup second =
+        entityManager.persist(withActivity(StudyGroup.of(2, currentTerm, List.of()), 2, 120));
+    StudyGroup third =
+        entityManager.persist(withActivity(StudyGroup.of(3, currentTerm, List.of()), 1, 0));
+    AcademicTerm pastTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2025)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+    StudyGroup pastGroup =
+        entityManager.persist(withActivity(StudyGroup.of(1, pastTerm, List.of()), 9, 900));
+    teamLeaderboardRepository.saveAll(
+        List.of(
+            TeamLeaderboard.of(second.getStudyGroupId(), 10L, "reports/a.png"),
+            TeamLeaderboard.of(pastGroup.getStudyGroupId(), 20L, "reports/b.png")));
+    entityManager.flush();
+    entityManager.clear();
+
+    // When
+    List<TeamStanding> standings =
+        teamLeaderboardRepository.findStandingsByAcademicTerm(currentTerm);
+
+    // Then
+    assertThat(standings)
+        .extracting(TeamStanding::studyGroupId)
+        .containsExactly(
+            second.getStudyGroupId(), first.getStudyGroupId(), third.getStudyGroupId());
+    assertThat(standings.get(0).reportCount()).isEqualTo(2);
+    assertThat(standings.get(0).totalMinutes()).isEqualTo(120);
+    assertThat(standings.get(0).thumbnailPath()).isEqualTo("reports/a.png");
+    assertThat(standings.get(1).reportCount()).isZero();
+    assertThat(standings.get(1).thumbnailPath()).isNull();
+  }
+
+  @Test
+  void 없을때만_삽입하면_기존_썸네일을_두고_덮어쓰기는_그룹별로_바꾼다() {
+    // Given
+    StudyGroup first = entityManager.persist(StudyGroup.of(1, currentTerm, List.of()));
+    StudyGroup second = entityManager.persist(StudyGroup.of(2, currentTerm, List.of()));
+    teamLeaderboardRepository.insertIfAbsent(
+        TeamLeaderboard.of(first.getStudyGroupId(), 10L, "reports/a.png"));
+
+    // When
+    teamLeaderboardRepository.insertIfAbsent(
+        TeamLeaderboard.of(first.getStudyGroupId(), 11L, "reports/b.png"));
+    long afterInsert = teamLeaderboardRepository.countByAcademicTerm(currentTerm);
+    String keptPath = thumbnailPathOf(first);
+    teamLeaderboardRepository.upsertAll(
+        List.of(
+            TeamLeaderboard.of(first.getStudyGroupId(), 12L, "reports/c.png"),
+            TeamLeaderboard.of(second.getStudyGroupId(), 13L, null)));
+
+    // Then
+    assertThat(afterInsert).isEqualTo(1);
+    assertThat(keptPath).isEqualTo("reports/a.png");
+    assertThat(teamLeaderboardRepository.countByAcademicTerm(currentTerm)).isEqualTo(2);
+    assertThat(thumbnailPathOf(first)).isEqualTo("reports/c.png");
+    assertThat(thumbnailPathOf(second)).isNull();
+  }
+
+  private String thumbnailPathOf(StudyGroup group) {
+    entityManager.clear();
+    return entityManager.find(TeamLeaderboard.class, group.getStudyGroupId()).getThumbnailPath();
+  }
+
+  /** 보고서 수와 누적 시간은 SQL 증감으로만 바뀌므로 저장 전에 값을 넣어 둔다. */
+  private StudyGroup withActivity(StudyGroup group, long reportCount, long totalMinutes) {
+    ReflectionTestUtils.setField(group, "reportCount", reportCount);
+    ReflectionTestUtils.setField(group, "totalMinutes", totalMinutes);
+    return group;
+  }
+}
@@ -0,0 +1,217 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserListing;
+import edu.handong.csee.histudy.repository.UserListingCursor;
+import edu.handong.csee.histudy.repository.UserListingRepository;
+import edu.handong.csee.histudy.repository.UserListingScope;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserListingRepositoryImpl.class)
+class UserListingRepositoryImplTest {
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private UserListingRepository userListingRepository;
+
+  private AcademicTerm currentTerm;
+  private List<Course> courses;
+  private List<User> users;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    courses = new ArrayList<>();
+    for (int sequence = 1; sequence <= 2; sequence++) {
+      courses.add(
+          entityManager.persist(
+              Course.builder()
+                  .name("과목" + sequence)
+                  .code("CSEE10" + sequence)
+                  .professor("Kim")
+                  .academicTerm(currentTerm)
+                  .build()));
+    }
+    // 1~4번은 그룹 배정, 5~8번은 신청만, 9~10번은 신청하지 않은 사용자
+    users = new ArrayList<>();
+    for (int sequence = 1; sequence <= 10; sequence++) {
+      users.add(entityManager.persist(createUser(sequence)));
+    }
+    List<StudyApplicant> grouped = new ArrayList<>();
+    for (int index = 0; index < 8; index++) {
+      User partner = users.get(index ^ 1);
+      StudyApplicant applicant =
+          StudyApplicant.of(currentTerm, users.get(index), List.of(partner), courses);
+      applicant.changeStatusIfReceivedBy(partner, StudyPartnerRequest::accept);
+      entityManager.persist(applicant);
+      if (index < 4) {
+        grouped.add(applicant);
+      }
+    }
+    entityManager.persist(StudyGroup.of(7, currentTerm, grouped));
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void 커서로_이어서_조회하면_학번순으로_빠짐없이_나눠서_반환한다() {
+    // Given
+    List<UserListing> collected = new ArrayList<>();
+    Optional<UserListingCursor> cursor = Optional.empty();
+
+    // When
+    List<UserListing> page;
+    do {
+      page = userListingRepository.findPage(UserListingScope.APPLIED, currentTerm, cursor, 3);
+      collected.addAll(page);
+      if (!page.isEmpty()) {
+        cursor = Optional.of(UserListingCursor.of(page.get(page.size() - 1)));
+      }
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(collected)
+        .extracting(UserListing::sid)
+        .containsExactlyElementsOf(users.subList(0, 8).stream().map(User::getSid).toList());
+    assertThat(collected.get(0).groupTag()).isEqualTo(7);
+    assertThat(collected.get(0).friends())
+        .singleElement()
+        .extracting(UserListing.Friend::sid)
+        .isEqualTo(users.get(1).getSid());
+    assertThat(collected.get(0).courses())
+        .extracting(UserListing.PreferredCourseInfo::name)
+        .containsExactly("과목1", "과목2");
+  }
+
+  @Test
+  void 학번이_같은_사용자는_사용자_ID로_이어서_조회한다() {
+    // Given
+    User duplicated =
+        entityManager.persist(
+            User.builder()
+                .sub("sub-dup")
+                .sid(users.get(9).getSid())
+                .email("duplicated@histudy.com")
+                .name("Duplicated")
+                .role(Role.USER)
+                .build());
+    entityManager.flush();
+    Optional<UserListingCursor> afterNinth =
+        Optional.of(new UserListingCursor(users.get(8).getSid(), users.get(8).getUserId()));
+
+    // When
+    List<UserListing> first =
+        userListingRepository.findPage(UserListingScope.WITHOUT_GROUP, currentTerm, afterNinth, 1);
+    List<UserListing> second =
+        userListingRepository.findPage(
+            UserListingScope.WITHOUT_GROUP,
+            currentTerm,
+            Optional.of(UserListingCursor.of(first.get(0))),
+            1);
+
+    // Then
+    assertThat(first).extracting(UserListing::userId).containsExactly(users.get(9).getUserId());
+    assertThat(second).extracting(UserListing::userId).containsExactly(duplicated.getUserId());
+  }
+
+  @Test
+  void 스트림은_범위의_사용자를_한명씩_선호과목과_친구까지_채워_넘긴다() {
+    // Given
+    List<UserListing> streamed = new ArrayList<>();
+
+    // When
+    userListingRepository.stream(
+        UserListingScope.APPLIED_WITHOUT_GROUP, currentTerm, streamed::add);
+
+    // Then
+    assertThat(streamed)
+        .extracting(UserListing::sid)
+        .containsExactlyElementsOf(users.subList(4, 8).stream().map(User::getSid).toList());
+    assertThat(streamed)
+        .allSatisfy(
+            listing -> {
+              assertThat(listing.groupTag()).isNull();
+              assertThat(listing.friends()).hasSize(1);
+              assertThat(listing.courses()).hasSize(2);
+            });
+  }
+
+  @Test
+  void 그룹이_없는_사용자_스트림에는_신청하지_않은_사용자도_빈_신청정보로_포함한다() {
+    // Given
+    List<UserListing> streamed = new ArrayList<>();
+
+    // When
+    userListingRepository.stream(UserListingScope.WITHOUT_GROUP, currentTerm, streamed::add);
+
+    // Then
+    assertThat(streamed).hasSize(6);
+    assertThat(streamed.subList(4, 6))
+        .allSatisfy(
+            listing -> {
+              assertThat(listing.friends()).isEmpty();
+              assertThat(listing.courses()).isEmpty();
+            });
+  }
+
+  private User createUser(int sequence) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email("user%d@histudy.com".formatted(sequence))
+        .name("User" + sequence)
+        .role(Role.USER)
+        .build();
+  }
+
+  @Test
+  void MySQL_드라이버에는_행_단위_스트리밍_fetch_size를_준다() throws SQLException {
+    // Given
+    Connection mysql = connectionWithDriver("MySQL Connector/J");
+    Connection h2 = connectionWithDriver("H2 JDBC Driver");
+
+    // When & Then
+    assertThat(UserListingRepositoryImpl.streamFetchSize(mysql)).isEqualTo(Integer.MIN_VALUE);
+    assertThat(UserListingRepositoryImpl.streamFetchSize(h2))
+        .isEqualTo(UserListingRepositoryImpl.STREAM_FETCH_SIZE);
+  }
+
+  private static Connection connectionWithDriver(String driverName) throws SQLException {
+    Connection connection = mock(Connection.class);
+    DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(metaData.getDriverName()).thenReturn(driverName);
+    return connection;
+  }
+}
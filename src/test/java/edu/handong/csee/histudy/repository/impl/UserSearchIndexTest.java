@@ -0,0 +1,96 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserSearchIndexTest {
+
+  private final UserSearchIndex searchIndex = new UserSearchIndex();
+
+  @BeforeEach
+  void setUp() {
+    searchIndex.replaceAll(
+        List.of(
+            new UserSearchEntry(1L, "22230003", "홍길동", "gildong@handong.ac.kr", Role.USER),
+            new UserSearchEntry(2L, "22230002", "김길순", "gilsoon@handong.ac.kr", Role.MEMBER),
+            new UserSearchEntry(3L, "22230001", "Alice", "alice@handong.ac.kr", Role.USER),
+            new UserSearchEntry(4L, "22230004", "관리자", "admin@handong.ac.kr", Role.ADMIN)));
+  }
+
+  @Test
+  void 이름_학번_이메일의_일부로_찾고_앞부분이_일치하는_사용자를_먼저_반환한다() {
+    // When
+    List<UserSearchEntry> result = searchIndex.search("길", null, 0, 10);
+    List<UserSearchEntry> byEmail = searchIndex.search("GIL", null, 0, 10);
+
+    // Then
+    assertThat(result).extracting(UserSearchEntry::userId).containsExactly(2L, 1L);
+    assertThat(byEmail).extracting(UserSearchEntry::userId).containsExactly(2L, 1L);
+    assertThat(searchIndex.search("2223000", null, 0, 10))
+        .extracting(UserSearchEntry::userId)
+        .containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  void 초성으로만_검색하면_이름의_초성으로_찾는다() {
+    // When
+    List<UserSearchEntry> result = searchIndex.search("ㄱㄷ", null, 0, 10);
+
+    // Then
+    assertThat(result).extracting(UserSearchEntry::name).containsExactly("홍길동");
+    assertThat(searchIndex.search("ㄱ", null, 0, 10))
+        .extracting(UserSearchEntry::name)
+        .containsExactly("김길순", "홍길동");
+  }
+
+  @Test
+  void 관리자와_요청한_사용자를_빼고_요청한_페이지만_반환한다() {
+    // When
+    List<UserSearchEntry> firstPage = searchIndex.search("", "gildong@handong.ac.kr", 0, 1);
+    List<UserSearchEntry> secondPage = searchIndex.search(" ", "gildong@handong.ac.kr", 1, 1);
+    List<UserSearchEntry> lastPage = searchIndex.search(null, "gildong@handong.ac.kr", 2, 1);
+
+    // Then
+    assertThat(firstPage).extracting(UserSearchEntry::userId).containsExactly(3L);
+    assertThat(secondPage).extracting(UserSearchEntry::userId).containsExactly(2L);
+    assertThat(lastPage).isEmpty();
+  }
+
+  @Test
+  void 사용자를_다시_넣으면_이전_이름으로는_찾지_않는다() {
+    // When
+    searchIndex.put(
+        new UserSearchEntry(1L, "22230003", "홍길순", "gildong@handong.ac.kr", Role.USER));
+
+    // Then
+    assertThat(searchIndex.search("길동", null, 0, 10)).isEmpty();
+    assertThat(searchIndex.search("길순", null, 0, 10))
+        .extracting(UserSearchEntry::userId)
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  void 다시_만들기_시작한_뒤에_넣은_사용자는_다시_만든_색인에도_남는다() {
+    // Given
+    searchIndex.put(
+        new UserSearchEntry(5L, "22230005", "이몽룡", "mong@handong.ac.kr", Role.USER));
+    long readFrom = searchIndex.sequence();
+    searchIndex.put(
+        new UserSearchEntry(6L, "22230006", "성춘향", "chun@handong.ac.kr", Role.USER));
+
+    // When
+    searchIndex.replaceAll(
+        List.of(new UserSearchEntry(1L, "22230003", "홍길동", "gildong@handong.ac.kr", Role.USER)),
+        readFrom);
+
+    // Then
+    assertThat(searchIndex.search("", null, 0, 10))
+        .extracting(UserSearchEntry::userId)
+        .containsExactly(1L, 6L);
+  }
+}
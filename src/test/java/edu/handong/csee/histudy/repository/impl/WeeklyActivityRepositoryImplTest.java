@@ -0,0 +1,116 @@
+package edu.handong.csee.histudy.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import edu.handong.csee.histudy.domain.WeeklyActivityDelta;
+import edu.handong.csee.histudy.repository.WeeklyActivityRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(WeeklyActivityRepositoryImpl.class)
+class WeeklyActivityRepositoryImplTest {
+
+  private static final LocalDate WEEK_10 = LocalDate.of(2026, 3, 2);
+  private static final LocalDate WEEK_11 = LocalDate.of(2026, 3, 9);
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private WeeklyActivityRepository weeklyActivityRepository;
+
+  private AcademicTerm currentTerm;
+
+  @BeforeEach
+  void setUp() {
+    currentTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2026)
+                .semester(TermType.SPRING)
+                .isCurrent(true)
+                .build());
+    entityManager.flush();
+  }
+
+  @Test
+  void 없는_칸은_변화량으로_만들고_있는_칸에는_변화량을_더한다() {
+    // Given
+    weeklyActivityRepository.addActivity(
+        currentTerm,
+        List.of(
+            new WeeklyActivityDelta(WEEK_10, WeeklyActivity.ALL_COURSES, 1, 60, 1),
+            new WeeklyActivityDelta(WEEK_10, 7L, 1, 60, 1)));
+
+    // When
+    weeklyActivityRepository.addActivity(
+        currentTerm,
+        List.of(
+            new WeeklyActivityDelta(WEEK_10, WeeklyActivity.ALL_COURSES, 1, 30, 0),
+            new WeeklyActivityDelta(WEEK_11, WeeklyActivity.ALL_COURSES, 1, 45, 1)));
+    entityManager.clear();
+
+    // Then
+    assertThat(
+            weeklyActivityRepository.findAllByAcademicTermAndCourseId(
+                currentTerm, WeeklyActivity.ALL_COURSES))
+        .extracting(
+            WeeklyActivity::getWeekStart,
+            WeeklyActivity::getReports,
+            WeeklyActivity::getTotalMinutes,
+            WeeklyActivity::getActiveGroups)
+        .containsExactly(tuple(WEEK_10, 2L, 90L, 1L), tuple(WEEK_11, 1L, 45L, 1L));
+    assertThat(weeklyActivityRepository.findAllByAcademicTermAndCourseId(currentTerm, 7L))
+        .extracting(WeeklyActivity::getReports)
+        .containsExactly(1L);
+  }
+
+  @Test
+  void 기간_조회는_학기와_관계없이_과목의_주를_오름차순으로_돌려준다() {
+    // Given
+    AcademicTerm pastTerm =
+        entityManager.persist(
+            AcademicTerm.builder()
+                .academicYear(2025)
+                .semester(TermType.FALL)
+                .isCurrent(false)
+                .build());
+    LocalDate pastWeek = LocalDate.of(2025, 10, 6);
+    weeklyActivityRepository.replaceAllByAcademicTerm(
+        currentTerm,
+        List.of(
+            WeeklyActivity.of(
+                currentTerm,
+                new WeeklyActivityDelta(WEEK_11, WeeklyActivity.ALL_COURSES, 2, 90, 1)),
+            WeeklyActivity.of(
+                currentTerm,
+                new WeeklyActivityDelta(WEEK_10, WeeklyActivity.ALL_COURSES, 1, 30, 1))));
+    weeklyActivityRepository.replaceAllByAcademicTerm(
+        pastTerm,
+        List.of(
+            WeeklyActivity.of(
+                pastTerm,
+                new WeeklyActivityDelta(pastWeek, WeeklyActivity.ALL_COURSES, 3, 120, 2))));
+    entityManager.flush();
+    entityManager.clear();
+
+    // When
+    List<WeeklyActivity> weeks =
+        weeklyActivityRepository.findAllByCourseIdAndWeekStartBetween(
+            WeeklyActivity.ALL_COURSES, LocalDate.of(2025, 9, 1), WEEK_10);
+
+    // Then
+    assertThat(weeks).extracting(WeeklyActivity::getWeekStart).containsExactly(pastWeek, WEEK_10);
+  }
+}
@@ -10,6 +10,7 @@ import edu.handong.csee.histudy.exception.AcademicTermNotFoundException;
 import edu.handong.csee.histudy.exception.DuplicateAcademicTermException;
 import edu.handong.csee.histudy.exception.MissingParameterException;
 import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -23,12 +24,15 @@ class AcademicTermServiceTest {
       AcademicTerm.builder().academicYear(2025).semester(TermType.FALL).isCurrent(false).build();
 
   private FakeAcademicTermRepository academicTermRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
   private AcademicTermService academicTermService;
 
   @BeforeEach
   void setUp() {
     academicTermRepository = new FakeAcademicTermRepository();
-    academicTermService = new AcademicTermService(academicTermRepository);
+    activityRollupRepository = new FakeActivityRollupRepository();
+    academicTermService =
+        new AcademicTermService(academicTermRepository, activityRollupRepository);
   }
 
   @Test
@@ -68,6 +72,20 @@ class AcademicTermServiceTest {
         .isFalse();
   }
 
+  @Test
+  void 새로운_학기를_추가하면_빈_활동_집계가_함께_만들어진다() {
+    // Given
+
+    // When
+    academicTermService.createAcademicTerm(2025, TermType.FALL);
+
+    // Then
+    AcademicTerm created =
+        academicTermRepository.findByYearAndTerm(2025, TermType.FALL).orElseThrow();
+    assertThat(activityRollupRepository.findById(created.getAcademicTermId()))
+        .hasValueSatisfying(rollup -> assertThat(rollup.getReports()).isZero());
+  }
+
   @Test
   void 중복된_학기를_추가하면_예외가_발생한다() {
     // Given
@@ -105,6 +123,20 @@ class AcademicTermServiceTest {
     assertThat(spring.getIsCurrent()).isFalse();
     assertThat(fall.getIsCurrent()).isTrue();
     assertThat(academicTermRepository.findCurrentSemester()).contains(fall);
+    assertThat(academicTermRepository.getInvalidations()).isEqualTo(1);
+  }
+
+  @Test
+  void 이미_현재_학기인_학기로_변경하면_현재_학기_캐시를_비우지_않는다() {
+    // Given
+    AcademicTerm spring = academicTermRepository.save(spring2025CurrentTerm);
+
+    // When
+    academicTermService.setCurrentTerm(spring.getAcademicTermId());
+
+    // Then
+    assertThat(spring.getIsCurrent()).isTrue();
+    assertThat(academicTermRepository.getInvalidations()).isZero();
   }
 
   @Test
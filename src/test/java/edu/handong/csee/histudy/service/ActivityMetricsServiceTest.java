@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.StudyApplicant;
@@ -15,6 +16,7 @@ import edu.handong.csee.histudy.dto.ActivityMetricsDto;
 import edu.handong.csee.histudy.dto.ActivityTerm;
 import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
 import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyReportRepository;
@@ -81,6 +83,7 @@ class ActivityMetricsServiceTest {
   private FakeStudyGroupRepository studyGroupRepository;
   private FakeStudyReportRepository studyReportRepository;
   private FakeAcademicTermRepository academicTermRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
   private ActivityMetricsService activityMetricsService;
 
   @BeforeEach
@@ -90,13 +93,15 @@ class ActivityMetricsServiceTest {
     studyGroupRepository = new FakeStudyGroupRepository();
     studyReportRepository = new FakeStudyReportRepository();
     academicTermRepository = new FakeAcademicTermRepository();
+    activityRollupRepository = new FakeActivityRollupRepository();
     activityMetricsService =
         new ActivityMetricsService(
             userRepository,
             studyApplicantRepository,
             studyGroupRepository,
             studyReportRepository,
-            academicTermRepository);
+            academicTermRepository,
+            activityRollupRepository);
   }
 
   @Test
@@ -177,6 +182,88 @@ class ActivityMetricsServiceTest {
     assertThat(result.getReports()).isEqualTo(1);
   }
 
+  @Test
+  void 활동_집계가_있으면_원천_데이터를_세지_않고_집계를_반환한다() {
+    // Given
+    AcademicTerm savedCurrentTerm = academicTermRepository.save(currentTerm);
+    activityRollupRepository.save(
+        ActivityRollup.of(savedCurrentTerm.getAcademicTermId(), 10, 2, 600, 5));
+    activityRollupRepository.save(ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 40, 8, 3000, 20));
+
+    // When
+    ActivityMetricsDto current = activityMetricsService.getActivityMetrics(ActivityTerm.CURRENT);
+    ActivityMetricsDto all = activityMetricsService.getActivityMetrics(ActivityTerm.ALL);
+
+    // Then
+    assertThat(current.getStudyMembers()).isEqualTo(10);
+    assertThat(current.getStudyGroups()).isEqualTo(2);
+    assertThat(current.getStudyHours()).isEqualTo(10);
+    assertThat(current.getReports()).isEqualTo(5);
+    assertThat(all.getStudyMembers()).isEqualTo(40);
+    assertThat(all.getStudyHours()).isEqualTo(50);
+  }
+
+  @Test
+  void 활동_집계를_다시_만들면_학기별_집계와_전체_기간_집계를_원천_데이터로_채운다() {
+    // Given
+    AcademicTerm savedCurrentTerm = academicTermRepository.save(currentTerm);
+    AcademicTerm savedPreviousTerm = academicTermRepository.save(previousTerm);
+    User member = userRepository.save(memberUser);
+    userRepository.save(adminUser);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, member, List.of(), List.of(currentCourse));
+    studyApplicantRepository.save(applicant);
+    StudyGroup group = studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    studyReportRepository.save(
+        StudyReport.builder()
+            .title("1주차")
+            .content("첫 모임")
+            .totalMinutes(90)
+            .studyGroup(group)
+            .participants(List.of(member))
+            .images(List.of())
+            .courses(List.of(currentCourse))
+            .build());
+    activityRollupRepository.save(ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 99, 99, 99, 99));
+
+    // When
+    int reconciled = activityMetricsService.reconcileRollups();
+
+    // Then
+    assertThat(reconciled).isEqualTo(3);
+    assertThat(activityRollupRepository.findById(ActivityRollup.ALL_TIME_ID))
+        .hasValueSatisfying(
+            rollup -> {
+              assertThat(rollup.getStudyMembers()).isEqualTo(1);
+              assertThat(rollup.getStudyGroups()).isEqualTo(1);
+              assertThat(rollup.getTotalMinutes()).isEqualTo(90);
+              assertThat(rollup.getReports()).isEqualTo(1);
+            });
+    assertThat(activityRollupRepository.findById(savedCurrentTerm.getAcademicTermId()))
+        .hasValueSatisfying(rollup -> assertThat(rollup.getStudyMembers()).isEqualTo(1));
+    assertThat(activityRollupRepository.findById(savedPreviousTerm.getAcademicTermId()))
+        .hasValueSatisfying(rollup -> assertThat(rollup.getReports()).isZero());
+  }
+
+  @Test
+  void 집계가_빠진_학기가_있으면_서버가_뜰때_한번만_원천_데이터로_채운다() {
+    // Given
+    AcademicTerm savedCurrentTerm = academicTermRepository.save(currentTerm);
+    academicTermRepository.save(previousTerm);
+    userRepository.save(memberUser);
+    activityRollupRepository.save(ActivityRollup.empty(savedCurrentTerm));
+
+    // When
+    int backfilled = activityMetricsService.backfillRollups();
+    int backfilledAgain = activityMetricsService.backfillRollups();
+
+    // Then
+    assertThat(backfilled).isEqualTo(3);
+    assertThat(backfilledAgain).isZero();
+    assertThat(activityRollupRepository.findById(ActivityRollup.ALL_TIME_ID))
+        .hasValueSatisfying(rollup -> assertThat(rollup.getStudyMembers()).isEqualTo(1));
+  }
+
   @Test
   void 현재_학기_없이_활동_지표를_조회하면_예외가_발생한다() {
     // Given
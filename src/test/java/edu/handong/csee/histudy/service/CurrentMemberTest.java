@@ -0,0 +1,173 @@
+package edu.handong.csee.histudy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.exception.UserNotFoundException;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
+import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CurrentMemberTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+  private final User memberUser =
+      User.builder()
+          .sub("sub-1")
+          .sid("22230001")
+          .email("member@histudy.com")
+          .name("Member")
+          .role(Role.USER)
+          .build();
+
+  private int userLookups;
+  private int termLookups;
+  private int groupLookups;
+  private FakeUserRepository userRepository;
+  private FakeAcademicTermRepository academicTermRepository;
+  private FakeStudyGroupRepository studyGroupRepository;
+  private CurrentMember currentMember;
+
+  @BeforeEach
+  void setUp() {
+    userRepository =
+        new FakeUserRepository() {
+          @Override
+          public Optional<User> findUserByEmail(String email) {
+            userLookups++;
+            return super.findUserByEmail(email);
+          }
+        };
+    academicTermRepository =
+        new FakeAcademicTermRepository() {
+          @Override
+          public Optional<AcademicTerm> findCurrentSemester() {
+            termLookups++;
+            return super.findCurrentSemester();
+          }
+        };
+    studyGroupRepository =
+        new FakeStudyGroupRepository() {
+          @Override
+          public Optional<StudyGroup> findByUserAndTerm(User user, AcademicTerm term) {
+            groupLookups++;
+            return super.findByUserAndTerm(user, term);
+          }
+        };
+    currentMember =
+        new CurrentMember(
+            userRepository,
+            academicTermRepository,
+            studyGroupRepository,
+            new FakeStudyApplicationRepository());
+  }
+
+  @Test
+  void 요청_안에서_사용자와_현재학기와_그룹은_한번씩만_조회한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User member = userRepository.save(memberUser);
+    StudyApplicant applicant = StudyApplicant.of(currentTerm, member, List.of(), List.of());
+    StudyGroup group = studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    currentMember.authenticate("member@histudy.com");
+
+    // When
+    currentMember.findStudyGroup();
+    currentMember.getUser();
+    Optional<StudyGroup> result = currentMember.findStudyGroup();
+
+    // Then
+    assertThat(result).contains(group);
+    assertThat(currentMember.getCurrentTerm()).isEqualTo(currentTerm);
+    assertThat(userLookups).isEqualTo(1);
+    assertThat(termLookups).isEqualTo(1);
+    assertThat(groupLookups).isEqualTo(1);
+  }
+
+  @Test
+  void 그룹이_없는_사용자도_없다는_결과를_다시_조회하지_않는다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    userRepository.save(memberUser);
+    currentMember.authenticate("member@histudy.com");
+
+    // When
+    currentMember.findStudyGroup();
+    Optional<StudyGroup> result = currentMember.findStudyGroup();
+
+    // Then
+    assertThat(result).isEmpty();
+    assertThat(groupLookups).isEqualTo(1);
+  }
+
+  @Test
+  void 토큰_버전이_같으면_토큰의_그룹ID로_그룹을_조회한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User member = userRepository.save(memberUser);
+    StudyApplicant applicant = StudyApplicant.of(currentTerm, member, List.of(), List.of());
+    StudyGroup group = studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    currentMember.authenticate(claims(member, group.getStudyGroupId(), 0L));
+
+    // When
+    Optional<StudyGroup> result = currentMember.findStudyGroup();
+
+    // Then
+    assertThat(result).contains(group);
+    assertThat(currentMember.isTokenStale()).isFalse();
+    assertThat(userLookups).isZero();
+    assertThat(groupLookups).isZero();
+  }
+
+  @Test
+  void 토큰_버전이_다르면_토큰의_그룹ID를_버리고_다시_조회한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User member = userRepository.save(memberUser);
+    StudyApplicant applicant = StudyApplicant.of(currentTerm, member, List.of(), List.of());
+    StudyGroup group = studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    currentMember.authenticate(claims(member, null, 0L));
+    userRepository.incrementTokenVersion(member.getUserId());
+
+    // When
+    Optional<StudyGroup> result = currentMember.findStudyGroup();
+
+    // Then
+    assertThat(result).contains(group);
+    assertThat(currentMember.isTokenStale()).isTrue();
+    assertThat(groupLookups).isEqualTo(1);
+  }
+
+  @Test
+  void 가입하지_않은_이메일이면_사용자를_읽을_때_예외가_발생한다() {
+    // Given
+    currentMember.authenticate("unknown@histudy.com");
+
+    // When Then
+    assertThatThrownBy(() -> currentMember.getUser()).isInstanceOf(UserNotFoundException.class);
+  }
+
+  private Claims claims(User user, Long studyGroupId, long tokenVersion) {
+    Claims claims = Jwts.claims().setSubject(user.getEmail());
+    claims.put(TokenIdentity.USER_ID, user.getUserId());
+    claims.put(TokenIdentity.ACADEMIC_TERM_ID, currentTerm.getAcademicTermId());
+    claims.put(TokenIdentity.STUDY_GROUP_ID, studyGroupId);
+    claims.put(TokenIdentity.TOKEN_VERSION, tokenVersion);
+    return claims;
+  }
+}
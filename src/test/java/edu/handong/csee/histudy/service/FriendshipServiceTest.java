@@ -0,0 +1,199 @@
+package edu.handong.csee.histudy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.RequestStatus;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.dto.FriendshipDto;
+import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
+import edu.handong.csee.histudy.exception.NoStudyApplicationFound;
+import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyPartnerRequestRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FriendshipServiceTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2025).semester(TermType.SPRING).isCurrent(true).build();
+  private final AcademicTerm previousTerm =
+      AcademicTerm.builder().academicYear(2024).semester(TermType.FALL).isCurrent(false).build();
+
+  private FakeUserRepository userRepository;
+  private FakeAcademicTermRepository academicTermRepository;
+  private FakeStudyApplicationRepository studyApplicantRepository;
+  private FriendshipService friendshipService;
+
+  private User me;
+  private User first;
+  private User second;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = new FakeUserRepository();
+    academicTermRepository = new FakeAcademicTermRepository();
+    studyApplicantRepository = new FakeStudyApplicationRepository(userRepository);
+    friendshipService =
+        new FriendshipService(
+            userRepository,
+            academicTermRepository,
+            studyApplicantRepository,
+            new FakeStudyPartnerRequestRepository(studyApplicantRepository));
+
+    me = userRepository.save(createUser(1, "me"));
+    first = userRepository.save(createUser(2, "first"));
+    second = userRepository.save(createUser(3, "second"));
+  }
+
+  @Test
+  void 받은_친구요청을_조회하면_현재_학기에_나에게_요청한_유저만_반환한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    academicTermRepository.save(previousTerm);
+    studyApplicantRepository.save(StudyApplicant.of(currentTerm, first, List.of(me), List.of()));
+    studyApplicantRepository.save(StudyApplicant.of(previousTerm, second, List.of(me), List.of()));
+    studyApplicantRepository.save(
+        StudyApplicant.of(currentTerm, second, List.of(first), List.of()));
+
+    // When
+    FriendshipDto result = friendshipService.getReceivedRequests("me@histudy.com");
+
+    // Then
+    assertThat(result.getRequests())
+        .singleElement()
+        .satisfies(
+            buddy -> {
+              assertThat(buddy.getId()).isEqualTo(first.getUserId());
+              assertThat(buddy.getSid()).isEqualTo(first.getSidWithMasking());
+              assertThat(buddy.getStatus()).isEqualTo(RequestStatus.PENDING);
+            });
+  }
+
+  @Test
+  void 보낸_친구요청을_조회하면_요청한_순서대로_받은_유저를_반환한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.save(
+        StudyApplicant.of(currentTerm, me, List.of(second, first), List.of()));
+
+    // When
+    FriendshipDto result = friendshipService.getSentRequests("me@histudy.com");
+
+    // Then
+    assertThat(result.getRequests())
+        .extracting(FriendshipDto.Buddy::getName)
+        .containsExactly("second", "first");
+  }
+
+  @Test
+  void 받은_친구요청을_수락하면_내_신청서에_상대를_더하고_양쪽_요청을_수락한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    StudyApplicant myApplication =
+        studyApplicantRepository.save(StudyApplicant.of(currentTerm, me, List.of(), List.of()));
+    StudyApplicant firstApplication =
+        studyApplicantRepository.save(
+            StudyApplicant.of(currentTerm, first, List.of(me), List.of()));
+    StudyApplicant secondApplication =
+        studyApplicantRepository.save(
+            StudyApplicant.of(currentTerm, second, List.of(me), List.of()));
+
+    // When
+    FriendshipDto result =
+        friendshipService.acceptRequests("me@histudy.com", List.of(first.getUserId()));
+
+    // Then
+    assertThat(myApplication.getPartnerRequests())
+        .singleElement()
+        .satisfies(
+            request -> {
+              assertThat(request.getReceiver()).isEqualTo(first);
+              assertThat(request.getRequestStatus()).isEqualTo(RequestStatus.ACCEPTED);
+            });
+    assertThat(firstApplication.getPartnerRequests())
+        .extracting(StudyPartnerRequest::getRequestStatus)
+        .containsExactly(RequestStatus.ACCEPTED);
+    assertThat(secondApplication.getPartnerRequests())
+        .extracting(StudyPartnerRequest::getRequestStatus)
+        .containsExactly(RequestStatus.PENDING);
+    assertThat(result.getRequests())
+        .extracting(FriendshipDto.Buddy::getStatus)
+        .containsExactly(RequestStatus.ACCEPTED, RequestStatus.PENDING);
+  }
+
+  @Test
+  void 이미_보낸_대기중인_요청이_있으면_새로_더하지_않고_양쪽을_수락한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    StudyApplicant myApplication =
+        studyApplicantRepository.save(
+            StudyApplicant.of(currentTerm, me, List.of(first), List.of()));
+    StudyApplicant firstApplication =
+        studyApplicantRepository.save(
+            StudyApplicant.of(currentTerm, first, List.of(me), List.of()));
+
+    // When
+    friendshipService.acceptRequests("me@histudy.com", List.of(first.getUserId()));
+
+    // Then
+    assertThat(myApplication.getPartnerRequests())
+        .extracting(StudyPartnerRequest::getRequestStatus)
+        .containsExactly(RequestStatus.ACCEPTED);
+    assertThat(firstApplication.getPartnerRequests())
+        .extracting(StudyPartnerRequest::getRequestStatus)
+        .containsExactly(RequestStatus.ACCEPTED);
+  }
+
+  @Test
+  void 나에게_요청하지_않은_유저는_수락해도_신청서에_더하지_않는다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    StudyApplicant myApplication =
+        studyApplicantRepository.save(StudyApplicant.of(currentTerm, me, List.of(), List.of()));
+    studyApplicantRepository.save(StudyApplicant.of(currentTerm, first, List.of(), List.of()));
+
+    // When
+    friendshipService.acceptRequests("me@histudy.com", List.of(first.getUserId()));
+
+    // Then
+    assertThat(myApplication.getPartnerRequests()).isEmpty();
+  }
+
+  @Test
+  void 현재_학기_신청서_없이_친구요청을_수락하면_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    studyApplicantRepository.save(StudyApplicant.of(currentTerm, first, List.of(me), List.of()));
+
+    // When Then
+    assertThatThrownBy(
+            () -> friendshipService.acceptRequests("me@histudy.com", List.of(first.getUserId())))
+        .isInstanceOf(NoStudyApplicationFound.class);
+  }
+
+  @Test
+  void 현재_학기_없이_받은_친구요청을_조회하면_예외가_발생한다() {
+    // When Then
+    assertThatThrownBy(() -> friendshipService.getReceivedRequests("me@histudy.com"))
+        .isInstanceOf(NoCurrentTermFoundException.class);
+  }
+
+  private User createUser(int sequence, String name) {
+    return User.builder()
+        .sub("sub-" + sequence)
+        .sid("2223%04d".formatted(sequence))
+        .email(name + "@histudy.com")
+        .name(name)
+        .role(Role.USER)
+        .build();
+  }
+}
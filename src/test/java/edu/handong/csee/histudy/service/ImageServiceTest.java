@@ -59,6 +59,7 @@ class ImageServiceTest {
   private FakeStudyReportRepository studyReportRepository;
   private FakeStudyApplicationRepository studyApplicantRepository;
   private FakeStudyGroupRepository studyGroupRepository;
+  private CurrentMember currentMember;
   private ImageService imageService;
 
   @BeforeEach
@@ -71,14 +72,13 @@ class ImageServiceTest {
     ImagePathMapper imagePathMapper = new ImagePathMapper();
     ReflectionTestUtils.setField(imagePathMapper, "origin", "https://histudy.handong.edu");
     ReflectionTestUtils.setField(imagePathMapper, "imageBasePath", "/images");
+    currentMember =
+        new CurrentMember(
+            userRepository, academicTermRepository, studyGroupRepository, studyApplicantRepository);
+    currentMember.authenticate("member@histudy.com");
     imageService =
         new ImageService(
-            academicTermRepository,
-            userRepository,
-            studyReportRepository,
-            studyApplicantRepository,
-            imagePathMapper,
-            studyGroupRepository);
+            studyReportRepository, studyApplicantRepository, imagePathMapper, currentMember);
     ReflectionTestUtils.setField(imageService, "imageBaseLocation", tempDir.toString() + "/");
   }
 
@@ -94,8 +94,7 @@ class ImageServiceTest {
         new MockMultipartFile("image", "report.png", "image/png", pngBytes);
 
     // When
-    String result =
-        imageService.getImagePaths("member@histudy.com", multipartFile, Optional.empty());
+    String result = imageService.getImagePaths(multipartFile, Optional.empty());
 
     // Then
     assertThat(result).startsWith("https://histudy.handong.edu/images/reports/");
@@ -130,8 +129,7 @@ class ImageServiceTest {
 
     // When
     String result =
-        imageService.getImagePaths(
-            "member@histudy.com", multipartFile, Optional.of(report.getStudyReportId()));
+        imageService.getImagePaths(multipartFile, Optional.of(report.getStudyReportId()));
 
     // Then
     assertThat(result).isEqualTo("https://histudy.handong.edu/images/reports/existing.png");
@@ -147,8 +145,7 @@ class ImageServiceTest {
         new MockMultipartFile("image", "report.png", "image/png", pngBytes);
 
     // When Then
-    assertThatThrownBy(
-            () -> imageService.getImagePaths("member@histudy.com", multipartFile, Optional.empty()))
+    assertThatThrownBy(() -> imageService.getImagePaths(multipartFile, Optional.empty()))
         .isInstanceOf(NoCurrentTermFoundException.class);
   }
 
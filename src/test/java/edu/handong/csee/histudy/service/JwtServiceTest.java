@@ -0,0 +1,86 @@
+package edu.handong.csee.histudy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.jwt.GrantType;
+import edu.handong.csee.histudy.jwt.JwtProperties;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+  private static final String SECRET = "YS1zdHJpbmctc2VjcmV0LWF0LWxlYXN0LTI1Ni1iaXRzLWxvbmc=";
+
+  private final JwtService jwtService =
+      new JwtService(new JwtProperties(SECRET, "http://localhost:8080", "10800", "2592000", 10));
+  private final TokenIdentity identity =
+      new TokenIdentity("member@histudy.com", "Member", Role.MEMBER, 1L, 2L, 3L, 4L);
+
+  @Test
+  void 토큰을_발급하면_사용자_학기_그룹ID와_토큰버전을_클레임으로_담는다() {
+    // Given
+    String token = jwtService.issueToken(identity, GrantType.ACCESS_TOKEN);
+
+    // When
+    Claims claims = jwtService.validate(token);
+
+    // Then
+    assertThat(claims.getSubject()).isEqualTo("member@histudy.com");
+    assertThat(claims.get(TokenIdentity.ROLE, String.class)).isEqualTo("MEMBER");
+    assertThat(claims.get(TokenIdentity.USER_ID, Long.class)).isEqualTo(1L);
+    assertThat(claims.get(TokenIdentity.ACADEMIC_TERM_ID, Long.class)).isEqualTo(2L);
+    assertThat(claims.get(TokenIdentity.STUDY_GROUP_ID, Long.class)).isEqualTo(3L);
+    assertThat(claims.get(TokenIdentity.TOKEN_VERSION, Long.class)).isEqualTo(4L);
+  }
+
+  @Test
+  void 그룹이_없으면_그룹ID_클레임을_넣지_않는다() {
+    // Given
+    TokenIdentity withoutGroup =
+        new TokenIdentity("user@histudy.com", "User", Role.USER, 1L, 2L, null, 0L);
+
+    // When
+    Claims claims = jwtService.validate(jwtService.issueToken(withoutGroup).getAccessToken());
+
+    // Then
+    assertThat(claims).doesNotContainKey(TokenIdentity.STUDY_GROUP_ID);
+  }
+
+  @Test
+  void 같은_토큰을_다시_검증하면_담아둔_클레임을_돌려준다() {
+    // Given
+    String token = jwtService.issueToken(identity, GrantType.ACCESS_TOKEN);
+    Claims first = jwtService.validate(token);
+
+    // When
+    Claims second = jwtService.validate(token);
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void 검증한_토큰의_서명을_다른_내용에_붙이면_예외가_발생한다() {
+    // Given
+    String token = jwtService.issueToken(identity, GrantType.ACCESS_TOKEN);
+    jwtService.validate(token);
+    String[] parts = token.split("\\.");
+    String forgedPayload =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                    .replace("\"MEMBER\"", "\"ADMIN\"")
+                    .getBytes(StandardCharsets.UTF_8));
+    String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+    // When Then
+    assertThatThrownBy(() -> jwtService.validate(forged)).isInstanceOf(JwtException.class);
+  }
+}
@@ -3,20 +3,27 @@ package edu.handong.csee.histudy.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
 import edu.handong.csee.histudy.domain.TermType;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
 import edu.handong.csee.histudy.dto.ReportDto;
 import edu.handong.csee.histudy.service.command.ReportCommand;
 import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeCourseRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyReportRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeTeamLeaderboardRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeWeeklyActivityRepository;
 import edu.handong.csee.histudy.util.ImagePathMapper;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +70,10 @@ class ReportServiceTest {
   private FakeCourseRepository courseRepository;
   private FakeStudyGroupRepository studyGroupRepository;
   private FakeAcademicTermRepository academicTermRepository;
+  private FakeTeamLeaderboardRepository teamLeaderboardRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
+  private FakeWeeklyActivityRepository weeklyActivityRepository;
+  private CurrentMember currentMember;
   private ReportService reportService;
 
   @BeforeEach
@@ -72,6 +83,16 @@ class ReportServiceTest {
     courseRepository = new FakeCourseRepository();
     studyGroupRepository = new FakeStudyGroupRepository();
     academicTermRepository = new FakeAcademicTermRepository();
+    teamLeaderboardRepository = new FakeTeamLeaderboardRepository(studyGroupRepository);
+    activityRollupRepository = new FakeActivityRollupRepository();
+    weeklyActivityRepository = new FakeWeeklyActivityRepository();
+    currentMember =
+        new CurrentMember(
+            userRepository,
+            academicTermRepository,
+            studyGroupRepository,
+            new FakeStudyApplicationRepository());
+    currentMember.authenticate("member@histudy.com");
     ImagePathMapper imagePathMapper = new ImagePathMapper();
     ReflectionTestUtils.setField(imagePathMapper, "origin", "https://histudy.handong.edu");
     ReflectionTestUtils.setField(imagePathMapper, "imageBasePath", "/images");
@@ -81,7 +102,10 @@ class ReportServiceTest {
             userRepository,
             courseRepository,
             studyGroupRepository,
-            academicTermRepository,
+            teamLeaderboardRepository,
+            activityRollupRepository,
+            weeklyActivityRepository,
+            currentMember,
             imagePathMapper);
   }
 
@@ -106,7 +130,7 @@ class ReportServiceTest {
             List.of(savedPrimaryCourse.getCourseId()));
 
     // When
-    ReportDto.ReportInfo result = reportService.createReport(command, "member@histudy.com");
+    ReportDto.ReportInfo result = reportService.createReport(command);
 
     // Then
     assertThat(studyReportRepository.findAll()).hasSize(1);
@@ -159,7 +183,7 @@ class ReportServiceTest {
     ReflectionTestUtils.setField(second, "createdDate", java.time.LocalDateTime.now());
 
     // When
-    List<ReportDto.ReportInfo> result = reportService.getReports("member@histudy.com");
+    List<ReportDto.ReportInfo> result = reportService.getReports();
 
     // Then
     assertThat(result).hasSize(2);
@@ -283,4 +307,132 @@ class ReportServiceTest {
     assertThat(studyReportRepository.findAll()).isEmpty();
     assertThat(reportService.deleteReport(999L)).isFalse();
   }
+
+  @Test
+  void 보고서를_작성_수정_삭제하면_그룹의_보고서수와_누적시간과_썸네일에_반영된다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedMemberUser = userRepository.save(memberUser);
+    Course savedPrimaryCourse = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, savedMemberUser, List.of(), List.of(savedPrimaryCourse));
+    StudyGroup savedStudyGroup =
+        studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    ReportDto.ReportInfo first =
+        reportService.createReport(reportCommand(60L, "reports/one.png", savedPrimaryCourse));
+    ReportDto.ReportInfo second =
+        reportService.createReport(reportCommand(90L, "reports/two.png", savedPrimaryCourse));
+
+    // When
+    reportService.updateReport(
+        first.getId(), reportCommand(30L, "reports/three.png", savedPrimaryCourse));
+    reportService.deleteReport(second.getId());
+
+    // Then
+    TeamLeaderboard leaderboard =
+        teamLeaderboardRepository
+            .findByStudyGroupIdForUpdate(savedStudyGroup.getStudyGroupId())
+            .orElseThrow();
+    assertThat(savedStudyGroup.getReportCount()).isEqualTo(1);
+    assertThat(savedStudyGroup.getTotalMinutes()).isEqualTo(30);
+    assertThat(leaderboard.getLatestReportId()).isEqualTo(first.getId());
+    assertThat(leaderboard.getThumbnailPath()).isEqualTo("reports/three.png");
+  }
+
+  @Test
+  void 보고서를_작성_삭제하면_학기와_전체_기간_활동_집계에_반영된다() {
+    // Given
+    AcademicTerm savedCurrentTerm = academicTermRepository.save(currentTerm);
+    User savedMemberUser = userRepository.save(memberUser);
+    Course savedPrimaryCourse = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, savedMemberUser, List.of(), List.of(savedPrimaryCourse));
+    studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    activityRollupRepository.save(ActivityRollup.empty(savedCurrentTerm));
+    activityRollupRepository.save(ActivityRollup.of(ActivityRollup.ALL_TIME_ID, 1, 1, 100, 2));
+
+    // When
+    reportService.createReport(reportCommand(60L, "reports/one.png", savedPrimaryCourse));
+    ReportDto.ReportInfo second =
+        reportService.createReport(reportCommand(90L, "reports/two.png", savedPrimaryCourse));
+    reportService.deleteReport(second.getId());
+
+    // Then
+    assertThat(activityRollupRepository.findById(savedCurrentTerm.getAcademicTermId()))
+        .hasValueSatisfying(
+            rollup -> {
+              assertThat(rollup.getReports()).isEqualTo(1);
+              assertThat(rollup.getTotalMinutes()).isEqualTo(60);
+            });
+    assertThat(activityRollupRepository.findById(ActivityRollup.ALL_TIME_ID))
+        .hasValueSatisfying(
+            rollup -> {
+              assertThat(rollup.getReports()).isEqualTo(3);
+              assertThat(rollup.getTotalMinutes()).isEqualTo(160);
+            });
+  }
+
+  @Test
+  void 보고서를_작성_수정_삭제하면_그_주의_과목별_주간_집계에_차이만큼_반영된다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedMemberUser = userRepository.save(memberUser);
+    List<Course> savedCourses = courseRepository.saveAll(List.of(primaryCourse, secondaryCourse));
+    Course savedPrimaryCourse = savedCourses.get(0);
+    Course savedSecondaryCourse = savedCourses.get(1);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, savedMemberUser, List.of(), savedCourses);
+    studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    ReportDto.ReportInfo first =
+        reportService.createReport(reportCommand(60L, "reports/one.png", savedPrimaryCourse));
+    ReportDto.ReportInfo second =
+        reportService.createReport(reportCommand(90L, "reports/two.png", savedPrimaryCourse));
+
+    // When
+    reportService.updateReport(
+        second.getId(), reportCommand(30L, "reports/two.png", savedSecondaryCourse));
+    reportService.deleteReport(first.getId());
+
+    // Then
+    assertThat(
+            weeklyActivityRepository.findAllByAcademicTermAndCourseId(
+                currentTerm, WeeklyActivity.ALL_COURSES))
+        .singleElement()
+        .satisfies(
+            week -> {
+              assertThat(week.getReports()).isEqualTo(1);
+              assertThat(week.getTotalMinutes()).isEqualTo(30);
+              assertThat(week.getActiveGroups()).isEqualTo(1);
+            });
+    assertThat(
+            weeklyActivityRepository.findAllByAcademicTermAndCourseId(
+                currentTerm, savedPrimaryCourse.getCourseId()))
+        .singleElement()
+        .satisfies(
+            week -> {
+              assertThat(week.getReports()).isZero();
+              assertThat(week.getTotalMinutes()).isZero();
+              assertThat(week.getActiveGroups()).isZero();
+            });
+    assertThat(
+            weeklyActivityRepository.findAllByAcademicTermAndCourseId(
+                currentTerm, savedSecondaryCourse.getCourseId()))
+        .singleElement()
+        .satisfies(
+            week -> {
+              assertThat(week.getReports()).isEqualTo(1);
+              assertThat(week.getTotalMinutes()).isEqualTo(30);
+              assertThat(week.getActiveGroups()).isEqualTo(1);
+            });
+  }
+
+  private ReportCommand reportCommand(long totalMinutes, String imagePath, Course course) {
+    return new ReportCommand(
+        "모임",
+        "내용",
+        totalMinutes,
+        List.of(),
+        List.of("https://histudy.handong.edu/images/" + imagePath),
+        List.of(course.getCourseId()));
+  }
 }
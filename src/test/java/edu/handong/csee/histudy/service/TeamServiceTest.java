@@ -21,6 +21,7 @@ import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermReposito
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyReportRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeTeamLeaderboardRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
 import edu.handong.csee.histudy.util.ImagePathMapper;
 import java.time.LocalDateTime;
@@ -80,16 +81,19 @@ class TeamServiceTest {
   private FakeAcademicTermRepository academicTermRepository;
   private FakeStudyApplicationRepository studyApplicantRepository;
   private FakeStudyReportRepository studyReportRepository;
+  private FakeTeamLeaderboardRepository teamLeaderboardRepository;
   private ImagePathMapper imagePathMapper;
   private TeamService teamService;
 
   @BeforeEach
   void setUp() {
-    studyGroupRepository = new FakeStudyGroupRepository();
     userRepository = new FakeUserRepository();
     academicTermRepository = new FakeAcademicTermRepository();
     studyApplicantRepository = new FakeStudyApplicationRepository();
     studyReportRepository = new FakeStudyReportRepository();
+    studyGroupRepository =
+        new FakeStudyGroupRepository(studyApplicantRepository, studyReportRepository);
+    teamLeaderboardRepository = new FakeTeamLeaderboardRepository(studyGroupRepository);
     imagePathMapper = new ImagePathMapper();
     ReflectionTestUtils.setField(imagePathMapper, "origin", "https://histudy.handong.edu");
     ReflectionTestUtils.setField(imagePathMapper, "imageBasePath", "/images");
@@ -100,6 +104,7 @@ class TeamServiceTest {
             academicTermRepository,
             studyApplicantRepository,
             studyReportRepository,
+            teamLeaderboardRepository,
             imagePathMapper);
   }
 
@@ -132,6 +137,7 @@ class TeamServiceTest {
             .images(List.of("reports/report2.png"))
             .courses(List.of(course))
             .build());
+    teamService.repairReportCounters();
 
     // When
     List<TeamDto> result = teamService.getTeams("member@histudy.com");
@@ -210,6 +216,7 @@ class TeamServiceTest {
         firstReport.getImages().get(0), "createdDate", LocalDateTime.now().minusDays(1));
     ReflectionTestUtils.setField(
         secondReport.getImages().get(0), "createdDate", LocalDateTime.now());
+    teamService.rebuildLeaderboard();
 
     // When
     TeamRankDto result = teamService.getAllTeams();
@@ -220,6 +227,72 @@ class TeamServiceTest {
     assertThat(result.getTeams().get(0).getTotalMinutes()).isEqualTo(180);
     assertThat(result.getTeams().get(0).getThumbnail())
         .isEqualTo("https://histudy.handong.edu/images/reports/two.png");
+    assertThat(result.getTeams().get(0).getMembers()).containsExactly("Team2");
+  }
+
+  @Test
+  void 보고서가_없는_그룹도_그룹_랭킹에_누적시간_0으로_포함된다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedTeamOneUser = userRepository.save(teamOneUser);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, savedTeamOneUser, List.of(), List.of(commonCourse));
+    studyApplicantRepository.save(applicant);
+    studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+
+    // When
+    int rebuilt = teamService.rebuildLeaderboard();
+    TeamRankDto result = teamService.getAllTeams();
+
+    // Then
+    assertThat(rebuilt).isZero();
+    assertThat(result.getTeams())
+        .singleElement()
+        .satisfies(
+            team -> {
+              assertThat(team.getReports()).isZero();
+              assertThat(team.getTotalMinutes()).isZero();
+              assertThat(team.getThumbnail()).isNull();
+            });
+  }
+
+  @Test
+  void 썸네일이_빠진_기존_보고서는_한번만_채워_그룹_랭킹에_반영한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedTeamOneUser = userRepository.save(teamOneUser);
+    StudyApplicant applicant =
+        StudyApplicant.of(currentTerm, savedTeamOneUser, List.of(), List.of(commonCourse));
+    studyApplicantRepository.save(applicant);
+    StudyGroup group = studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(applicant)));
+    studyReportRepository.save(
+        StudyReport.builder()
+            .title("A")
+            .content("A")
+            .totalMinutes(90)
+            .studyGroup(group)
+            .participants(List.of(savedTeamOneUser))
+            .images(List.of("reports/one.png"))
+            .courses(List.of(commonCourse))
+            .build());
+
+    // When
+    int backfilled = teamService.backfillLeaderboard();
+    int backfilledAgain = teamService.backfillLeaderboard();
+    TeamRankDto result = teamService.getAllTeams();
+
+    // Then
+    assertThat(backfilled).isEqualTo(1);
+    assertThat(backfilledAgain).isZero();
+    assertThat(result.getTeams())
+        .singleElement()
+        .satisfies(
+            team -> {
+              assertThat(team.getReports()).isEqualTo(1);
+              assertThat(team.getTotalMinutes()).isEqualTo(90);
+              assertThat(team.getThumbnail())
+                  .isEqualTo("https://histudy.handong.edu/images/reports/one.png");
+            });
   }
 
   @Test
@@ -255,6 +328,7 @@ class TeamServiceTest {
                 .build());
     ReflectionTestUtils.setField(firstReport, "createdDate", LocalDateTime.of(2025, 3, 10, 9, 0));
     ReflectionTestUtils.setField(secondReport, "createdDate", LocalDateTime.of(2025, 3, 17, 9, 0));
+    teamService.repairReportCounters();
 
     // When
     TeamReportDto result =
@@ -4,29 +4,41 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
 import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.PreferredCourse;
 import edu.handong.csee.histudy.domain.RequestStatus;
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.TermType;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
 import edu.handong.csee.histudy.dto.ApplyFormDto;
+import edu.handong.csee.histudy.dto.CourseDto;
 import edu.handong.csee.histudy.dto.UserDto;
+import edu.handong.csee.histudy.exception.CourseNotFoundException;
+import edu.handong.csee.histudy.exception.InvalidCursorException;
 import edu.handong.csee.histudy.exception.NoCurrentTermFoundException;
 import edu.handong.csee.histudy.exception.UserAlreadyExistsException;
+import edu.handong.csee.histudy.exception.UserNotFoundException;
+import edu.handong.csee.histudy.jwt.TokenIdentity;
 import edu.handong.csee.histudy.service.command.LegacyStudyApplicationCommand;
 import edu.handong.csee.histudy.service.command.SignUpCommand;
 import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeActivityRollupRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeCourseRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyApplicationRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyPartnerRequestRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeUserListingRepository;
 import edu.handong.csee.histudy.service.repository.fake.FakeUserRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Sort;
 
 class UserServiceTest {
 
@@ -126,6 +138,9 @@ class UserServiceTest {
   private FakeStudyGroupRepository studyGroupRepository;
   private FakeAcademicTermRepository academicTermRepository;
   private FakeStudyApplicationRepository studyApplicantRepository;
+  private FakeActivityRollupRepository activityRollupRepository;
+  private FakeUserListingRepository userListingRepository;
+  private FakeStudyPartnerRequestRepository studyPartnerRequestRepository;
   private UserService userService;
 
   @BeforeEach
@@ -134,18 +149,24 @@ class UserServiceTest {
     courseRepository = new FakeCourseRepository();
     studyGroupRepository = new FakeStudyGroupRepository();
     academicTermRepository = new FakeAcademicTermRepository();
-    studyApplicantRepository = new FakeStudyApplicationRepository();
+    studyApplicantRepository = new FakeStudyApplicationRepository(userRepository);
+    activityRollupRepository = new FakeActivityRollupRepository();
+    userListingRepository = new FakeUserListingRepository(userRepository, studyApplicantRepository);
+    studyPartnerRequestRepository = new FakeStudyPartnerRequestRepository(studyApplicantRepository);
     userService =
         new UserService(
             userRepository,
             courseRepository,
             studyGroupRepository,
             academicTermRepository,
-            studyApplicantRepository);
+            studyApplicantRepository,
+            activityRollupRepository,
+            userListingRepository,
+            studyPartnerRequestRepository);
   }
 
   @Test
-  void 검색어_없이_같이할_사람을_검색하면_전체를_학번순으로_조회한다() {
+  void 검색어_없이_같이할_사람을_검색하면_요청자를_뺀_전체를_학번순으로_조회한다() {
     // Given
     userRepository.save(
         User.builder()
@@ -163,13 +184,28 @@ class UserServiceTest {
             .name("First")
             .role(Role.USER)
             .build());
+    userRepository.save(meUser);
+
+    // When
+    List<UserSearchEntry> result =
+        userService.search(Optional.empty(), "me@histudy.com", 0, 20);
+
+    // Then
+    assertThat(result).extracting(UserSearchEntry::sid).containsExactly("22230001", "22230002");
+  }
+
+  @Test
+  void 같이할_사람을_검색하면_요청한_페이지만_조회한다() {
+    // Given
+    userRepository.save(partnerUser);
+    userRepository.save(firstPartnerUser);
+    userRepository.save(secondPartnerUser);
 
     // When
-    List<User> result = userService.search(Optional.of(" "));
+    List<UserSearchEntry> result = userService.search(Optional.of("@histudy"), null, 1, 2);
 
     // Then
-    assertThat(result).extracting(User::getSid).containsExactly("22230001", "22230002");
-    assertThat(result).isEqualTo(userRepository.findAll(Sort.by(Sort.Direction.ASC, "sid")));
+    assertThat(result).extracting(UserSearchEntry::email).containsExactly("second@histudy.com");
   }
 
   @Test
@@ -185,6 +221,7 @@ class UserServiceTest {
     assertThat(savedUser.getEmail()).isEqualTo("alice@histudy.com");
     assertThat(savedUser.getSid()).isEqualTo("22230010");
     assertThat(savedUser.getRole()).isEqualTo(Role.USER);
+    assertThat(userRepository.getIndexedUserIds()).containsExactly(savedUser.getUserId());
   }
 
   @Test
@@ -271,6 +308,68 @@ class UserServiceTest {
     assertThat(applicantForm.getRequestedUsers()).doesNotContain(firstPartner);
   }
 
+  @Test
+  void 여러_친구와_과목으로_신청하면_요청한_순서대로_담고_서로_신청한_친구만_수락한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User applicant = userRepository.save(applicantUser);
+    User firstPartner = userRepository.save(firstPartnerUser);
+    User secondPartner = userRepository.save(secondPartnerUser);
+    List<Course> courses = courseRepository.saveAll(List.of(primaryCourse, secondaryCourse));
+    userService.apply(
+        List.of(applicant.getUserId()), List.of(courses.get(0).getCourseId()), "first@histudy.com");
+
+    // When
+    StudyApplicant result =
+        userService.apply(
+            List.of(secondPartner.getUserId(), firstPartner.getUserId()),
+            List.of(courses.get(1).getCourseId(), courses.get(0).getCourseId()),
+            "applicant@histudy.com");
+
+    // Then
+    assertThat(result.getRequestedUsers()).containsExactly(secondPartner, firstPartner);
+    assertThat(result.getPartnerRequests())
+        .extracting(request -> request.getRequestStatus())
+        .containsExactly(RequestStatus.PENDING, RequestStatus.ACCEPTED);
+    assertThat(
+            result.getPreferredCourses().stream()
+                .sorted(Comparator.comparing(PreferredCourse::getPriority))
+                .map(PreferredCourse::getCourse))
+        .containsExactly(courses.get(1), courses.get(0));
+    assertThat(
+            studyApplicantRepository
+                .findByUserAndTerm(firstPartner, currentTerm)
+                .orElseThrow()
+                .getPartnerRequests())
+        .singleElement()
+        .extracting(request -> request.getRequestStatus())
+        .isEqualTo(RequestStatus.ACCEPTED);
+  }
+
+  @Test
+  void 없는_친구나_과목으로_스터디를_신청하면_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    userRepository.save(applicantUser);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+
+    // When Then
+    assertThatThrownBy(
+            () ->
+                userService.apply(
+                    new LegacyStudyApplicationCommand(
+                        List.of("29999999"), List.of(course.getCourseId())),
+                    "applicant@histudy.com"))
+        .isInstanceOf(UserNotFoundException.class);
+    assertThatThrownBy(
+            () ->
+                userService.apply(
+                    new LegacyStudyApplicationCommand(
+                        List.of(), List.of(course.getCourseId(), 999L)),
+                    "applicant@histudy.com"))
+        .isInstanceOf(CourseNotFoundException.class);
+  }
+
   @Test
   void 그룹이_배정된_스터디_신청을_수정하면_예외가_발생한다() {
     // Given
@@ -397,6 +496,42 @@ class UserServiceTest {
     assertThat(studyApplicantRepository.findAllByTerm(currentTerm)).isEmpty();
   }
 
+  @Test
+  void 유저의_그룹을_배정했다가_해제하면_학기_활동_집계의_그룹수와_배정인원이_따라_바뀐다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User applicant = userRepository.save(applicantUser);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    studyApplicantRepository.save(
+        StudyApplicant.of(currentTerm, applicant, List.of(), List.of(course)));
+    activityRollupRepository.save(ActivityRollup.empty(currentTerm));
+
+    // When
+    userService.editUser(
+        UserDto.UserEdit.builder()
+            .id(applicant.getUserId())
+            .team(3)
+            .name(applicant.getName())
+            .sid(applicant.getSid())
+            .build());
+    ActivityRollup assigned =
+        activityRollupRepository.findById(currentTerm.getAcademicTermId()).orElseThrow();
+    userService.editUser(
+        UserDto.UserEdit.builder()
+            .id(applicant.getUserId())
+            .name(applicant.getName())
+            .sid(applicant.getSid())
+            .build());
+    ActivityRollup released =
+        activityRollupRepository.findById(currentTerm.getAcademicTermId()).orElseThrow();
+
+    // Then
+    assertThat(assigned.getStudyGroups()).isEqualTo(1);
+    assertThat(assigned.getStudyMembers()).isEqualTo(1);
+    assertThat(released.getStudyGroups()).isZero();
+    assertThat(released.getStudyMembers()).isZero();
+  }
+
   @Test
   void 신청했지만_아직_그룹이_배정되지_않은_유저_목록을_조회하면_미배정_신청자만_반환한다() {
     // Given
@@ -419,4 +554,172 @@ class UserServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0).getEmail()).isEqualTo(savedUngroupedUser.getEmail());
   }
+
+  @Test
+  void 신청한_유저_목록을_커서로_이어서_조회하면_학번순으로_나눠서_반환한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    for (User user : List.of(ungroupedUser, applicantUser, applicantOnlyUser)) {
+      studyApplicantRepository.save(
+          StudyApplicant.of(currentTerm, userRepository.save(user), List.of(), List.of(course)));
+    }
+    userRepository.save(noFormUser);
+
+    // When
+    UserDto.UserInfoPage first = userService.getAppliedUsers(Optional.empty(), 2);
+    UserDto.UserInfoPage second =
+        userService.getAppliedUsers(Optional.of(first.getNextCursor()), 2);
+
+    // Then
+    assertThat(first.getUsers())
+        .extracting(UserDto.UserInfo::getSid)
+        .containsExactly("22230001", "22230007");
+    assertThat(second.getUsers()).extracting(UserDto.UserInfo::getSid).containsExactly("22230009");
+    assertThat(second.getNextCursor()).isNull();
+    assertThat(second.getUsers().get(0).getCourses())
+        .extracting(CourseDto.BasicCourseInfo::getName)
+        .containsExactly("자료구조");
+  }
+
+  @Test
+  void 잘못된_커서로_유저_목록을_조회하면_예외가_발생한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+
+    // When & Then
+    assertThatThrownBy(() -> userService.getUnmatchedUsers(Optional.of("not-a-cursor"), 10))
+        .isInstanceOf(InvalidCursorException.class);
+  }
+
+  @Test
+  void 미배정_유저_목록을_스트림으로_조회하면_한명씩_학번순으로_넘겨준다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedGroupedUser = userRepository.save(groupedUser);
+    userRepository.save(noFormUser);
+    userRepository.save(applicantOnlyUser);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    StudyApplicant groupedApplicant =
+        StudyApplicant.of(currentTerm, savedGroupedUser, List.of(), List.of(course));
+    studyApplicantRepository.save(groupedApplicant);
+    studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(groupedApplicant)));
+    List<UserDto.UserInfo> streamed = new ArrayList<>();
+
+    // When
+    userService.streamUnmatchedUsers(streamed::add);
+
+    // Then
+    assertThat(streamed)
+        .extracting(UserDto.UserInfo::getEmail)
+        .containsExactly("applicant-only@histudy.com", "plain@histudy.com");
+  }
+
+  @Test
+  void 유저의_그룹을_배정하거나_해제하면_토큰버전이_올라간다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User applicant = userRepository.save(applicantUser);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    studyApplicantRepository.save(
+        StudyApplicant.of(currentTerm, applicant, List.of(), List.of(course)));
+    activityRollupRepository.save(ActivityRollup.empty(currentTerm));
+    UserDto.UserEdit assign =
+        UserDto.UserEdit.builder()
+            .id(applicant.getUserId())
+            .team(3)
+            .name(applicant.getName())
+            .sid(applicant.getSid())
+            .build();
+
+    // When
+    userService.editUser(assign);
+    long assignedVersion = applicant.getTokenVersion();
+    userService.editUser(assign);
+    long unchangedVersion = applicant.getTokenVersion();
+    userService.editUser(
+        UserDto.UserEdit.builder()
+            .id(applicant.getUserId())
+            .name(applicant.getName())
+            .sid(applicant.getSid())
+            .build());
+
+    // Then
+    assertThat(assignedVersion).isEqualTo(1);
+    assertThat(unchangedVersion).isEqualTo(1);
+    assertThat(applicant.getTokenVersion()).isEqualTo(2);
+    assertThat(userRepository.getIndexedUserIds()).hasSize(3).containsOnly(applicant.getUserId());
+  }
+
+  @Test
+  void 유저의_그룹을_태그로_바꾸면_현재_학기_행을_잠근다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User applicant = userRepository.save(applicantUser);
+    studyApplicantRepository.save(StudyApplicant.of(currentTerm, applicant, List.of(), List.of()));
+    activityRollupRepository.save(ActivityRollup.empty(currentTerm));
+
+    // When
+    userService.editUser(
+        UserDto.UserEdit.builder()
+            .id(applicant.getUserId())
+            .team(1)
+            .name(applicant.getName())
+            .sid(applicant.getSid())
+            .build());
+
+    // Then
+    assertThat(academicTermRepository.getLocks()).isEqualTo(1);
+    assertThat(studyGroupRepository.findAllByAcademicTerm(currentTerm))
+        .extracting(StudyGroup::getTag)
+        .containsExactly(1);
+  }
+
+  @Test
+  void 그룹이_배정된_유저의_토큰정보를_만들면_MEMBER_역할과_학기_그룹ID를_담는다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    User savedGroupedUser = userRepository.save(groupedUser);
+    Course course = courseRepository.saveAll(List.of(primaryCourse)).get(0);
+    StudyApplicant groupedApplicant =
+        StudyApplicant.of(currentTerm, savedGroupedUser, List.of(), List.of(course));
+    studyApplicantRepository.save(groupedApplicant);
+    StudyGroup group =
+        studyGroupRepository.save(StudyGroup.of(1, currentTerm, List.of(groupedApplicant)));
+
+    // When
+    TokenIdentity identity = userService.getTokenIdentity(savedGroupedUser.getEmail());
+
+    // Then
+    assertThat(identity.role()).isEqualTo(Role.MEMBER);
+    assertThat(identity.userId()).isEqualTo(savedGroupedUser.getUserId());
+    assertThat(identity.academicTermId()).isEqualTo(currentTerm.getAcademicTermId());
+    assertThat(identity.studyGroupId()).isEqualTo(group.getStudyGroupId());
+    assertThat(identity.tokenVersion()).isZero();
+  }
+
+  @Test
+  void 현재_학기가_없으면_관리자만_토큰정보를_만든다() {
+    // Given
+    User admin =
+        userRepository.save(
+            User.builder()
+                .sub("sub-admin")
+                .sid("22230099")
+                .email("admin@histudy.com")
+                .name("Admin")
+                .role(Role.ADMIN)
+                .build());
+    User user = userRepository.save(applicantUser);
+
+    // When
+    TokenIdentity identity = userService.getTokenIdentity(admin);
+
+    // Then
+    assertThat(identity.role()).isEqualTo(Role.ADMIN);
+    assertThat(identity.academicTermId()).isNull();
+    assertThat(identity.studyGroupId()).isNull();
+    assertThatThrownBy(() -> userService.getTokenIdentity(user))
+        .isInstanceOf(NoCurrentTermFoundException.class);
+  }
 }
@@ -0,0 +1,189 @@
+package edu.handong.csee.histudy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.Course;
+import edu.handong.csee.histudy.domain.Role;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyGroup;
+import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.domain.TermType;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.dto.WeeklyActivityDto;
+import edu.handong.csee.histudy.exception.AcademicTermNotFoundException;
+import edu.handong.csee.histudy.service.repository.fake.FakeAcademicTermRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeCourseRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyGroupRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeStudyReportRepository;
+import edu.handong.csee.histudy.service.repository.fake.FakeWeeklyActivityRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class WeeklyActivityServiceTest {
+
+  private final AcademicTerm currentTerm =
+      AcademicTerm.builder().academicYear(2026).semester(TermType.SPRING).isCurrent(true).build();
+  private final User firstUser =
+      User.builder()
+          .sub("sub-1")
+          .sid("22230001")
+          .email("first@histudy.com")
+          .name("First")
+          .role(Role.USER)
+          .build();
+  private final User secondUser =
+      User.builder()
+          .sub("sub-2")
+          .sid("22230002")
+          .email("second@histudy.com")
+          .name("Second")
+          .role(Role.USER)
+          .build();
+
+  private FakeAcademicTermRepository academicTermRepository;
+  private FakeCourseRepository courseRepository;
+  private FakeStudyGroupRepository studyGroupRepository;
+  private FakeStudyReportRepository studyReportRepository;
+  private FakeWeeklyActivityRepository weeklyActivityRepository;
+  private WeeklyActivityService weeklyActivityService;
+
+  @BeforeEach
+  void setUp() {
+    academicTermRepository = new FakeAcademicTermRepository();
+    courseRepository = new FakeCourseRepository();
+    studyGroupRepository = new FakeStudyGroupRepository();
+    studyReportRepository = new FakeStudyReportRepository();
+    weeklyActivityRepository = new FakeWeeklyActivityRepository();
+    weeklyActivityService =
+        new WeeklyActivityService(
+            academicTermRepository, studyReportRepository, weeklyActivityRepository);
+  }
+
+  @Test
+  void 주간_집계를_다시_만들면_ISO_주와_과목마다_보고서수와_누적시간과_활동그룹수를_센다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    List<Course> courses =
+        courseRepository.saveAll(List.of(course("자료구조", "CSEE201"), course("운영체제", "CSEE301")));
+    Course dataStructures = courses.get(0);
+    Course operatingSystems = courses.get(1);
+    StudyGroup first = persistGroup(1, firstUser, courses);
+    StudyGroup second = persistGroup(2, secondUser, courses);
+    // 2026-03-02(월)부터 시작하는 10주차, 2026-03-09(월)부터 시작하는 11주차
+    persistReport(first, 60, LocalDateTime.of(2026, 3, 2, 10, 0), dataStructures);
+    persistReport(first, 30, LocalDateTime.of(2026, 3, 8, 23, 59), dataStructures);
+    persistReport(second, 90, LocalDateTime.of(2026, 3, 4, 12, 0), operatingSystems);
+    persistReport(second, 45, LocalDateTime.of(2026, 3, 9, 0, 0), dataStructures);
+
+    // When
+    int rebuilt = weeklyActivityService.rebuildWeeklyActivity();
+
+    // Then
+    assertThat(rebuilt).isEqualTo(5);
+    WeeklyActivityDto all =
+        weeklyActivityService.getWeeklyActivity(currentTerm.getAcademicTermId(), null, null, null);
+    assertThat(all.getCourseId()).isNull();
+    assertThat(all.getWeeks())
+        .extracting(
+            WeeklyActivityDto.WeekInfo::getWeek,
+            WeeklyActivityDto.WeekInfo::getWeekStart,
+            WeeklyActivityDto.WeekInfo::getReports,
+            WeeklyActivityDto.WeekInfo::getStudyMinutes,
+            WeeklyActivityDto.WeekInfo::getActiveGroups)
+        .containsExactly(
+            tuple(10, LocalDate.of(2026, 3, 2), 3L, 180L, 2L),
+            tuple(11, LocalDate.of(2026, 3, 9), 1L, 45L, 1L));
+    WeeklyActivityDto dataStructuresWeeks =
+        weeklyActivityService.getWeeklyActivity(
+            null, dataStructures.getCourseId(), null, LocalDate.of(2026, 12, 31));
+    assertThat(dataStructuresWeeks.getWeeks())
+        .extracting(
+            WeeklyActivityDto.WeekInfo::getReports, WeeklyActivityDto.WeekInfo::getActiveGroups)
+        .containsExactly(
+            tuple(2L, 1L),
+            tuple(1L, 1L));
+  }
+
+  @Test
+  void 현재_학기의_주간_집계가_없으면_서버가_뜰때_한번만_보고서로_채운다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    Course dataStructures = courseRepository.saveAll(List.of(course("자료구조", "CSEE201"))).get(0);
+    StudyGroup group = persistGroup(1, firstUser, List.of(dataStructures));
+    persistReport(group, 60, LocalDateTime.of(2026, 3, 2, 10, 0), dataStructures);
+
+    // When
+    int backfilled = weeklyActivityService.backfillWeeklyActivity();
+    int backfilledAgain = weeklyActivityService.backfillWeeklyActivity();
+
+    // Then
+    assertThat(backfilled).isEqualTo(2);
+    assertThat(backfilledAgain).isZero();
+  }
+
+  @Test
+  void 기간의_첫날이_주중이면_그_주부터_조회한다() {
+    // Given
+    academicTermRepository.save(currentTerm);
+    Course dataStructures =
+        courseRepository.saveAll(List.of(course("자료구조", "CSEE201"))).get(0);
+    StudyGroup group = persistGroup(1, firstUser, List.of(dataStructures));
+    persistReport(group, 60, LocalDateTime.of(2026, 3, 3, 10, 0), dataStructures);
+    persistReport(group, 60, LocalDateTime.of(2026, 2, 27, 10, 0), dataStructures);
+    weeklyActivityService.rebuildWeeklyActivity();
+
+    // When
+    WeeklyActivityDto result =
+        weeklyActivityService.getWeeklyActivity(
+            null, null, LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 31));
+
+    // Then
+    assertThat(result.getWeeks())
+        .extracting(WeeklyActivityDto.WeekInfo::getWeekStart)
+        .containsExactly(LocalDate.of(2026, 3, 2));
+  }
+
+  @Test
+  void 없는_학기의_주간_집계를_조회하면_예외가_발생한다() {
+    // When & Then
+    assertThatThrownBy(() -> weeklyActivityService.getWeeklyActivity(999L, null, null, null))
+        .isInstanceOf(AcademicTermNotFoundException.class);
+  }
+
+  private Course course(String name, String code) {
+    return Course.builder()
+        .name(name)
+        .code(code)
+        .professor("Kim")
+        .academicTerm(currentTerm)
+        .build();
+  }
+
+  private StudyGroup persistGroup(int tag, User user, List<Course> courses) {
+    StudyApplicant applicant = StudyApplicant.of(currentTerm, user, List.of(), courses);
+    return studyGroupRepository.save(StudyGroup.of(tag, currentTerm, List.of(applicant)));
+  }
+
+  private void persistReport(
+      StudyGroup group, long totalMinutes, LocalDateTime createdDate, Course course) {
+    StudyReport report =
+        studyReportRepository.save(
+            StudyReport.builder()
+                .title("모임")
+                .content("내용")
+                .totalMinutes(totalMinutes)
+                .studyGroup(group)
+                .participants(List.of())
+                .images(List.of())
+                .courses(List.of(course))
+                .build());
+    ReflectionTestUtils.setField(report, "createdDate", createdDate);
+  }
+}
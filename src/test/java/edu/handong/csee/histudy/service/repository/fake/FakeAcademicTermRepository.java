@@ -13,12 +13,33 @@ public class FakeAcademicTermRepository implements AcademicTermRepository {
 
   private final List<AcademicTerm> store = new ArrayList<>();
   private Long sequence = 1L;
+  private int invalidations = 0;
+  private int locks = 0;
 
   @Override
   public Optional<AcademicTerm> findCurrentSemester() {
     return store.stream().filter(AcademicTerm::getIsCurrent).findFirst();
   }
 
+  @Override
+  public Optional<AcademicTerm> findCurrentSemesterForUpdate() {
+    locks++;
+    return findCurrentSemester();
+  }
+
+  @Override
+  public void invalidateCurrentSemester() {
+    invalidations++;
+  }
+
+  public int getInvalidations() {
+    return invalidations;
+  }
+
+  public int getLocks() {
+    return locks;
+  }
+
   @Override
   public Optional<AcademicTerm> findByYearAndTerm(int year, TermType sem) {
     return store.stream()
@@ -56,4 +77,10 @@ public class FakeAcademicTermRepository implements AcademicTermRepository {
   public Optional<AcademicTerm> findById(Long id) {
     return store.stream().filter(term -> term.getAcademicTermId().equals(id)).findFirst();
   }
+
+  @Override
+  public Optional<AcademicTerm> findByIdForUpdate(Long id) {
+    locks++;
+    return findById(id);
+  }
 }
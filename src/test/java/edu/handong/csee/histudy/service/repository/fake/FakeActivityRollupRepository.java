@@ -0,0 +1,67 @@
+package edu.handong.csee.histudy.service.repository.fake;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.ActivityRollup;
+import edu.handong.csee.histudy.repository.ActivityRollupRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeActivityRollupRepository implements ActivityRollupRepository {
+
+  private final Map<Long, ActivityRollup> store = new LinkedHashMap<>();
+
+  @Override
+  public Optional<ActivityRollup> findById(Long rollupId) {
+    return Optional.ofNullable(store.get(rollupId));
+  }
+
+  @Override
+  public ActivityRollup save(ActivityRollup rollup) {
+    store.put(rollup.getRollupId(), rollup);
+    return rollup;
+  }
+
+  @Override
+  public long count() {
+    return store.size();
+  }
+
+  @Override
+  public void upsertAll(List<ActivityRollup> rollups) {
+    rollups.forEach(this::save);
+  }
+
+  @Override
+  public void addReportActivity(AcademicTerm academicTerm, long reportDelta, long minutesDelta) {
+    for (Long rollupId : List.of(academicTerm.getAcademicTermId(), ActivityRollup.ALL_TIME_ID)) {
+      add(rollupId, 0, 0, minutesDelta, reportDelta);
+    }
+  }
+
+  @Override
+  public void addGroupActivity(AcademicTerm academicTerm, long groupDelta, long memberDelta) {
+    add(academicTerm.getAcademicTermId(), memberDelta, groupDelta, 0, 0);
+    add(ActivityRollup.ALL_TIME_ID, 0, groupDelta, 0, 0);
+  }
+
+  @Override
+  public void addStudyMembers(long memberDelta) {
+    add(ActivityRollup.ALL_TIME_ID, memberDelta, 0, 0, 0);
+  }
+
+  private void add(
+      Long rollupId, long studyMembers, long studyGroups, long totalMinutes, long reports) {
+    store.merge(
+        rollupId,
+        ActivityRollup.of(rollupId, studyMembers, studyGroups, totalMinutes, reports),
+        (rollup, delta) ->
+            ActivityRollup.of(
+                rollupId,
+                rollup.getStudyMembers() + delta.getStudyMembers(),
+                rollup.getStudyGroups() + delta.getStudyGroups(),
+                rollup.getTotalMinutes() + delta.getTotalMinutes(),
+                rollup.getReports() + delta.getReports()));
+  }
+}
@@ -4,6 +4,7 @@ import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.Course;
 import edu.handong.csee.histudy.repository.CourseRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -67,6 +68,11 @@ public class FakeCourseRepository implements CourseRepository {
     return store.stream().filter(c -> c.getCourseId().equals(id)).findFirst();
   }
 
+  @Override
+  public List<Course> findAllById(Collection<Long> ids) {
+    return store.stream().filter(c -> ids.contains(c.getCourseId())).toList();
+  }
+
   public List<Course> findAll() {
     return new ArrayList<>(store);
   }
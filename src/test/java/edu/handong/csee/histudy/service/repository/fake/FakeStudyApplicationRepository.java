@@ -4,17 +4,32 @@ import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyApplicant;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.matching.domain.ApplicantSnapshot;
 import edu.handong.csee.histudy.repository.StudyApplicantRepository;
+import edu.handong.csee.histudy.repository.UnassignedUser;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class FakeStudyApplicationRepository implements StudyApplicantRepository {
 
   private final List<StudyApplicant> store = new ArrayList<>();
+  private final FakeUserRepository userRepository;
   private Long sequence = 1L;
 
+  public FakeStudyApplicationRepository() {
+    this(null);
+  }
+
+  /** 미배정 사용자 조회에서 전체 사용자를 읽을 저장소를 함께 받는다. */
+  public FakeStudyApplicationRepository(FakeUserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
   @Override
   public Optional<StudyApplicant> findByUserAndTerm(User applicant, AcademicTerm currentTerm) {
     return store.stream()
@@ -29,6 +44,29 @@ public class FakeStudyApplicationRepository implements StudyApplicantRepository
         .toList();
   }
 
+  @Override
+  public List<StudyApplicant> findAllByUsersAndTerm(
+      Collection<User> users, AcademicTerm currentTerm) {
+    return store.stream()
+        .filter(e -> users.contains(e.getUser()) && e.getAcademicTerm().equals(currentTerm))
+        .toList();
+  }
+
+  @Override
+  public ApplicantSnapshot findUnassignedSnapshot(AcademicTerm currentTerm) {
+    return ApplicantSnapshot.from(findUnassignedApplicants(currentTerm));
+  }
+
+  @Override
+  public List<StudyApplicant> findAllWithPreferredCoursesByIdIn(Collection<Long> ids) {
+    return store.stream().filter(e -> ids.contains(e.getStudyApplicantId())).toList();
+  }
+
+  @Override
+  public List<StudyApplicant> findAllWithPartnerRequestsByIdIn(Collection<Long> ids) {
+    return findAllWithPreferredCoursesByIdIn(ids);
+  }
+
   @Override
   public List<StudyApplicant> findAssignedApplicants(AcademicTerm currentTerm) {
     return store.stream()
@@ -36,6 +74,14 @@ public class FakeStudyApplicationRepository implements StudyApplicantRepository
         .toList();
   }
 
+  @Override
+  public List<StudyApplicant> findAssignedApplicantsWithDetails(AcademicTerm currentTerm) {
+    return store.stream()
+        .filter(e -> e.getAcademicTerm().equals(currentTerm) && e.hasStudyGroup())
+        .sorted(Comparator.comparing(StudyApplicant::getStudyApplicantId))
+        .toList();
+  }
+
   @Override
   public long countAssignedApplicants(AcademicTerm currentTerm) {
     return store.stream()
@@ -43,6 +89,16 @@ public class FakeStudyApplicationRepository implements StudyApplicantRepository
         .count();
   }
 
+  @Override
+  public List<UnassignedUser> findUnassignedUsers(AcademicTerm currentTerm) {
+    return userRepository.findAll(Sort.by(Sort.Direction.ASC, "sid")).stream()
+        .map(user -> new UnassignedUser(user, findByUserAndTerm(user, currentTerm).orElse(null)))
+        .filter(
+            unassigned ->
+                unassigned.applicant() == null || !unassigned.applicant().hasStudyGroup())
+        .toList();
+  }
+
   @Override
   public List<StudyApplicant> findAllByTerm(AcademicTerm currentTerm) {
     return store.stream().filter(e -> e.getAcademicTerm().equals(currentTerm)).toList();
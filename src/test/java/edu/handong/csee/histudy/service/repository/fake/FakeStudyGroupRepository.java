@@ -1,17 +1,44 @@
 package edu.handong.csee.histudy.service.repository.fake;
 
 import edu.handong.csee.histudy.domain.*;
+import edu.handong.csee.histudy.matching.domain.MatchedGroup;
+import edu.handong.csee.histudy.matching.domain.OpenGroup;
 import edu.handong.csee.histudy.repository.StudyGroupRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class FakeStudyGroupRepository implements StudyGroupRepository {
 
   private final List<StudyGroup> store = new ArrayList<>();
+  private final FakeStudyApplicationRepository studyApplicantRepository;
+  private final FakeStudyReportRepository studyReportRepository;
   private Long sequence = 1L;
 
+  public FakeStudyGroupRepository() {
+    this(null);
+  }
+
+  /** 매칭 결과 일괄 저장에서 신청자 id를 엔티티로 바꿀 저장소를 함께 받는다. */
+  public FakeStudyGroupRepository(FakeStudyApplicationRepository studyApplicantRepository) {
+    this(studyApplicantRepository, null);
+  }
+
+  /** 보고서 수와 누적 시간을 다시 계산할 때 읽을 보고서 저장소도 함께 받는다. */
+  public FakeStudyGroupRepository(
+      FakeStudyApplicationRepository studyApplicantRepository,
+      FakeStudyReportRepository studyReportRepository) {
+    this.studyApplicantRepository = studyApplicantRepository;
+    this.studyReportRepository = studyReportRepository;
+  }
+
   @Override
   public Optional<StudyGroup> findByTagAndAcademicTerm(int tag, AcademicTerm academicTerm) {
     return store.stream()
@@ -84,4 +111,70 @@ public class FakeStudyGroupRepository implements StudyGroupRepository {
         .filter(e -> e.getMembers().isEmpty())
         .toList();
   }
+
+  @Override
+  public void insertMatchedGroups(AcademicTerm academicTerm, List<MatchedGroup> groups) {
+    if (studyApplicantRepository == null) {
+      throw new IllegalStateException("studyApplicantRepository is required");
+    }
+    for (MatchedGroup group : groups) {
+      List<Long> applicantIds = Arrays.stream(group.applicantIds()).boxed().toList();
+      Map<Long, StudyApplicant> applicants =
+          studyApplicantRepository.findAllWithPreferredCoursesByIdIn(applicantIds).stream()
+              .collect(Collectors.toMap(StudyApplicant::getStudyApplicantId, Function.identity()));
+      save(
+          StudyGroup.of(
+              group.tag(), academicTerm, applicantIds.stream().map(applicants::get).toList()));
+    }
+  }
+
+  @Override
+  public List<OpenGroup> findOpenGroups(AcademicTerm academicTerm, int capacity) {
+    return store.stream()
+        .filter(e -> e.getAcademicTerm().equals(academicTerm))
+        .filter(e -> !e.getMembers().isEmpty() && e.getMembers().size() < capacity)
+        .sorted(Comparator.comparing(StudyGroup::getTag))
+        .map(
+            e ->
+                new OpenGroup(
+                    e.getStudyGroupId(),
+                    e.getTag(),
+                    e.getMembers().size(),
+                    e.getCourses().stream()
+                        .mapToLong(groupCourse -> groupCourse.getCourse().getCourseId())
+                        .toArray()))
+        .toList();
+  }
+
+  @Override
+  public List<StudyGroup> findAllWithMembersByIdIn(Collection<Long> ids) {
+    return store.stream().filter(e -> ids.contains(e.getStudyGroupId())).toList();
+  }
+
+  @Override
+  public void addReportActivity(Long studyGroupId, long reportDelta, long minutesDelta) {
+    findById(studyGroupId)
+        .ifPresent(
+            group -> {
+              ReflectionTestUtils.setField(
+                  group, "reportCount", group.getReportCount() + reportDelta);
+              ReflectionTestUtils.setField(
+                  group, "totalMinutes", group.getTotalMinutes() + minutesDelta);
+            });
+  }
+
+  @Override
+  public int recountReportActivity() {
+    if (studyReportRepository == null) {
+      throw new IllegalStateException("studyReportRepository is required");
+    }
+    for (StudyGroup group : store) {
+      List<StudyReport> reports =
+          studyReportRepository.findAllByStudyGroupOrderByCreatedDateDesc(group);
+      ReflectionTestUtils.setField(group, "reportCount", (long) reports.size());
+      ReflectionTestUtils.setField(
+          group, "totalMinutes", reports.stream().mapToLong(StudyReport::getTotalMinutes).sum());
+    }
+    return store.size();
+  }
 }
@@ -0,0 +1,72 @@
+package edu.handong.csee.histudy.service.repository.fake;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.repository.StudyPartnerRequestRepository;
+import java.util.Collection;
+import java.util.List;
+
+public class FakeStudyPartnerRequestRepository implements StudyPartnerRequestRepository {
+
+  private final FakeStudyApplicationRepository studyApplicantRepository;
+
+  /** 친구 요청은 신청서에 담겨 저장되므로 신청서 저장소에서 읽는다. */
+  public FakeStudyPartnerRequestRepository(
+      FakeStudyApplicationRepository studyApplicantRepository) {
+    this.studyApplicantRepository = studyApplicantRepository;
+  }
+
+  @Override
+  public List<StudyPartnerRequest> findAllReceivedBy(User receiver, AcademicTerm academicTerm) {
+    return requests(academicTerm).stream()
+        .filter(request -> request.isReceivedBy(receiver))
+        .toList();
+  }
+
+  @Override
+  public List<StudyPartnerRequest> findAllSentBy(User sender, AcademicTerm academicTerm) {
+    return requests(academicTerm).stream()
+        .filter(request -> request.getSender().getUser().equals(sender))
+        .toList();
+  }
+
+  @Override
+  public int acceptAllBetween(
+      User receiver, Collection<Long> senderUserIds, AcademicTerm academicTerm) {
+    List<StudyPartnerRequest> pending =
+        requests(academicTerm).stream()
+            .filter(StudyPartnerRequest::isPending)
+            .filter(
+                request ->
+                    (request.isReceivedBy(receiver)
+                            && senderUserIds.contains(request.getSender().getUser().getUserId()))
+                        || (request.getSender().getUser().equals(receiver)
+                            && senderUserIds.contains(request.getReceiver().getUserId())))
+            .filter(request -> hasReverse(request, academicTerm))
+            .toList();
+    pending.forEach(StudyPartnerRequest::accept);
+    return pending.size();
+  }
+
+  @Override
+  public int fillMissingAcademicTerms() {
+    return 0;
+  }
+
+  private boolean hasReverse(StudyPartnerRequest request, AcademicTerm academicTerm) {
+    return requests(academicTerm).stream()
+        .anyMatch(
+            reverse ->
+                reverse.getSender().getUser().equals(request.getReceiver())
+                    && reverse.isReceivedBy(request.getSender().getUser()));
+  }
+
+  private List<StudyPartnerRequest> requests(AcademicTerm academicTerm) {
+    return studyApplicantRepository.findAllByTerm(academicTerm).stream()
+        .map(StudyApplicant::getPartnerRequests)
+        .flatMap(List::stream)
+        .toList();
+  }
+}
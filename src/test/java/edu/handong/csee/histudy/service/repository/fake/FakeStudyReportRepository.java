@@ -3,7 +3,9 @@ package edu.handong.csee.histudy.service.repository.fake;
 import edu.handong.csee.histudy.domain.AcademicTerm;
 import edu.handong.csee.histudy.domain.StudyGroup;
 import edu.handong.csee.histudy.domain.StudyReport;
+import edu.handong.csee.histudy.repository.GroupThumbnail;
 import edu.handong.csee.histudy.repository.StudyReportRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -105,6 +107,48 @@ public class FakeStudyReportRepository implements StudyReportRepository {
         .sum();
   }
 
+  @Override
+  public Optional<StudyReport> findLatestByStudyGroup(StudyGroup studyGroup) {
+    return store.stream()
+        .filter(report -> report.getStudyGroup().equals(studyGroup))
+        .max(Comparator.comparing(StudyReport::getStudyReportId));
+  }
+
+  @Override
+  public List<GroupThumbnail> findLatestThumbnailsByAcademicTerm(AcademicTerm academicTerm) {
+    return store.stream()
+        .map(StudyReport::getStudyGroup)
+        .filter(studyGroup -> studyGroup.getAcademicTerm().equals(academicTerm))
+        .distinct()
+        .map(studyGroup -> findLatestByStudyGroup(studyGroup).orElseThrow())
+        .map(
+            report ->
+                new GroupThumbnail(
+                    report.getStudyGroup().getStudyGroupId(),
+                    report.getStudyReportId(),
+                    report.getThumbnailPath()))
+        .toList();
+  }
+
+  @Override
+  public List<StudyReport> findAllByStudyGroupInWeekForUpdate(
+      StudyGroup studyGroup, LocalDate weekStart) {
+    LocalDateTime from = weekStart.atStartOfDay();
+    LocalDateTime to = weekStart.plusWeeks(1).atStartOfDay();
+    return store.stream()
+        .filter(report -> report.getStudyGroup().equals(studyGroup))
+        .filter(report -> !report.getCreatedDate().isBefore(from))
+        .filter(report -> report.getCreatedDate().isBefore(to))
+        .toList();
+  }
+
+  @Override
+  public List<StudyReport> findAllWithCoursesByAcademicTerm(AcademicTerm academicTerm) {
+    return store.stream()
+        .filter(report -> report.getStudyGroup().getAcademicTerm().equals(academicTerm))
+        .toList();
+  }
+
   public List<StudyReport> findAll() {
     return new ArrayList<>(store);
   }
@@ -0,0 +1,78 @@
+package edu.handong.csee.histudy.service.repository.fake;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.TeamLeaderboard;
+import edu.handong.csee.histudy.repository.TeamLeaderboardRepository;
+import edu.handong.csee.histudy.repository.TeamStanding;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeTeamLeaderboardRepository implements TeamLeaderboardRepository {
+
+  private final Map<Long, TeamLeaderboard> store = new LinkedHashMap<>();
+  private final FakeStudyGroupRepository studyGroupRepository;
+
+  /** 순위 조회에서 학기의 그룹을 읽을 저장소를 함께 받는다. */
+  public FakeTeamLeaderboardRepository(FakeStudyGroupRepository studyGroupRepository) {
+    this.studyGroupRepository = studyGroupRepository;
+  }
+
+  @Override
+  public Optional<TeamLeaderboard> findByStudyGroupIdForUpdate(Long studyGroupId) {
+    return Optional.ofNullable(store.get(studyGroupId));
+  }
+
+  @Override
+  public List<TeamStanding> findStandingsByAcademicTerm(AcademicTerm academicTerm) {
+    return studyGroupRepository.findAllByAcademicTerm(academicTerm).stream()
+        .map(
+            group -> {
+              TeamLeaderboard leaderboard = store.get(group.getStudyGroupId());
+              return new TeamStanding(
+                  group.getStudyGroupId(),
+                  group.getTag(),
+                  group.getReportCount(),
+                  group.getTotalMinutes(),
+                  (leaderboard == null) ? null : leaderboard.getThumbnailPath());
+            })
+        .sorted(
+            Comparator.comparingLong(TeamStanding::totalMinutes)
+                .reversed()
+                .thenComparingInt(TeamStanding::tag))
+        .toList();
+  }
+
+  @Override
+  public long countByAcademicTerm(AcademicTerm academicTerm) {
+    return studyGroupRepository.findAllByAcademicTerm(academicTerm).stream()
+        .filter(group -> store.containsKey(group.getStudyGroupId()))
+        .count();
+  }
+
+  @Override
+  public void insertIfAbsent(TeamLeaderboard leaderboard) {
+    store.putIfAbsent(leaderboard.getStudyGroupId(), leaderboard);
+  }
+
+  @Override
+  public void upsertAll(List<TeamLeaderboard> leaderboards) {
+    leaderboards.forEach(this::save);
+  }
+
+  @Override
+  public TeamLeaderboard save(TeamLeaderboard leaderboard) {
+    store.put(leaderboard.getStudyGroupId(), leaderboard);
+    return leaderboard;
+  }
+
+  @Override
+  public List<TeamLeaderboard> saveAll(Iterable<TeamLeaderboard> leaderboards) {
+    List<TeamLeaderboard> saved = new ArrayList<>();
+    leaderboards.forEach(leaderboard -> saved.add(save(leaderboard)));
+    return saved;
+  }
+}
@@ -0,0 +1,109 @@
+package edu.handong.csee.histudy.service.repository.fake;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.PreferredCourse;
+import edu.handong.csee.histudy.domain.StudyApplicant;
+import edu.handong.csee.histudy.domain.StudyPartnerRequest;
+import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserListing;
+import edu.handong.csee.histudy.repository.UserListingCursor;
+import edu.handong.csee.histudy.repository.UserListingRepository;
+import edu.handong.csee.histudy.repository.UserListingScope;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Sort;
+
+public class FakeUserListingRepository implements UserListingRepository {
+
+  private static final Comparator<UserListing> ORDER =
+      Comparator.comparing(UserListing::sid).thenComparing(UserListing::userId);
+
+  private final FakeUserRepository userRepository;
+  private final FakeStudyApplicationRepository studyApplicantRepository;
+
+  /** 목록을 만들 때 사용자와 현재 학기 신청서를 읽을 저장소를 함께 받는다. */
+  public FakeUserListingRepository(
+      FakeUserRepository userRepository, FakeStudyApplicationRepository studyApplicantRepository) {
+    this.userRepository = userRepository;
+    this.studyApplicantRepository = studyApplicantRepository;
+  }
+
+  @Override
+  public List<UserListing> findPage(
+      UserListingScope scope,
+      AcademicTerm currentTerm,
+      Optional<UserListingCursor> after,
+      int limit) {
+    return listings(scope, currentTerm).stream()
+        .filter(listing -> after.map(cursor -> isAfter(listing, cursor)).orElse(true))
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public void stream(
+      UserListingScope scope, AcademicTerm currentTerm, Consumer<UserListing> consumer) {
+    listings(scope, currentTerm).forEach(consumer);
+  }
+
+  private List<UserListing> listings(UserListingScope scope, AcademicTerm currentTerm) {
+    return userRepository.findAll(Sort.unsorted()).stream()
+        .filter(
+            user -> {
+              Optional<StudyApplicant> applicant =
+                  studyApplicantRepository.findByUserAndTerm(user, currentTerm);
+              return switch (scope) {
+                case APPLIED -> applicant.isPresent();
+                case APPLIED_WITHOUT_GROUP ->
+                    applicant.filter(form -> !form.hasStudyGroup()).isPresent();
+                case WITHOUT_GROUP -> applicant.map(form -> !form.hasStudyGroup()).orElse(true);
+              };
+            })
+        .map(user -> toListing(user, currentTerm))
+        .sorted(ORDER)
+        .toList();
+  }
+
+  private static boolean isAfter(UserListing listing, UserListingCursor cursor) {
+    int comparison = listing.sid().compareTo(cursor.sid());
+    return comparison > 0 || (comparison == 0 && listing.userId() > cursor.userId());
+  }
+
+  private UserListing toListing(User user, AcademicTerm currentTerm) {
+    StudyApplicant applicant =
+        studyApplicantRepository.findByUserAndTerm(user, currentTerm).orElse(null);
+    if (applicant == null) {
+      return new UserListing(
+          user.getUserId(),
+          user.getSid(),
+          user.getName(),
+          user.getEmail(),
+          null,
+          List.of(),
+          List.of());
+    }
+    return new UserListing(
+        user.getUserId(),
+        user.getSid(),
+        user.getName(),
+        user.getEmail(),
+        applicant.hasStudyGroup() ? applicant.getStudyGroup().getTag() : null,
+        applicant.getPartnerRequests().stream()
+            .filter(StudyPartnerRequest::isAccepted)
+            .map(StudyPartnerRequest::getReceiver)
+            .map(
+                friend ->
+                    new UserListing.Friend(friend.getUserId(), friend.getSid(), friend.getName()))
+            .toList(),
+        applicant.getPreferredCourses().stream()
+            .sorted(Comparator.comparing(PreferredCourse::getPriority))
+            .map(PreferredCourse::getCourse)
+            .map(
+                course ->
+                    new UserListing.PreferredCourseInfo(
+                        course.getCourseId(), course.getName(), course.getProfessor()))
+            .toList());
+  }
+}
@@ -2,8 +2,11 @@ package edu.handong.csee.histudy.service.repository.fake;
 
 import edu.handong.csee.histudy.domain.Role;
 import edu.handong.csee.histudy.domain.User;
+import edu.handong.csee.histudy.domain.UserSearchEntry;
 import edu.handong.csee.histudy.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -13,6 +16,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 public class FakeUserRepository implements UserRepository {
 
   private final List<User> store = new ArrayList<>();
+  private final List<Long> tokenVersionBumpedApplicantIds = new ArrayList<>();
+  private final List<Long> indexedUserIds = new ArrayList<>();
   private Long sequence = 1L;
 
   @Override
@@ -20,17 +25,6 @@ public class FakeUserRepository implements UserRepository {
     return store.stream().filter(c -> c.getSid().equals(sid)).findFirst();
   }
 
-  @Override
-  public List<User> findUserByNameOrSidOrEmail(String keyword) {
-    return store.stream()
-        .filter(
-            e ->
-                e.getName().contains(keyword)
-                    || e.getSid().contains(keyword)
-                    || e.getEmail().contains(keyword))
-        .collect(Collectors.toList());
-  }
-
   @Override
   public Optional<User> findUserByEmail(String email) {
     return store.stream().filter(e -> e.getEmail().equals(email)).findFirst();
@@ -46,6 +40,16 @@ public class FakeUserRepository implements UserRepository {
     return store.stream().filter(e -> e.getUserId().equals(id)).findFirst();
   }
 
+  @Override
+  public List<User> findAllById(Collection<Long> ids) {
+    return store.stream().filter(e -> ids.contains(e.getUserId())).toList();
+  }
+
+  @Override
+  public List<User> findAllBySidIn(Collection<String> sids) {
+    return store.stream().filter(e -> sids.contains(e.getSid())).toList();
+  }
+
   @Override
   public List<User> findAll(Sort sort) {
     return store.stream()
@@ -99,4 +103,47 @@ public class FakeUserRepository implements UserRepository {
   public long countByRole(Role role) {
     return store.stream().filter(user -> user.getRole().equals(role)).count();
   }
+
+  @Override
+  public List<UserSearchEntry> searchPartners(
+      String keyword, String excludedEmail, int offset, int limit) {
+    return store.stream()
+        .filter(user -> user.getRole() != Role.ADMIN && !user.getEmail().equals(excludedEmail))
+        .filter(
+            user ->
+                user.getName().contains(keyword)
+                    || user.getSid().contains(keyword)
+                    || user.getEmail().contains(keyword))
+        .sorted(Comparator.comparing(User::getSid))
+        .skip(offset)
+        .limit(limit)
+        .map(UserSearchEntry::of)
+        .toList();
+  }
+
+  @Override
+  public void indexForSearch(User user) {
+    indexedUserIds.add(user.getUserId());
+  }
+
+  public List<Long> getIndexedUserIds() {
+    return indexedUserIds;
+  }
+
+  @Override
+  public void incrementTokenVersion(Long userId) {
+    findById(userId)
+        .ifPresent(
+            user ->
+                ReflectionTestUtils.setField(user, "tokenVersion", user.getTokenVersion() + 1));
+  }
+
+  @Override
+  public void incrementTokenVersionByApplicantIds(Collection<Long> applicantIds) {
+    tokenVersionBumpedApplicantIds.addAll(applicantIds);
+  }
+
+  public List<Long> getTokenVersionBumpedApplicantIds() {
+    return tokenVersionBumpedApplicantIds;
+  }
 }
@@ -0,0 +1,73 @@
+package edu.handong.csee.histudy.service.repository.fake;
+
+import edu.handong.csee.histudy.domain.AcademicTerm;
+import edu.handong.csee.histudy.domain.WeeklyActivity;
+import edu.handong.csee.histudy.domain.WeeklyActivityDelta;
+import edu.handong.csee.histudy.repository.WeeklyActivityRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class FakeWeeklyActivityRepository implements WeeklyActivityRepository {
+
+  private final List<WeeklyActivity> store = new ArrayList<>();
+
+  @Override
+  public void addActivity(AcademicTerm academicTerm, List<WeeklyActivityDelta> deltas) {
+    for (WeeklyActivityDelta delta : deltas) {
+      WeeklyActivityDelta total =
+          store.stream()
+              .filter(activity -> activity.getAcademicTerm().equals(academicTerm))
+              .filter(activity -> activity.getCourseId().equals(delta.courseId()))
+              .filter(activity -> activity.getWeekStart().equals(delta.weekStart()))
+              .findFirst()
+              .map(
+                  activity -> {
+                    store.remove(activity);
+                    return new WeeklyActivityDelta(
+                            activity.getWeekStart(),
+                            activity.getCourseId(),
+                            activity.getReports(),
+                            activity.getTotalMinutes(),
+                            activity.getActiveGroups())
+                        .plus(delta);
+                  })
+              .orElse(delta);
+      store.add(WeeklyActivity.of(academicTerm, total));
+    }
+  }
+
+  @Override
+  public List<WeeklyActivity> findAllByAcademicTermAndCourseId(
+      AcademicTerm academicTerm, Long courseId) {
+    return store.stream()
+        .filter(activity -> activity.getAcademicTerm().equals(academicTerm))
+        .filter(activity -> activity.getCourseId().equals(courseId))
+        .sorted(Comparator.comparing(WeeklyActivity::getWeekStart))
+        .toList();
+  }
+
+  @Override
+  public List<WeeklyActivity> findAllByCourseIdAndWeekStartBetween(
+      Long courseId, LocalDate from, LocalDate to) {
+    return store.stream()
+        .filter(activity -> activity.getCourseId().equals(courseId))
+        .filter(activity -> !activity.getWeekStart().isBefore(from))
+        .filter(activity -> !activity.getWeekStart().isAfter(to))
+        .sorted(Comparator.comparing(WeeklyActivity::getWeekStart))
+        .toList();
+  }
+
+  @Override
+  public boolean existsByAcademicTerm(AcademicTerm academicTerm) {
+    return store.stream().anyMatch(activity -> activity.getAcademicTerm().equals(academicTerm));
+  }
+
+  @Override
+  public void replaceAllByAcademicTerm(
+      AcademicTerm academicTerm, List<WeeklyActivity> activities) {
+    store.removeIf(activity -> activity.getAcademicTerm().equals(academicTerm));
+    store.addAll(activities);
+  }
+}